@@ -17,6 +17,8 @@ package software.amazon.awssdk.auth.credentials;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -56,7 +58,7 @@ public final class ProfileCredentialsProvider
     private final String profileName;
     private final Supplier<ProfileFile> defaultProfileFileLoader;
 
-    private final Object credentialsProviderLock = new Object();
+    private final Lock credentialsProviderLock = new ReentrantLock();
 
     /**
      * @see #builder()
@@ -120,11 +122,14 @@ public final class ProfileCredentialsProvider
 
         ProfileFile cachedOrRefreshedProfileFile = refreshProfileFile();
         if (shouldUpdateCredentialsProvider(cachedOrRefreshedProfileFile)) {
-            synchronized (credentialsProviderLock) {
+            credentialsProviderLock.lock();
+            try {
                 if (shouldUpdateCredentialsProvider(cachedOrRefreshedProfileFile)) {
                     currentProfileFile = cachedOrRefreshedProfileFile;
                     handleProfileFileReload(cachedOrRefreshedProfileFile);
                 }
+            } finally {
+                credentialsProviderLock.unlock();
             }
         }
 
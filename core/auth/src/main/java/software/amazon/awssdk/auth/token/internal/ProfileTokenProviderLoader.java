@@ -19,6 +19,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.token.credentials.ChildProfileTokenProviderFactory;
@@ -44,6 +46,7 @@ public final class ProfileTokenProviderLoader {
     private final String profileName;
     private volatile ProfileFile currentProfileFile;
     private volatile SdkTokenProvider currentTokenProvider;
+    private final Lock tokenProviderLock = new ReentrantLock();
 
     private final Lazy<ChildProfileTokenProviderFactory> factory;
 
@@ -79,12 +82,15 @@ public final class ProfileTokenProviderLoader {
     private SdkTokenProvider ssoProfileCredentialsProvider(Supplier<ProfileFile> profileFile, String profileName) {
         ProfileFile profileFileInstance = profileFile.get();
         if (!Objects.equals(profileFileInstance, currentProfileFile)) {
-            synchronized (this) {
+            tokenProviderLock.lock();
+            try {
                 if (!Objects.equals(profileFileInstance, currentProfileFile)) {
                     Profile profileInstance = resolveProfile(profileFileInstance, profileName);
                     currentProfileFile = profileFileInstance;
                     currentTokenProvider = ssoProfileCredentialsProvider(profileFileInstance, profileInstance);
                 }
+            } finally {
+                tokenProviderLock.unlock();
             }
         }
 
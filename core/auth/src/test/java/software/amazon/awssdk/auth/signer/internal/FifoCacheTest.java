@@ -15,10 +15,16 @@
 
 package software.amazon.awssdk.auth.signer.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 
 public class FifoCacheTest {
@@ -73,4 +79,33 @@ public class FifoCacheTest {
         assertEquals("v3", cache.get("k3"));
         assertNull(cache.get("k2"));
     }
+
+    @Test
+    public void testConcurrentAdds() throws Exception {
+        FifoCache<String> cache = new FifoCache<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String key = "k" + (i % 300);
+                        cache.add(key, key + "-" + thread);
+                        String value = cache.get(key);
+                        if (value != null && !value.startsWith(key + "-")) {
+                            throw new AssertionError("Unexpected value " + value + " for " + key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
 }
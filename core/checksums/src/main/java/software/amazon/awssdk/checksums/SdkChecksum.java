@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
+import software.amazon.awssdk.checksums.internal.CrcCombine;
+import software.amazon.awssdk.checksums.internal.CrcCombineOnMarkChecksum;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+
+/**
+ * Extension of {@link Checksum} to support checksums and checksum validations used by the SDK that are not provided by the JDK.
+ */
+@SdkProtectedApi
+public interface SdkChecksum extends Checksum {
+
+    /**
+     * Returns the computed checksum in a byte array rather than the long provided by {@link #getValue()}.
+     *
+     * @return byte[] containing the checksum
+     */
+    byte[] getChecksumBytes();
+
+    /**
+     * Allows marking a checksum for checksums that support the ability to mark and reset.
+     *
+     * @param readLimit the maximum limit of bytes that can be read before the mark position becomes invalid.
+     */
+    void mark(int readLimit);
+
+    /**
+     * Gets the checksum for the given algorithm. CRC32, CRC32C and CRC64NVME are supported.
+     * <p>
+     * CRC32C uses {@code java.util.zip.CRC32C} when running on Java 9 or later, then the CRT implementation if it is on the
+     * classpath, and a pure-Java implementation otherwise.
+     *
+     * @param checksumAlgorithm the algorithm of the checksum
+     * @return a new checksum
+     * @throws UnsupportedOperationException if the algorithm is not supported
+     */
+    static SdkChecksum forAlgorithm(ChecksumAlgorithm checksumAlgorithm) {
+        switch (checksumAlgorithm.algorithmId()) {
+            case "CRC32":
+                return new CrcCombineOnMarkChecksum(CrcChecksumProvider.crc32(), CrcCombine.CRC32);
+            case "CRC32C":
+                return new CrcCombineOnMarkChecksum(CrcChecksumProvider.crc32c(), CrcCombine.CRC32C);
+            case "CRC64NVME":
+                return new CrcCombineOnMarkChecksum(CrcChecksumProvider.crc64Nvme(), CrcCombine.CRC64NVME);
+            default:
+                throw new UnsupportedOperationException("Checksum not supported for " + checksumAlgorithm.algorithmId());
+        }
+    }
+
+    /**
+     * Combines the checksums of two adjacent byte sequences into the checksum of their concatenation, without reading the
+     * bytes again. CRC32, CRC32C and CRC64NVME are supported.
+     * <p>
+     * This allows the checksum of an object to be computed from the checksums of its parts, for example the part checksums of
+     * a multipart upload, which can be computed in parallel. The checksum of zero bytes is {@code 0}, so the checksum of
+     * {@code n} parts can be computed by combining each part, in order, into an initial value of {@code 0}.
+     *
+     * @param checksumAlgorithm the algorithm of the checksums
+     * @param checksum1 the value, as returned by {@link #getValue()}, of the checksum of the first sequence
+     * @param checksum2 the value of the checksum of the second sequence
+     * @param length2 the length of the second sequence, in bytes
+     * @return the value of the checksum of the first sequence followed by the second
+     * @throws UnsupportedOperationException if the algorithm is not supported
+     */
+    static long combine(ChecksumAlgorithm checksumAlgorithm, long checksum1, long checksum2, long length2) {
+        return CrcCombine.forAlgorithm(checksumAlgorithm).combine(checksum1, checksum2, length2);
+    }
+
+    /**
+     * Updates the current checksum with the specified array of bytes.
+     *
+     * @param b the array of bytes to update the checksum with
+     * @throws NullPointerException if {@code b} is {@code null}
+     */
+    default void update(byte[] b) {
+        update(b, 0, b.length);
+    }
+
+    /**
+     * Updates the current checksum with the bytes from the specified buffer.
+     * <p>
+     * The checksum is updated with the remaining bytes in the buffer, starting at the buffer's position. Upon return, the
+     * buffer's position will be updated to its limit; its limit will not have been changed.
+     *
+     * @param buffer the ByteBuffer to update the checksum with
+     * @throws NullPointerException if {@code buffer} is {@code null}
+     */
+    default void update(ByteBuffer buffer) {
+        int pos = buffer.position();
+        int limit = buffer.limit();
+        int rem = limit - pos;
+        if (rem <= 0) {
+            return;
+        }
+        if (buffer.hasArray()) {
+            update(buffer.array(), pos + buffer.arrayOffset(), rem);
+        } else {
+            byte[] b = new byte[Math.min(buffer.remaining(), 4096)];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(buffer.remaining(), b.length);
+                buffer.get(b, 0, length);
+                update(b, 0, length);
+            }
+        }
+        buffer.position(limit);
+    }
+}
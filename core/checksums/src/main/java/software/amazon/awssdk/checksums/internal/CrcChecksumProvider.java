@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Creates the fastest available implementation of each CRC.
+ * <p>
+ * {@code java.util.zip.CRC32C} is only available on Java 9 and later, where it is a JIT intrinsic that uses the CPU's CRC32C
+ * instructions. It is looked up at runtime so that this module can still target Java 8, where the CRT implementation is used
+ * if it is on the classpath, and {@link SdkCrc32CChecksum} otherwise.
+ */
+@SdkInternalApi
+public final class CrcChecksumProvider {
+    private static final Logger LOG = Logger.loggerFor(CrcChecksumProvider.class);
+    private static final String JAVA_CRC32C_CLASS = "java.util.zip.CRC32C";
+    private static final String CRT_CRC32C_CLASS = "software.amazon.awssdk.crt.checksums.CRC32C";
+    private static final MethodHandle CRC32C_CONSTRUCTOR = findCrc32CConstructor();
+
+    private CrcChecksumProvider() {
+    }
+
+    public static Checksum crc32() {
+        return new CRC32();
+    }
+
+    public static Checksum crc32c() {
+        if (CRC32C_CONSTRUCTOR != null) {
+            try {
+                return (Checksum) CRC32C_CONSTRUCTOR.invokeExact();
+            } catch (Throwable t) {
+                LOG.debug(() -> "Unable to create a CRC32C checksum, using the SDK implementation.", t);
+            }
+        }
+        return SdkCrc32CChecksum.create();
+    }
+
+    public static Checksum crc64Nvme() {
+        return SdkCrc64NvmeChecksum.create();
+    }
+
+    private static MethodHandle findCrc32CConstructor() {
+        MethodHandle constructor = findConstructor(JAVA_CRC32C_CLASS);
+        return constructor != null ? constructor : findConstructor(CRT_CRC32C_CLASS);
+    }
+
+    private static MethodHandle findConstructor(String className) {
+        try {
+            Class<?> checksumClass = ClassLoaderHelper.loadClass(className, false);
+            return MethodHandles.publicLookup()
+                                .findConstructor(checksumClass, MethodType.methodType(void.class))
+                                .asType(MethodType.methodType(Checksum.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug(() -> "Cannot use " + className + " for CRC32C checksums.", e);
+            return null;
+        }
+    }
+}
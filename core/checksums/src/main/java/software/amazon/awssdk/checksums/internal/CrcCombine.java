@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Combines the CRCs of two adjacent byte sequences into the CRC of their concatenation, without reading the bytes again. The
+ * CRC of an object can then be computed from the CRCs of its parts, which can be computed in parallel.
+ * <p>
+ * This is the method used by zlib's {@code crc32_combine}: appending {@code n} bytes to a sequence multiplies its CRC by
+ * {@code x^(8n)} modulo the CRC polynomial, which takes {@code O(log n)} polynomial multiplications using precomputed values
+ * of {@code x^(2^k)}. It applies to reflected CRCs whose initial value and final XOR are all ones, such as CRC32, CRC32C and
+ * CRC64NVME.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CrcCombine {
+    public static final CrcCombine CRC32 = new CrcCombine(32, 0xEDB88320L);
+    public static final CrcCombine CRC32C = new CrcCombine(32, 0x82F63B78L);
+    public static final CrcCombine CRC64NVME = new CrcCombine(64, SdkCrc64NvmeChecksum.POLYNOMIAL);
+
+    private final int width;
+    private final long polynomial;
+    private final long one;
+    private final long mask;
+
+    /**
+     * {@code x^(2^k)} modulo the polynomial, for each bit {@code k} of a length in bits.
+     */
+    private final long[] powersOfX = new long[Long.SIZE + 3];
+
+    private CrcCombine(int width, long reflectedPolynomial) {
+        this.width = width;
+        this.polynomial = reflectedPolynomial;
+        // Polynomials are bit-reversed, so the highest bit is the coefficient of x^0.
+        this.one = 1L << (width - 1);
+        this.mask = width == Long.SIZE ? -1L : (1L << width) - 1;
+
+        long power = one >>> 1;
+        for (int k = 0; k < powersOfX.length; k++) {
+            powersOfX[k] = power;
+            power = multiply(power, power);
+        }
+    }
+
+    /**
+     * The combiner for the given algorithm.
+     *
+     * @throws UnsupportedOperationException if the algorithm is not a CRC
+     */
+    public static CrcCombine forAlgorithm(ChecksumAlgorithm checksumAlgorithm) {
+        switch (checksumAlgorithm.algorithmId()) {
+            case "CRC32":
+                return CRC32;
+            case "CRC32C":
+                return CRC32C;
+            case "CRC64NVME":
+                return CRC64NVME;
+            default:
+                throw new UnsupportedOperationException("Checksum combine not supported for "
+                                                        + checksumAlgorithm.algorithmId());
+        }
+    }
+
+    /**
+     * The width of the CRC, in bits.
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Compute the CRC of the concatenation of two byte sequences.
+     *
+     * @param crc1 the CRC of the first sequence
+     * @param crc2 the CRC of the second sequence
+     * @param length2 the length of the second sequence, in bytes
+     * @return the CRC of the first sequence followed by the second
+     */
+    public long combine(long crc1, long crc2, long length2) {
+        Validate.isNotNegative(length2, "length2");
+        return (multiply(powerOfXForBytes(length2), crc1 & mask) ^ crc2) & mask;
+    }
+
+    /**
+     * {@code x^(8 * length)} modulo the polynomial.
+     */
+    private long powerOfXForBytes(long length) {
+        long result = one;
+        // The length in bits is length * 2^3, so its bit k is the length's bit k - 3.
+        for (int k = 3; length != 0; k++, length >>>= 1) {
+            if ((length & 1) != 0) {
+                result = multiply(powersOfX[k], result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@code a * b} modulo the polynomial. {@code a} must not be zero.
+     */
+    private long multiply(long a, long b) {
+        long product = 0;
+        for (long bit = one; ; bit >>>= 1) {
+            if ((a & bit) != 0) {
+                product ^= b;
+                if ((a & (bit - 1)) == 0) {
+                    return product;
+                }
+            }
+            b = (b & 1) != 0 ? (b >>> 1) ^ polynomial : b >>> 1;
+        }
+    }
+}
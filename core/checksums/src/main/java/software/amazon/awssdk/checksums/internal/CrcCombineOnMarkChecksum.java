@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.SdkChecksum;
+
+/**
+ * An {@link SdkChecksum} for a CRC that supports {@link #mark(int)} without copying the state of the underlying checksum,
+ * which {@code java.util.zip.CRC32} and {@code java.util.zip.CRC32C} do not allow.
+ * <p>
+ * On {@link #mark(int)}, the current value is saved and the underlying checksum is reset. {@link #getValue()} then combines
+ * the saved value with the CRC of the bytes written since, using {@link CrcCombine}, and {@link #reset()} only needs to reset
+ * the underlying checksum.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class CrcCombineOnMarkChecksum implements SdkChecksum {
+    private final Checksum checksum;
+    private final CrcCombine crcCombine;
+    private boolean marked;
+    private long markedValue;
+    private long lengthSinceMark;
+
+    public CrcCombineOnMarkChecksum(Checksum checksum, CrcCombine crcCombine) {
+        this.checksum = checksum;
+        this.crcCombine = crcCombine;
+    }
+
+    @Override
+    public byte[] getChecksumBytes() {
+        long value = getValue();
+        byte[] bytes = new byte[crcCombine.width() / Byte.SIZE];
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= Byte.SIZE;
+        }
+        return bytes;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        markedValue = getValue();
+        marked = true;
+        checksum.reset();
+        lengthSinceMark = 0;
+    }
+
+    @Override
+    public void update(int b) {
+        checksum.update(b);
+        lengthSinceMark++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        checksum.update(b, off, len);
+        lengthSinceMark += len;
+    }
+
+    @Override
+    public long getValue() {
+        if (!marked) {
+            return checksum.getValue();
+        }
+        return crcCombine.combine(markedValue, checksum.getValue(), lengthSinceMark);
+    }
+
+    @Override
+    public void reset() {
+        checksum.reset();
+        lengthSinceMark = 0;
+    }
+}
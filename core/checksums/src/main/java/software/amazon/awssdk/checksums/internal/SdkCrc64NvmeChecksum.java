@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A pure-Java implementation of the CRC64NVME checksum (also known as CRC-64/NVME), using the slicing-by-8 method: eight bytes
+ * are folded into the CRC at a time, with one table lookup per byte.
+ */
+@SdkInternalApi
+public final class SdkCrc64NvmeChecksum implements Checksum, Cloneable {
+    /**
+     * The CRC64NVME polynomial 0xAD93D23594C93659, bit-reversed.
+     */
+    static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+
+    private static final long[] T = new long[8 * 256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            long crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            }
+            T[i] = crc;
+        }
+        for (int table = 1; table < 8; table++) {
+            for (int i = 0; i < 256; i++) {
+                long previous = T[(table - 1) * 256 + i];
+                T[table * 256 + i] = (previous >>> 8) ^ T[(int) (previous & 0xFF)];
+            }
+        }
+    }
+
+    /**
+     * the current CRC value, bit-flipped
+     */
+    private long crc;
+
+    private SdkCrc64NvmeChecksum() {
+        reset();
+    }
+
+    private SdkCrc64NvmeChecksum(long crc) {
+        this.crc = crc;
+    }
+
+    public static SdkCrc64NvmeChecksum create() {
+        return new SdkCrc64NvmeChecksum();
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = -1L;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        long localCrc = crc;
+
+        while (len > 7) {
+            long x = localCrc ^ littleEndianLong(b, off);
+            localCrc = T[7 * 256 + (int) (x & 0xFF)] ^
+                       T[6 * 256 + (int) ((x >>> 8) & 0xFF)] ^
+                       T[5 * 256 + (int) ((x >>> 16) & 0xFF)] ^
+                       T[4 * 256 + (int) ((x >>> 24) & 0xFF)] ^
+                       T[3 * 256 + (int) ((x >>> 32) & 0xFF)] ^
+                       T[2 * 256 + (int) ((x >>> 40) & 0xFF)] ^
+                       T[256 + (int) ((x >>> 48) & 0xFF)] ^
+                       T[(int) (x >>> 56)];
+            off += 8;
+            len -= 8;
+        }
+
+        for (int index = 0; index < len; index++) {
+            localCrc = (localCrc >>> 8) ^ T[(int) ((localCrc ^ b[off]) & 0xFF)];
+            off++;
+        }
+
+        crc = localCrc;
+    }
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ T[(int) ((crc ^ b) & 0xFF)];
+    }
+
+    @Override
+    public SdkCrc64NvmeChecksum clone() {
+        return new SdkCrc64NvmeChecksum(crc);
+    }
+
+    private static long littleEndianLong(byte[] b, int off) {
+        return (b[off] & 0xFFL)
+               | (b[off + 1] & 0xFFL) << 8
+               | (b[off + 2] & 0xFFL) << 16
+               | (b[off + 3] & 0xFFL) << 24
+               | (b[off + 4] & 0xFFL) << 32
+               | (b[off + 5] & 0xFFL) << 40
+               | (b[off + 6] & 0xFFL) << 48
+               | (b[off + 7] & 0xFFL) << 56;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+
+public class SdkChecksumTest {
+    private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+    public static Stream<Arguments> checkValues() {
+        return Stream.of(Arguments.of(DefaultChecksumAlgorithm.CRC32, 0xCBF43926L,
+                                      new byte[] {(byte) 0xCB, (byte) 0xF4, 0x39, 0x26}),
+                         Arguments.of(DefaultChecksumAlgorithm.CRC32C, 0xE3069283L,
+                                      new byte[] {(byte) 0xE3, 0x06, (byte) 0x92, (byte) 0x83}),
+                         Arguments.of(DefaultChecksumAlgorithm.CRC64NVME, 0xAE8B14860A799888L,
+                                      new byte[] {(byte) 0xAE, (byte) 0x8B, 0x14, (byte) 0x86,
+                                                  0x0A, 0x79, (byte) 0x98, (byte) 0x88}));
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkValues")
+    public void forAlgorithm_computesCheckValue(ChecksumAlgorithm algorithm, long expectedValue, byte[] expectedBytes) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(CHECK_INPUT);
+
+        assertEquals(expectedValue, checksum.getValue());
+        assertArrayEquals(expectedBytes, checksum.getChecksumBytes());
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkValues")
+    public void markAndReset_discardsBytesWrittenAfterMark(ChecksumAlgorithm algorithm, long expectedValue) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(CHECK_INPUT, 0, 4);
+        checksum.mark(Integer.MAX_VALUE);
+        checksum.update("garbage".getBytes(StandardCharsets.US_ASCII));
+        checksum.reset();
+        checksum.update(CHECK_INPUT, 4, 2);
+        checksum.mark(Integer.MAX_VALUE);
+        checksum.update(CHECK_INPUT[6]);
+        checksum.reset();
+        checksum.update(ByteBuffer.wrap(CHECK_INPUT, 6, 3));
+
+        assertEquals(expectedValue, checksum.getValue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkValues")
+    public void reset_withoutMark_startsOver(ChecksumAlgorithm algorithm, long expectedValue) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update("garbage".getBytes(StandardCharsets.US_ASCII));
+        checksum.reset();
+        checksum.update(ByteBuffer.wrap(CHECK_INPUT));
+
+        assertEquals(expectedValue, checksum.getValue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkValues")
+    public void combine_partChecksums_equalsChecksumOfWhole(ChecksumAlgorithm algorithm, long expectedValue) {
+        long combined = 0;
+        for (int offset = 0; offset < CHECK_INPUT.length; offset += 4) {
+            int length = Math.min(4, CHECK_INPUT.length - offset);
+            SdkChecksum part = SdkChecksum.forAlgorithm(algorithm);
+            part.update(CHECK_INPUT, offset, length);
+            combined = SdkChecksum.combine(algorithm, combined, part.getValue(), length);
+        }
+
+        assertEquals(expectedValue, combined);
+    }
+
+    @Test
+    public void combine_unsupportedAlgorithm_throws() {
+        assertThrows(UnsupportedOperationException.class,
+                     () -> SdkChecksum.combine(DefaultChecksumAlgorithm.SHA256, 1, 2, 3));
+    }
+
+    @Test
+    public void forAlgorithm_unsupportedAlgorithm_throws() {
+        assertThrows(UnsupportedOperationException.class, () -> SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.MD5));
+    }
+}
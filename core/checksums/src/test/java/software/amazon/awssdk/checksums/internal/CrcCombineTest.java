@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CrcCombineTest {
+    private static final Random RANDOM = new Random(42);
+
+    public static Stream<Arguments> crcs() {
+        return Stream.of(Arguments.of(CrcCombine.CRC32, (Supplier<Checksum>) CrcChecksumProvider::crc32),
+                         Arguments.of(CrcCombine.CRC32C, (Supplier<Checksum>) CrcChecksumProvider::crc32c),
+                         Arguments.of(CrcCombine.CRC32C, (Supplier<Checksum>) SdkCrc32CChecksum::create),
+                         Arguments.of(CrcCombine.CRC64NVME, (Supplier<Checksum>) CrcChecksumProvider::crc64Nvme));
+    }
+
+    @ParameterizedTest
+    @MethodSource("crcs")
+    public void combine_matchesCrcOfConcatenation(CrcCombine crcCombine, Supplier<Checksum> crc) {
+        byte[] data = new byte[10_000];
+        RANDOM.nextBytes(data);
+        int[] splits = {0, 1, 7, 8, 9, 4096, 9_999, 10_000};
+
+        long expected = crcOf(crc, data, 0, data.length);
+        for (int split : splits) {
+            long first = crcOf(crc, data, 0, split);
+            long second = crcOf(crc, data, split, data.length - split);
+
+            assertEquals(expected, crcCombine.combine(first, second, data.length - split), "split at " + split);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("crcs")
+    public void combine_manyParts_matchesCrcOfConcatenation(CrcCombine crcCombine, Supplier<Checksum> crc) {
+        byte[] data = new byte[64 * 1024];
+        RANDOM.nextBytes(data);
+        int partSize = 5000;
+
+        long combined = 0;
+        for (int off = 0; off < data.length; off += partSize) {
+            int length = Math.min(partSize, data.length - off);
+            combined = crcCombine.combine(combined, crcOf(crc, data, off, length), length);
+        }
+
+        assertEquals(crcOf(crc, data, 0, data.length), combined);
+    }
+
+    @Test
+    public void combine_largeLength_matchesRepeatedCombine() {
+        // CRC64NVME of 1 MiB of zeros, combined with itself up to 1 GiB, is the CRC of 1 GiB of zeros
+        byte[] zeros = new byte[1024 * 1024];
+        long crc = crcOf(CrcChecksumProvider::crc64Nvme, zeros, 0, zeros.length);
+        long length = zeros.length;
+        long doubled = crc;
+        for (int i = 0; i < 10; i++) {
+            doubled = CrcCombine.CRC64NVME.combine(doubled, doubled, length);
+            length *= 2;
+        }
+
+        long zerosCrc = CrcCombine.CRC64NVME.combine(crc, 0, 0);
+        long accumulated = zerosCrc;
+        for (int i = 1; i < 1024; i++) {
+            accumulated = CrcCombine.CRC64NVME.combine(accumulated, crc, zeros.length);
+        }
+        assertEquals(accumulated, doubled);
+    }
+
+    @Test
+    public void combine_negativeLength_throws() {
+        assertThrows(IllegalArgumentException.class, () -> CrcCombine.CRC32.combine(0, 0, -1));
+    }
+
+    private static long crcOf(Supplier<Checksum> crc, byte[] data, int off, int length) {
+        Checksum checksum = crc.get();
+        checksum.update(data, off, length);
+        return checksum.getValue();
+    }
+}
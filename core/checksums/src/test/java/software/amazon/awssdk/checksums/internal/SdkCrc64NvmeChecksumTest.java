@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class SdkCrc64NvmeChecksumTest {
+    @Test
+    public void getValue_emptyInput_isZero() {
+        assertEquals(0L, SdkCrc64NvmeChecksum.create().getValue());
+    }
+
+    @Test
+    public void getValue_checkInput_matchesCatalogueValue() {
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        byte[] input = "123456789".getBytes(StandardCharsets.US_ASCII);
+        checksum.update(input, 0, input.length);
+
+        assertEquals(0xAE8B14860A799888L, checksum.getValue());
+    }
+
+    @Test
+    public void update_byteAtATime_matchesBulkUpdate() {
+        byte[] data = new byte[1031];
+        new Random(7).nextBytes(data);
+
+        SdkCrc64NvmeChecksum bulk = SdkCrc64NvmeChecksum.create();
+        bulk.update(data, 0, data.length);
+        SdkCrc64NvmeChecksum single = SdkCrc64NvmeChecksum.create();
+        for (byte b : data) {
+            single.update(b);
+        }
+
+        assertEquals(bulk.getValue(), single.getValue());
+    }
+
+    @Test
+    public void clone_continuesIndependently() {
+        byte[] data = "123456789".getBytes(StandardCharsets.US_ASCII);
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        checksum.update(data, 0, 4);
+        SdkCrc64NvmeChecksum copy = checksum.clone();
+        checksum.update(0);
+        copy.update(data, 4, 5);
+
+        assertEquals(0xAE8B14860A799888L, copy.getValue());
+    }
+}
@@ -17,12 +17,12 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4_SIGNING_ALGORITHM;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.deriveSigningKey;
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningBuffer;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -52,14 +52,13 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         // Step 1: Create a canonical request
         V4CanonicalRequest canonicalRequest = createCanonicalRequest(requestBuilder.build(), contentHash);
 
-        String canonicalRequestString = canonicalRequest.getCanonicalRequestString();
-        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequestString);
+        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequest.getCanonicalRequestString());
 
         // Step 2: Create a hash of the canonical request
-        String canonicalRequestHash = hashCanonicalRequest(canonicalRequestString);
+        byte[] canonicalRequestHash = canonicalRequest.getCanonicalRequestHash();
 
-        // Step 2: Create a hash of the canonical request
-        String stringToSign = createSignString(canonicalRequestHash);
+        // Step 3: Create a string to sign
+        SigningBuffer stringToSign = createSignString(canonicalRequestHash);
 
         // Step 4: Calculate the signature
         byte[] signingKey = createSigningKey();
@@ -77,16 +76,24 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         ));
     }
 
-    private String createSignString(String canonicalRequestHash) {
-        LOG.debug(() -> "AWS4 Canonical Request Hash: " + canonicalRequestHash);
-
-        String stringToSign = AWS4_SIGNING_ALGORITHM +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().getDatetime() +
-                              SignerConstant.LINE_SEPARATOR +
-                              properties.getCredentialScope().scope() +
-                              SignerConstant.LINE_SEPARATOR +
-                              canonicalRequestHash;
+    /**
+     * Write the string to sign into this thread's {@link SigningBuffer}, without creating it as a string.
+     */
+    private SigningBuffer createSignString(byte[] canonicalRequestHash) {
+        LOG.debug(() -> "AWS4 Canonical Request Hash: " + BinaryUtils.toHex(canonicalRequestHash));
+
+        CredentialScope credentialScope = properties.getCredentialScope();
+        SigningBuffer stringToSign = SigningBuffer.get();
+        stringToSign.append(AWS4_SIGNING_ALGORITHM)
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(credentialScope.getDatetime())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(credentialScope.getDate()).append('/')
+                    .append(credentialScope.getRegion()).append('/')
+                    .append(credentialScope.getService()).append('/')
+                    .append(SignerConstant.AWS4_TERMINATOR)
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .appendHex(canonicalRequestHash);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
@@ -96,7 +103,7 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         return deriveSigningKey(properties.getCredentials(), properties.getCredentialScope());
     }
 
-    private String createSignature(String stringToSign, byte[] signingKey) {
+    private String createSignature(SigningBuffer stringToSign, byte[] signingKey) {
         return BinaryUtils.toHex(SignerUtils.computeSignature(stringToSign, signingKey));
     }
 }
@@ -15,27 +15,33 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.computeSignature;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.newSigningMac;
 import static software.amazon.awssdk.utils.BinaryUtils.toHex;
 
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
+import javax.crypto.Mac;
+import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
  * A class which calculates a rolling signature of arbitrary data using HMAC-SHA256. Each time a signature is calculated, the
  * prior calculation is incorporated, hence "rolling".
+ *
+ * <p>The signing key is loaded into a {@link Mac} once, and that {@code Mac} is reused for every chunk and trailer signature.
  */
 @SdkInternalApi
+@NotThreadSafe
 public final class RollingSigner {
 
-    private final byte[] signingKey;
+    private final Mac mac;
     private final String seedSignature;
     private String previousSignature;
 
     public RollingSigner(byte[] signingKey, String seedSignature) {
         this.seedSignature = seedSignature;
         this.previousSignature = seedSignature;
-        this.signingKey = signingKey.clone();
+        this.mac = newSigningMac(signingKey);
     }
 
     /**
@@ -43,7 +49,7 @@ public final class RollingSigner {
      */
     public String sign(Function<String, String> stringToSignTemplate) {
         String stringToSign = stringToSignTemplate.apply(previousSignature);
-        byte[] bytes = computeSignature(stringToSign, signingKey);
+        byte[] bytes = mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8));
         previousSignature = toHex(bytes);
         return previousSignature;
     }
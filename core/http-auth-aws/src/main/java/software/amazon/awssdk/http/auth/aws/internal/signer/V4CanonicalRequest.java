@@ -17,6 +17,7 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,10 +26,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.DigestAlgorithm;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningBuffer;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -94,6 +99,128 @@ public final class V4CanonicalRequest {
         return canonicalRequestString;
     }
 
+    /**
+     * Get the SHA-256 hash of the canonical request.
+     * <p>
+     * The canonical request is written as bytes into this thread's {@link SigningBuffer} and fed to the digest one part at a
+     * time, so neither the canonical request string nor the strings of its parts are created. If the canonical request string
+     * was already computed, it is hashed instead.
+     */
+    public byte[] getCanonicalRequestHash() {
+        if (canonicalRequestString != null) {
+            return SignerUtils.hash(canonicalRequestString);
+        }
+
+        MessageDigest digest = DigestAlgorithm.SHA256.getDigest();
+        SigningBuffer buffer = SigningBuffer.get();
+
+        buffer.append(request.method().toString()).append('\n');
+        appendCanonicalUri(buffer);
+        buffer.append('\n');
+        buffer.flushTo(digest);
+
+        appendCanonicalQueryString(buffer, digest);
+        digest.update((byte) '\n');
+
+        if (!appendCanonicalHeaders(buffer)) {
+            // Header names that are not ASCII, or not already in order, are left to the string-based canonicalization.
+            return SignerUtils.hash(getCanonicalRequestString());
+        }
+        buffer.append(contentHash);
+        buffer.flushTo(digest);
+        return digest.digest();
+    }
+
+    /**
+     * Append the canonical URI, as returned by {@link #getCanonicalUri(SdkHttpRequest, Options)}.
+     */
+    private void appendCanonicalUri(SigningBuffer buffer) {
+        String path = options.normalizePath ? request.getUri().normalize().getRawPath()
+                                            : request.encodedPath();
+
+        if (StringUtils.isEmpty(path)) {
+            buffer.append('/');
+            return;
+        }
+
+        int start = buffer.length();
+        if (options.doubleUrlEncode) {
+            buffer.appendUrlEncoded(path, true);
+        } else {
+            buffer.append(path);
+        }
+
+        if (buffer.array()[start] != '/') {
+            buffer.append('/');
+        }
+
+        boolean trimTrailingSlash = options.normalizePath &&
+                                    buffer.length() - start > 1 &&
+                                    !request.getUri().getPath().endsWith("/") &&
+                                    buffer.array()[buffer.length() - 1] == '/';
+
+        if (trimTrailingSlash) {
+            buffer.truncate(buffer.length() - 1);
+        }
+    }
+
+    /**
+     * Feed the canonical query string, as returned by {@link #getCanonicalQueryString(SortedMap)}, to the digest. The encoded
+     * names and values are written to the buffer in request order, and fed to the digest in sorted order.
+     */
+    private void appendCanonicalQueryString(SigningBuffer buffer, MessageDigest digest) {
+        if (request.numRawQueryParameters() == 0) {
+            return;
+        }
+
+        QueryParameterWriter parameters = new QueryParameterWriter(buffer);
+        request.forEachRawQueryParameter(parameters);
+        int[] order = parameters.sortedOrder();
+
+        byte[] bytes = buffer.array();
+        ByteRanges ranges = parameters.ranges;
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0) {
+                digest.update((byte) '&');
+            }
+            int name = order[i] * 2;
+            int value = name + 1;
+            digest.update(bytes, ranges.start(name), ranges.length(name));
+            digest.update((byte) '=');
+            digest.update(bytes, ranges.start(value), ranges.length(value));
+        }
+        buffer.truncate(0);
+    }
+
+    /**
+     * Append the canonical headers, as returned by {@link #getCanonicalHeadersString(List)}, followed by a newline and the
+     * signed headers.
+     *
+     * @return false if the headers could not be written in canonical order, in which case the buffer contents are undefined.
+     */
+    private boolean appendCanonicalHeaders(SigningBuffer buffer) {
+        HeaderWriter headers = new HeaderWriter(buffer);
+        request.forEachHeader(headers);
+        if (!headers.inOrder) {
+            return false;
+        }
+
+        buffer.append('\n');
+        int signedHeadersStart = buffer.length();
+        ByteRanges names = headers.names;
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                buffer.append(';');
+            }
+            buffer.appendCopy(names.start(i), names.end(i));
+        }
+        if (signedHeadersString == null) {
+            signedHeadersString = buffer.toString(signedHeadersStart, buffer.length());
+        }
+        buffer.append('\n');
+        return true;
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -377,6 +504,56 @@ public final class V4CanonicalRequest {
         return stringBuilder.toString();
     }
 
+    /**
+     * The {@link SigningBuffer} equivalent of {@link #addAndTrim(StringBuilder, String)}.
+     */
+    private static void appendTrimmed(SigningBuffer buffer, String value) {
+        int valueLength = value.length();
+        if (valueLength == 0) {
+            return;
+        }
+
+        int start = 0;
+        while (isWhiteSpace(value.charAt(start))) {
+            ++start;
+            if (start >= valueLength) {
+                return;
+            }
+        }
+
+        int lastWordStart = start;
+        boolean lastWasWhitespace = false;
+        for (int i = start; i < valueLength; i++) {
+            char c = value.charAt(i);
+
+            if (isWhiteSpace(c)) {
+                if (!lastWasWhitespace) {
+                    buffer.append(value, lastWordStart, i);
+                    lastWasWhitespace = true;
+                }
+            } else {
+                if (lastWasWhitespace) {
+                    buffer.append(' ');
+                    lastWordStart = i;
+                    lastWasWhitespace = false;
+                }
+            }
+        }
+
+        if (!lastWasWhitespace) {
+            buffer.append(value, lastWordStart, valueLength);
+        }
+    }
+
+    private static boolean isIgnoredHeader(String name) {
+        for (String ignored : HEADERS_TO_IGNORE_IN_LOWER_CASE) {
+            if (ignored.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean isWhiteSpace(char ch) {
         switch (ch) {
             case ' ':
@@ -391,6 +568,153 @@ public final class V4CanonicalRequest {
         }
     }
 
+    /**
+     * Start and end offsets of byte ranges in a {@link SigningBuffer}.
+     */
+    private static final class ByteRanges {
+        private int[] offsets = new int[32];
+        private int size;
+
+        void add(int start, int end) {
+            if (size * 2 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[size * 2] = start;
+            offsets[size * 2 + 1] = end;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int start(int i) {
+            return offsets[i * 2];
+        }
+
+        int end(int i) {
+            return offsets[i * 2 + 1];
+        }
+
+        int length(int i) {
+            return end(i) - start(i);
+        }
+    }
+
+    /**
+     * Writes the URL-encoded name and value of each query parameter to the buffer. Parameter {@code i}'s name and value are
+     * ranges {@code 2i} and {@code 2i + 1}.
+     */
+    private static final class QueryParameterWriter implements BiConsumer<String, List<String>> {
+        private final SigningBuffer buffer;
+        private final ByteRanges ranges = new ByteRanges();
+
+        QueryParameterWriter(SigningBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void accept(String name, List<String> values) {
+            if (StringUtils.isEmpty(name)) {
+                // Do not sign empty keys.
+                return;
+            }
+
+            int nameStart = buffer.length();
+            buffer.appendUrlEncoded(name, false);
+            int nameEnd = buffer.length();
+            for (String value : values) {
+                int valueStart = buffer.length();
+                // Null values should be treated as empty for the purposes of signing, not missing.
+                if (value != null) {
+                    buffer.appendUrlEncoded(value, false);
+                }
+                ranges.add(nameStart, nameEnd);
+                ranges.add(valueStart, buffer.length());
+            }
+        }
+
+        /**
+         * The parameters sorted by encoded name, and then by encoded value. Encoding is one-to-one, so parameters with the same
+         * encoded name also had the same raw name.
+         */
+        int[] sortedOrder() {
+            int[] order = new int[ranges.size() / 2];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            // Requests have few query parameters, so an insertion sort avoids boxing the indexes for a comparator.
+            for (int i = 1; i < order.length; i++) {
+                int parameter = order[i];
+                int j = i - 1;
+                while (j >= 0 && compare(order[j], parameter) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = parameter;
+            }
+            return order;
+        }
+
+        private int compare(int a, int b) {
+            int result = buffer.compare(ranges.start(a * 2), ranges.end(a * 2), ranges.start(b * 2), ranges.end(b * 2));
+            if (result != 0) {
+                return result;
+            }
+            return buffer.compare(ranges.start(a * 2 + 1), ranges.end(a * 2 + 1),
+                                  ranges.start(b * 2 + 1), ranges.end(b * 2 + 1));
+        }
+    }
+
+    /**
+     * Writes a line of the canonical headers for each signed header, and records the range of each lower-case header name.
+     * <p>
+     * Request headers are sorted case-insensitively, which is the canonical order when header names are ASCII. Header names
+     * are checked to be ASCII and strictly increasing, and {@link #inOrder} is cleared if they are not.
+     */
+    private static final class HeaderWriter implements BiConsumer<String, List<String>> {
+        private final SigningBuffer buffer;
+        private final ByteRanges names = new ByteRanges();
+        private boolean inOrder = true;
+
+        HeaderWriter(SigningBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void accept(String name, List<String> values) {
+            if (!inOrder || isIgnoredHeader(name)) {
+                return;
+            }
+
+            int nameStart = buffer.length();
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c >= 0x80) {
+                    inOrder = false;
+                    return;
+                }
+                buffer.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+            }
+            int nameEnd = buffer.length();
+
+            int previous = names.size() - 1;
+            if (previous >= 0 && buffer.compare(names.start(previous), names.end(previous), nameStart, nameEnd) >= 0) {
+                inOrder = false;
+                return;
+            }
+            names.add(nameStart, nameEnd);
+
+            buffer.append(':');
+            for (String value : values) {
+                appendTrimmed(buffer, value);
+                buffer.append(',');
+            }
+            buffer.truncate(buffer.length() - 1);
+            buffer.append('\n');
+        }
+    }
+
     /**
      * A class for representing options used when creating a {@link V4CanonicalRequest}
      */
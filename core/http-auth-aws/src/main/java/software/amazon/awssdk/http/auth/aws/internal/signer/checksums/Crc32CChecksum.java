@@ -15,95 +15,52 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer.checksums;
 
-import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.zip.Checksum;
+import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.CRC32C;
+import static software.amazon.awssdk.checksums.SdkChecksum.forAlgorithm;
+
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.crt.checksums.CRC32C;
-import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 
 /**
- * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum.
+ * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum, using the implementation chosen by
+ * {@code forAlgorithm} in core/checksums for {@link DefaultChecksumAlgorithm#CRC32C}.
  */
 @SdkInternalApi
 public class Crc32CChecksum implements SdkChecksum {
 
-    private static final String CRT_CLASSPATH_FOR_CRC32C = "software.amazon.awssdk.crt.checksums.CRC32C";
-    private static final ThreadLocal<Boolean> IS_CRT_AVAILABLE = ThreadLocal.withInitial(Crc32CChecksum::isCrtAvailable);
-
-    private Checksum crc32c;
-    private Checksum lastMarkedCrc32C;
-
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * The core/checksums checksum this class delegates to. Its type shares a simple name with this package's
+     * {@link SdkChecksum}, so it is the one place the type is written out in full.
      */
-    public Crc32CChecksum() {
-        if (IS_CRT_AVAILABLE.get()) {
-            crc32c = new CRC32C();
-        } else {
-            crc32c = SdkCrc32CChecksum.create();
-        }
-    }
-
-    private static boolean isCrtAvailable() {
-        try {
-            ClassLoaderHelper.loadClass(CRT_CLASSPATH_FOR_CRC32C, false);
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-
-        return true;
-    }
-
-    private static byte[] longToByte(Long input) {
-        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
-        buffer.putLong(input);
-        return buffer.array();
-    }
+    private final software.amazon.awssdk.checksums.SdkChecksum checksum = forAlgorithm(CRC32C);
 
     @Override
     public byte[] getChecksumBytes() {
-        return Arrays.copyOfRange(longToByte(crc32c.getValue()), 4, 8);
+        return checksum.getChecksumBytes();
     }
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32C = cloneChecksum(crc32c);
+        checksum.mark(readLimit);
     }
 
     @Override
     public void update(int b) {
-        crc32c.update(b);
+        checksum.update(b);
     }
 
     @Override
     public void update(byte[] b, int off, int len) {
-        crc32c.update(b, off, len);
+        checksum.update(b, off, len);
     }
 
     @Override
     public long getValue() {
-        return crc32c.getValue();
+        return checksum.getValue();
     }
 
     @Override
     public void reset() {
-        if (lastMarkedCrc32C == null) {
-            crc32c.reset();
-        } else {
-            crc32c = cloneChecksum(lastMarkedCrc32C);
-        }
-    }
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (checksum instanceof CRC32C) {
-            return (Checksum) ((CRC32C) checksum).clone();
-        }
-
-        if (checksum instanceof SdkCrc32CChecksum) {
-            return (Checksum) ((SdkCrc32CChecksum) checksum).clone();
-        }
-
-        throw new IllegalStateException("Unsupported checksum");
+        checksum.reset();
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.checksums;
+
+import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.CRC64NVME;
+import static software.amazon.awssdk.checksums.SdkChecksum.forAlgorithm;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC64NVME checksum, using the implementation chosen by
+ * {@code forAlgorithm} in core/checksums for {@link DefaultChecksumAlgorithm#CRC64NVME}.
+ */
+@SdkInternalApi
+public class Crc64NvmeChecksum implements SdkChecksum {
+
+    /**
+     * The core/checksums checksum this class delegates to. Its type shares a simple name with this package's
+     * {@link SdkChecksum}, so it is the one place the type is written out in full.
+     */
+    private final software.amazon.awssdk.checksums.SdkChecksum checksum = forAlgorithm(CRC64NVME);
+
+    @Override
+    public byte[] getChecksumBytes() {
+        return checksum.getChecksumBytes();
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        checksum.mark(readLimit);
+    }
+
+    @Override
+    public void update(int b) {
+        checksum.update(b);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        checksum.update(b, off, len);
+    }
+
+    @Override
+    public long getValue() {
+        return checksum.getValue();
+    }
+
+    @Override
+    public void reset() {
+        checksum.reset();
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.http.auth.aws.internal.signer.util;
 
 import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.CRC32;
 import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.CRC32C;
+import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.CRC64NVME;
 import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.MD5;
 import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.SHA1;
 import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.SHA256;
@@ -30,6 +31,7 @@ import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.ConstantChecksum;
 import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.Crc32CChecksum;
 import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.Crc32Checksum;
+import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.Crc64NvmeChecksum;
 import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.Md5Checksum;
 import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.SdkChecksum;
 import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.Sha1Checksum;
@@ -42,13 +44,15 @@ public final class ChecksumUtil {
 
     private static final String CONSTANT_CHECKSUM = "CONSTANT";
 
-    private static final Map<String, Supplier<SdkChecksum>> CHECKSUM_MAP = ImmutableMap.of(
-        SHA256.algorithmId(), Sha256Checksum::new,
-        SHA1.algorithmId(), Sha1Checksum::new,
-        CRC32.algorithmId(), Crc32Checksum::new,
-        CRC32C.algorithmId(), Crc32CChecksum::new,
-        MD5.algorithmId(), Md5Checksum::new
-    );
+    private static final Map<String, Supplier<SdkChecksum>> CHECKSUM_MAP =
+        ImmutableMap.<String, Supplier<SdkChecksum>>builder()
+                    .put(SHA256.algorithmId(), Sha256Checksum::new)
+                    .put(SHA1.algorithmId(), Sha1Checksum::new)
+                    .put(CRC32.algorithmId(), Crc32Checksum::new)
+                    .put(CRC32C.algorithmId(), Crc32CChecksum::new)
+                    .put(CRC64NVME.algorithmId(), Crc64NvmeChecksum::new)
+                    .put(MD5.algorithmId(), Md5Checksum::new)
+                    .build();
 
     private ChecksumUtil() {
     }
@@ -57,7 +61,8 @@ public final class ChecksumUtil {
      * Get the correct checksum header name based on the checksum-algorithm. This is required to be of the form
      * {@code x-amz-checksum-*}, where '*' is alphanumeric checksum-algorithm-id in lower-case form. Examples include:
      * <p>
-     * x-amz-checksum-sha256, x-amz-checksum-sha1, x-amz-checksum-crc32, x-amz-checksum-crc32c, x-amz-checksum-md5
+     * x-amz-checksum-sha256, x-amz-checksum-sha1, x-amz-checksum-crc32, x-amz-checksum-crc32c, x-amz-checksum-crc64nvme,
+     * x-amz-checksum-md5
      * </p>
      */
     public static String checksumHeaderName(ChecksumAlgorithm checksumAlgorithm) {
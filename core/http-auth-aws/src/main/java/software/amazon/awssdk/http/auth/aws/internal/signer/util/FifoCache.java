@@ -15,23 +15,29 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer.util;
 
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 
 /**
  * A bounded cache that has a FIFO eviction policy when the cache is full.
  *
+ * <p>Reads and writes do not lock: entries are kept in a {@link ConcurrentHashMap}, and their insertion order in a lock-free
+ * queue that is used to find the entry to evict. Under concurrent writes the cache may briefly hold more than its maximum
+ * size, or end up with fewer entries than that, and an entry that is replaced while it is being evicted may be dropped.
+ *
  * @param <T> value type
  */
 @ThreadSafe
 @SdkInternalApi
 public final class FifoCache<T> {
-    private final BoundedLinkedHashMap<String, T> map;
-    private final ReadLock rlock;
-    private final WriteLock wlock;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, T> map = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
 
     /**
      * @param maxSize the maximum number of entries of the cache
@@ -41,21 +47,32 @@ public final class FifoCache<T> {
             throw new IllegalArgumentException("maxSize " + maxSize
                                                + " must be at least 1");
         }
-        map = new BoundedLinkedHashMap<>(maxSize);
-        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-        rlock = lock.readLock();
-        wlock = lock.writeLock();
+        this.maxSize = maxSize;
     }
 
     /**
      * Adds an entry to the cache, evicting the earliest entry if necessary.
      */
     public T add(String key, T value) {
-        wlock.lock();
-        try {
-            return map.put(key, value);
-        } finally {
-            wlock.unlock();
+        T previous = map.put(key, value);
+        if (previous == null) {
+            insertionOrder.add(key);
+            if (size.incrementAndGet() > maxSize) {
+                evictEarliest();
+            }
+        }
+        return previous;
+    }
+
+    private void evictEarliest() {
+        while (size.get() > maxSize) {
+            String earliest = insertionOrder.poll();
+            if (earliest == null) {
+                return;
+            }
+            if (map.remove(earliest) != null) {
+                size.decrementAndGet();
+            }
         }
     }
 
@@ -63,40 +80,25 @@ public final class FifoCache<T> {
      * Returns the value of the given key; or null of no such entry exists.
      */
     public T get(String key) {
-        rlock.lock();
-        try {
-            return map.get(key);
-        } finally {
-            rlock.unlock();
-        }
+        return map.get(key);
     }
 
     /**
      * Returns the current size of the cache.
      */
     public int size() {
-        rlock.lock();
-        try {
-            return map.size();
-        } finally {
-            rlock.unlock();
-        }
+        return size.get();
     }
 
     /**
      * Returns the maximum size of the cache.
      */
     public int getMaxSize() {
-        return map.getMaxSize();
+        return maxSize;
     }
 
     @Override
     public String toString() {
-        rlock.lock();
-        try {
-            return map.toString();
-        } finally {
-            rlock.unlock();
-        }
+        return map.toString();
     }
 }
@@ -22,6 +22,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -152,6 +153,41 @@ public final class SignerUtils {
         }
     }
 
+    /**
+     * Sign the given range of data using a key and a specific algorithm
+     */
+    public static byte[] sign(byte[] data, int offset, int length, byte[] key, SigningAlgorithm algorithm) {
+        Mac mac = algorithm.getMac();
+        try {
+            mac.init(new SecretKeySpec(key, algorithm.toString()));
+        } catch (InvalidKeyException e) {
+            throw new RuntimeException("Unable to calculate a request signature: ", e);
+        }
+        mac.update(data, offset, length);
+        return mac.doFinal();
+    }
+
+    /**
+     * Create a {@link Mac} that is initialized with the given signing key, for computing several signatures with the same key.
+     * This avoids re-initializing the key state for each signature. The returned {@code Mac} is not thread-safe.
+     */
+    public static Mac newSigningMac(byte[] signingKey) {
+        SigningAlgorithm algorithm = SigningAlgorithm.HMAC_SHA256;
+        try {
+            Mac mac = algorithm.getMac();
+            mac.init(new SecretKeySpec(signingKey, algorithm.getAlgorithmName()));
+            try {
+                return (Mac) mac.clone();
+            } catch (CloneNotSupportedException e) {
+                Mac newMac = Mac.getInstance(algorithm.getAlgorithmName());
+                newMac.init(new SecretKeySpec(signingKey, algorithm.getAlgorithmName()));
+                return newMac;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to initialize a request signature: ", e);
+        }
+    }
+
     /**
      * Compute the signature of a string using a signing key.
      * <p>
@@ -163,6 +199,13 @@ public final class SignerUtils {
                     SigningAlgorithm.HMAC_SHA256);
     }
 
+    /**
+     * Compute the signature of a string-to-sign that was written to a {@link SigningBuffer}, using a signing key.
+     */
+    public static byte[] computeSignature(SigningBuffer stringToSign, byte[] signingKey) {
+        return sign(stringToSign.array(), 0, stringToSign.length(), signingKey, SigningAlgorithm.HMAC_SHA256);
+    }
+
     /**
      * Add the host header based on parameters of a request
      */
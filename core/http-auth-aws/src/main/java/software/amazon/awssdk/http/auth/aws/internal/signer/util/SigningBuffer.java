@@ -0,0 +1,248 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A growable byte buffer that the SigV4 canonical request and string-to-sign are written into, so that they can be hashed and
+ * signed without first being built as {@link String}s. Characters are written as UTF-8, matching
+ * {@code String.getBytes(StandardCharsets.UTF_8)}.
+ * <p>
+ * Each thread reuses a single buffer, obtained with {@link #get()}. A buffer that grew beyond {@link #MAX_RETAINED_CAPACITY}
+ * is not kept, so that an unusually large request does not pin memory for the lifetime of the thread.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class SigningBuffer {
+    private static final int INITIAL_CAPACITY = 2048;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PERCENT_HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<SigningBuffer> BUFFERS = ThreadLocal.withInitial(SigningBuffer::new);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private SigningBuffer() {
+    }
+
+    /**
+     * Returns this thread's buffer, emptied. The buffer must not be used after another call to this method on the same thread.
+     */
+    public static SigningBuffer get() {
+        SigningBuffer buffer = BUFFERS.get();
+        if (buffer.bytes.length > MAX_RETAINED_CAPACITY) {
+            buffer.bytes = new byte[INITIAL_CAPACITY];
+        }
+        buffer.length = 0;
+        return buffer;
+    }
+
+    /**
+     * The array backing this buffer. Only the first {@link #length()} bytes are valid.
+     */
+    public byte[] array() {
+        return bytes;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Discard the bytes written after the given length.
+     */
+    public void truncate(int newLength) {
+        length = newLength;
+    }
+
+    public SigningBuffer append(byte b) {
+        ensureCapacity(1);
+        bytes[length++] = b;
+        return this;
+    }
+
+    public SigningBuffer append(char c) {
+        return append((byte) c);
+    }
+
+    public SigningBuffer append(String value) {
+        return append(value, 0, value.length());
+    }
+
+    /**
+     * Append the UTF-8 encoding of the characters of {@code value} between {@code start} (inclusive) and {@code end}
+     * (exclusive).
+     */
+    public SigningBuffer append(String value, int start, int end) {
+        ensureCapacity(end - start);
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else {
+                i = appendNonAscii(value, i, end);
+                ensureCapacity(end - i - 1);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Append a copy of the bytes already in this buffer between {@code start} (inclusive) and {@code end} (exclusive).
+     */
+    public SigningBuffer appendCopy(int start, int end) {
+        ensureCapacity(end - start);
+        System.arraycopy(bytes, start, bytes, length, end - start);
+        length += end - start;
+        return this;
+    }
+
+    /**
+     * Append the lower-case hexadecimal representation of the given bytes.
+     */
+    public SigningBuffer appendHex(byte[] data) {
+        ensureCapacity(data.length * 2);
+        for (byte b : data) {
+            bytes[length++] = HEX_DIGITS[(b >> 4) & 0xF];
+            bytes[length++] = HEX_DIGITS[b & 0xF];
+        }
+        return this;
+    }
+
+    /**
+     * Append the URL-encoded form of {@code value}, equivalent to {@code SdkHttpUtils.urlEncode(value)}, or to
+     * {@code SdkHttpUtils.urlEncodeIgnoreSlashes(value)} if {@code ignoreSlashes} is true.
+     */
+    public SigningBuffer appendUrlEncoded(String value, boolean ignoreSlashes) {
+        int start = length;
+        append(value);
+        int end = length;
+        int unreserved = 0;
+        for (int i = start; i < end; i++) {
+            if (isUnreserved(bytes[i], ignoreSlashes)) {
+                unreserved++;
+            }
+        }
+        int encodedLength = unreserved + (end - start - unreserved) * 3;
+        if (encodedLength == end - start) {
+            return this;
+        }
+
+        // Encode in place, back to front, so that each byte is read before it is overwritten.
+        ensureCapacity(encodedLength - (end - start));
+        int write = start + encodedLength;
+        for (int read = end - 1; read >= start; read--) {
+            byte b = bytes[read];
+            if (isUnreserved(b, ignoreSlashes)) {
+                bytes[--write] = b;
+            } else {
+                bytes[--write] = PERCENT_HEX_DIGITS[b & 0xF];
+                bytes[--write] = PERCENT_HEX_DIGITS[(b >> 4) & 0xF];
+                bytes[--write] = '%';
+            }
+        }
+        length = start + encodedLength;
+        return this;
+    }
+
+    /**
+     * Compare the bytes in the range {@code [aStart, aEnd)} with the bytes in the range {@code [bStart, bEnd)}, as unsigned
+     * values.
+     */
+    public int compare(int aStart, int aEnd, int bStart, int bEnd) {
+        int aLength = aEnd - aStart;
+        int bLength = bEnd - bStart;
+        int common = Math.min(aLength, bLength);
+        for (int i = 0; i < common; i++) {
+            int diff = (bytes[aStart + i] & 0xFF) - (bytes[bStart + i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    /**
+     * Feed the bytes written so far to the given digest, and empty this buffer.
+     */
+    public void flushTo(MessageDigest digest) {
+        digest.update(bytes, 0, length);
+        length = 0;
+    }
+
+    /**
+     * Decode the bytes in the range {@code [start, end)}.
+     */
+    public String toString(int start, int end) {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return toString(0, length);
+    }
+
+    private int appendNonAscii(String value, int index, int end) {
+        char c = value.charAt(index);
+        if (c < 0x800) {
+            ensureCapacity(2);
+            bytes[length++] = (byte) (0xC0 | (c >> 6));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            return index;
+        }
+        if (!Character.isSurrogate(c)) {
+            ensureCapacity(3);
+            bytes[length++] = (byte) (0xE0 | (c >> 12));
+            bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            return index;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            ensureCapacity(4);
+            bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 1;
+        }
+        // Unpaired surrogates are replaced, as String.getBytes does
+        ensureCapacity(1);
+        bytes[length++] = '?';
+        return index;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+
+    private static boolean isUnreserved(byte b, boolean ignoreSlashes) {
+        return (b >= 'a' && b <= 'z')
+               || (b >= 'A' && b <= 'Z')
+               || (b >= '0' && b <= '9')
+               || b == '-' || b == '_' || b == '.' || b == '~'
+               || (ignoreSlashes && b == '/');
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Arrays;
@@ -23,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
 import software.amazon.awssdk.utils.ToString;
 
 /**
@@ -76,6 +78,68 @@ public class V4CanonicalRequestTest {
         assertEquals(tc.expectedPath, canonicalPath);
     }
 
+    @ParameterizedTest
+    @MethodSource("data")
+    public void canonicalRequestHash_matchesHashOfCanonicalRequestString(TestCase tc) {
+        assertHashMatchesString(tc.request, tc.options);
+    }
+
+    @Test
+    public void canonicalRequestHash_withQueryParametersAndHeaders_matchesHashOfCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .encodedPath("/foo/b%C3%A4r%20baz/./qux")
+                                               .method(SdkHttpMethod.POST)
+                                               .putRawQueryParameter("zeta", "last")
+                                               .putRawQueryParameter("a b", Arrays.asList("z", "a*", "\u00e4~", null))
+                                               .putRawQueryParameter("A", "upper")
+                                               .putRawQueryParameter("", "ignored")
+                                               .putRawQueryParameter("emoji", "\ud83d\ude00/+")
+                                               .putRawQueryParameter("unpaired", "\ud83d")
+                                               .putHeader("Host", "localhost")
+                                               .putHeader("X-Amz-Date", "20240101T000000Z")
+                                               .putHeader("x-amz-meta-name", "  caf\u00e9 \t au   lait ")
+                                               .appendHeader("X-Amz-Multi", "one")
+                                               .appendHeader("X-Amz-Multi", " two ")
+                                               .putHeader("User-Agent", "ignored")
+                                               .putHeader("Connection", "ignored")
+                                               .build();
+
+        assertHashMatchesString(request, new V4CanonicalRequest.Options(true, true));
+        assertHashMatchesString(request, new V4CanonicalRequest.Options(false, false));
+    }
+
+    @Test
+    public void canonicalRequestHash_withNonAsciiHeaderName_matchesHashOfCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.GET)
+                                               .putHeader("foo", "bar")
+                                               .putHeader("x-\u00c4rger", "value")
+                                               .build();
+
+        assertHashMatchesString(request, new V4CanonicalRequest.Options(true, true));
+    }
+
+    @Test
+    public void canonicalRequestHash_setsSignedHeadersString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.GET)
+                                               .putHeader("X-Amz-Date", "20240101T000000Z")
+                                               .putHeader("Host", "localhost")
+                                               .putHeader("expect", "100-continue")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256", new V4CanonicalRequest.Options(true, true));
+
+        cr.getCanonicalRequestHash();
+
+        assertEquals("host;x-amz-date", cr.getSignedHeadersString());
+    }
+
     @Test
     public void canonicalRequest_WithForbiddenHeaders_shouldExcludeForbidden() {
         SdkHttpRequest request = SdkHttpRequest.builder()
@@ -183,10 +247,19 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    private static void assertHashMatchesString(SdkHttpRequest request, V4CanonicalRequest.Options options) {
+        String canonicalRequestString = new V4CanonicalRequest(request, "sha-256", options).getCanonicalRequestString();
+        byte[] canonicalRequestHash = new V4CanonicalRequest(request, "sha-256", options).getCanonicalRequestHash();
+
+        assertArrayEquals(SignerUtils.hash(canonicalRequestString), canonicalRequestHash);
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
         private final String expectedPath;
+        private final SdkHttpRequest request;
+        private final V4CanonicalRequest.Options options;
         private final V4CanonicalRequest canonicalRequest;
 
         private TestCase(String name,
@@ -194,17 +267,17 @@ public class V4CanonicalRequestTest {
                          String expectedPath,
                          boolean doubleUrlEncode,
                          boolean normalizePath) {
-            SdkHttpRequest request = SdkHttpRequest.builder()
-                                                   .protocol("https")
-                                                   .host("localhost")
-                                                   .encodedPath(path)
-                                                   .method(SdkHttpMethod.PUT)
-                                                   .build();
+            this.request = SdkHttpRequest.builder()
+                                         .protocol("https")
+                                         .host("localhost")
+                                         .encodedPath(path)
+                                         .method(SdkHttpMethod.PUT)
+                                         .build();
             this.name = name;
             this.path = path;
             this.expectedPath = expectedPath;
-            this.canonicalRequest = new V4CanonicalRequest(request, "sha-256",
-                                                           new V4CanonicalRequest.Options(doubleUrlEncode, normalizePath));
+            this.options = new V4CanonicalRequest.Options(doubleUrlEncode, normalizePath);
+            this.canonicalRequest = new V4CanonicalRequest(request, "sha-256", options);
         }
 
         @Override
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+public class SigningBufferTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "a b+c*d~e", "/foo/bar%2F", "äöü", "€100", "😀",
+                            "\ud83d", "x\ude00y", "-_.!'()"})
+    public void append_matchesStringGetBytes(String value) {
+        SigningBuffer buffer = SigningBuffer.get();
+        buffer.append(value);
+
+        assertThat(Arrays.copyOf(buffer.array(), buffer.length())).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "a b+c*d~e", "/foo/bar%2F", "äöü", "€100", "😀",
+                            "\ud83d", "-_.!'()", "key=value&other"})
+    public void appendUrlEncoded_matchesSdkHttpUtils(String value) {
+        SigningBuffer buffer = SigningBuffer.get();
+        buffer.append("prefix");
+        buffer.appendUrlEncoded(value, false);
+        assertThat(buffer.toString()).isEqualTo("prefix" + SdkHttpUtils.urlEncode(value));
+
+        buffer = SigningBuffer.get();
+        buffer.appendUrlEncoded(value, true);
+        assertThat(buffer.toString()).isEqualTo(SdkHttpUtils.urlEncodeIgnoreSlashes(value));
+    }
+
+    @Test
+    public void appendHex_matchesBinaryUtils() {
+        byte[] data = {0, 1, 0x7F, (byte) 0x80, (byte) 0xAB, (byte) 0xFF};
+
+        assertThat(SigningBuffer.get().appendHex(data).toString()).isEqualTo(BinaryUtils.toHex(data));
+    }
+
+    @Test
+    public void append_beyondInitialCapacity_grows() {
+        StringBuilder expected = new StringBuilder();
+        SigningBuffer buffer = SigningBuffer.get();
+        for (int i = 0; i < 10_000; i++) {
+            buffer.append("äb");
+            expected.append("äb");
+        }
+
+        assertThat(buffer.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void get_returnsEmptyBuffer() {
+        SigningBuffer.get().append("leftover");
+
+        assertThat(SigningBuffer.get().length()).isZero();
+    }
+
+    @Test
+    public void compare_comparesBytesUnsigned() {
+        SigningBuffer buffer = SigningBuffer.get();
+        buffer.append("ab").append("abc").append("ä");
+
+        assertThat(buffer.compare(0, 2, 2, 5)).isNegative();
+        assertThat(buffer.compare(2, 5, 0, 2)).isPositive();
+        assertThat(buffer.compare(0, 2, 2, 4)).isZero();
+        assertThat(buffer.compare(5, 7, 0, 2)).isPositive();
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.metrics;
 
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.internal.ConcurrentMetricCollector;
 import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
 
 /**
@@ -51,7 +52,20 @@ public interface MetricCollector {
      */
     MetricCollection collect();
 
+    /**
+     * Create a new metric collector.
+     * <p>
+     * By default, the returned collector synchronizes each call. Setting the {@code aws.useConcurrentMetricCollector}
+     * system property or the {@code AWS_USE_CONCURRENT_METRIC_COLLECTOR} environment variable to {@code true} selects a
+     * lock-free collector instead, which has lower overhead when metrics are reported at a high rate.
+     *
+     * @param name The name of the collector.
+     * @return The new collector.
+     */
     static MetricCollector create(String name) {
+        if (ConcurrentMetricCollector.isSelected()) {
+            return ConcurrentMetricCollector.create(name);
+        }
         return DefaultMetricCollector.create(name);
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A lock-free {@link MetricCollector} that stores the records of each metric in an array slot indexed by
+ * {@link DefaultSdkMetric#index()}. Reporting a metric allocates a single record and never blocks.
+ *
+ * <p>The slot array is sized for the metrics declared when the collector is created. Metrics declared afterwards, and
+ * {@link SdkMetric} implementations other than {@link DefaultSdkMetric}, are kept in a separate list.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrentMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(ConcurrentMetricCollector.class);
+    private static final boolean SELECTED =
+        MetricsSystemSetting.AWS_USE_CONCURRENT_METRIC_COLLECTOR.getBooleanValue().orElse(false);
+
+    private final String name;
+    private final AtomicReferenceArray<MetricRecordNode<?>> records;
+    private final AtomicReference<MetricRecordNode<?>> unindexedRecords = new AtomicReference<>();
+    private final AtomicReference<ChildNode> children = new AtomicReference<>();
+
+    private ConcurrentMetricCollector(String name) {
+        this.name = name;
+        this.records = new AtomicReferenceArray<>(DefaultSdkMetric.indexBound());
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new ConcurrentMetricCollector(name);
+    }
+
+    /**
+     * @return Whether this collector was selected with {@link MetricsSystemSetting#AWS_USE_CONCURRENT_METRIC_COLLECTOR}.
+     * The setting is read once.
+     */
+    public static boolean isSelected() {
+        return SELECTED;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        MetricRecordNode<T> record = new MetricRecordNode<>(metric, data);
+        int index = indexOf(metric);
+        if (index >= 0 && index < records.length()) {
+            MetricRecordNode<?> previous;
+            do {
+                previous = records.get(index);
+                record.previous(previous);
+            } while (!records.compareAndSet(index, previous, record));
+        } else {
+            MetricRecordNode<?> previous;
+            do {
+                previous = unindexedRecords.get();
+                record.previous(previous);
+            } while (!unindexedRecords.compareAndSet(previous, record));
+        }
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        MetricCollector child = create(name);
+        ChildNode node = new ChildNode(child);
+        do {
+            node.previous = children.get();
+        } while (!children.compareAndSet(node.previous, node));
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        int length = records.length();
+        while (length > 0 && records.get(length - 1) == null) {
+            length--;
+        }
+        MetricRecordNode<?>[] snapshot = new MetricRecordNode<?>[length];
+        for (int i = 0; i < length; i++) {
+            snapshot[i] = records.get(i);
+        }
+
+        IndexedMetricCollection metricRecords =
+            new IndexedMetricCollection(name, snapshot, unindexedRecords.get(), collectChildren());
+
+        log.debug(() -> "Collected metrics records: " + metricRecords);
+        return metricRecords;
+    }
+
+    private List<MetricCollection> collectChildren() {
+        ChildNode node = children.get();
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<MetricCollection> collected = new ArrayList<>();
+        for (; node != null; node = node.previous) {
+            collected.add(node.collector.collect());
+        }
+        Collections.reverse(collected);
+        return collected;
+    }
+
+    /**
+     * @return The array slot of the given metric, or -1 if the metric is not indexed.
+     */
+    static int indexOf(SdkMetric<?> metric) {
+        return metric instanceof DefaultSdkMetric ? ((DefaultSdkMetric<?>) metric).index() : -1;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrentMetricCollector")
+                       .add("name", name)
+                       .build();
+    }
+
+    private static final class ChildNode {
+        private final MetricCollector collector;
+        private ChildNode previous;
+
+        private ChildNode(MetricCollector collector) {
+            this.collector = collector;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -33,7 +34,9 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements SdkMetric<T> {
     private static final ConcurrentHashMap<SdkMetric<?>, Boolean> SDK_METRICS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
 
+    private final int index;
     private final String name;
     private final Class<T> clzz;
     private final Set<MetricCategory> categories;
@@ -46,6 +49,21 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         this.level = Validate.notNull(level, "level must not be null");
         Validate.notEmpty(categories, "categories must not be empty");
         this.categories = EnumSet.copyOf(categories);
+        this.index = NEXT_INDEX.getAndIncrement();
+    }
+
+    /**
+     * @return A dense, zero-based index that is unique to this metric instance, for use as an array slot by collectors.
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @return An upper bound (exclusive) on the {@link #index()} of every metric created so far.
+     */
+    public static int indexBound() {
+        return NEXT_INDEX.get();
     }
 
     /**
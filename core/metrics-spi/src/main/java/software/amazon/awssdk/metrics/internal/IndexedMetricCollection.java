@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The {@link MetricCollection} created by {@link ConcurrentMetricCollector}. It keeps the collector's record lists as they
+ * were at collection time, indexed by {@link DefaultSdkMetric#index()}, without copying them into a map.
+ */
+@SdkInternalApi
+final class IndexedMetricCollection implements MetricCollection {
+    private final String name;
+    private final MetricRecordNode<?>[] records;
+    private final MetricRecordNode<?> unindexedRecords;
+    private final List<MetricCollection> children;
+    private final Instant creationTime;
+
+    IndexedMetricCollection(String name,
+                            MetricRecordNode<?>[] records,
+                            MetricRecordNode<?> unindexedRecords,
+                            List<MetricCollection> children) {
+        this.name = name;
+        this.records = records;
+        this.unindexedRecords = unindexedRecords;
+        this.children = Collections.unmodifiableList(children);
+        this.creationTime = Instant.now();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> metricValues(SdkMetric<T> metric) {
+        List<T> values = new ArrayList<>();
+        int index = ConcurrentMetricCollector.indexOf(metric);
+        if (index >= 0 && index < records.length) {
+            for (MetricRecordNode<?> r = records[index]; r != null; r = r.previous()) {
+                values.add((T) r.value());
+            }
+        }
+        for (MetricRecordNode<?> r = unindexedRecords; r != null; r = r.previous()) {
+            if (r.metric().equals(metric)) {
+                values.add((T) r.value());
+            }
+        }
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Records are linked newest first
+        Collections.reverse(values);
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public List<MetricCollection> children() {
+        return children;
+    }
+
+    @Override
+    public Instant creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Iterator<MetricRecord<?>> iterator() {
+        return allRecords().iterator();
+    }
+
+    private List<MetricRecord<?>> allRecords() {
+        List<MetricRecord<?>> all = new ArrayList<>();
+        for (MetricRecordNode<?> head : records) {
+            addInReportOrder(all, head);
+        }
+        addInReportOrder(all, unindexedRecords);
+        return all;
+    }
+
+    private static void addInReportOrder(List<MetricRecord<?>> all, MetricRecordNode<?> head) {
+        int start = all.size();
+        for (MetricRecordNode<?> r = head; r != null; r = r.previous()) {
+            all.add(r);
+        }
+        Collections.reverse(all.subList(start, all.size()));
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricCollection")
+                       .add("name", name)
+                       .add("metrics", allRecords())
+                       .add("children", children)
+                       .build();
+    }
+}
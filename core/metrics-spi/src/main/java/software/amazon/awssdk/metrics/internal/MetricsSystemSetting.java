@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.SystemSetting;
+
+/**
+ * Metrics specific System Setting.
+ */
+@SdkInternalApi
+public enum MetricsSystemSetting implements SystemSetting {
+    /**
+     * Whether {@link software.amazon.awssdk.metrics.MetricCollector#create(String)} creates a
+     * {@link ConcurrentMetricCollector} instead of a {@link DefaultMetricCollector}.
+     */
+    AWS_USE_CONCURRENT_METRIC_COLLECTOR("aws.useConcurrentMetricCollector", "false");
+
+    private final String systemProperty;
+    private final String defaultValue;
+
+    MetricsSystemSetting(String systemProperty, String defaultValue) {
+        this.systemProperty = systemProperty;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return systemProperty;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return name();
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class ConcurrentMetricCollectorTest {
+    private static final SdkMetric<Integer> M1 = SdkMetric.create("m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("m2", String.class, MetricLevel.INFO, MetricCategory.CORE);
+
+    @AfterAll
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void testName_returnsName() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        assertThat(collector.name()).isEqualTo("collector");
+    }
+
+    @Test
+    public void testCreateChild_returnsChildWithCorrectName() {
+        MetricCollector parent = ConcurrentMetricCollector.create("parent");
+        MetricCollector child = parent.createChild("child");
+
+        assertThat(child.name()).isEqualTo("child");
+        assertThat(child).isInstanceOf(ConcurrentMetricCollector.class);
+    }
+
+    @Test
+    public void testCollect_allReportedMetricsInCollectionInReportOrder() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        Integer[] values = {1, 2, 3};
+        Stream.of(values).forEach(v -> collector.reportMetric(M1, v));
+        collector.reportMetric(M2, "foo");
+
+        MetricCollection collected = collector.collect();
+
+        assertThat(collected.metricValues(M1)).containsExactly(values);
+        assertThat(collected.metricValues(M2)).containsExactly("foo");
+        List<Object> allValues = collected.stream().map(MetricRecord::value).collect(Collectors.toList());
+        assertThat(allValues).containsExactlyInAnyOrder(1, 2, 3, "foo");
+    }
+
+    @Test
+    public void testCollect_noValues_returnsEmptyList() {
+        MetricCollection collected = ConcurrentMetricCollector.create("collector").collect();
+
+        assertThat(collected.metricValues(M1)).isEmpty();
+        assertThat(collected).isEmpty();
+    }
+
+    @Test
+    public void testCollect_reportsAfterCollect_notVisibleInCollection() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+        MetricCollection collected = collector.collect();
+        collector.reportMetric(M1, 2);
+
+        assertThat(collected.metricValues(M1)).containsExactly(1);
+    }
+
+    @Test
+    public void testCollect_metricDeclaredAfterCollectorCreated_inCollection() {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        SdkMetric<Long> late = SdkMetric.create("late", Long.class, MetricLevel.INFO, MetricCategory.CORE);
+        collector.reportMetric(late, 1L);
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(late, 2L);
+
+        MetricCollection collected = collector.collect();
+
+        assertThat(collected.metricValues(late)).containsExactly(1L, 2L);
+        assertThat(collected.metricValues(M1)).containsExactly(1);
+    }
+
+    @Test
+    public void testCollect_returnedCollectionContainsAllChildrenInOrder() {
+        MetricCollector parent = ConcurrentMetricCollector.create("parent");
+        String[] childNames = {"c1", "c2", "c3" };
+        Stream.of(childNames).forEach(parent::createChild);
+        MetricCollection collected = parent.collect();
+        assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
+    }
+
+    @Test
+    public void testReportMetric_concurrentReports_allRecorded() throws Exception {
+        MetricCollector collector = ConcurrentMetricCollector.create("collector");
+        int threads = 8;
+        int reportsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * reportsPerThread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < reportsPerThread; i++) {
+                        collector.reportMetric(M1, base + i);
+                    }
+                    collector.createChild("child");
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        MetricCollection collected = collector.collect();
+        List<Integer> values = collected.metricValues(M1);
+        assertThat(values).hasSize(threads * reportsPerThread);
+        assertThat(values.stream().distinct().collect(Collectors.toList())).hasSize(threads * reportsPerThread);
+        assertThat(collected.children()).hasSize(threads);
+    }
+}
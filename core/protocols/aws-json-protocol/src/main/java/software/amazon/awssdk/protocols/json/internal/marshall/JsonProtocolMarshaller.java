@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
@@ -37,6 +38,7 @@ import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.FieldPlanCache;
 import software.amazon.awssdk.protocols.core.InstantToString;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
@@ -57,6 +59,8 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
 
     private static final JsonMarshallerRegistry MARSHALLER_REGISTRY = createMarshallerRegistry();
 
+    private static final FieldPlanCache<BoundField> FIELD_PLANS = new FieldPlanCache<>(BoundField::new);
+
     private final URI endpoint;
     private final StructuredJsonGenerator jsonGenerator;
     private final SdkHttpFullRequest.Builder request;
@@ -177,25 +181,30 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     }
 
     void doMarshall(SdkPojo pojo) {
-        for (SdkField<?> field : pojo.sdkFields()) {
-            Object val = field.getValueOrDefault(pojo);
-            if (isExplicitBinaryPayload(field)) {
-                if (val != null) {
-                    SdkBytes sdkBytes = (SdkBytes) val;
-                    request.contentStreamProvider(sdkBytes::asInputStream);
-                    updateContentLengthHeader(sdkBytes.asByteArrayUnsafe().length);
-                }
-            } else if (isExplicitStringPayload(field)) {
-                if (val != null) {
-                    byte[] content = ((String) val).getBytes(StandardCharsets.UTF_8);
-                    request.contentStreamProvider(() -> new ByteArrayInputStream(content));
-                    updateContentLengthHeader(content.length);
-
-                }
-            } else if (isExplicitPayloadMember(field)) {
-                marshallExplicitJsonPayload(field, val);
-            } else {
-                marshallField(field, val);
+        List<BoundField> fields = FIELD_PLANS.plan(pojo);
+        for (int i = 0; i < fields.size(); i++) {
+            BoundField field = fields.get(i);
+            Object val = field.sdkField.getValueOrDefault(pojo);
+            switch (field.payloadType) {
+                case BINARY:
+                    if (val != null) {
+                        SdkBytes sdkBytes = (SdkBytes) val;
+                        request.contentStreamProvider(sdkBytes::asInputStream);
+                        updateContentLengthHeader(sdkBytes.asByteArrayUnsafe().length);
+                    }
+                    break;
+                case STRING:
+                    if (val != null) {
+                        byte[] content = ((String) val).getBytes(StandardCharsets.UTF_8);
+                        request.contentStreamProvider(() -> new ByteArrayInputStream(content));
+                        updateContentLengthHeader(content.length);
+                    }
+                    break;
+                case JSON:
+                    marshallExplicitJsonPayload(field, val);
+                    break;
+                default:
+                    marshallField(field, val);
             }
         }
     }
@@ -204,24 +213,12 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
         request.putHeader(CONTENT_LENGTH, Integer.toString(contentLength));
     }
 
-    private boolean isExplicitBinaryPayload(SdkField<?> field) {
-        return isExplicitPayloadMember(field) && MarshallingType.SDK_BYTES.equals(field.marshallingType());
-    }
-
-    private boolean isExplicitStringPayload(SdkField<?> field) {
-        return isExplicitPayloadMember(field) && MarshallingType.STRING.equals(field.marshallingType());
-    }
-
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
-    }
-
-    private void marshallExplicitJsonPayload(SdkField<?> field, Object val) {
+    private void marshallExplicitJsonPayload(BoundField field, Object val) {
         // Explicit JSON payloads are always marshalled as an object,
         // even if they're null, in which case it's an empty object.
         jsonGenerator.writeStartObject();
         if (val != null) {
-            if (MarshallingType.DOCUMENT.equals(field.marshallingType())) {
+            if (MarshallingType.DOCUMENT.equals(field.sdkField.marshallingType())) {
                 marshallField(field, val);
             } else {
                 doMarshall((SdkPojo) val);
@@ -280,9 +277,8 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
         return request.build();
     }
 
-    private void marshallField(SdkField<?> field, Object val) {
-        MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val)
-                           .marshall(val, marshallerContext, field.locationName(), (SdkField<Object>) field);
+    private void marshallField(BoundField field, Object val) {
+        field.marshaller(val).marshall(val, marshallerContext, field.sdkField.locationName(), field.sdkField);
     }
 
     private boolean needTopLevelJsonObject() {
@@ -290,4 +286,54 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
                || (!hasExplicitPayloadMember && hasImplicitPayloadMembers);
 
     }
+
+    /**
+     * How a field is written when it is bound to the payload with the {@link PayloadTrait}.
+     */
+    private enum PayloadType {
+        NONE,
+        BINARY,
+        STRING,
+        JSON
+    }
+
+    /**
+     * A field of a shape bound to the marshallers that write it, resolved once per shape by {@link #FIELD_PLANS}.
+     */
+    private static final class BoundField {
+        private final SdkField<Object> sdkField;
+        private final PayloadType payloadType;
+        private final JsonMarshaller<Object> marshaller;
+        private final JsonMarshaller<Object> nullMarshaller;
+
+        @SuppressWarnings("unchecked")
+        private BoundField(SdkField<?> sdkField) {
+            this.sdkField = (SdkField<Object>) sdkField;
+            this.payloadType = payloadType(sdkField);
+            this.marshaller = MARSHALLER_REGISTRY.findMarshaller(sdkField.location(), sdkField.marshallingType());
+            this.nullMarshaller = MARSHALLER_REGISTRY.findMarshaller(sdkField.location(), MarshallingType.NULL);
+        }
+
+        private static PayloadType payloadType(SdkField<?> sdkField) {
+            if (!sdkField.containsTrait(PayloadTrait.class)) {
+                return PayloadType.NONE;
+            }
+            if (MarshallingType.SDK_BYTES.equals(sdkField.marshallingType())) {
+                return PayloadType.BINARY;
+            }
+            if (MarshallingType.STRING.equals(sdkField.marshallingType())) {
+                return PayloadType.STRING;
+            }
+            return PayloadType.JSON;
+        }
+
+        private JsonMarshaller<Object> marshaller(Object val) {
+            JsonMarshaller<Object> bound = val == null ? nullMarshaller : marshaller;
+            if (bound != null) {
+                return bound;
+            }
+            // Not registered; let the registry report it.
+            return MARSHALLER_REGISTRY.getMarshaller(sdkField.location(), sdkField.marshallingType(), val);
+        }
+    }
 }
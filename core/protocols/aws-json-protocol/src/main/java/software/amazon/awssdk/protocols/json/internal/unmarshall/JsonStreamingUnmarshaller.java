@@ -0,0 +1,316 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshaller that populates {@link SdkPojo}s directly from the tokens of a {@link JsonParser}, without first building an
+ * intermediate {@link software.amazon.awssdk.protocols.jsoncore.JsonNode} tree of the response payload. Members outside of the
+ * payload (headers, status code) are still unmarshalled by the {@link JsonUnmarshallerRegistry}.
+ *
+ * <p>This produces the same results as the tree-based unmarshalling in {@link JsonProtocolUnmarshaller}, but only keeps the
+ * state of the structure currently being read in memory.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonStreamingUnmarshaller {
+
+    private final JsonFactory jsonFactory;
+    private final Map<MarshallingType<?>, JsonTokenUnmarshaller<?>> payloadUnmarshallers;
+    private final Map<Class<?>, StructureInfo> structureInfoCache = new ConcurrentHashMap<>();
+
+    JsonStreamingUnmarshaller(JsonFactory jsonFactory, StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+        this.payloadUnmarshallers = createPayloadUnmarshallers(instantStringToValue);
+    }
+
+    private Map<MarshallingType<?>, JsonTokenUnmarshaller<?>> createPayloadUnmarshallers(
+        StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+
+        Map<MarshallingType<?>, JsonTokenUnmarshaller<?>> unmarshallers = new HashMap<>();
+        register(unmarshallers, MarshallingType.STRING, simpleType(StringToValueConverter.TO_STRING));
+        register(unmarshallers, MarshallingType.INTEGER, simpleType(StringToValueConverter.TO_INTEGER));
+        register(unmarshallers, MarshallingType.LONG, simpleType(StringToValueConverter.TO_LONG));
+        register(unmarshallers, MarshallingType.SHORT, simpleType(StringToValueConverter.TO_SHORT));
+        register(unmarshallers, MarshallingType.FLOAT, simpleType(StringToValueConverter.TO_FLOAT));
+        register(unmarshallers, MarshallingType.DOUBLE, simpleType(StringToValueConverter.TO_DOUBLE));
+        register(unmarshallers, MarshallingType.BIG_DECIMAL, simpleType(StringToValueConverter.TO_BIG_DECIMAL));
+        register(unmarshallers, MarshallingType.BOOLEAN, simpleType(StringToValueConverter.TO_BOOLEAN));
+        register(unmarshallers, MarshallingType.INSTANT, simpleType(instantStringToValue));
+        register(unmarshallers, MarshallingType.SDK_BYTES, JsonStreamingUnmarshaller::unmarshallSdkBytes);
+        register(unmarshallers, MarshallingType.SDK_POJO, this::unmarshallStructured);
+        register(unmarshallers, MarshallingType.LIST, this::unmarshallList);
+        register(unmarshallers, MarshallingType.MAP, this::unmarshallMap);
+        register(unmarshallers, MarshallingType.DOCUMENT, (parser, token, field) -> unmarshallDocument(parser, token));
+        return Collections.unmodifiableMap(unmarshallers);
+    }
+
+    private static <T> void register(Map<MarshallingType<?>, JsonTokenUnmarshaller<?>> unmarshallers,
+                                     MarshallingType<T> marshallingType,
+                                     JsonTokenUnmarshaller<T> unmarshaller) {
+        unmarshallers.put(marshallingType, unmarshaller);
+    }
+
+    /**
+     * @return True if the given POJO can be unmarshalled by this unmarshaller. POJOs with an explicit blob or string payload
+     * member are not JSON documents and must be handled by {@link JsonProtocolUnmarshaller}.
+     */
+    boolean supports(SdkPojo sdkPojo) {
+        return structureInfo(sdkPojo).isStreamable;
+    }
+
+    @SuppressWarnings("unchecked")
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                             InputStream content,
+                                             JsonUnmarshallerContext context) throws IOException {
+        StructureInfo structureInfo = structureInfo(sdkPojo);
+        for (SdkField<?> field : structureInfo.nonPayloadFields) {
+            JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(content)
+                                            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+            JsonToken token = parser.nextToken();
+            if (structureInfo.explicitPayloadField != null) {
+                SdkField<Object> payloadField = (SdkField<Object>) structureInfo.explicitPayloadField;
+                payloadField.set(sdkPojo, unmarshallValue(parser, token, payloadField));
+            } else {
+                unmarshallFields(sdkPojo, parser, token);
+            }
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    private SdkPojo unmarshallStructured(JsonParser parser, JsonToken token, SdkField<SdkPojo> field) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        SdkPojo sdkPojo = field.constructor().get();
+        unmarshallFields(sdkPojo, parser, token);
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private void unmarshallFields(SdkPojo sdkPojo, JsonParser parser, JsonToken token) throws IOException {
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expectToken(JsonToken.START_OBJECT, token);
+
+        StructureInfo structureInfo = structureInfo(sdkPojo);
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            SdkField<Object> field = structureInfo.payloadField(parser.getCurrentName());
+            JsonToken valueToken = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, unmarshallValue(parser, valueToken, field));
+            }
+        }
+    }
+
+    private List<?> unmarshallList(JsonParser parser, JsonToken token, SdkField<List<?>> field) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(JsonToken.START_ARRAY, token);
+
+        SdkField<Object> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken currentToken = parser.nextToken();
+        while (currentToken != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(parser, currentToken, memberInfo));
+            currentToken = parser.nextToken();
+        }
+        return list;
+    }
+
+    private Map<String, ?> unmarshallMap(JsonParser parser,
+                                         JsonToken token,
+                                         SdkField<Map<String, ?>> field) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(JsonToken.START_OBJECT, token);
+
+        SdkField<Object> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getCurrentName();
+            map.put(key, unmarshallValue(parser, parser.nextToken(), valueInfo));
+        }
+        return map;
+    }
+
+    private static SdkBytes unmarshallSdkBytes(JsonParser parser, JsonToken token, SdkField<SdkBytes> field) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        // Binary protocols like CBOR may already have the raw bytes extracted.
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+        }
+        // Otherwise decode the JSON string as Base64
+        return TO_SDK_BYTES.convert(parser.getText(), field);
+    }
+
+    private static Document unmarshallDocument(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return Document.fromNull();
+            case VALUE_TRUE:
+                return Document.fromBoolean(true);
+            case VALUE_FALSE:
+                return Document.fromBoolean(false);
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return Document.fromNumber(parser.getText());
+            case VALUE_STRING:
+                return Document.fromString(parser.getText());
+            case START_ARRAY:
+                List<Document> list = new ArrayList<>();
+                JsonToken currentToken = parser.nextToken();
+                while (currentToken != JsonToken.END_ARRAY) {
+                    list.add(unmarshallDocument(parser, currentToken));
+                    currentToken = parser.nextToken();
+                }
+                return Document.fromList(list);
+            case START_OBJECT:
+                Map<String, Document> map = new LinkedHashMap<>();
+                while (parser.nextToken() != JsonToken.END_OBJECT) {
+                    String key = parser.getCurrentName();
+                    map.put(key, unmarshallDocument(parser, parser.nextToken()));
+                }
+                return Document.fromMap(map);
+            case VALUE_EMBEDDED_OBJECT:
+                throw new UnsupportedOperationException("Embedded objects are not supported within Document types.");
+            default:
+                throw new IllegalArgumentException("Unexpected JSON token - " + token);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(JsonParser parser, JsonToken token, SdkField<Object> field) throws IOException {
+        if (token == null) {
+            return null;
+        }
+        JsonTokenUnmarshaller<Object> unmarshaller =
+            (JsonTokenUnmarshaller<Object>) payloadUnmarshallers.get(field.marshallingType());
+        if (unmarshaller == null) {
+            throw new IllegalStateException("No streaming unmarshaller registered for type " + field.marshallingType());
+        }
+        return unmarshaller.unmarshall(parser, token, field);
+    }
+
+    private static <T> JsonTokenUnmarshaller<T> simpleType(StringToValueConverter.StringToValue<T> stringToValue) {
+        return (parser, token, field) -> {
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            String text = token == JsonToken.VALUE_EMBEDDED_OBJECT ? null : parser.getText();
+            return stringToValue.convert(text, field);
+        };
+    }
+
+    private static void expectToken(JsonToken expected, JsonToken actual) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Unexpected JSON token - " + actual + ", expected " + expected);
+        }
+    }
+
+    private StructureInfo structureInfo(SdkPojo sdkPojo) {
+        return structureInfoCache.computeIfAbsent(sdkPojo.getClass(), c -> new StructureInfo(sdkPojo.sdkFields()));
+    }
+
+    /**
+     * Reads a single JSON value, starting at the given token, into the type of the given field.
+     */
+    @FunctionalInterface
+    private interface JsonTokenUnmarshaller<T> {
+        T unmarshall(JsonParser parser, JsonToken token, SdkField<T> field) throws IOException;
+    }
+
+    /**
+     * The fields of a POJO class, indexed for lookup by their JSON member name.
+     */
+    private static final class StructureInfo {
+        private final Map<String, SdkField<?>> payloadFieldsByName = new HashMap<>();
+        private final List<SdkField<?>> nonPayloadFields = new ArrayList<>();
+        private final SdkField<?> explicitPayloadField;
+        private final boolean isStreamable;
+
+        private StructureInfo(List<SdkField<?>> fields) {
+            SdkField<?> explicitPayload = null;
+            boolean streamable = true;
+            for (SdkField<?> field : fields) {
+                if (field.containsTrait(PayloadTrait.class)) {
+                    MarshallingType<?> type = field.marshallingType();
+                    if (type == MarshallingType.SDK_BYTES || type == MarshallingType.STRING) {
+                        streamable = false;
+                    } else if (type != MarshallingType.DOCUMENT) {
+                        explicitPayload = field;
+                        continue;
+                    }
+                }
+                if (isPayloadMemberOnUnmarshall(field.location())) {
+                    payloadFieldsByName.put(field.locationName(), field);
+                } else {
+                    nonPayloadFields.add(field);
+                }
+            }
+            this.explicitPayloadField = explicitPayload;
+            this.isStreamable = streamable;
+        }
+
+        @SuppressWarnings("unchecked")
+        private SdkField<Object> payloadField(String name) {
+            return (SdkField<Object>) payloadFieldsByName.get(name);
+        }
+
+        private static boolean isPayloadMemberOnUnmarshall(MarshallLocation location) {
+            return location == MarshallLocation.PAYLOAD || MarshallerUtil.isInUri(location);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.ValidSdkObjects;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class JsonStreamingUnmarshallerTest {
+
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "NestedString"),
+        field(MarshallingType.INTEGER, "NestedInteger"));
+
+    private static final List<SdkField<?>> ALL_TYPES_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.LONG, "LongMember"),
+        field(MarshallingType.DOUBLE, "DoubleMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        field(MarshallingType.INSTANT, "InstantMember"),
+        field(MarshallingType.SDK_BYTES, "BlobMember"),
+        field(MarshallingType.DOCUMENT, "DocumentMember"),
+        structField("StructMember"),
+        field(MarshallingType.LIST, "ListOfStructs",
+              ListTrait.builder().memberFieldInfo(structField("member")).build()),
+        field(MarshallingType.LIST, "ListOfStrings",
+              ListTrait.builder().memberFieldInfo(field(MarshallingType.STRING, "member")).build()),
+        field(MarshallingType.MAP, "MapOfIntegers",
+              MapTrait.builder().valueFieldInfo(field(MarshallingType.INTEGER, "value")).build()),
+        SdkField.builder(MarshallingType.STRING)
+                .memberName("HeaderMember")
+                .getter(getter("HeaderMember"))
+                .setter(setter("HeaderMember"))
+                .traits(LocationTrait.builder().location(MarshallLocation.HEADER).locationName("x-amz-header").build())
+                .build(),
+        SdkField.builder(MarshallingType.INTEGER)
+                .memberName("StatusCode")
+                .getter(getter("StatusCode"))
+                .setter(setter("StatusCode"))
+                .traits(LocationTrait.builder().location(MarshallLocation.STATUS_CODE).locationName("StatusCode").build())
+                .build());
+
+    private static final String ALL_TYPES_JSON =
+        "{\"StringMember\":\"foo\","
+        + "\"IntegerMember\":42,"
+        + "\"LongMember\":9223372036854775807,"
+        + "\"DoubleMember\":1.5,"
+        + "\"BooleanMember\":true,"
+        + "\"InstantMember\":1398796238.123,"
+        + "\"BlobMember\":\"YmFy\","
+        + "\"UnknownMember\":{\"a\":[1,2,{\"b\":null}]},"
+        + "\"DocumentMember\":{\"s\":\"x\",\"n\":1,\"l\":[true,null],\"m\":{}},"
+        + "\"StructMember\":{\"NestedString\":\"nested\",\"NestedInteger\":7,\"Unknown\":[]},"
+        + "\"ListOfStructs\":[{\"NestedString\":\"a\"},{\"NestedInteger\":2}],"
+        + "\"ListOfStrings\":[\"a\",null,\"c\"],"
+        + "\"MapOfIntegers\":{\"one\":1,\"two\":2,\"none\":null}}";
+
+    private static final Map<MarshallLocation, TimestampFormatTrait.Format> TIMESTAMP_FORMATS =
+        Collections.singletonMap(MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.UNIX_TIMESTAMP);
+
+    private static final JsonProtocolUnmarshaller TREE_UNMARSHALLER =
+        JsonProtocolUnmarshaller.builder()
+                                .parser(JsonNodeParser.create())
+                                .defaultTimestampFormats(TIMESTAMP_FORMATS)
+                                .build();
+
+    private static final JsonProtocolUnmarshaller STREAMING_UNMARSHALLER =
+        JsonProtocolUnmarshaller.builder()
+                                .parser(JsonNodeParser.create())
+                                .jsonFactory(JsonNodeParser.DEFAULT_JSON_FACTORY)
+                                .enableStreamingUnmarshalling(true)
+                                .defaultTimestampFormats(TIMESTAMP_FORMATS)
+                                .build();
+
+    @Test
+    public void unmarshall_allTypes_matchesTreeUnmarshaller() throws Exception {
+        TestPojo streamed = STREAMING_UNMARSHALLER.unmarshall(new AllTypesPojo(), response(ALL_TYPES_JSON));
+        TestPojo tree = TREE_UNMARSHALLER.unmarshall(new AllTypesPojo(), response(ALL_TYPES_JSON));
+
+        assertThat(streamed).isEqualTo(tree);
+        assertThat(streamed.get("StringMember")).isEqualTo("foo");
+        assertThat(streamed.get("LongMember")).isEqualTo(Long.MAX_VALUE);
+        assertThat(streamed.get("InstantMember")).isEqualTo(Instant.ofEpochMilli(1398796238123L));
+        assertThat(streamed.get("BlobMember")).isEqualTo(SdkBytes.fromUtf8String("bar"));
+        assertThat(streamed.get("HeaderMember")).isEqualTo("header-value");
+        assertThat(streamed.get("StatusCode")).isEqualTo(200);
+        assertThat(streamed.get("ListOfStrings")).isEqualTo(Arrays.asList("a", null, "c"));
+        assertThat(((TestPojo) streamed.get("StructMember")).get("NestedInteger")).isEqualTo(7);
+
+        Map<String, Document> document = ((Document) streamed.get("DocumentMember")).asMap();
+        assertThat(document.get("l").asList()).containsExactly(Document.fromBoolean(true), Document.fromNull());
+        assertThat(document.get("n").asNumber().intValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void unmarshall_emptyPayload_onlyNonPayloadMembersAreSet() throws Exception {
+        TestPojo streamed = STREAMING_UNMARSHALLER.unmarshall(new AllTypesPojo(), response(""));
+
+        assertThat(streamed.get("StringMember")).isNull();
+        assertThat(streamed.get("HeaderMember")).isEqualTo("header-value");
+    }
+
+    @Test
+    public void unmarshall_explicitStructurePayload_readsWholeDocumentIntoMember() throws Exception {
+        String json = "{\"NestedString\":\"value\",\"NestedInteger\":3}";
+
+        TestPojo streamed = STREAMING_UNMARSHALLER.unmarshall(new StructPayloadPojo(), response(json));
+        TestPojo tree = TREE_UNMARSHALLER.unmarshall(new StructPayloadPojo(), response(json));
+
+        assertThat(streamed).isEqualTo(tree);
+        assertThat(((TestPojo) streamed.get("Payload")).get("NestedString")).isEqualTo("value");
+    }
+
+    @Test
+    public void unmarshall_explicitBlobPayload_fallsBackToRawPayload() throws Exception {
+        TestPojo streamed = STREAMING_UNMARSHALLER.unmarshall(new BlobPayloadPojo(), response("{\"raw\":true}"));
+
+        assertThat(streamed.get("Payload")).isEqualTo(SdkBytes.fromUtf8String("{\"raw\":true}"));
+    }
+
+    private static SdkHttpFullResponse response(String json) {
+        return ValidSdkObjects.sdkHttpFullResponse()
+                              .putHeader("x-amz-header", "header-value")
+                              .content(AbortableInputStream.create(SdkBytes.fromUtf8String(json).asInputStream()))
+                              .build();
+    }
+
+    private static SdkField<SdkPojo> structField(String name, Trait... traits) {
+        return SdkField.builder(MarshallingType.SDK_POJO)
+                       .memberName(name)
+                       .getter(getter(name))
+                       .setter(setter(name))
+                       .constructor(NestedPojo::new)
+                       .traits(withLocation(name, traits))
+                       .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<T> type, String name, Trait... traits) {
+        return SdkField.builder(type)
+                       .memberName(name)
+                       .getter(getter(name))
+                       .setter(setter(name))
+                       .traits(withLocation(name, traits))
+                       .build();
+    }
+
+    private static Trait[] withLocation(String name, Trait... traits) {
+        Trait[] result = Arrays.copyOf(traits, traits.length + 1);
+        result[traits.length] = LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<Object, T> getter(String name) {
+        return pojo -> (T) ((TestPojo) pojo).get(name);
+    }
+
+    private static <T> BiConsumer<Object, T> setter(String name) {
+        // Unset and null members are treated the same, as they are by generated builders
+        return (pojo, value) -> {
+            if (value == null) {
+                ((TestPojo) pojo).values.remove(name);
+            } else {
+                ((TestPojo) pojo).values.put(name, value);
+            }
+        };
+    }
+
+    /**
+     * Unmarshalling metadata is cached per POJO class, so each field list gets its own class, as with generated models.
+     */
+    private static class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        private TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        private Object get(String name) {
+            return values.get(name);
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Objects.equals(values, ((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+
+    private static final class NestedPojo extends TestPojo {
+        private NestedPojo() {
+            super(NESTED_FIELDS);
+        }
+    }
+
+    private static final class AllTypesPojo extends TestPojo {
+        private AllTypesPojo() {
+            super(ALL_TYPES_FIELDS);
+        }
+    }
+
+    private static final class StructPayloadPojo extends TestPojo {
+        private StructPayloadPojo() {
+            super(Collections.singletonList(structField("Payload", PayloadTrait.create())));
+        }
+    }
+
+    private static final class BlobPayloadPojo extends TestPojo {
+        private BlobPayloadPojo() {
+            super(Collections.singletonList(field(MarshallingType.SDK_BYTES, "Payload", PayloadTrait.create())));
+        }
+    }
+}
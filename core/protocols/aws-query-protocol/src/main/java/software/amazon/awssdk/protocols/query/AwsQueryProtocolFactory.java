@@ -25,6 +25,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -90,6 +91,8 @@ public class AwsQueryProtocolFactory {
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
         return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
                                                                                         .hasResultWrapper(!isEc2())
+                                                                                        .enableStreamingUnmarshalling(
+                                                                                            isStreamingUnmarshallingEnabled())
                                                                                         .build(), r -> pojoSupplier.get()));
     }
 
@@ -116,6 +119,11 @@ public class AwsQueryProtocolFactory {
         return document.getOptionalElementByName("Error");
     }
 
+    private boolean isStreamingUnmarshallingEnabled() {
+        return clientConfiguration != null
+               && Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING));
+    }
+
     /**
      * EC2 has a few distinct differences from query so we wire things up a bit differently.
      */
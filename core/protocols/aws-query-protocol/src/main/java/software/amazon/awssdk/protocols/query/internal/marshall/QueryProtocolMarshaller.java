@@ -16,11 +16,13 @@
 package software.amazon.awssdk.protocols.query.internal.marshall;
 
 import java.net.URI;
+import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.FieldPlanCache;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
@@ -40,14 +42,22 @@ public final class QueryProtocolMarshaller
         .marshaller(MarshallingType.LIST, ListQueryMarshaller.ec2Query())
         .build();
 
+    private static final FieldPlanCache<BoundField> AWS_QUERY_FIELD_PLANS =
+        new FieldPlanCache<>(f -> new BoundField(AWS_QUERY_MARSHALLER_REGISTRY, f));
+
+    private static final FieldPlanCache<BoundField> EC2_QUERY_FIELD_PLANS =
+        new FieldPlanCache<>(f -> new BoundField(EC2_QUERY_MARSHALLER_REGISTRY, f));
+
     private final SdkHttpFullRequest.Builder request;
     private final QueryMarshallerRegistry registry;
+    private final FieldPlanCache<BoundField> fieldPlans;
     private final URI endpoint;
 
     private QueryProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
         this.request = fillBasicRequestParams(builder.operationInfo);
         this.registry = builder.isEc2 ? EC2_QUERY_MARSHALLER_REGISTRY : AWS_QUERY_MARSHALLER_REGISTRY;
+        this.fieldPlans = builder.isEc2 ? EC2_QUERY_FIELD_PLANS : AWS_QUERY_FIELD_PLANS;
     }
 
     private SdkHttpFullRequest.Builder fillBasicRequestParams(OperationInfo operationInfo) {
@@ -69,10 +79,11 @@ public final class QueryProtocolMarshaller
     }
 
     private void doMarshall(String path, QueryMarshallerContext context, SdkPojo pojo) {
-        for (SdkField<?> sdkField : pojo.sdkFields()) {
-            Object val = sdkField.getValueOrDefault(pojo);
-            QueryMarshaller<Object> marshaller = registry.getMarshaller(sdkField.marshallingType(), val);
-            marshaller.marshall(context, resolvePath(path, sdkField), val, (SdkField<Object>) sdkField);
+        List<BoundField> fields = fieldPlans.plan(pojo);
+        for (int i = 0; i < fields.size(); i++) {
+            BoundField field = fields.get(i);
+            Object val = field.sdkField.getValueOrDefault(pojo);
+            field.marshaller(registry, val).marshall(context, resolvePath(path, field.sdkField), val, field.sdkField);
         }
     }
 
@@ -150,4 +161,28 @@ public final class QueryProtocolMarshaller
         }
     }
 
+    /**
+     * A field of a shape bound to the marshallers that write it, resolved once per shape and registry.
+     */
+    private static final class BoundField {
+        private final SdkField<Object> sdkField;
+        private final QueryMarshaller<Object> marshaller;
+        private final QueryMarshaller<Object> nullMarshaller;
+
+        @SuppressWarnings("unchecked")
+        private BoundField(QueryMarshallerRegistry registry, SdkField<?> sdkField) {
+            this.sdkField = (SdkField<Object>) sdkField;
+            this.marshaller = registry.findMarshaller(sdkField.marshallingType());
+            this.nullMarshaller = registry.findMarshaller(MarshallingType.NULL);
+        }
+
+        private QueryMarshaller<Object> marshaller(QueryMarshallerRegistry registry, Object val) {
+            QueryMarshaller<Object> bound = val == null ? nullMarshaller : marshaller;
+            if (bound != null) {
+                return bound;
+            }
+            // Not registered; let the registry report it.
+            return registry.getMarshaller(sdkField.marshallingType(), val);
+        }
+    }
 }
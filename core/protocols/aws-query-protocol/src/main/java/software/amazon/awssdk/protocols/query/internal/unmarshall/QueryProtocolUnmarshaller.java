@@ -67,8 +67,13 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     private final boolean hasResultWrapper;
 
+    private final QueryStreamingUnmarshaller streamingUnmarshaller;
+
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.streamingUnmarshaller = builder.enableStreamingUnmarshalling
+                                     ? new QueryStreamingUnmarshaller(builder.hasResultWrapper)
+                                     : null;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -82,6 +87,10 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (streamingUnmarshaller != null && response.content().isPresent()) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get());
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
@@ -158,6 +167,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -207,6 +217,16 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableStreamingUnmarshalling True if responses should be unmarshalled directly from XML parser events
+         * instead of first being parsed into an {@link XmlElement} tree. Defaults to false.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
@@ -0,0 +1,391 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.core.StringToInstant;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshaller for AWS/Query and EC2 responses that fills {@link SdkPojo} builders from StAX pull-parser events as they
+ * are read, rather than first building a {@link software.amazon.awssdk.protocols.query.unmarshall.XmlElement} tree of the
+ * whole document. Only the builders of the structures currently being read are kept in memory.
+ *
+ * <p>This produces the same results as the tree-based unmarshalling in {@link QueryProtocolUnmarshaller}. If an element
+ * that is not a list or map member occurs more than once in a structure, the first occurrence is used.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class QueryStreamingUnmarshaller {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(QueryStreamingUnmarshaller::createXmlInputFactory);
+
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String REQUEST_ID = "requestId";
+
+    private static final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> SIMPLE_TYPES = simpleTypes();
+
+    private final boolean hasResultWrapper;
+    private final Map<Class<?>, StructureInfo> structureInfoCache = new ConcurrentHashMap<>();
+
+    QueryStreamingUnmarshaller(boolean hasResultWrapper) {
+        this.hasResultWrapper = hasResultWrapper;
+    }
+
+    private static Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypes() {
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> types = new HashMap<>();
+        types.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        types.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        types.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        types.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        types.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        types.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        types.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        types.put(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()));
+        types.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        return Collections.unmodifiableMap(types);
+    }
+
+    <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo, InputStream content) {
+        Map<String, String> metadata = new HashMap<>();
+        try {
+            LookaheadInputStream stream = new LookaheadInputStream(content);
+            if (stream.peek() != -1) {
+                XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+                try {
+                    if (nextStartElement(reader)) {
+                        unmarshallDocument(sdkPojo, reader, metadata);
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+        return Pair.of(build(sdkPojo), metadata);
+    }
+
+    private void unmarshallDocument(SdkPojo sdkPojo, XMLStreamReader reader, Map<String, String> metadata)
+            throws XMLStreamException {
+        if (!hasResultWrapper) {
+            unmarshallFields(sdkPojo, reader, metadata);
+            return;
+        }
+
+        boolean isFirstChild = true;
+        while (nextChild(reader)) {
+            String elementName = reader.getLocalName();
+            if (isFirstChild && !RESPONSE_METADATA.equals(elementName)) {
+                unmarshallFields(sdkPojo, reader, null);
+            } else if (!unmarshallMetadata(reader, elementName, metadata)) {
+                skipElement(reader);
+            }
+            isFirstChild = false;
+        }
+    }
+
+    /**
+     * Reads the children of the current element into the fields of the given POJO, consuming the element's end tag. If
+     * metadata is non-null, response metadata elements that are not modeled fields are collected into it.
+     */
+    private void unmarshallFields(SdkPojo sdkPojo, XMLStreamReader reader, Map<String, String> metadata)
+            throws XMLStreamException {
+        StructureInfo structureInfo = structureInfo(sdkPojo);
+        boolean[] seen = new boolean[structureInfo.fieldCount];
+        Map<FieldInfo, Object> flattened = null;
+
+        while (nextChild(reader)) {
+            String elementName = reader.getLocalName();
+            FieldInfo fieldInfo = structureInfo.fieldsByName.get(elementName);
+            if (fieldInfo == null) {
+                if (metadata == null || !unmarshallMetadata(reader, elementName, metadata)) {
+                    skipElement(reader);
+                }
+            } else if (fieldInfo.isFlattenedList || fieldInfo.isFlattenedMap) {
+                if (flattened == null) {
+                    flattened = new HashMap<>();
+                }
+                unmarshallFlattenedMember(reader, fieldInfo, flattened);
+            } else if (seen[fieldInfo.index]) {
+                skipElement(reader);
+            } else {
+                seen[fieldInfo.index] = true;
+                fieldInfo.field.set(sdkPojo, unmarshallValue(reader, fieldInfo.field));
+            }
+        }
+
+        if (flattened != null) {
+            flattened.forEach((fieldInfo, value) -> fieldInfo.field.set(sdkPojo, value));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void unmarshallFlattenedMember(XMLStreamReader reader, FieldInfo fieldInfo, Map<FieldInfo, Object> flattened)
+            throws XMLStreamException {
+        if (fieldInfo.isFlattenedList) {
+            List<Object> list = (List<Object>) flattened.computeIfAbsent(fieldInfo, f -> new ArrayList<>());
+            list.add(unmarshallValue(reader, fieldInfo.field.getTrait(ListTrait.class).memberFieldInfo()));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattened.computeIfAbsent(fieldInfo, f -> new HashMap<>());
+            unmarshallMapEntry(reader, fieldInfo.field.getTrait(MapTrait.class), map);
+        }
+    }
+
+    /**
+     * Reads the current element as the value of the given field, consuming the element's end tag.
+     */
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo sdkPojo = field.constructor().get();
+            unmarshallFields(sdkPojo, reader, null);
+            return build(sdkPojo);
+        }
+        if (type == MarshallingType.LIST) {
+            return unmarshallList(reader, field.getTrait(ListTrait.class));
+        }
+        if (type == MarshallingType.MAP) {
+            return unmarshallMap(reader, field.getTrait(MapTrait.class));
+        }
+        if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) SIMPLE_TYPES.get(type);
+        if (converter == null) {
+            throw SdkClientException.create(String.format("No unmarshaller of type %s registered.", type));
+        }
+        return converter.convert(readText(reader), (SdkField<Object>) field);
+    }
+
+    private List<Object> unmarshallList(XMLStreamReader reader, ListTrait listTrait) throws XMLStreamException {
+        // There have been cases in EC2 where the member name is not modeled correctly so we just grab all
+        // direct children instead and don't care about member name. See QueryProtocolUnmarshaller.
+        SdkField<?> memberInfo = listTrait.memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        while (nextChild(reader)) {
+            list.add(unmarshallValue(reader, memberInfo));
+        }
+        return list;
+    }
+
+    private Map<String, Object> unmarshallMap(XMLStreamReader reader, MapTrait mapTrait) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextChild(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                unmarshallMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void unmarshallMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map)
+            throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        while (nextChild(reader)) {
+            String elementName = reader.getLocalName();
+            if (elementName.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (elementName.equals(mapTrait.valueLocationName())) {
+                value = unmarshallValue(reader, mapTrait.valueFieldInfo());
+            } else {
+                skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Collects response metadata from the children of the document root, as {@link QueryProtocolUnmarshaller} does.
+     *
+     * @return True if the element was metadata and has been consumed, false if it was left unread.
+     */
+    private static boolean unmarshallMetadata(XMLStreamReader reader, String elementName, Map<String, String> metadata)
+            throws XMLStreamException {
+        if (REQUEST_ID.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, readText(reader));
+            return true;
+        }
+        if (RESPONSE_METADATA.equals(elementName)) {
+            while (nextChild(reader)) {
+                String key = reader.getLocalName();
+                metadata.put("RequestId".equals(key) ? AWS_REQUEST_ID : key, readText(reader));
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads all character data of the current element, consuming the element's end tag.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        StringBuilder sb = null;
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    if (text.isEmpty()) {
+                        text = reader.getText();
+                    } else {
+                        if (sb == null) {
+                            sb = new StringBuilder(text);
+                        }
+                        sb.append(reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    skipElement(reader);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return sb == null ? text : sb.toString();
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Advances to the next child element of the current element.
+     *
+     * @return True if positioned on the start of a child element, false if the end of the current element was consumed.
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean nextStartElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips the current element and all of its children, consuming the element's end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TypeT extends SdkPojo> TypeT build(SdkPojo sdkPojo) {
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    private StructureInfo structureInfo(SdkPojo sdkPojo) {
+        return structureInfoCache.computeIfAbsent(sdkPojo.getClass(), c -> new StructureInfo(sdkPojo.sdkFields()));
+    }
+
+    /**
+     * Disables certain dangerous features that attempt to automatically fetch DTDs
+     *
+     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * The fields of a POJO class, indexed for lookup by their element name.
+     */
+    private static final class StructureInfo {
+        private final Map<String, FieldInfo> fieldsByName = new HashMap<>();
+        private final int fieldCount;
+
+        private StructureInfo(List<SdkField<?>> fields) {
+            for (int i = 0; i < fields.size(); i++) {
+                SdkField<?> field = fields.get(i);
+                fieldsByName.putIfAbsent(field.unmarshallLocationName(), new FieldInfo(i, field));
+            }
+            this.fieldCount = fields.size();
+        }
+    }
+
+    private static final class FieldInfo {
+        private final int index;
+        private final SdkField<?> field;
+        private final boolean isFlattenedList;
+        private final boolean isFlattenedMap;
+
+        private FieldInfo(int index, SdkField<?> field) {
+            this.index = index;
+            this.field = field;
+            this.isFlattenedList = field.marshallingType() == MarshallingType.LIST
+                                   && field.getTrait(ListTrait.class).isFlattened();
+            this.isFlattenedMap = field.marshallingType() == MarshallingType.MAP
+                                  && field.getTrait(MapTrait.class).isFlattened();
+        }
+    }
+}
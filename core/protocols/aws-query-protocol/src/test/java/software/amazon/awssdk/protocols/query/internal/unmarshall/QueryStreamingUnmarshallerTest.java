@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class QueryStreamingUnmarshallerTest {
+
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "Name"),
+        field(MarshallingType.INTEGER, "Count"));
+
+    private static final List<SdkField<?>> ALL_TYPES_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        field(MarshallingType.INSTANT, "InstantMember"),
+        field(MarshallingType.SDK_BYTES, "BlobMember"),
+        structField("StructMember"),
+        field(MarshallingType.LIST, "ListOfStructs",
+              ListTrait.builder().memberLocationName("item").memberFieldInfo(structField("item")).build()),
+        field(MarshallingType.LIST, "ListOfStrings",
+              ListTrait.builder().memberLocationName("member").memberFieldInfo(field(MarshallingType.STRING, "member"))
+                       .build()),
+        field(MarshallingType.LIST, "FlatList",
+              ListTrait.builder().isFlattened(true).memberFieldInfo(field(MarshallingType.STRING, "FlatList")).build()),
+        field(MarshallingType.MAP, "MapOfStrings",
+              MapTrait.builder().keyLocationName("key").valueLocationName("value")
+                      .valueFieldInfo(field(MarshallingType.STRING, "value")).build()),
+        field(MarshallingType.MAP, "FlatMap",
+              MapTrait.builder().isFlattened(true).keyLocationName("k").valueLocationName("v")
+                      .valueFieldInfo(structField("v")).build()));
+
+    private static final String ALL_TYPES_XML =
+        "<StringMember>foo &amp; <![CDATA[bar]]></StringMember>"
+        + "<Unknown><StringMember>ignored</StringMember></Unknown>"
+        + "<IntegerMember>42</IntegerMember>"
+        + "<BooleanMember>true</BooleanMember>"
+        + "<InstantMember>2014-04-29T18:30:38.123Z</InstantMember>"
+        + "<BlobMember>YmFy</BlobMember>"
+        + "<FlatList>one</FlatList>"
+        + "<StructMember><Name>nested</Name><Count>7</Count></StructMember>"
+        + "<FlatList>two</FlatList>"
+        + "<ListOfStructs><item><Name>a</Name></item><item><Count>2</Count></item></ListOfStructs>"
+        + "<ListOfStrings><member>a</member><member></member><member>c</member></ListOfStrings>"
+        + "<MapOfStrings><entry><key>k1</key><value>v1</value></entry><entry><value>v2</value><key>k2</key></entry>"
+        + "</MapOfStrings>"
+        + "<FlatMap><k>x</k><v><Name>fx</Name></v></FlatMap>"
+        + "<FlatMap><k>y</k><v><Count>3</Count></v></FlatMap>"
+        + "<StringMember>duplicate</StringMember>";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void unmarshall_queryResponse_matchesTreeUnmarshaller() {
+        String xml = "<?xml version=\"1.0\"?><TestResponse xmlns=\"https://test.amazonaws.com/doc/2010-05-08/\">"
+                     + "<TestResult>" + ALL_TYPES_XML + "</TestResult>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId><Other>other</Other></ResponseMetadata>"
+                     + "</TestResponse>";
+
+        Pair<TestPojo, Map<String, String>> streamed = unmarshall(true, true, new AllTypesPojo(), xml);
+        Pair<TestPojo, Map<String, String>> tree = unmarshall(true, false, new AllTypesPojo(), xml);
+
+        assertThat(streamed.left()).isEqualTo(tree.left());
+        assertThat(streamed.right()).isEqualTo(tree.right());
+        assertThat(streamed.right()).containsEntry(AWS_REQUEST_ID, "request-id").containsEntry("Other", "other");
+
+        TestPojo result = streamed.left();
+        assertThat(result.get("StringMember")).isEqualTo("foo & bar");
+        assertThat(result.get("IntegerMember")).isEqualTo(42);
+        assertThat(result.get("InstantMember")).isEqualTo(Instant.parse("2014-04-29T18:30:38.123Z"));
+        assertThat(result.get("BlobMember")).isEqualTo(SdkBytes.fromUtf8String("bar"));
+        assertThat(result.get("FlatList")).isEqualTo(Arrays.asList("one", "two"));
+        assertThat(result.get("ListOfStrings")).isEqualTo(Arrays.asList("a", "", "c"));
+        assertThat(((Map<String, Object>) result.get("FlatMap")).keySet()).containsExactlyInAnyOrder("x", "y");
+    }
+
+    @Test
+    public void unmarshall_ec2Response_matchesTreeUnmarshaller() {
+        String xml = "<TestResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+                     + "<requestId>request-id</requestId>"
+                     + ALL_TYPES_XML
+                     + "</TestResponse>";
+
+        Pair<TestPojo, Map<String, String>> streamed = unmarshall(false, true, new AllTypesPojo(), xml);
+        Pair<TestPojo, Map<String, String>> tree = unmarshall(false, false, new AllTypesPojo(), xml);
+
+        assertThat(streamed.left()).isEqualTo(tree.left());
+        assertThat(streamed.right()).isEqualTo(tree.right());
+        assertThat(streamed.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    @Test
+    public void unmarshall_responseWithoutResult_onlyReadsMetadata() {
+        String xml = "<TestResponse><ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata></TestResponse>";
+
+        Pair<TestPojo, Map<String, String>> streamed = unmarshall(true, true, new AllTypesPojo(), xml);
+
+        assertThat(streamed.left().values).isEmpty();
+        assertThat(streamed.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    @Test
+    public void unmarshall_emptyResponse_returnsEmptyPojo() {
+        Pair<TestPojo, Map<String, String>> streamed = unmarshall(true, true, new AllTypesPojo(), "");
+
+        assertThat(streamed.left().values).isEmpty();
+        assertThat(streamed.right()).isEmpty();
+    }
+
+    private static Pair<TestPojo, Map<String, String>> unmarshall(boolean hasResultWrapper,
+                                                                   boolean streaming,
+                                                                   SdkPojo pojo,
+                                                                   String xml) {
+        SdkHttpFullResponse response =
+            SdkHttpFullResponse.builder()
+                               .statusCode(200)
+                               .content(AbortableInputStream.create(SdkBytes.fromUtf8String(xml).asInputStream()))
+                               .build();
+        return QueryProtocolUnmarshaller.builder()
+                                        .hasResultWrapper(hasResultWrapper)
+                                        .enableStreamingUnmarshalling(streaming)
+                                        .build()
+                                        .unmarshall(pojo, response);
+    }
+
+    private static SdkField<SdkPojo> structField(String name) {
+        return SdkField.builder(MarshallingType.SDK_POJO)
+                       .memberName(name)
+                       .getter(getter(name))
+                       .setter(setter(name))
+                       .constructor(NestedPojo::new)
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+                       .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<T> type, String name, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+        return SdkField.builder(type)
+                       .memberName(name)
+                       .getter(getter(name))
+                       .setter(setter(name))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<Object, T> getter(String name) {
+        return pojo -> (T) ((TestPojo) pojo).get(name);
+    }
+
+    private static <T> BiConsumer<Object, T> setter(String name) {
+        return (pojo, value) -> ((TestPojo) pojo).values.put(name, value);
+    }
+
+    /**
+     * Unmarshalling metadata is cached per POJO class, so each field list gets its own class, as with generated models.
+     */
+    private static class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        private TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        private Object get(String name) {
+            return values.get(name);
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Objects.equals(values, ((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+
+    private static final class NestedPojo extends TestPojo {
+        private NestedPojo() {
+            super(NESTED_FIELDS);
+        }
+    }
+
+    private static final class AllTypesPojo extends TestPojo {
+        private AllTypesPojo() {
+            super(ALL_TYPES_FIELDS);
+        }
+    }
+}
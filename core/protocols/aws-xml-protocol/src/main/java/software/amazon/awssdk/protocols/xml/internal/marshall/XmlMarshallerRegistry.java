@@ -40,6 +40,14 @@ public final class XmlMarshallerRegistry extends AbstractMarshallingRegistry {
                                            val == null ? MarshallingType.NULL : marshallingType);
     }
 
+    /**
+     * @return The marshaller registered for the given location and type, or null if none is registered.
+     */
+    @SuppressWarnings("unchecked")
+    public XmlMarshaller<Object> findMarshaller(MarshallLocation marshallLocation, MarshallingType<?> marshallingType) {
+        return (XmlMarshaller<Object>) find(marshallLocation, marshallingType);
+    }
+
     /**
      * @return Builder instance to construct a {@link XmlMarshallerRegistry}.
      */
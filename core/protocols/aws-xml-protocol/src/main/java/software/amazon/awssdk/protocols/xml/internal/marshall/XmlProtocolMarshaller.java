@@ -24,6 +24,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
@@ -34,6 +35,7 @@ import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.FieldPlanCache;
 import software.amazon.awssdk.protocols.core.InstantToString;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
@@ -54,6 +56,8 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
 
     private static final XmlMarshallerRegistry MARSHALLER_REGISTRY = createMarshallerRegistry();
 
+    private static final FieldPlanCache<BoundField> FIELD_PLANS = new FieldPlanCache<>(BoundField::new);
+
     private final URI endpoint;
     private final SdkHttpFullRequest.Builder request;
     private final String rootElement;
@@ -87,23 +91,24 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
     }
 
     void doMarshall(SdkPojo pojo) {
-        for (SdkField<?> field : pojo.sdkFields()) {
-            Object val = field.getValueOrDefault(pojo);
+        List<BoundField> fields = FIELD_PLANS.plan(pojo);
+        for (int i = 0; i < fields.size(); i++) {
+            BoundField field = fields.get(i);
+            Object val = field.sdkField.getValueOrDefault(pojo);
 
-            if (isBinary(field, val)) {
+            if (field.explicitPayload && val instanceof SdkBytes) {
                 SdkBytes sdkBytes = (SdkBytes) val;
                 request.contentStreamProvider(sdkBytes::asInputStream);
                 setContentTypeHeaderIfNeeded("binary/octet-stream");
                 request.putHeader(CONTENT_LENGTH, Integer.toString(sdkBytes.asByteArrayUnsafe().length));
 
-            } else if (isExplicitPayloadMember(field) && val instanceof String) {
+            } else if (field.explicitPayload && val instanceof String) {
                 byte[] content = ((String) val).getBytes(StandardCharsets.UTF_8);
                 request.contentStreamProvider(() -> new ByteArrayInputStream(content));
                 request.putHeader(CONTENT_LENGTH, Integer.toString(content.length));
 
             } else {
-                MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val)
-                                   .marshall(val, marshallerContext, field.locationName(), (SdkField<Object>) field);
+                field.marshaller(val).marshall(val, marshallerContext, field.sdkField.locationName(), field.sdkField);
             }
         }
     }
@@ -124,14 +129,6 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
         return request.build();
     }
 
-    private boolean isBinary(SdkField<?> field, Object val) {
-        return isExplicitPayloadMember(field) && val instanceof SdkBytes;
-    }
-
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
-    }
-
     private boolean hasPayloadMembers(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(f -> f.location() == MarshallLocation.PAYLOAD);
@@ -257,4 +254,31 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
             return new XmlProtocolMarshaller(this);
         }
     }
+
+    /**
+     * A field of a shape bound to the marshallers that write it, resolved once per shape by {@link #FIELD_PLANS}.
+     */
+    private static final class BoundField {
+        private final SdkField<Object> sdkField;
+        private final boolean explicitPayload;
+        private final XmlMarshaller<Object> marshaller;
+        private final XmlMarshaller<Object> nullMarshaller;
+
+        @SuppressWarnings("unchecked")
+        private BoundField(SdkField<?> sdkField) {
+            this.sdkField = (SdkField<Object>) sdkField;
+            this.explicitPayload = sdkField.containsTrait(PayloadTrait.class);
+            this.marshaller = MARSHALLER_REGISTRY.findMarshaller(sdkField.location(), sdkField.marshallingType());
+            this.nullMarshaller = MARSHALLER_REGISTRY.findMarshaller(sdkField.location(), MarshallingType.NULL);
+        }
+
+        private XmlMarshaller<Object> marshaller(Object val) {
+            XmlMarshaller<Object> bound = val == null ? nullMarshaller : marshaller;
+            if (bound != null) {
+                return bound;
+            }
+            // Not registered; let the registry report it.
+            return MARSHALLER_REGISTRY.getMarshaller(sdkField.location(), sdkField.marshallingType(), val);
+        }
+    }
 }
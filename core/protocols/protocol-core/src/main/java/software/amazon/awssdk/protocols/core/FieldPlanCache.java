@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Caches a flat, precompiled plan for each shape: the shape's {@link SdkField}s, in order, each bound once to whatever the
+ * protocol needs to (un)marshall it, typically the marshaller resolved from an {@link AbstractMarshallingRegistry}. This
+ * keeps registry lookups out of the per-field marshalling loop.
+ *
+ * <p>Plans are keyed by POJO class. Generated models return the same static field list from every instance, so a plan is
+ * compiled once per shape. If a POJO returns a different field list than the one its cached plan was compiled from, a fresh
+ * plan is compiled for that call and not cached.
+ *
+ * @param <T> The type each field is bound to.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class FieldPlanCache<T> {
+    private final Map<Class<?>, Plan<T>> plans = new ConcurrentHashMap<>();
+    private final Function<SdkField<?>, T> binder;
+
+    /**
+     * @param binder Binds a single field to the value stored for it in the plan. Called once per field when a plan is
+     * compiled.
+     */
+    public FieldPlanCache(Function<SdkField<?>, T> binder) {
+        this.binder = binder;
+    }
+
+    /**
+     * @return The bound fields of the given POJO, in the order returned by {@link SdkPojo#sdkFields()}.
+     */
+    public List<T> plan(SdkPojo pojo) {
+        List<SdkField<?>> fields = pojo.sdkFields();
+        Plan<T> plan = plans.get(pojo.getClass());
+        if (plan != null && plan.fields == fields) {
+            return plan.boundFields;
+        }
+
+        Plan<T> compiled = new Plan<>(fields, binder);
+        if (plan == null) {
+            Plan<T> raced = plans.putIfAbsent(pojo.getClass(), compiled);
+            if (raced != null && raced.fields == fields) {
+                return raced.boundFields;
+            }
+        }
+        return compiled.boundFields;
+    }
+
+    private static final class Plan<T> {
+        private final List<SdkField<?>> fields;
+        private final List<T> boundFields;
+
+        private Plan(List<SdkField<?>> fields, Function<SdkField<?>, T> binder) {
+            this.fields = fields;
+            List<T> bound = new ArrayList<>(fields.size());
+            for (SdkField<?> field : fields) {
+                bound.add(binder.apply(field));
+            }
+            this.boundFields = Collections.unmodifiableList(bound);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+
+public class FieldPlanCacheTest {
+
+    private static final SdkField<String> FOO = field(MarshallingType.STRING, "Foo");
+    private static final SdkField<Integer> BAR = field(MarshallingType.INTEGER, "Bar");
+    private static final List<SdkField<?>> FIELDS = Collections.unmodifiableList(Arrays.asList(FOO, BAR));
+
+    @Test
+    public void plan_bindsFieldsInOrder() {
+        FieldPlanCache<String> cache = new FieldPlanCache<>(SdkField::memberName);
+
+        assertThat(cache.plan(new StaticPojo())).containsExactly("Foo", "Bar");
+    }
+
+    @Test
+    public void plan_sameFieldList_compiledOncePerClass() {
+        AtomicInteger bindings = new AtomicInteger();
+        FieldPlanCache<String> cache = new FieldPlanCache<>(f -> {
+            bindings.incrementAndGet();
+            return f.memberName();
+        });
+
+        List<String> first = cache.plan(new StaticPojo());
+        List<String> second = cache.plan(new StaticPojo());
+
+        assertThat(second).isSameAs(first);
+        assertThat(bindings).hasValue(2);
+    }
+
+    @Test
+    public void plan_differentFieldListForSameClass_compilesFreshPlan() {
+        FieldPlanCache<String> cache = new FieldPlanCache<>(SdkField::memberName);
+
+        assertThat(cache.plan(new DynamicPojo(FOO))).containsExactly("Foo");
+        assertThat(cache.plan(new DynamicPojo(BAR))).containsExactly("Bar");
+        assertThat(cache.plan(new DynamicPojo(FOO))).containsExactly("Foo");
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<T> type, String name) {
+        return SdkField.builder(type)
+                       .memberName(name)
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+                       .build();
+    }
+
+    private static final class StaticPojo implements SdkPojo {
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+    }
+
+    private static final class DynamicPojo implements SdkPojo {
+        private final SdkField<?> field;
+
+        private DynamicPojo(SdkField<?> field) {
+            this.field = field;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return Collections.singletonList(field);
+        }
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.regions.providers;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -41,6 +43,12 @@ public final class InstanceProfileRegionProvider implements AwsRegionProvider {
      */
     private volatile String region;
 
+    /**
+     * Guards the region lookup, which calls the EC2 metadata service. A {@link Lock} is used instead of a monitor, so that
+     * virtual threads waiting on the lookup do not pin their carrier threads.
+     */
+    private final Lock regionLock = new ReentrantLock();
+
     @Override
     public Region getRegion() throws SdkClientException {
         if (SdkSystemSetting.AWS_EC2_METADATA_DISABLED.getBooleanValueOrThrow()) {
@@ -51,10 +59,13 @@ public final class InstanceProfileRegionProvider implements AwsRegionProvider {
         }
 
         if (region == null) {
-            synchronized (this) {
+            regionLock.lock();
+            try {
                 if (region == null) {
                     this.region = tryDetectRegion();
                 }
+            } finally {
+                regionLock.unlock();
             }
         }
 
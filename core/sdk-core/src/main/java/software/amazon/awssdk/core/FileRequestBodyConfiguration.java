@@ -36,12 +36,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
     private final Long position;
     private final Long numBytesToRead;
     private final Path path;
+    private final Boolean memoryMapped;
 
     private FileRequestBodyConfiguration(DefaultBuilder builder) {
         this.path = Validate.notNull(builder.path, "path");
         this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
         this.position = Validate.isNotNegativeOrNull(builder.position, "position");
         this.numBytesToRead = Validate.isNotNegativeOrNull(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMapped = builder.memoryMapped;
     }
 
     /**
@@ -79,6 +81,13 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         return path;
     }
 
+    /**
+     * @return whether the file is memory-mapped instead of being read into buffers
+     */
+    public Boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -99,6 +108,9 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         if (!Objects.equals(numBytesToRead, that.numBytesToRead)) {
             return false;
         }
+        if (!Objects.equals(memoryMapped, that.memoryMapped)) {
+            return false;
+        }
         return Objects.equals(path, that.path);
     }
 
@@ -108,6 +120,7 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         result = 31 * result + (position != null ? position.hashCode() : 0);
         result = 31 * result + (numBytesToRead != null ? numBytesToRead.hashCode() : 0);
         result = 31 * result + (path != null ? path.hashCode() : 0);
+        result = 31 * result + (memoryMapped != null ? memoryMapped.hashCode() : 0);
         return result;
     }
 
@@ -157,6 +170,25 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the SDK should memory-map the file and send read-only slices of the mapping, instead of reading each
+         * chunk into a newly allocated buffer. This avoids copying the file into memory owned by the SDK, and the thread hop
+         * of each asynchronous read, which can reduce the CPU usage of large uploads. Checksums are calculated directly over
+         * the mapped slices.
+         *
+         * <p>The file must not be modified or truncated while it is being sent. The size and last-modified time of the file
+         * are checked before each chunk is sent, and the request fails with an {@link java.io.IOException} if they changed.
+         * However, if the file is truncated after a chunk was sent, reading that chunk beyond the new end of the file fails
+         * with an {@link InternalError} wherever the chunk is read, which may be a thread of the HTTP client. On some
+         * platforms, such as Windows, a mapped file cannot be deleted until the mapping is garbage collected.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory-map the file
+         * @return The builder for method chaining.
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -164,12 +196,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         private DefaultBuilder(FileRequestBodyConfiguration configuration) {
             this.position = configuration.position;
             this.path = configuration.path;
             this.chunkSizeInBytes = configuration.chunkSizeInBytes;
             this.numBytesToRead = configuration.numBytesToRead;
+            this.memoryMapped = configuration.memoryMapped;
         }
 
         private DefaultBuilder() {
@@ -200,6 +234,12 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
             return this;
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         @Override
         public FileRequestBodyConfiguration build() {
             return new FileRequestBodyConfiguration(this);
@@ -224,7 +224,16 @@ public enum SdkSystemSetting implements SystemSetting {
      * Defines a file path from which partition metadata should be loaded. If this isn't specified, the partition
      * metadata deployed with the SDK client will be used instead.
      */
-    AWS_PARTITIONS_FILE("aws.partitionsFile", null)
+    AWS_PARTITIONS_FILE("aws.partitionsFile", null),
+
+    /**
+     * The maximum direct memory, in bytes, that is used across the process to hold the content of request bodies that are split
+     * with off-heap buffering enabled. Content beyond this limit is written to temporary files in the
+     * {@code java.io.tmpdir} directory. The default value is 268_435_456 (256 MiB).
+     *
+     * @see software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration.Builder#offHeapBufferingEnabled(Boolean)
+     */
+    AWS_OFF_HEAP_UPLOAD_BUFFER_LIMIT_BYTES("aws.offHeapUploadBufferLimitBytes", null)
 
     ;
 
@@ -36,10 +36,12 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
         .build();
     private final Long chunkSizeInBytes;
     private final Long bufferSizeInBytes;
+    private final Boolean offHeapBufferingEnabled;
 
     private AsyncRequestBodySplitConfiguration(DefaultBuilder builder) {
         this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
         this.bufferSizeInBytes = Validate.isPositiveOrNull(builder.bufferSizeInBytes, "bufferSizeInBytes");
+        this.offHeapBufferingEnabled = builder.offHeapBufferingEnabled;
     }
 
     public static AsyncRequestBodySplitConfiguration defaultConfiguration() {
@@ -60,6 +62,14 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
         return bufferSizeInBytes;
     }
 
+    /**
+     * Whether content buffered from a source {@link SdkPublisher} with an unknown content length is held outside of the Java
+     * heap.
+     */
+    public Boolean offHeapBufferingEnabled() {
+        return offHeapBufferingEnabled;
+    }
+
     /**
      * Create a {@link Builder}, used to create a {@link AsyncRequestBodySplitConfiguration}.
      */
@@ -81,13 +91,17 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
         if (!Objects.equals(chunkSizeInBytes, that.chunkSizeInBytes)) {
             return false;
         }
-        return Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes);
+        if (!Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes)) {
+            return false;
+        }
+        return Objects.equals(offHeapBufferingEnabled, that.offHeapBufferingEnabled);
     }
 
     @Override
     public int hashCode() {
         int result = chunkSizeInBytes != null ? chunkSizeInBytes.hashCode() : 0;
         result = 31 * result + (bufferSizeInBytes != null ? bufferSizeInBytes.hashCode() : 0);
+        result = 31 * result + (offHeapBufferingEnabled != null ? offHeapBufferingEnabled.hashCode() : 0);
         return result;
     }
 
@@ -116,15 +130,32 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
          * @return This object for method chaining.
          */
         Builder bufferSizeInBytes(Long bufferSizeInBytes);
+
+        /**
+         * Configures whether content buffered from a source {@link SdkPublisher} with an unknown content length is copied out of
+         * the Java heap while it waits to be published. Content is held in direct memory, up to a limit shared by the whole
+         * process, and written to a temporary file once that limit is reached. The limit can be configured with the
+         * {@code aws.offHeapUploadBufferLimitBytes} system property, and is 256MB by default.
+         *
+         * <p>The amount of content buffered for each split is still limited by {@link #bufferSizeInBytes(Long)}. This has no
+         * effect when the content length of the source is known, because its content is then not buffered. The default value
+         * is false.
+         *
+         * @param offHeapBufferingEnabled whether to buffer content outside of the Java heap
+         * @return This object for method chaining.
+         */
+        Builder offHeapBufferingEnabled(Boolean offHeapBufferingEnabled);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long chunkSizeInBytes;
         private Long bufferSizeInBytes;
+        private Boolean offHeapBufferingEnabled;
 
         private DefaultBuilder(AsyncRequestBodySplitConfiguration asyncRequestBodySplitConfiguration) {
             this.chunkSizeInBytes = asyncRequestBodySplitConfiguration.chunkSizeInBytes;
             this.bufferSizeInBytes = asyncRequestBodySplitConfiguration.bufferSizeInBytes;
+            this.offHeapBufferingEnabled = asyncRequestBodySplitConfiguration.offHeapBufferingEnabled;
         }
 
         private DefaultBuilder() {
@@ -143,6 +174,12 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
             return this;
         }
 
+        @Override
+        public Builder offHeapBufferingEnabled(Boolean offHeapBufferingEnabled) {
+            this.offHeapBufferingEnabled = offHeapBufferingEnabled;
+            return this;
+        }
+
         @Override
         public AsyncRequestBodySplitConfiguration build() {
             return new AsyncRequestBodySplitConfiguration(this);
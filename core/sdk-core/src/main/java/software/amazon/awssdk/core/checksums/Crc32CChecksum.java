@@ -15,45 +15,27 @@
 
 package software.amazon.awssdk.core.checksums;
 
-import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
-
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
-import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 
 /**
- * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum.
+ * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum, using the implementation chosen by
+ * {@link software.amazon.awssdk.checksums.SdkChecksum#forAlgorithm}.
  */
 @SdkInternalApi
 public class Crc32CChecksum implements SdkChecksum {
 
-    private Checksum crc32c;
-    private Checksum lastMarkedCrc32C;
-    private final boolean isCrtBasedChecksum;
-
-    /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
-     */
-    public Crc32CChecksum() {
-        crc32c = CrtBasedChecksumProvider.createCrc32C();
-        isCrtBasedChecksum = crc32c != null;
-        if (!isCrtBasedChecksum) {
-            crc32c = SdkCrc32C.create();
-        }
-    }
+    private final software.amazon.awssdk.checksums.SdkChecksum crc32c =
+        software.amazon.awssdk.checksums.SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC32C);
 
     @Override
     public byte[] getChecksumBytes() {
-        return Arrays.copyOfRange(longToByte(crc32c.getValue()), 4, 8);
+        return crc32c.getChecksumBytes();
     }
 
-
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32C = cloneChecksum(crc32c);
+        crc32c.mark(readLimit);
     }
 
     @Override
@@ -73,25 +55,6 @@ public class Crc32CChecksum implements SdkChecksum {
 
     @Override
     public void reset() {
-        if (lastMarkedCrc32C == null) {
-            crc32c.reset();
-        } else {
-            crc32c = cloneChecksum(lastMarkedCrc32C);
-        }
-    }
-
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (isCrtBasedChecksum) {
-            try {
-                Method method = checksum.getClass().getDeclaredMethod("clone");
-                return (Checksum) method.invoke(checksum);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
-            }
-        } else {
-            return (Checksum) ((SdkCrc32C) checksum).clone();
-
-        }
+        crc32c.reset();
     }
-}
\ No newline at end of file
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.checksums;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
@@ -42,6 +43,11 @@ public class Sha1Checksum implements SdkChecksum {
         digest.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        digest.update(buffer);
+    }
+
     @Override
     public long getValue() {
         throw new UnsupportedOperationException("Use getChecksumBytes() instead.");
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.checksums;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
@@ -42,6 +43,15 @@ public class Sha256Checksum implements SdkChecksum {
         digest.update(b, off, len);
     }
 
+    /**
+     * Hash the buffer through {@link MessageDigest#update(ByteBuffer)}, which reads direct and memory-mapped buffers without
+     * allocating a new array for every update.
+     */
+    @Override
+    public void update(ByteBuffer buffer) {
+        digest.update(buffer);
+    }
+
     @Override
     public long getValue() {
         throw new UnsupportedOperationException("Use getChecksumBytes() instead.");
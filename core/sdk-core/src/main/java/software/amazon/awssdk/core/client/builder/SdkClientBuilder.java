@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
@@ -68,6 +69,36 @@ public interface SdkClientBuilder<B extends SdkClientBuilder<B, C>, C> extends S
      */
     B endpointOverride(URI endpointOverride);
 
+    /**
+     * Configure the HTTP client to establish connections to the client's endpoint when the client is built, so that the first
+     * requests made by the client do not pay the cost of connecting and negotiating TLS. By default, no connections are
+     * established when the client is built. Failures to establish connections are logged and do not fail the creation of the
+     * client.
+     * <p>
+     * <b>For sync clients, {@code build()} performs blocking network I/O when this is set:</b> it returns once the connections
+     * are established, which can take up to the HTTP client's connection timeout. Async clients return immediately and
+     * establish the connections in the background.
+     * <p>
+     * Connections are established to the endpoint of the client, which is the {@link #endpointOverride(URI)} or the default
+     * endpoint of the service. Services that resolve a different endpoint for each request, for example to include a bucket
+     * name in the host, should instead use {@code prewarmConnections} on the HTTP client with the endpoints they will call.
+     *
+     * @see software.amazon.awssdk.http.SdkHttpClient#prewarmConnections(URI, ConnectionPrewarmConfiguration)
+     * @see software.amazon.awssdk.http.async.SdkAsyncHttpClient#prewarmConnections(URI, ConnectionPrewarmConfiguration)
+     */
+    default B prewarmConnections(ConnectionPrewarmConfiguration connectionPrewarmConfiguration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Similar to {@link #prewarmConnections(ConnectionPrewarmConfiguration)}, but takes a lambda to configure a new
+     * {@link ConnectionPrewarmConfiguration.Builder}. This removes the need to call
+     * {@link ConnectionPrewarmConfiguration#builder()} and {@link ConnectionPrewarmConfiguration.Builder#build()}.
+     */
+    default B prewarmConnections(Consumer<ConnectionPrewarmConfiguration.Builder> connectionPrewarmConfiguration) {
+        return prewarmConnections(ConnectionPrewarmConfiguration.builder().applyMutation(connectionPrewarmConfiguration).build());
+    }
+
     /**
      * Configure this client with an additional auth scheme, or replace one already on the client.
      *
@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.client.builder;
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.USE_VIRTUAL_THREADS;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
@@ -34,6 +35,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SYNC_HTTP_CLIENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SYNC_HTTP_CLIENT_BUILDER;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CONNECTION_PREWARM_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.DEFAULT_RETRY_MODE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
@@ -51,6 +53,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.SYNC_HTT
 import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -88,6 +91,7 @@ import software.amazon.awssdk.core.internal.retry.SdkDefaultRetryStrategy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
@@ -106,9 +110,11 @@ import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.AttributeMap.LazyValueSource;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.OptionalUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.VirtualThreads;
 
 /**
  * An SDK-internal implementation of the methods in {@link SdkClientBuilder}, {@link SdkAsyncClientBuilder} and
@@ -130,6 +136,7 @@ import software.amazon.awssdk.utils.Validate;
 @SdkProtectedApi
 public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>, C> implements SdkClientBuilder<B, C> {
 
+    private static final Logger log = Logger.loggerFor(SdkDefaultClientBuilder.class);
     private static final SdkHttpClient.Builder DEFAULT_HTTP_CLIENT_BUILDER = new DefaultSdkHttpClientBuilder();
     private static final SdkAsyncHttpClient.Builder DEFAULT_ASYNC_HTTP_CLIENT_BUILDER = new DefaultSdkAsyncHttpClientBuilder();
 
@@ -201,6 +208,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
+        prewarmSyncConnections(configuration);
+
         return configuration;
     }
 
@@ -232,6 +241,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
+        prewarmAsyncConnections(configuration);
+
         return configuration;
     }
 
@@ -383,6 +394,35 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         return config;
     }
 
+    private void prewarmSyncConnections(SdkClientConfiguration configuration) {
+        ConnectionPrewarmConfiguration prewarmConfiguration = configuration.option(CONNECTION_PREWARM_CONFIGURATION);
+        URI endpoint = configuration.option(SdkClientOption.ENDPOINT);
+        if (prewarmConfiguration == null || endpoint == null) {
+            return;
+        }
+
+        // Blocks the creation of the client, which callers opt in to by configuring prewarmConnections
+        try {
+            configuration.option(SYNC_HTTP_CLIENT).prewarmConnections(endpoint, prewarmConfiguration);
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Unable to establish connections to " + endpoint + " ahead of requests.", e);
+        }
+    }
+
+    private void prewarmAsyncConnections(SdkClientConfiguration configuration) {
+        ConnectionPrewarmConfiguration prewarmConfiguration = configuration.option(CONNECTION_PREWARM_CONFIGURATION);
+        URI endpoint = configuration.option(SdkClientOption.ENDPOINT);
+        if (prewarmConfiguration == null || endpoint == null) {
+            return;
+        }
+
+        configuration.option(ASYNC_HTTP_CLIENT).prewarmConnections(endpoint, prewarmConfiguration).whenComplete((r, t) -> {
+            if (t != null) {
+                log.warn(() -> "Unable to establish connections to " + endpoint + " ahead of requests.", t);
+            }
+        });
+    }
+
     private String resolveRetryMode(RetryPolicy retryPolicy, RetryStrategy retryStrategy) {
         if (retryPolicy != null) {
             return retryPolicy.retryMode().toString();
@@ -482,9 +522,16 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     /**
      * Finalize which async executor service will be used for the created client. The default async executor
      * service has at least 8 core threads and can scale up to at least 64 threads when needed depending
-     * on the number of processors available.
+     * on the number of processors available. If virtual threads are enabled and supported, each future is instead completed
+     * on a new virtual thread.
      */
     private Executor resolveAsyncFutureCompletionExecutor(LazyValueSource config) {
+        if (useVirtualThreads(config)) {
+            return VirtualThreads.newThreadPerTaskExecutor(new ThreadFactoryBuilder().threadNamePrefix("sdk-async-response")
+                                                                                     .virtualThreads(true)
+                                                                                     .build());
+        }
+
         int processors = Runtime.getRuntime().availableProcessors();
         int corePoolSize = Math.max(8, processors);
         int maxPoolSize = Math.max(64, processors * 2);
@@ -498,6 +545,19 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         return executor;
     }
 
+    private boolean useVirtualThreads(LazyValueSource config) {
+        Boolean useVirtualThreads = config.get(USE_VIRTUAL_THREADS);
+        if (useVirtualThreads == null) {
+            return VirtualThreads.isEnabled();
+        }
+        if (useVirtualThreads && !VirtualThreads.isSupported()) {
+            log.warn(() -> "Virtual threads were enabled for the future completion executor, but are not supported by this "
+                           + "Java runtime. Platform threads will be used instead.");
+            return false;
+        }
+        return useVirtualThreads;
+    }
+
     /**
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such as async retry attempts and
      * timeout task.
@@ -550,6 +610,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     public final B asyncConfiguration(ClientAsyncConfiguration asyncConfiguration) {
         clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR, asyncConfiguration.advancedOption(FUTURE_COMPLETION_EXECUTOR));
+        clientConfiguration.option(USE_VIRTUAL_THREADS, asyncConfiguration.advancedOption(USE_VIRTUAL_THREADS));
         return thisBuilder();
     }
 
@@ -601,6 +662,16 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         return thisBuilder();
     }
 
+    @Override
+    public final B prewarmConnections(ConnectionPrewarmConfiguration connectionPrewarmConfiguration) {
+        clientConfiguration.option(CONNECTION_PREWARM_CONFIGURATION, connectionPrewarmConfiguration);
+        return thisBuilder();
+    }
+
+    public final void setPrewarmConnections(ConnectionPrewarmConfiguration connectionPrewarmConfiguration) {
+        prewarmConnections(connectionPrewarmConfiguration);
+    }
+
     public final B metricPublishers(List<MetricPublisher> metricPublishers) {
         clientConfiguration.option(METRIC_PUBLISHERS, metricPublishers);
         return thisBuilder();
@@ -643,6 +714,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return delegate.prepareRequest(request);
         }
 
+        @Override
+        public void prewarmConnections(URI endpoint, ConnectionPrewarmConfiguration configuration) throws IOException {
+            delegate.prewarmConnections(endpoint, configuration);
+        }
+
         @Override
         public void close() {
             // Do nothing, this client is managed by the customer.
@@ -672,6 +748,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return delegate.execute(request);
         }
 
+        @Override
+        public CompletableFuture<Void> prewarmConnections(URI endpoint, ConnectionPrewarmConfiguration configuration) {
+            return delegate.prewarmConnections(endpoint, configuration);
+        }
+
         @Override
         public String clientName() {
             return delegate.clientName();
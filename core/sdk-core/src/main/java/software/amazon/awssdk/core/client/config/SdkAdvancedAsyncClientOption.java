@@ -55,6 +55,21 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Whether the default {@link #FUTURE_COMPLETION_EXECUTOR} should complete futures on virtual threads, starting a new virtual
+     * thread for each completion instead of using a bounded {@link ThreadPoolExecutor}. This allows {@link CompletableFuture}
+     * chains that block, such as ones that call a sync client, to scale beyond the size of a platform thread pool.
+     * <p>
+     * Virtual threads require Java 21 or above. On older Java runtimes this option is ignored. This option has no effect if a
+     * {@link #FUTURE_COMPLETION_EXECUTOR} is configured.
+     * <p>
+     * By default, this is the value of the {@code aws.useVirtualThreads} system property or the
+     * {@code AWS_USE_VIRTUAL_THREADS} environment variable, or false if neither is set. The same setting also moves the
+     * background refreshes of cached credentials onto virtual threads.
+     */
+    public static final SdkAdvancedAsyncClientOption<Boolean> USE_VIRTUAL_THREADS =
+            new SdkAdvancedAsyncClientOption<>(Boolean.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
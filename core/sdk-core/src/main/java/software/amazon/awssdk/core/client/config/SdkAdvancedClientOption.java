@@ -64,6 +64,15 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Unmarshall response payloads directly from the protocol parser's token stream, without first building an
+     * intermediate document tree. This reduces allocation for large responses, such as DynamoDB Query and Scan results.
+     *
+     * <p>Protocols that do not support streaming unmarshalling ignore this option. By default, this is false.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_STREAMING_UNMARSHALLING =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
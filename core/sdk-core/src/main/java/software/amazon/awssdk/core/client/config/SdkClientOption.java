@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
@@ -304,6 +305,12 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<SdkClient> SDK_CLIENT = new SdkClientOption<>(SdkClient.class);
 
+    /**
+     * The connections the HTTP client should establish to the client's endpoint when the client is built.
+     */
+    public static final SdkClientOption<ConnectionPrewarmConfiguration> CONNECTION_PREWARM_CONFIGURATION =
+        new SdkClientOption<>(ConnectionPrewarmConfiguration.class);
+
     private SdkClientOption(Class<T> valueClass) {
         super(valueClass);
     }
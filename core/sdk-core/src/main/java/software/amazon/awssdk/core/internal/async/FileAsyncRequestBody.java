@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -35,6 +36,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
 import software.amazon.awssdk.utils.Logger;
@@ -57,6 +59,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
 
+    /**
+     * Maximum size (in bytes) of the regions of the file that are mapped at once, when the file is memory-mapped.
+     */
+    private static final int MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+
     /**
      * File to read.
      */
@@ -70,6 +77,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private final int chunkSizeInBytes;
     private final long position;
     private final long numBytesToRead;
+    private final boolean memoryMapped;
 
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
@@ -78,6 +86,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
         this.numBytesToRead = builder.numBytesToRead == null ? fileLength - this.position :
                               Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMapped = Boolean.TRUE.equals(builder.memoryMapped);
     }
 
     @Override
@@ -106,6 +115,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         return numBytesToRead;
     }
 
+    public boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return Optional.of(numBytesToRead);
@@ -118,6 +131,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (memoryMapped) {
+            subscribeToMappedFile(s);
+            return;
+        }
+
         AsynchronousFileChannel channel = null;
         try {
             channel = openInputChannel(this.path);
@@ -141,6 +159,53 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    private void subscribeToMappedFile(Subscriber<? super ByteBuffer> s) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            Subscription subscription = new MappedFileSubscription(channel, s);
+            s.onSubscribe(subscription);
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                runAndLogError(log.logger(), "Unable to close file channel", channel::close);
+            }
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(e);
+        }
+    }
+
+    /**
+     * Check that the file was not modified while it was being read, returning the problem found or null if the file is
+     * unchanged.
+     */
+    private IOException checkFileUnchanged(long sizeAtStart, FileTime modifiedTimeAtStart, long remainingBytes) {
+        try {
+            long sizeAtEnd = Files.size(path);
+            if (sizeAtStart != sizeAtEnd) {
+                return new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
+                                       + "Current size: " + sizeAtEnd);
+            }
+
+            if (remainingBytes > 0) {
+                return new IOException("Fewer bytes were read than were expected, was the file modified after "
+                                       + "reading started?");
+            }
+
+            FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+            if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                return new IOException("File last-modified time changed after reading started. Initial modification "
+                                       + "time: " + modifiedTimeAtStart + ". Current modification time: " +
+                                       modifiedTimeAtEnd);
+            }
+            return null;
+        } catch (NoSuchFileException e) {
+            return new IOException("Unable to check file status after read. Was the file deleted or were its "
+                                   + "permissions changed?", e);
+        } catch (IOException e) {
+            return new IOException("Unable to check file status after read.", e);
+        }
+    }
+
     /**
      * @return Builder instance to construct a {@link FileAsyncRequestBody}.
      */
@@ -192,6 +257,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the file is memory-mapped, and chunks are published as read-only slices of the mapping instead of
+         * being read into newly allocated buffers. The file must not be modified or truncated while it is being read.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory-map the file
+         * @return The builder for method chaining.
+         * @see software.amazon.awssdk.core.FileRequestBodyConfiguration.Builder#memoryMapped(Boolean)
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -200,6 +277,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         @Override
         public Builder path(Path path) {
@@ -233,6 +311,16 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             chunkSizeInBytes(chunkSizeInBytes);
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        public void setMemoryMapped(Boolean memoryMapped) {
+            memoryMapped(memoryMapped);
+        }
+
         @Override
         public FileAsyncRequestBody build() {
             return new FileAsyncRequestBody(this);
@@ -380,33 +468,196 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
 
         private void signalOnComplete() {
-            try {
-                long sizeAtEnd = Files.size(path);
-                if (sizeAtStart != sizeAtEnd) {
-                    signalOnError(new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
-                                                  + "Current size: " + sizeAtEnd));
-                    return;
+            IOException fileChanged = checkFileUnchanged(sizeAtStart, modifiedTimeAtStart, remainingBytes.get());
+            if (fileChanged != null) {
+                signalOnError(fileChanged);
+                return;
+            }
+
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    subscriber.onComplete();
                 }
+            }
+        }
 
-                if (remainingBytes.get() > 0) {
-                    signalOnError(new IOException("Fewer bytes were read than were expected, was the file modified after "
-                                                  + "reading started?"));
-                    return;
+        private void signalOnError(Throwable t) {
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes read-only slices of a memory-mapped view of the file for one subscriber. The file is mapped in regions of at
+     * most {@link #MAPPED_WINDOW_SIZE} bytes as the subscriber requests data, so no data is copied or read ahead by the SDK.
+     */
+    private final class MappedFileSubscription implements Subscription {
+        private final FileChannel inputChannel;
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final long sizeAtStart;
+        private final FileTime modifiedTimeAtStart;
+        private final long windowSize;
+        private final Object lock = new Object();
+
+        // Only accessed by the thread that is draining
+        private long currentPosition;
+        private long remainingBytes;
+        private ByteBuffer window;
+
+        private long outstandingDemand = 0;
+        private boolean draining = false;
+        private volatile boolean done = false;
+
+        private MappedFileSubscription(FileChannel inputChannel, Subscriber<? super ByteBuffer> subscriber) throws IOException {
+            this.inputChannel = inputChannel;
+            this.subscriber = subscriber;
+            this.sizeAtStart = inputChannel.size();
+            this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
+            this.currentPosition = position;
+            this.remainingBytes = numBytesToRead;
+            // Map whole chunks where possible, so that only the last chunk of a region can be smaller than the chunk size.
+            this.windowSize = Math.max(chunkSizeInBytes, MAPPED_WINDOW_SIZE / chunkSizeInBytes * chunkSizeInBytes);
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+
+            if (n < 1) {
+                signalOnError(new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by requesting "
+                                                           + "a non-positive number of elements."));
+                return;
+            }
+
+            synchronized (lock) {
+                // As governed by rule 3.17, when demand overflows `Long.MAX_VALUE` we treat the signalled demand as
+                // "effectively unbounded"
+                if (Long.MAX_VALUE - outstandingDemand < n) {
+                    outstandingDemand = Long.MAX_VALUE;
+                } else {
+                    outstandingDemand += n;
                 }
 
-                FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
-                if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
-                    signalOnError(new IOException("File last-modified time changed after reading started. Initial modification "
-                                                  + "time: " + modifiedTimeAtStart + ". Current modification time: " +
-                                                  modifiedTimeAtEnd));
+                // The subscriber may request more from within onNext. Let the draining call deliver it, instead of recursing.
+                if (draining) {
                     return;
                 }
-            } catch (NoSuchFileException e) {
-                signalOnError(new IOException("Unable to check file status after read. Was the file deleted or were its "
-                                              + "permissions changed?", e));
-                return;
+                draining = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (!done) {
+                    done = true;
+                    closeFile();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    if (remainingBytes == 0) {
+                        closeFile();
+                        signalOnComplete();
+                        return;
+                    }
+
+                    synchronized (lock) {
+                        if (done || outstandingDemand == 0) {
+                            draining = false;
+                            return;
+                        }
+                        if (outstandingDemand != Long.MAX_VALUE) {
+                            outstandingDemand--;
+                        }
+                    }
+
+                    signalOnNext(nextChunk());
+                }
+            } catch (InternalError e) {
+                // Thrown by the subscriber reading a slice of a mapping that is beyond the end of the file
+                closeFile();
+                signalOnError(SdkClientException.create("Unable to read the memory-mapped file, was it truncated after "
+                                                        + "reading started?", e));
+            } catch (Throwable t) {
+                closeFile();
+                signalOnError(t);
+            }
+        }
+
+        /**
+         * Returns the next chunk of the file. The file is checked to be unchanged before every chunk, like the size of every
+         * read is checked when the file is not memory-mapped, so that a truncated file fails here with an IOException
+         * instead of failing wherever the chunk is read.
+         */
+        private ByteBuffer nextChunk() throws IOException {
+            checkFileUnchangedSinceStart();
+
+            if (window == null || !window.hasRemaining()) {
+                long mappedBytes = Math.min(remainingBytes, windowSize);
+                // Accessing a mapping beyond the end of the file fails with an InternalError wherever the buffer happens to be
+                // read, so fail here instead if the file was already truncated.
+                if (inputChannel.size() < currentPosition + mappedBytes) {
+                    throw new IOException("Fewer bytes were read than were expected, was the file modified after reading "
+                                          + "started?");
+                }
+                window = inputChannel.map(FileChannel.MapMode.READ_ONLY, currentPosition, mappedBytes);
+            }
+
+            int chunkLength = Math.min(chunkSizeInBytes, window.remaining());
+            ByteBuffer chunk = window.slice();
+            chunk.limit(chunkLength);
+            window.position(window.position() + chunkLength);
+            currentPosition += chunkLength;
+            remainingBytes -= chunkLength;
+            return chunk;
+        }
+
+        private void checkFileUnchangedSinceStart() throws IOException {
+            long size = inputChannel.size();
+            if (size != sizeAtStart) {
+                throw new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
+                                      + "Current size: " + size);
+            }
+
+            FileTime modifiedTime = Files.getLastModifiedTime(path);
+            if (modifiedTimeAtStart.compareTo(modifiedTime) != 0) {
+                throw new IOException("File last-modified time changed after reading started. Initial modification "
+                                      + "time: " + modifiedTimeAtStart + ". Current modification time: " + modifiedTime);
+            }
+        }
+
+        private void closeFile() {
+            try {
+                inputChannel.close();
             } catch (IOException e) {
-                signalOnError(new IOException("Unable to check file status after read.", e));
+                log.warn(() -> "Failed to close the file", e);
+            }
+        }
+
+        private void signalOnNext(ByteBuffer chunk) {
+            synchronized (this) {
+                if (!done) {
+                    subscriber.onNext(chunk);
+                }
+            }
+        }
+
+        private void signalOnComplete() {
+            IOException fileChanged = checkFileUnchanged(sizeAtStart, modifiedTimeAtStart, remainingBytes);
+            if (fileChanged != null) {
+                signalOnError(fileChanged);
                 return;
             }
 
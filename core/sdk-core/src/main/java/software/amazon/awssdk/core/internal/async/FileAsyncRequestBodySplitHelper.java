@@ -44,6 +44,7 @@ public final class FileAsyncRequestBodySplitHelper {
 
     private final long totalContentLength;
     private final Path path;
+    private final boolean memoryMapped;
     private final int bufferPerAsyncRequestBody;
     private final long totalBufferSize;
     private final long chunkSize;
@@ -61,6 +62,7 @@ public final class FileAsyncRequestBodySplitHelper {
         this.totalContentLength = asyncRequestBody.contentLength().get();
         this.remainingBytes = new AtomicLong(totalContentLength);
         this.path = asyncRequestBody.path();
+        this.memoryMapped = asyncRequestBody.memoryMapped();
         this.chunkSize = splitConfiguration.chunkSizeInBytes() == null ?
                          AsyncRequestBodySplitConfiguration.defaultConfiguration().chunkSizeInBytes() :
                          splitConfiguration.chunkSizeInBytes();
@@ -131,6 +133,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                                                         .path(path)
                                                                         .position(position)
                                                                         .numBytesToRead(numBytesToReadForThisChunk)
+                                                                        .memoryMapped(memoryMapped)
                                                                         .build();
         return new FileAsyncRequestBodyWrapper(fileAsyncRequestBody, simplePublisher);
     }
@@ -169,6 +169,27 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         }
     }
 
+    /**
+     * Create a transformer that writes to the same file as this one, starting {@code offset} bytes after the position this
+     * transformer starts writing at. The file must already exist, and is left as-is if the returned transformer fails; the
+     * failure behavior of this transformer is not applied.
+     * <p>
+     * This is used to write the parts of an object that are downloaded concurrently directly at their position in the file.
+     *
+     * @param offset the number of bytes after the position of this transformer to start writing at.
+     * @return a transformer writing to the same file at the given offset.
+     */
+    public FileAsyncResponseTransformer<ResponseT> atOffset(long offset) {
+        Validate.isNotNegative(offset, "offset");
+        FileTransformerConfiguration.Builder offsetConfiguration =
+            FileTransformerConfiguration.builder()
+                                        .fileWriteOption(WRITE_TO_POSITION)
+                                        .position(position + offset)
+                                        .failureBehavior(FailureBehavior.LEAVE);
+        configuration.executorService().ifPresent(offsetConfiguration::executorService);
+        return new FileAsyncResponseTransformer<>(path, offsetConfiguration.build(), position + offset);
+    }
+
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
@@ -0,0 +1,445 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Holds the content of one part of a split {@link AsyncRequestBody} outside of the Java heap until the part is consumed.
+ *
+ * <p>Content is copied into direct buffers while the process-wide {@link MemoryBudget} allows it, and into a temporary file
+ * once the budget is exhausted. Once a part starts writing to its file, the rest of the part is written to the file as well,
+ * so the content of a part is a prefix held in memory followed by a suffix held in the file.
+ *
+ * <p>The content can be subscribed to once, after all of it has been written. The memory and the file are released when the
+ * subscriber is done with the content, or when the part is {@link #discard() discarded} without being subscribed to.
+ */
+@SdkInternalApi
+public final class SpillingPartBuffer implements AsyncRequestBody {
+    private static final Logger log = Logger.loggerFor(SpillingPartBuffer.class);
+
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+    private static final long DEFAULT_MEMORY_LIMIT = 256L * 1024 * 1024;
+    private static final Lazy<MemoryBudget> GLOBAL_BUDGET = new Lazy<>(() -> new MemoryBudget(resolveMemoryLimit()));
+
+    private final MemoryBudget budget;
+    private final int segmentSize;
+    private final Runnable onRelease;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    private long reservedBytes;
+    private long length;
+    private Path spillFile;
+    private FileChannel spillChannel;
+
+    /**
+     * @param onRelease invoked once, when the memory and the file holding the content of this part have been released.
+     */
+    public SpillingPartBuffer(Runnable onRelease) {
+        this(GLOBAL_BUDGET.getValue(), SEGMENT_SIZE, onRelease);
+    }
+
+    @SdkTestInternalApi
+    SpillingPartBuffer(MemoryBudget budget, int segmentSize, Runnable onRelease) {
+        this.budget = budget;
+        this.segmentSize = segmentSize;
+        this.onRelease = onRelease;
+    }
+
+    /**
+     * Copy the remaining content of the buffer to the end of this part. Once the content is written to a file, this blocks
+     * until the file write completes. Content written after the part has been released is dropped.
+     *
+     * @throws SdkClientException if the content could not be written to the file.
+     */
+    public synchronized void write(ByteBuffer data) {
+        if (released.get()) {
+            return;
+        }
+
+        ByteBuffer source = data.duplicate();
+        while (source.hasRemaining() && spillChannel == null) {
+            ByteBuffer segment = segmentWithSpace();
+            if (segment == null) {
+                break;
+            }
+            int bytesToCopy = Math.min(segment.remaining(), source.remaining());
+            ByteBuffer slice = source.duplicate();
+            slice.limit(slice.position() + bytesToCopy);
+            segment.put(slice);
+            source.position(source.position() + bytesToCopy);
+            length += bytesToCopy;
+        }
+
+        if (source.hasRemaining()) {
+            spill(source);
+        }
+    }
+
+    /**
+     * Release the content of this part if it was never subscribed to, for example because the upload was cancelled.
+     */
+    public void discard() {
+        if (!subscribed.get()) {
+            release();
+        }
+    }
+
+    /**
+     * @return whether any of the content of this part was written to a file.
+     */
+    public synchronized boolean spilled() {
+        return spillFile != null;
+    }
+
+    @Override
+    public synchronized Optional<Long> contentLength() {
+        return Optional.of(length);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (!subscribed.compareAndSet(false, true) || released.get()) {
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(new IllegalStateException("The content of a buffered part can only be subscribed to once."));
+            return;
+        }
+
+        AsyncRequestBody spilledContent;
+        try {
+            spilledContent = finishSpilling();
+        } catch (IOException | RuntimeException e) {
+            release();
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(SdkClientException.create("Unable to read the buffered content of the part", e));
+            return;
+        }
+
+        Queue<ByteBuffer> memoryContent = new ArrayDeque<>(segments.size());
+        for (ByteBuffer segment : segments) {
+            ByteBuffer content = segment.asReadOnlyBuffer();
+            content.flip();
+            memoryContent.add(content);
+        }
+        s.onSubscribe(new PartSubscription(s, memoryContent, spilledContent));
+    }
+
+    /**
+     * Resolve the process-wide limit on the direct memory used by off-heap buffered parts, so that an invalid
+     * {@link SdkSystemSetting#AWS_OFF_HEAP_UPLOAD_BUFFER_LIMIT_BYTES} fails when the request body is split rather than while
+     * its content is being buffered.
+     *
+     * @throws SdkClientException if the configured limit is not a non-negative number of bytes.
+     */
+    public static void validateMemoryLimit() {
+        GLOBAL_BUDGET.getValue();
+    }
+
+    /**
+     * @return the direct memory currently reserved by all parts that share the process-wide limit.
+     */
+    @SdkTestInternalApi
+    public static long globalReservedBytes() {
+        return GLOBAL_BUDGET.getValue().reservedBytes();
+    }
+
+    @SdkTestInternalApi
+    synchronized Path spillFile() {
+        return spillFile;
+    }
+
+    private ByteBuffer segmentWithSpace() {
+        if (!segments.isEmpty()) {
+            ByteBuffer last = segments.get(segments.size() - 1);
+            if (last.hasRemaining()) {
+                return last;
+            }
+        }
+
+        if (!budget.tryReserve(segmentSize)) {
+            return null;
+        }
+        reservedBytes += segmentSize;
+        ByteBuffer segment = ByteBuffer.allocateDirect(segmentSize);
+        segments.add(segment);
+        return segment;
+    }
+
+    private void spill(ByteBuffer source) {
+        try {
+            if (spillChannel == null) {
+                Path file = Files.createTempFile("aws-sdk-part-", ".tmp");
+                spillFile = file;
+                spillChannel = FileChannel.open(file, StandardOpenOption.WRITE);
+                log.debug(() -> "Off-heap part buffer limit reached, writing part content to " + file);
+            }
+            int bytesToWrite = source.remaining();
+            while (source.hasRemaining()) {
+                spillChannel.write(source);
+            }
+            length += bytesToWrite;
+        } catch (IOException e) {
+            throw SdkClientException.create("Unable to write the content of the part to a temporary file", e);
+        }
+    }
+
+    private synchronized AsyncRequestBody finishSpilling() throws IOException {
+        if (spillChannel == null) {
+            return null;
+        }
+        spillChannel.close();
+        return FileAsyncRequestBody.builder().path(spillFile).build();
+    }
+
+    private void release() {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+
+        // Waits for an ongoing write, which reserves no more memory once it sees that the part is released
+        synchronized (this) {
+            budget.release(reservedBytes);
+            segments.clear();
+            if (spillChannel != null) {
+                Path file = spillFile;
+                runAndLogError(log.logger(), "Unable to close the temporary file " + file, spillChannel::close);
+                runAndLogError(log.logger(), "Unable to delete the temporary file " + file, () -> Files.deleteIfExists(file));
+            }
+        }
+        onRelease.run();
+    }
+
+    private static long resolveMemoryLimit() {
+        return SdkSystemSetting.AWS_OFF_HEAP_UPLOAD_BUFFER_LIMIT_BYTES.getStringValue()
+                                                                      .map(SpillingPartBuffer::parseMemoryLimit)
+                                                                      .orElse(DEFAULT_MEMORY_LIMIT);
+    }
+
+    @SdkTestInternalApi
+    static long parseMemoryLimit(String value) {
+        long limit;
+        try {
+            limit = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw SdkClientException.create(invalidMemoryLimitMessage(value), e);
+        }
+        if (limit < 0) {
+            throw SdkClientException.create(invalidMemoryLimitMessage(value));
+        }
+        return limit;
+    }
+
+    private static String invalidMemoryLimitMessage(String value) {
+        return String.format("Invalid value '%s' for %s: expected a non-negative number of bytes.", value,
+                             SdkSystemSetting.AWS_OFF_HEAP_UPLOAD_BUFFER_LIMIT_BYTES.property());
+    }
+
+    /**
+     * Publishes the content held in memory, followed by the content held in the file.
+     */
+    private final class PartSubscription implements Subscription {
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final Queue<ByteBuffer> memoryContent;
+        private final AsyncRequestBody spilledContent;
+        private final Object lock = new Object();
+
+        private long outstandingDemand = 0;
+        private boolean draining = false;
+        private Subscription spilledContentSubscription;
+        private volatile boolean done = false;
+
+        private PartSubscription(Subscriber<? super ByteBuffer> subscriber,
+                                 Queue<ByteBuffer> memoryContent,
+                                 AsyncRequestBody spilledContent) {
+            this.subscriber = subscriber;
+            this.memoryContent = memoryContent;
+            this.spilledContent = spilledContent;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+
+            if (n < 1) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by "
+                                                                + "requesting a non-positive number of elements."));
+                return;
+            }
+
+            Subscription forwardTo;
+            synchronized (lock) {
+                forwardTo = spilledContentSubscription;
+                if (forwardTo == null) {
+                    outstandingDemand = Long.MAX_VALUE - outstandingDemand < n ? Long.MAX_VALUE : outstandingDemand + n;
+                    // The subscriber may request more from within onNext. Let the draining call deliver it, instead of
+                    // recursing.
+                    if (draining) {
+                        return;
+                    }
+                    draining = true;
+                }
+            }
+
+            if (forwardTo != null) {
+                forwardTo.request(n);
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            Subscription toCancel;
+            synchronized (lock) {
+                toCancel = spilledContentSubscription;
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+            release();
+        }
+
+        private void drain() {
+            while (true) {
+                ByteBuffer next;
+                synchronized (lock) {
+                    if (done) {
+                        draining = false;
+                        return;
+                    }
+                    if (memoryContent.isEmpty()) {
+                        break;
+                    }
+                    if (outstandingDemand == 0) {
+                        draining = false;
+                        return;
+                    }
+                    if (outstandingDemand != Long.MAX_VALUE) {
+                        outstandingDemand--;
+                    }
+                    next = memoryContent.poll();
+                }
+                subscriber.onNext(next);
+            }
+
+            if (spilledContent == null) {
+                done = true;
+                release();
+                subscriber.onComplete();
+            } else {
+                spilledContent.subscribe(new SpilledContentSubscriber());
+            }
+        }
+
+        private final class SpilledContentSubscriber implements Subscriber<ByteBuffer> {
+            @Override
+            public void onSubscribe(Subscription s) {
+                long demand;
+                synchronized (lock) {
+                    spilledContentSubscription = s;
+                    demand = outstandingDemand;
+                    outstandingDemand = 0;
+                }
+                if (done) {
+                    s.cancel();
+                } else if (demand > 0) {
+                    s.request(demand);
+                }
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                subscriber.onNext(byteBuffer);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done = true;
+                release();
+                subscriber.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                done = true;
+                release();
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    /**
+     * Limits the direct memory that is held by all {@link SpillingPartBuffer}s that share it.
+     */
+    static final class MemoryBudget {
+        private final long limitInBytes;
+        private final AtomicLong reservedBytes = new AtomicLong(0);
+
+        MemoryBudget(long limitInBytes) {
+            this.limitInBytes = limitInBytes;
+        }
+
+        boolean tryReserve(long bytes) {
+            while (true) {
+                long current = reservedBytes.get();
+                if (current + bytes > limitInBytes) {
+                    return false;
+                }
+                if (reservedBytes.compareAndSet(current, current + bytes)) {
+                    return true;
+                }
+            }
+        }
+
+        void release(long bytes) {
+            reservedBytes.addAndGet(-bytes);
+        }
+
+        long reservedBytes() {
+            return reservedBytes.get();
+        }
+    }
+}
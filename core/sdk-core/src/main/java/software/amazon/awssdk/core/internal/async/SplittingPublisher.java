@@ -27,9 +27,12 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.NonRetryableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
 import software.amazon.awssdk.utils.async.SimplePublisher;
 
 /**
@@ -37,7 +40,8 @@ import software.amazon.awssdk.utils.async.SimplePublisher;
  * the original data.
  *
  * <p>If content length is known, each {@link AsyncRequestBody} is sent to the subscriber right after it's initialized.
- * Otherwise, it is sent after the entire content for that chunk is buffered. This is required to get content length.
+ * Otherwise, it is sent after the entire content for that chunk is buffered. This is required to get content length. If
+ * off-heap buffering is enabled, the buffered content is copied into a {@link SpillingPartBuffer} instead of being held on to.
  */
 @SdkInternalApi
 public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
@@ -47,6 +51,7 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
     private final SimplePublisher<AsyncRequestBody> downstreamPublisher = new SimplePublisher<>();
     private final long chunkSizeInBytes;
     private final long bufferSizeInBytes;
+    private final boolean offHeapBuffering;
 
     public SplittingPublisher(AsyncRequestBody asyncRequestBody,
                               AsyncRequestBodySplitConfiguration splitConfiguration) {
@@ -60,6 +65,12 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
                                  AsyncRequestBodySplitConfiguration.defaultConfiguration().bufferSizeInBytes() :
                                  splitConfiguration.bufferSizeInBytes();
 
+        this.offHeapBuffering = Boolean.TRUE.equals(splitConfiguration.offHeapBufferingEnabled()) &&
+                                !upstreamPublisher.contentLength().isPresent();
+        if (offHeapBuffering) {
+            SpillingPartBuffer.validateMemoryLimit();
+        }
+
         this.splittingSubscriber = new SplittingSubscriber(upstreamPublisher.contentLength().orElse(null));
 
         if (!upstreamPublisher.contentLength().isPresent()) {
@@ -71,12 +82,38 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
 
     @Override
     public void subscribe(Subscriber<? super AsyncRequestBody> downstreamSubscriber) {
-        downstreamPublisher.subscribe(downstreamSubscriber);
+        downstreamPublisher.subscribe(new CancellationForwardingSubscriber(downstreamSubscriber));
         upstreamPublisher.subscribe(splittingSubscriber);
     }
 
+    /**
+     * Lets the {@link SplittingSubscriber} release the body it is still filling as soon as the downstream cancels, instead of
+     * when it next fails to send a body.
+     */
+    private final class CancellationForwardingSubscriber extends DelegatingSubscriber<AsyncRequestBody, AsyncRequestBody> {
+        private CancellationForwardingSubscriber(Subscriber<? super AsyncRequestBody> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(new DelegatingSubscription(subscription) {
+                @Override
+                public void cancel() {
+                    super.cancel();
+                    splittingSubscriber.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(AsyncRequestBody asyncRequestBody) {
+            subscriber.onNext(asyncRequestBody);
+        }
+    }
+
     private class SplittingSubscriber implements Subscriber<ByteBuffer> {
-        private Subscription upstreamSubscription;
+        private volatile Subscription upstreamSubscription;
         private final Long upstreamSize;
         private final AtomicInteger chunkNumber = new AtomicInteger(0);
         private volatile DownstreamBody currentBody;
@@ -89,6 +126,11 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
         private int byteBufferSizeHint;
         private volatile boolean upstreamComplete;
 
+        /**
+         * Set once the downstream stops accepting bodies, after which the content received from upstream is dropped.
+         */
+        private volatile boolean cancelled;
+
         SplittingSubscriber(Long upstreamSize) {
             this.upstreamSize = upstreamSize;
         }
@@ -96,6 +138,10 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
         @Override
         public void onSubscribe(Subscription s) {
             this.upstreamSubscription = s;
+            if (cancelled) {
+                s.cancel();
+                return;
+            }
             this.currentBody =
                 initializeNextDownstreamBody(upstreamSize != null, calculateChunkSize(upstreamSize),
                                              chunkNumber.get());
@@ -114,8 +160,31 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
         @Override
         public void onNext(ByteBuffer byteBuffer) {
             hasOpenUpstreamDemand.set(false);
+            if (cancelled) {
+                return;
+            }
             byteBufferSizeHint = byteBuffer.remaining();
 
+            try {
+                splitAndSend(byteBuffer);
+            } catch (SdkClientException e) {
+                log.debug(() -> "Failed to buffer content for chunk " + chunkNumber.get(), e);
+                upstreamSubscription.cancel();
+                currentBody.error(e);
+                downstreamPublisher.error(e);
+                return;
+            }
+
+            // The downstream may have cancelled while this content was being buffered, after the current body was discarded
+            if (cancelled) {
+                discardCurrentBody();
+                return;
+            }
+
+            maybeRequestMoreUpstreamData();
+        }
+
+        private void splitAndSend(ByteBuffer byteBuffer) {
             while (true) {
 
                 if (!byteBuffer.hasRemaining()) {
@@ -152,8 +221,6 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
                 byteBuffer.position(newLimit);
                 currentBody.send(firstHalf);
             }
-
-            maybeRequestMoreUpstreamData();
         }
 
         private void completeCurrentBodyAndCreateNewIfNeeded(ByteBuffer byteBuffer) {
@@ -190,6 +257,10 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
         public void onComplete() {
             upstreamComplete = true;
             log.trace(() -> "Received onComplete()");
+            if (cancelled) {
+                discardCurrentBody();
+                return;
+            }
             completeCurrentBody();
             downstreamPublisher.complete();
         }
@@ -197,11 +268,33 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
         @Override
         public void onError(Throwable t) {
             log.trace(() -> "Received onError()", t);
+            discardCurrentBody();
             downstreamPublisher.error(t);
         }
 
+        private void cancel() {
+            cancelled = true;
+            discardCurrentBody();
+            Subscription upstream = upstreamSubscription;
+            if (upstream != null) {
+                upstream.cancel();
+            }
+        }
+
+        private void discardCurrentBody() {
+            DownstreamBody current = currentBody;
+            if (current != null) {
+                current.discard();
+            }
+        }
+
         private void sendCurrentBody(AsyncRequestBody body) {
             downstreamPublisher.send(body).exceptionally(t -> {
+                cancelled = true;
+                if (body instanceof DownstreamBody) {
+                    ((DownstreamBody) body).discard();
+                }
+                discardCurrentBody();
                 downstreamPublisher.error(t);
                 upstreamSubscription.cancel();
                 return null;
@@ -218,6 +311,9 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
         }
 
         private void maybeRequestMoreUpstreamData() {
+            if (cancelled) {
+                return;
+            }
             long buffered = dataBuffered.get();
             if (shouldRequestMoreData(buffered) &&
                 hasOpenUpstreamDemand.compareAndSet(false, true)) {
@@ -246,6 +342,7 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             private final long maxLength;
             private final Long totalLength;
             private final SimplePublisher<ByteBuffer> delegate = new SimplePublisher<>();
+            private final SpillingPartBuffer offHeapContent;
             private final int chunkNumber;
             private final AtomicBoolean subscribeCalled = new AtomicBoolean(false);
             private volatile long transferredLength = 0;
@@ -254,6 +351,8 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
                 this.totalLength = contentLengthKnown ? maxLength : null;
                 this.maxLength = maxLength;
                 this.chunkNumber = chunkNumber;
+                this.offHeapContent = offHeapBuffering ? new SpillingPartBuffer(() -> addDataBuffered(-transferredLength))
+                                                       : null;
             }
 
             @Override
@@ -264,6 +363,12 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             public void send(ByteBuffer data) {
                 log.trace(() -> String.format("Sending bytebuffer %s to chunk %d", data, chunkNumber));
                 int length = data.remaining();
+                if (offHeapContent != null) {
+                    offHeapContent.write(data);
+                    transferredLength += length;
+                    addDataBuffered(length);
+                    return;
+                }
                 transferredLength += length;
                 addDataBuffered(length);
                 delegate.send(data).whenComplete((r, t) -> {
@@ -276,6 +381,9 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
 
             public void complete() {
                 log.debug(() -> "Received complete() for chunk number: " + chunkNumber + " length " + transferredLength);
+                if (offHeapContent != null) {
+                    return;
+                }
                 delegate.complete().whenComplete((r, t) -> {
                     if (t != null) {
                         error(t);
@@ -284,12 +392,26 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             }
 
             public void error(Throwable error) {
+                if (offHeapContent != null) {
+                    discard();
+                    return;
+                }
                 delegate.error(error);
             }
 
+            private void discard() {
+                if (offHeapContent != null) {
+                    offHeapContent.discard();
+                }
+            }
+
             @Override
             public void subscribe(Subscriber<? super ByteBuffer> s) {
                 if (subscribeCalled.compareAndSet(false, true)) {
+                    if (offHeapContent != null) {
+                        offHeapContent.subscribe(s);
+                        return;
+                    }
                     delegate.subscribe(s);
                 } else {
                     s.onSubscribe(new NoopSubscription(s));
@@ -299,7 +421,7 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
                 }
             }
 
-            private void addDataBuffered(int length) {
+            private void addDataBuffered(long length) {
                 dataBuffered.addAndGet(length);
                 if (length < 0) {
                     maybeRequestMoreUpstreamData();
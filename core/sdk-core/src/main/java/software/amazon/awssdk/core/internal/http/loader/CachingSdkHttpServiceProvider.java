@@ -18,6 +18,8 @@ package software.amazon.awssdk.core.internal.http.loader;
 import static software.amazon.awssdk.utils.Validate.notNull;
 
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
@@ -34,6 +36,8 @@ final class CachingSdkHttpServiceProvider<T> implements SdkHttpServiceProvider<T
      */
     private volatile Optional<T> factory;
 
+    private final Lock loadLock = new ReentrantLock();
+
     CachingSdkHttpServiceProvider(SdkHttpServiceProvider<T> delegate) {
         this.delegate = notNull(delegate, "Delegate service provider cannot be null");
     }
@@ -41,10 +45,13 @@ final class CachingSdkHttpServiceProvider<T> implements SdkHttpServiceProvider<T
     @Override
     public Optional<T> loadService() {
         if (factory == null) {
-            synchronized (this) {
+            loadLock.lock();
+            try {
                 if (factory == null) {
                     this.factory = delegate.loadService();
                 }
+            } finally {
+                loadLock.unlock();
             }
         }
         return factory;
@@ -41,12 +41,14 @@ final class ClasspathSdkHttpServiceProvider<T> implements SdkHttpServiceProvider
                     .put("software.amazon.awssdk.http.apache.ApacheSdkHttpService", 1)
                     .put("software.amazon.awssdk.http.urlconnection.UrlConnectionSdkHttpService", 2)
                     .put("software.amazon.awssdk.http.crt.AwsCrtSdkHttpService", 3)
+                    .put("software.amazon.awssdk.http.javahttp.JavaSdkHttpService", 4)
                     .build();
 
     static final Map<String, Integer> ASYNC_HTTP_SERVICES_PRIORITY =
         ImmutableMap.<String, Integer>builder()
                     .put("software.amazon.awssdk.http.nio.netty.NettySdkAsyncHttpService", 1)
                     .put("software.amazon.awssdk.http.crt.AwsCrtSdkHttpService", 2)
+                    .put("software.amazon.awssdk.http.javahttp.JavaSdkAsyncHttpService", 3)
                     .build();
 
     private static final Logger log = Logger.loggerFor(ClasspathSdkHttpServiceProvider.class);
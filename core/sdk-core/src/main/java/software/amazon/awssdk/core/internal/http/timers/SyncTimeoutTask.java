@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
@@ -28,8 +30,9 @@ public final class SyncTimeoutTask implements TimeoutTask {
     private volatile boolean hasExecuted;
     private volatile boolean isCancelled;
 
-    // Synchronize calls to run(), cancel(), and hasExecuted().
-    private final Object lock = new Object();
+    // Synchronize calls to run(), cancel(), and hasExecuted(). This is a Lock rather than a monitor, because run() aborts the
+    // request while holding it, and a virtual thread calling cancel() in the meantime should not pin its carrier thread.
+    private final Lock lock = new ReentrantLock();
 
     private Abortable abortable;
 
@@ -52,7 +55,8 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public void run() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             if (isCancelled) {
                 return;
             }
@@ -62,6 +66,8 @@ public final class SyncTimeoutTask implements TimeoutTask {
             if (abortable != null) {
                 abortable.abort();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -71,8 +77,11 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public void cancel() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             isCancelled = true;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -83,8 +92,11 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public boolean hasExecuted() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             return hasExecuted;
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -51,6 +51,7 @@ public class AsyncRequestBodyConfigurationTest {
         AsyncRequestBodySplitConfiguration config = AsyncRequestBodySplitConfiguration.builder()
                                                                                      .bufferSizeInBytes(1L)
                                                                                      .chunkSizeInBytes(2L)
+                                                                                     .offHeapBufferingEnabled(true)
                                                                                      .build();
 
         assertThat(config.toBuilder().build()).isEqualTo(config);
@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.client.builder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -45,6 +46,7 @@ import com.google.common.collect.ImmutableSet;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.time.Duration;
@@ -55,8 +57,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -65,7 +70,9 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
@@ -75,6 +82,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.core.signer.Signer;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
@@ -83,6 +91,7 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.VirtualThreads;
 
 /**
  * Validate the functionality of the {@link SdkDefaultClientBuilder}.
@@ -378,6 +387,73 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void prewarmConnectionsConfigured_syncClientPrewarmsConnectionsToEndpoint() throws Exception {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        ConnectionPrewarmConfiguration prewarmConfiguration = ConnectionPrewarmConfiguration.builder().connections(5).build();
+
+        testClientBuilder().httpClient(httpClient).prewarmConnections(prewarmConfiguration).build();
+
+        verify(httpClient).prewarmConnections(DEFAULT_ENDPOINT, prewarmConfiguration);
+    }
+
+    @Test
+    public void prewarmConnectionsFails_syncClientIsStillBuilt() throws Exception {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        doThrow(new IOException("connect failed")).when(httpClient).prewarmConnections(any(), any());
+
+        TestClient client = testClientBuilder().httpClient(httpClient)
+                                               .prewarmConnections(c -> c.connections(5))
+                                               .build();
+
+        assertThat(client).isNotNull();
+    }
+
+    @Test
+    public void prewarmConnectionsConfigured_asyncClientPrewarmsConnectionsToEndpoint() {
+        SdkAsyncHttpClient httpClient = mock(SdkAsyncHttpClient.class);
+        when(httpClient.prewarmConnections(any(), any())).thenReturn(new CompletableFuture<>());
+        ConnectionPrewarmConfiguration prewarmConfiguration = ConnectionPrewarmConfiguration.builder().connections(5).build();
+
+        testAsyncClientBuilder().httpClient(httpClient).prewarmConnections(prewarmConfiguration).build();
+
+        verify(httpClient).prewarmConnections(DEFAULT_ENDPOINT, prewarmConfiguration);
+    }
+
+    @Test
+    public void prewarmConnectionsNotConfigured_connectionsAreNotPrewarmed() throws Exception {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+
+        testClientBuilder().httpClient(httpClient).build();
+
+        verify(httpClient, never()).prewarmConnections(any(), any());
+    }
+
+    @Test
+    public void noFutureCompletionExecutorProvided_defaultsToThreadPool() {
+        TestAsyncClient client = testAsyncClientBuilder().build();
+        assertThat(client.clientConfiguration.option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR))
+            .isInstanceOf(ThreadPoolExecutor.class);
+    }
+
+    @Test
+    public void virtualThreadsEnabled_futureCompletionExecutorUsesVirtualThreadsIfSupported() throws Exception {
+        ClientAsyncConfiguration asyncConfiguration =
+            ClientAsyncConfiguration.builder()
+                                    .advancedOption(SdkAdvancedAsyncClientOption.USE_VIRTUAL_THREADS, true)
+                                    .build();
+        TestAsyncClient client = testAsyncClientBuilder().asyncConfiguration(asyncConfiguration).build();
+
+        Executor executor = client.clientConfiguration.option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
+        Thread completionThread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get();
+
+        assertThat(VirtualThreads.isVirtual(completionThread)).isEqualTo(VirtualThreads.isSupported());
+        assertThat(completionThread.getName()).startsWith("sdk-async-response");
+        if (!VirtualThreads.isSupported()) {
+            assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+        }
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         // Mutating properties might not have bean equivalents. This is probably fine, since very few customers require
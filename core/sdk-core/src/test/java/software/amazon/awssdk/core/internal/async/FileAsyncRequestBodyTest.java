@@ -29,8 +29,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
@@ -312,6 +315,121 @@ public class FileAsyncRequestBodyTest {
         assertThat(bytes).isEqualTo(expected);
     }
 
+    @Test
+    public void memoryMapped_readsSameContentAsDefault() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        asyncRequestBody.subscribe(new ByteArrayAsyncResponseTransformer.BaosSubscriber(future));
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(Files.readAllBytes(testFile));
+    }
+
+    @Test
+    public void memoryMapped_positionAndNumBytesToReadConfigured_shouldHonor() throws Exception {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .position(20L)
+                                                                .numBytesToRead(25L)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        asyncRequestBody.subscribe(new ByteArrayAsyncResponseTransformer.BaosSubscriber(future));
+        assertThat(asyncRequestBody.contentLength()).contains(25L);
+
+        byte[] expected = new byte[25];
+        System.arraycopy(Files.readAllBytes(smallFile), 20, expected, 0, 25);
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(expected);
+    }
+
+    @Test
+    public void memoryMapped_publishesReadOnlyDirectChunks() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .chunkSizeInBytes(30)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        List<ByteBuffer> chunks = new ArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        asyncRequestBody.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                chunks.add(byteBuffer);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+
+        done.get(5, TimeUnit.SECONDS);
+        assertThat(chunks).extracting(ByteBuffer::remaining).containsExactly(30, 30, 30, 10);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.isReadOnly()).isTrue();
+            assertThat(chunk.isDirect()).isTrue();
+        });
+    }
+
+    @Test
+    public void memoryMapped_fileGetsLongerThanExistingLength_failsBecauseTooLong() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        Files.write(testFile, new byte[1], StandardOpenOption.APPEND);
+
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void memoryMapped_fileGetsShorterThanExistingLength_failsWithIOException() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        // The whole file is already mapped, so reading the rest of the mapping would fail with an InternalError
+        Files.write(testFile, new byte[(int) (TEST_FILE_SIZE / 2)]);
+
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
@@ -306,6 +306,34 @@ class FileAsyncResponseTransformerTest {
 
     }
 
+    @Test
+    void atOffset_shouldWriteAfterPositionOfOriginalTransformer() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        Files.write(testPath, "existing".getBytes(StandardCharsets.UTF_8));
+        FileAsyncResponseTransformer<String> transformer =
+            new FileAsyncResponseTransformer<>(testPath, FileTransformerConfiguration.defaultCreateOrAppend());
+
+        stubSuccessfulStreaming("second", transformer.atOffset(5));
+        stubSuccessfulStreaming("first", transformer);
+
+        assertThat(testPath).hasContent("existingfirstsecond");
+    }
+
+    @Test
+    void atOffset_exceptionOccurred_shouldLeaveFile() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        Files.write(testPath, "existing".getBytes(StandardCharsets.UTF_8));
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(
+            testPath, FileTransformerConfiguration.builder()
+                                                  .fileWriteOption(FileWriteOption.WRITE_TO_POSITION)
+                                                  .failureBehavior(DELETE)
+                                                  .build());
+
+        stubException(RandomStringUtils.random(200), transformer.atOffset(8));
+
+        assertThat(testPath).exists();
+    }
+
     @Test
     void onStreamFailed_shouldCompleteFutureExceptionally() {
         Path testPath = testFs.getPath("test_file.txt");
@@ -0,0 +1,244 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.SpillingPartBuffer.MemoryBudget;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class SpillingPartBufferTest {
+    private final AtomicInteger releaseCount = new AtomicInteger(0);
+
+    @Test
+    void contentWithinBudget_isHeldInDirectMemory() throws Exception {
+        MemoryBudget budget = new MemoryBudget(1024);
+        SpillingPartBuffer part = new SpillingPartBuffer(budget, 16, releaseCount::incrementAndGet);
+        byte[] content = randomBytes(40);
+
+        writeInPieces(part, content, 7);
+
+        assertThat(part.spilled()).isFalse();
+        assertThat(part.contentLength()).hasValue(40L);
+        assertThat(budget.reservedBytes()).isEqualTo(48);
+
+        OneAtATimeSubscriber subscriber = new OneAtATimeSubscriber();
+        part.subscribe(subscriber);
+
+        assertThat(subscriber.content()).isEqualTo(content);
+        assertThat(subscriber.buffers).allSatisfy(buffer -> {
+            assertThat(buffer.isDirect()).isTrue();
+            assertThat(buffer.isReadOnly()).isTrue();
+        });
+        assertThat(budget.reservedBytes()).isZero();
+        assertThat(releaseCount).hasValue(1);
+    }
+
+    @Test
+    void budgetExhausted_writesRemainingContentToFile() throws Exception {
+        MemoryBudget budget = new MemoryBudget(32);
+        SpillingPartBuffer part = new SpillingPartBuffer(budget, 16, releaseCount::incrementAndGet);
+        byte[] content = randomBytes(100);
+
+        writeInPieces(part, content, 10);
+
+        assertThat(part.spilled()).isTrue();
+        assertThat(Files.size(part.spillFile())).isEqualTo(68);
+        assertThat(budget.reservedBytes()).isEqualTo(32);
+
+        OneAtATimeSubscriber subscriber = new OneAtATimeSubscriber();
+        part.subscribe(subscriber);
+
+        assertThat(subscriber.content()).isEqualTo(content);
+        assertThat(budget.reservedBytes()).isZero();
+        assertThat(part.spillFile()).doesNotExist();
+        assertThat(releaseCount).hasValue(1);
+    }
+
+    @Test
+    void budgetSharedBetweenParts_laterPartSpills() {
+        MemoryBudget budget = new MemoryBudget(32);
+        SpillingPartBuffer first = new SpillingPartBuffer(budget, 16, releaseCount::incrementAndGet);
+        SpillingPartBuffer second = new SpillingPartBuffer(budget, 16, releaseCount::incrementAndGet);
+
+        first.write(ByteBuffer.wrap(randomBytes(32)));
+        second.write(ByteBuffer.wrap(randomBytes(10)));
+
+        assertThat(first.spilled()).isFalse();
+        assertThat(second.spilled()).isTrue();
+
+        first.discard();
+        second.discard();
+    }
+
+    @Test
+    void discard_releasesMemoryAndDeletesFile() {
+        MemoryBudget budget = new MemoryBudget(16);
+        SpillingPartBuffer part = new SpillingPartBuffer(budget, 16, releaseCount::incrementAndGet);
+        part.write(ByteBuffer.wrap(randomBytes(50)));
+        Path spillFile = part.spillFile();
+
+        part.discard();
+        part.discard();
+
+        assertThat(budget.reservedBytes()).isZero();
+        assertThat(spillFile).doesNotExist();
+        assertThat(releaseCount).hasValue(1);
+    }
+
+    @Test
+    void cancel_releasesMemoryAndDeletesFile() {
+        MemoryBudget budget = new MemoryBudget(16);
+        SpillingPartBuffer part = new SpillingPartBuffer(budget, 16, releaseCount::incrementAndGet);
+        part.write(ByteBuffer.wrap(randomBytes(50)));
+        Path spillFile = part.spillFile();
+
+        part.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.cancel();
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(budget.reservedBytes()).isZero();
+        assertThat(spillFile).doesNotExist();
+        assertThat(releaseCount).hasValue(1);
+    }
+
+    @Test
+    void writeAfterDiscard_isDropped() {
+        MemoryBudget budget = new MemoryBudget(16);
+        SpillingPartBuffer part = new SpillingPartBuffer(budget, 16, releaseCount::incrementAndGet);
+        part.discard();
+
+        part.write(ByteBuffer.wrap(randomBytes(50)));
+
+        assertThat(budget.reservedBytes()).isZero();
+        assertThat(part.spilled()).isFalse();
+        assertThat(part.contentLength()).hasValue(0L);
+    }
+
+    @Test
+    void parseMemoryLimit_validValue_returnsLimit() {
+        assertThat(SpillingPartBuffer.parseMemoryLimit(" 1048576 ")).isEqualTo(1048576L);
+        assertThat(SpillingPartBuffer.parseMemoryLimit("0")).isZero();
+    }
+
+    @Test
+    void parseMemoryLimit_malformedValue_failsWithSettingName() {
+        assertThatThrownBy(() -> SpillingPartBuffer.parseMemoryLimit("256MiB"))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("aws.offHeapUploadBufferLimitBytes")
+            .hasMessageContaining("256MiB")
+            .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void parseMemoryLimit_negativeValue_failsWithSettingName() {
+        assertThatThrownBy(() -> SpillingPartBuffer.parseMemoryLimit("-1"))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("aws.offHeapUploadBufferLimitBytes")
+            .hasMessageContaining("non-negative");
+    }
+
+    @Test
+    void subscribeTwice_secondSubscriberFails() throws Exception {
+        SpillingPartBuffer part = new SpillingPartBuffer(new MemoryBudget(1024), 16, releaseCount::incrementAndGet);
+        part.write(ByteBuffer.wrap(randomBytes(10)));
+
+        OneAtATimeSubscriber first = new OneAtATimeSubscriber();
+        part.subscribe(first);
+        first.content();
+
+        OneAtATimeSubscriber second = new OneAtATimeSubscriber();
+        part.subscribe(second);
+        assertThatThrownBy(second::content).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static void writeInPieces(SpillingPartBuffer part, byte[] content, int pieceSize) {
+        for (int offset = 0; offset < content.length; offset += pieceSize) {
+            part.write(ByteBuffer.wrap(content, offset, Math.min(pieceSize, content.length - offset)));
+        }
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class OneAtATimeSubscriber implements Subscriber<ByteBuffer> {
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final CompletableFuture<byte[]> done = new CompletableFuture<>();
+        private Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            buffers.add(byteBuffer);
+            byte[] bytes = BinaryUtils.copyBytesFrom(byteBuffer);
+            output.write(bytes, 0, bytes.length);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(output.toByteArray());
+        }
+
+        byte[] content() throws Exception {
+            return done.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
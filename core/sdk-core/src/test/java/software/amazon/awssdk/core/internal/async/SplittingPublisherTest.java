@@ -48,6 +48,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 public class SplittingPublisherTest {
     private static final int CHUNK_SIZE = 5;
@@ -99,8 +100,9 @@ public class SplittingPublisherTest {
         verifySplitContent(AsyncRequestBody.fromBytes(CONTENT), chunkSize);
     }
 
-    @Test
-    void contentLengthNotPresent_shouldHandle() throws Exception {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void contentLengthNotPresent_shouldHandle(boolean offHeapBufferingEnabled) throws Exception {
         CompletableFuture<Void> future = new CompletableFuture<>();
         TestAsyncRequestBody asyncRequestBody = new TestAsyncRequestBody() {
             @Override
@@ -111,6 +113,7 @@ public class SplittingPublisherTest {
         SplittingPublisher splittingPublisher = new SplittingPublisher(asyncRequestBody, AsyncRequestBodySplitConfiguration.builder()
                                                                   .chunkSizeInBytes((long) CHUNK_SIZE)
                                                                   .bufferSizeInBytes(10L)
+                                                                  .offHeapBufferingEnabled(offHeapBufferingEnabled)
                                                                   .build());
 
 
@@ -162,6 +165,30 @@ public class SplittingPublisherTest {
         assertThat(asyncRequestBody.cancelled).isTrue();
     }
 
+    @Test
+    void offHeapBuffering_downstreamCancelled_shouldReleaseBodyBeingBuffered() {
+        SimplePublisher<ByteBuffer> upstream = new SimplePublisher<>();
+        SplittingPublisher splittingPublisher = new SplittingPublisher(AsyncRequestBody.fromPublisher(upstream),
+                                                                       AsyncRequestBodySplitConfiguration.builder()
+                                                                                                         .chunkSizeInBytes((long) CHUNK_SIZE)
+                                                                                                         .bufferSizeInBytes(10L)
+                                                                                                         .offHeapBufferingEnabled(true)
+                                                                                                         .build());
+        OnlyRequestOnceSubscriber downstream = new OnlyRequestOnceSubscriber();
+        splittingPublisher.subscribe(downstream);
+
+        // Completes the first body and starts buffering the second one
+        upstream.send(ByteBuffer.wrap(CONTENT, 0, CHUNK_SIZE + 2));
+        assertThat(downstream.asyncRequestBodies.size()).isEqualTo(1);
+        assertThat(SpillingPartBuffer.globalReservedBytes()).isPositive();
+
+        downstream.asyncRequestBodies.get(0).subscribe(new CancellingSubscriber());
+        downstream.subscription.cancel();
+
+        assertThat(SpillingPartBuffer.globalReservedBytes()).isZero();
+        assertThat(upstream.send(ByteBuffer.wrap(CONTENT))).isCompletedExceptionally();
+    }
+
     private static void verifySplitContent(AsyncRequestBody asyncRequestBody, int chunkSize) throws Exception {
         SplittingPublisher splittingPublisher = new SplittingPublisher(asyncRequestBody,
                                                                        AsyncRequestBodySplitConfiguration.builder()
@@ -206,9 +233,11 @@ public class SplittingPublisherTest {
 
     private static final class OnlyRequestOnceSubscriber implements Subscriber<AsyncRequestBody> {
         private List<AsyncRequestBody> asyncRequestBodies = new ArrayList<>();
+        private Subscription subscription;
 
         @Override
         public void onSubscribe(Subscription s) {
+            this.subscription = s;
             s.request(1);
         }
 
@@ -228,6 +257,25 @@ public class SplittingPublisherTest {
         }
     }
 
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription s) {
+            s.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
     private static final class BaosSubscriber implements Subscriber<ByteBuffer> {
         private final CompletableFuture<byte[]> resultFuture;
 
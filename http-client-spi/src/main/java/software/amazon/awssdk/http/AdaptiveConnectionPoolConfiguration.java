@@ -0,0 +1,260 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for adaptive connection pool sizing, supported by HTTP clients that expose an {@code adaptiveConnectionPool}
+ * setting on their builder.
+ * <p>
+ * When enabled, the client starts with its configured maximum number of connections (or concurrency), and periodically adjusts
+ * it within {@link #minConnections()} and {@link #maxConnections()} based on what it observed since the last adjustment:
+ * <ul>
+ *     <li>If the rate of failures to establish a connection exceeds {@link #maxErrorRate()}, the limit is reduced by a
+ *     quarter.</li>
+ *     <li>Otherwise, if the pool was fully used and the average time to get a connection exceeded
+ *     {@link #targetAcquireTime()}, the limit is increased by half.</li>
+ *     <li>Otherwise, if less than half of the pool was used, the limit is reduced towards the number of connections that
+ *     were used.</li>
+ * </ul>
+ */
+@SdkPublicApi
+public final class AdaptiveConnectionPoolConfiguration
+    implements ToCopyableBuilder<AdaptiveConnectionPoolConfiguration.Builder, AdaptiveConnectionPoolConfiguration> {
+
+    private static final Duration DEFAULT_TARGET_ACQUIRE_TIME = Duration.ofMillis(20);
+    private static final Duration DEFAULT_ADJUSTMENT_INTERVAL = Duration.ofSeconds(1);
+    private static final double DEFAULT_MAX_ERROR_RATE = 0.1;
+
+    private final Integer minConnections;
+    private final Integer maxConnections;
+    private final Duration targetAcquireTime;
+    private final Duration adjustmentInterval;
+    private final Double maxErrorRate;
+
+    private AdaptiveConnectionPoolConfiguration(DefaultBuilder builder) {
+        this.minConnections = builder.minConnections;
+        this.maxConnections = builder.maxConnections;
+        this.targetAcquireTime = Validate.getOrDefault(builder.targetAcquireTime, () -> DEFAULT_TARGET_ACQUIRE_TIME);
+        this.adjustmentInterval = Validate.getOrDefault(builder.adjustmentInterval, () -> DEFAULT_ADJUSTMENT_INTERVAL);
+        this.maxErrorRate = Validate.getOrDefault(builder.maxErrorRate, () -> DEFAULT_MAX_ERROR_RATE);
+        if (minConnections != null && maxConnections != null) {
+            Validate.isTrue(minConnections <= maxConnections, "minConnections (%s) must not be greater than maxConnections (%s)",
+                            minConnections, maxConnections);
+        }
+    }
+
+    /**
+     * @return The lowest number of connections the pool can shrink to, or null if the client default of 1 should be used.
+     */
+    public Integer minConnections() {
+        return minConnections;
+    }
+
+    /**
+     * @return The highest number of connections the pool can grow to, or null if the maximum number of connections configured
+     * on the client should be used.
+     */
+    public Integer maxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @return The average time to get a connection from a fully used pool above which the pool grows.
+     */
+    public Duration targetAcquireTime() {
+        return targetAcquireTime;
+    }
+
+    /**
+     * @return How often the size of the pool is adjusted.
+     */
+    public Duration adjustmentInterval() {
+        return adjustmentInterval;
+    }
+
+    /**
+     * @return The fraction of attempts to get a connection that fail to establish one, above which the pool shrinks.
+     */
+    public Double maxErrorRate() {
+        return maxErrorRate;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AdaptiveConnectionPoolConfiguration that = (AdaptiveConnectionPoolConfiguration) o;
+        return Objects.equals(minConnections, that.minConnections)
+               && Objects.equals(maxConnections, that.maxConnections)
+               && Objects.equals(targetAcquireTime, that.targetAcquireTime)
+               && Objects.equals(adjustmentInterval, that.adjustmentInterval)
+               && Objects.equals(maxErrorRate, that.maxErrorRate);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(minConnections);
+        result = 31 * result + Objects.hashCode(maxConnections);
+        result = 31 * result + Objects.hashCode(targetAcquireTime);
+        result = 31 * result + Objects.hashCode(adjustmentInterval);
+        result = 31 * result + Objects.hashCode(maxErrorRate);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("AdaptiveConnectionPoolConfiguration")
+                       .add("minConnections", minConnections)
+                       .add("maxConnections", maxConnections)
+                       .add("targetAcquireTime", targetAcquireTime)
+                       .add("adjustmentInterval", adjustmentInterval)
+                       .add("maxErrorRate", maxErrorRate)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, AdaptiveConnectionPoolConfiguration> {
+
+        /**
+         * The lowest number of connections the pool can shrink to. By default, this is 1.
+         */
+        Builder minConnections(Integer minConnections);
+
+        /**
+         * The highest number of connections the pool can grow to. By default, this is the maximum number of connections (or
+         * concurrency) configured on the client, which is also the size the pool starts with.
+         */
+        Builder maxConnections(Integer maxConnections);
+
+        /**
+         * The average time to get a connection from a fully used pool above which the pool grows. By default, this is 20
+         * milliseconds.
+         */
+        Builder targetAcquireTime(Duration targetAcquireTime);
+
+        /**
+         * How often the size of the pool is adjusted. By default, this is 1 second.
+         */
+        Builder adjustmentInterval(Duration adjustmentInterval);
+
+        /**
+         * The fraction of attempts to get a connection that fail to establish one, above which the pool shrinks. Timeouts
+         * waiting for a connection from a fully used pool are not failures: they indicate the pool should grow. By default,
+         * this is 0.1.
+         */
+        Builder maxErrorRate(Double maxErrorRate);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer minConnections;
+        private Integer maxConnections;
+        private Duration targetAcquireTime;
+        private Duration adjustmentInterval;
+        private Double maxErrorRate;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(AdaptiveConnectionPoolConfiguration configuration) {
+            this.minConnections = configuration.minConnections;
+            this.maxConnections = configuration.maxConnections;
+            this.targetAcquireTime = configuration.targetAcquireTime;
+            this.adjustmentInterval = configuration.adjustmentInterval;
+            this.maxErrorRate = configuration.maxErrorRate;
+        }
+
+        @Override
+        public Builder minConnections(Integer minConnections) {
+            this.minConnections = Validate.isPositiveOrNull(minConnections, "minConnections");
+            return this;
+        }
+
+        public void setMinConnections(Integer minConnections) {
+            minConnections(minConnections);
+        }
+
+        @Override
+        public Builder maxConnections(Integer maxConnections) {
+            this.maxConnections = Validate.isPositiveOrNull(maxConnections, "maxConnections");
+            return this;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            maxConnections(maxConnections);
+        }
+
+        @Override
+        public Builder targetAcquireTime(Duration targetAcquireTime) {
+            this.targetAcquireTime = targetAcquireTime == null ? null : Validate.isNotNegative(targetAcquireTime,
+                                                                                               "targetAcquireTime");
+            return this;
+        }
+
+        public void setTargetAcquireTime(Duration targetAcquireTime) {
+            targetAcquireTime(targetAcquireTime);
+        }
+
+        @Override
+        public Builder adjustmentInterval(Duration adjustmentInterval) {
+            this.adjustmentInterval = Validate.isPositiveOrNull(adjustmentInterval, "adjustmentInterval");
+            return this;
+        }
+
+        public void setAdjustmentInterval(Duration adjustmentInterval) {
+            adjustmentInterval(adjustmentInterval);
+        }
+
+        @Override
+        public Builder maxErrorRate(Double maxErrorRate) {
+            if (maxErrorRate != null) {
+                Validate.isTrue(maxErrorRate >= 0 && maxErrorRate <= 1, "maxErrorRate must be between 0 and 1, but was %s",
+                                maxErrorRate);
+            }
+            this.maxErrorRate = maxErrorRate;
+            return this;
+        }
+
+        public void setMaxErrorRate(Double maxErrorRate) {
+            maxErrorRate(maxErrorRate);
+        }
+
+        @Override
+        public AdaptiveConnectionPoolConfiguration build() {
+            return new AdaptiveConnectionPoolConfiguration(this);
+        }
+    }
+}
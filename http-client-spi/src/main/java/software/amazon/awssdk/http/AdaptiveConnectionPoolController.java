@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Adjusts the maximum size of a connection pool from the acquire times, in-flight connections and acquire failures reported
+ * to it, as described by {@link AdaptiveConnectionPoolConfiguration}.
+ * <p>
+ * HTTP clients report each connection acquire and release to the controller, and apply the new limit when the controller
+ * invokes the listener it was created with. Adjustments are made by the threads reporting to the controller, at most once
+ * per {@link AdaptiveConnectionPoolConfiguration#adjustmentInterval()}, so no background thread is needed.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class AdaptiveConnectionPoolController {
+    private static final Logger log = Logger.loggerFor(AdaptiveConnectionPoolController.class);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetAcquireNanos;
+    private final long adjustmentIntervalNanos;
+    private final double maxErrorRate;
+    private final IntConsumer limitListener;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong nextAdjustmentNanos;
+
+    private volatile int limit;
+
+    @SdkTestInternalApi
+    AdaptiveConnectionPoolController(AdaptiveConnectionPoolConfiguration configuration,
+                                     int initialLimit,
+                                     IntConsumer limitListener,
+                                     LongSupplier nanoClock) {
+        Validate.paramNotNull(configuration, "configuration");
+        Validate.isPositive(initialLimit, "initialLimit");
+        this.minLimit = configuration.minConnections() != null ? configuration.minConnections() : 1;
+        this.maxLimit = configuration.maxConnections() != null ? configuration.maxConnections()
+                                                                : Math.max(initialLimit, minLimit);
+        this.targetAcquireNanos = configuration.targetAcquireTime().toNanos();
+        this.adjustmentIntervalNanos = configuration.adjustmentInterval().toNanos();
+        this.maxErrorRate = configuration.maxErrorRate();
+        this.limitListener = Validate.paramNotNull(limitListener, "limitListener");
+        this.nanoClock = nanoClock;
+        this.limit = clamp(initialLimit);
+        this.nextAdjustmentNanos = new AtomicLong(nanoClock.getAsLong() + adjustmentIntervalNanos);
+    }
+
+    /**
+     * Create a controller for a pool whose configured size is {@code initialLimit}. The {@code limitListener} is invoked with
+     * the new limit each time it changes; it should apply the limit to the pool without blocking.
+     */
+    public static AdaptiveConnectionPoolController create(AdaptiveConnectionPoolConfiguration configuration,
+                                                          int initialLimit,
+                                                          IntConsumer limitListener) {
+        return new AdaptiveConnectionPoolController(configuration, initialLimit, limitListener, System::nanoTime);
+    }
+
+    /**
+     * The current limit on the size of the pool. This is the initial limit clamped to the configured bounds until the first
+     * adjustment.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Report that a connection was acquired from the pool after waiting the given time.
+     */
+    public void acquired(long acquireTimeNanos) {
+        acquires.increment();
+        acquireNanos.add(acquireTimeNanos);
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        maybeAdjust();
+    }
+
+    /**
+     * Report that acquiring a connection from the pool timed out after the given time, because all connections were in use.
+     */
+    public void acquireTimedOut(long acquireTimeNanos) {
+        acquires.increment();
+        acquireNanos.add(acquireTimeNanos);
+        maybeAdjust();
+    }
+
+    /**
+     * Report that acquiring a connection from the pool failed after the given time, because a new connection could not be
+     * established.
+     */
+    public void acquireFailed(long acquireTimeNanos) {
+        acquires.increment();
+        failures.increment();
+        acquireNanos.add(acquireTimeNanos);
+        maybeAdjust();
+    }
+
+    /**
+     * Report that a connection that was reported as {@link #acquired(long)} could not be connected, for clients that
+     * establish connections after acquiring them from the pool. The connection must still be reported as {@link #released()}.
+     */
+    public void connectFailed() {
+        failures.increment();
+    }
+
+    /**
+     * Report that a connection that was reported as {@link #acquired(long)} was returned to the pool.
+     */
+    public void released() {
+        inFlight.decrementAndGet();
+        maybeAdjust();
+    }
+
+    private void maybeAdjust() {
+        long now = nanoClock.getAsLong();
+        long next = nextAdjustmentNanos.get();
+        if (now - next < 0 || !nextAdjustmentNanos.compareAndSet(next, now + adjustmentIntervalNanos)) {
+            return;
+        }
+
+        long windowAcquires = acquires.sumThenReset();
+        long windowFailures = failures.sumThenReset();
+        long windowAcquireNanos = acquireNanos.sumThenReset();
+        int windowPeak = peakInFlight.getAndSet(inFlight.get());
+
+        int currentLimit = limit;
+        int newLimit = clamp(nextLimit(currentLimit, windowAcquires, windowFailures, windowAcquireNanos, windowPeak));
+        if (newLimit != currentLimit) {
+            limit = newLimit;
+            log.debug(() -> String.format("Adjusting connection pool limit from %d to %d (acquires: %d, failures: %d, peak in "
+                                          + "flight: %d)", currentLimit, newLimit, windowAcquires, windowFailures, windowPeak));
+            limitListener.accept(newLimit);
+        }
+    }
+
+    private int nextLimit(int currentLimit, long windowAcquires, long windowFailures, long windowAcquireNanos, int windowPeak) {
+        if (windowAcquires > 0 && (double) windowFailures / windowAcquires > maxErrorRate) {
+            return currentLimit - Math.max(1, currentLimit / 4);
+        }
+        if (windowAcquires > 0 && windowPeak >= currentLimit && windowAcquireNanos / windowAcquires > targetAcquireNanos) {
+            return currentLimit + Math.max(1, currentLimit / 2);
+        }
+        if (windowPeak < currentLimit / 2) {
+            return currentLimit - Math.max(1, (currentLimit - windowPeak) / 2);
+        }
+        return currentLimit;
+    }
+
+    private int clamp(int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
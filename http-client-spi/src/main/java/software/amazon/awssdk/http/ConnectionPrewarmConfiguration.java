@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for pre-establishing connections to an endpoint, so that the first requests to it do not pay the cost of
+ * connecting and negotiating TLS. See {@link SdkHttpClient#prewarmConnections(java.net.URI, ConnectionPrewarmConfiguration)}
+ * and {@link SdkAsyncHttpClient#prewarmConnections(java.net.URI, ConnectionPrewarmConfiguration)}.
+ */
+@SdkPublicApi
+public final class ConnectionPrewarmConfiguration
+    implements ToCopyableBuilder<ConnectionPrewarmConfiguration.Builder, ConnectionPrewarmConfiguration> {
+
+    private final Integer connections;
+    private final Boolean keepWarm;
+
+    private ConnectionPrewarmConfiguration(DefaultBuilder builder) {
+        this.connections = Validate.paramNotNull(builder.connections, "connections");
+        this.keepWarm = Validate.getOrDefault(builder.keepWarm, () -> Boolean.FALSE);
+    }
+
+    /**
+     * @return The number of connections to establish to the endpoint.
+     */
+    public Integer connections() {
+        return connections;
+    }
+
+    /**
+     * @return Whether connections closed by the idle connection reaper are periodically re-established, so that
+     * {@link #connections()} connections to the endpoint remain open until the client is closed.
+     */
+    public Boolean keepWarm() {
+        return keepWarm;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ConnectionPrewarmConfiguration that = (ConnectionPrewarmConfiguration) o;
+        return Objects.equals(connections, that.connections)
+               && Objects.equals(keepWarm, that.keepWarm);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(connections);
+        result = 31 * result + Objects.hashCode(keepWarm);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConnectionPrewarmConfiguration")
+                       .add("connections", connections)
+                       .add("keepWarm", keepWarm)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, ConnectionPrewarmConfiguration> {
+
+        /**
+         * The number of connections to establish to the endpoint. This is required. Clients do not establish more
+         * connections than they are configured to allow to a single endpoint.
+         */
+        Builder connections(Integer connections);
+
+        /**
+         * Whether connections closed by the idle connection reaper are periodically re-established, so that
+         * {@link #connections(Integer)} connections to the endpoint remain open until the client is closed. This has no effect
+         * if the client does not reap idle connections. By default, this is false.
+         */
+        Builder keepWarm(Boolean keepWarm);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer connections;
+        private Boolean keepWarm;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(ConnectionPrewarmConfiguration configuration) {
+            this.connections = configuration.connections;
+            this.keepWarm = configuration.keepWarm;
+        }
+
+        @Override
+        public Builder connections(Integer connections) {
+            this.connections = Validate.isPositiveOrNull(connections, "connections");
+            return this;
+        }
+
+        public void setConnections(Integer connections) {
+            connections(connections);
+        }
+
+        @Override
+        public Builder keepWarm(Boolean keepWarm) {
+            this.keepWarm = keepWarm;
+            return this;
+        }
+
+        public void setKeepWarm(Boolean keepWarm) {
+            keepWarm(keepWarm);
+        }
+
+        @Override
+        public ConnectionPrewarmConfiguration build() {
+            return new ConnectionPrewarmConfiguration(this);
+        }
+    }
+}
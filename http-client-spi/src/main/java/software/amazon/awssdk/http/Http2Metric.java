@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricLevel;
@@ -42,6 +43,36 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The local HTTP/2 window size in bytes for the connection that this request was executed on.
+     *
+     * <p>See https://http2.github.io/http2-spec/#FlowControl for more information on HTTP/2 window sizes.
+     */
+    public static final SdkMetric<Integer> LOCAL_CONNECTION_WINDOW_SIZE_IN_BYTES =
+        metric("LocalConnectionWindowSize", Integer.class, MetricLevel.TRACE);
+
+    /**
+     * The remote HTTP/2 window size in bytes for the connection that this request was executed on.
+     *
+     * <p>See https://http2.github.io/http2-spec/#FlowControl for more information on HTTP/2 window sizes.
+     */
+    public static final SdkMetric<Integer> REMOTE_CONNECTION_WINDOW_SIZE_IN_BYTES =
+        metric("RemoteConnectionWindowSize", Integer.class, MetricLevel.TRACE);
+
+    /**
+     * The number of streams that were active on the HTTP/2 connection that this request was executed on, including the stream
+     * of this request.
+     */
+    public static final SdkMetric<Integer> CONNECTION_ACTIVE_STREAMS =
+        metric("ConnectionActiveStreams", Integer.class, MetricLevel.TRACE);
+
+    /**
+     * The most recently measured round-trip time of a {@code PING} frame on the HTTP/2 connection that this request was
+     * executed on. This is not reported until a {@code PING} has been acknowledged on the connection.
+     */
+    public static final SdkMetric<Duration> CONNECTION_PING_ROUND_TRIP_TIME =
+        metric("ConnectionPingRoundTripTime", Duration.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http;
 
+import java.io.IOException;
+import java.net.URI;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -55,6 +57,20 @@ public interface SdkHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Establish connections to the given endpoint ahead of the requests that will use them, so that those requests do not pay
+     * the cost of connecting and negotiating TLS. Connections are checked to be usable before they are returned to the pool.
+     * This blocks until the connections are established.
+     * <p>
+     * Only the scheme, host and port of the endpoint are used. HTTP clients that do not pool connections ignore this.
+     *
+     * @param endpoint The endpoint to connect to.
+     * @param configuration How many connections to establish, and whether to keep them established.
+     * @throws IOException If a connection could not be established.
+     */
+    default void prewarmConnections(URI endpoint, ConnectionPrewarmConfiguration configuration) throws IOException {
+    }
+
     /**
      * Interface for creating an {@link SdkHttpClient} with service specific defaults applied.
      */
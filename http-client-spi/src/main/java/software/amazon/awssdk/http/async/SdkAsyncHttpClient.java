@@ -15,10 +15,12 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.net.URI;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -59,6 +61,21 @@ public interface SdkAsyncHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Establish connections to the given endpoint ahead of the requests that will use them, so that those requests do not pay
+     * the cost of connecting and negotiating TLS. Connections are checked to be usable before they are returned to the pool.
+     * <p>
+     * Only the scheme, host and port of the endpoint are used. HTTP clients that do not pool connections ignore this.
+     *
+     * @param endpoint The endpoint to connect to.
+     * @param configuration How many connections to establish, and whether to keep them established.
+     * @return A future that is completed when the connections are established, or completed exceptionally if a connection
+     * could not be established.
+     */
+    default CompletableFuture<Void> prewarmConnections(URI endpoint, ConnectionPrewarmConfiguration configuration) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     @FunctionalInterface
     interface Builder<T extends SdkAsyncHttpClient.Builder<T>> extends SdkBuilder<T, SdkAsyncHttpClient> {
         /**
@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConnectionPoolControllerTest {
+    private static final long SLOW_ACQUIRE = Duration.ofMillis(100).toNanos();
+    private static final long FAST_ACQUIRE = Duration.ofMillis(1).toNanos();
+    private static final long INTERVAL = Duration.ofSeconds(1).toNanos();
+
+    private final List<Integer> limits = new ArrayList<>();
+    private long now;
+
+    @BeforeEach
+    public void setup() {
+        limits.clear();
+        now = 0;
+    }
+
+    @Test
+    public void initialLimit_isClampedToConfiguredBounds() {
+        assertThat(controller(config(2, 8), 20).limit()).isEqualTo(8);
+        assertThat(controller(config(2, 8), 1).limit()).isEqualTo(2);
+        assertThat(controller(config(null, null), 10).limit()).isEqualTo(10);
+    }
+
+    @Test
+    public void saturatedPoolWithSlowAcquires_grows() {
+        AdaptiveConnectionPoolController controller = controller(config(1, 100), 10);
+        acquire(controller, 10, SLOW_ACQUIRE);
+
+        now += INTERVAL;
+        controller.released();
+
+        assertThat(controller.limit()).isEqualTo(15);
+        assertThat(limits).containsExactly(15);
+    }
+
+    @Test
+    public void saturatedPoolWithFastAcquires_keepsLimit() {
+        AdaptiveConnectionPoolController controller = controller(config(1, 100), 10);
+        acquire(controller, 10, FAST_ACQUIRE);
+
+        now += INTERVAL;
+        controller.released();
+
+        assertThat(controller.limit()).isEqualTo(10);
+        assertThat(limits).isEmpty();
+    }
+
+    @Test
+    public void growth_isCappedAtMaxConnections() {
+        AdaptiveConnectionPoolController controller = controller(config(1, 12), 10);
+        acquire(controller, 10, SLOW_ACQUIRE);
+
+        now += INTERVAL;
+        controller.released();
+
+        assertThat(controller.limit()).isEqualTo(12);
+    }
+
+    @Test
+    public void highConnectFailureRate_shrinks() {
+        AdaptiveConnectionPoolController controller = controller(config(1, 100), 20);
+        acquire(controller, 20, FAST_ACQUIRE);
+        for (int i = 0; i < 5; i++) {
+            controller.connectFailed();
+        }
+
+        now += INTERVAL;
+        controller.released();
+
+        assertThat(controller.limit()).isEqualTo(15);
+    }
+
+    @Test
+    public void acquireTimeouts_areNotFailures() {
+        AdaptiveConnectionPoolController controller = controller(config(1, 100), 10);
+        acquire(controller, 10, SLOW_ACQUIRE);
+        for (int i = 0; i < 10; i++) {
+            controller.acquireTimedOut(SLOW_ACQUIRE);
+        }
+
+        now += INTERVAL;
+        controller.released();
+
+        assertThat(controller.limit()).isEqualTo(15);
+    }
+
+    @Test
+    public void underusedPool_shrinksTowardsUsage_butNotBelowMinConnections() {
+        AdaptiveConnectionPoolController controller = controller(config(4, 100), 20);
+        acquire(controller, 2, FAST_ACQUIRE);
+
+        now += INTERVAL;
+        controller.released();
+        assertThat(controller.limit()).isEqualTo(11);
+
+        now += INTERVAL;
+        controller.released();
+        assertThat(controller.limit()).isEqualTo(6);
+
+        now += INTERVAL;
+        controller.acquired(FAST_ACQUIRE);
+        assertThat(controller.limit()).isEqualTo(4);
+        assertThat(limits).containsExactly(11, 6, 4);
+    }
+
+    @Test
+    public void limit_isNotAdjustedBeforeAdjustmentInterval() {
+        AdaptiveConnectionPoolController controller = controller(config(1, 100), 10);
+        acquire(controller, 10, SLOW_ACQUIRE);
+
+        now += INTERVAL - 1;
+        controller.released();
+
+        assertThat(controller.limit()).isEqualTo(10);
+    }
+
+    @Test
+    public void configuration_minGreaterThanMax_throws() {
+        assertThatThrownBy(() -> config(10, 5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void acquire(AdaptiveConnectionPoolController controller, int count, long acquireTimeNanos) {
+        for (int i = 0; i < count; i++) {
+            controller.acquired(acquireTimeNanos);
+        }
+    }
+
+    private AdaptiveConnectionPoolController controller(AdaptiveConnectionPoolConfiguration configuration, int initialLimit) {
+        return new AdaptiveConnectionPoolController(configuration, initialLimit, limits::add, () -> now);
+    }
+
+    private static AdaptiveConnectionPoolConfiguration config(Integer min, Integer max) {
+        return AdaptiveConnectionPoolConfiguration.builder()
+                                                  .minConnections(min)
+                                                  .maxConnections(max)
+                                                  .targetAcquireTime(Duration.ofMillis(20))
+                                                  .adjustmentInterval(Duration.ofSeconds(1))
+                                                  .build();
+    }
+}
@@ -25,6 +25,7 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -32,6 +33,7 @@ import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
@@ -64,6 +66,9 @@ import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolConfiguration;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolController;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
@@ -78,6 +83,7 @@ import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPrewarmer;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
@@ -111,6 +117,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final ConnectionPrewarmer connectionPrewarmer;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -119,12 +126,14 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.connectionPrewarmer = null;
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        this.connectionPrewarmer = createConnectionPrewarmer(builder, resolvedOptions);
     }
 
     public static Builder builder() {
@@ -149,6 +158,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
         HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
+        AdaptiveConnectionPoolController poolController = createPoolController(configuration, standardOptions, cm);
 
         builder.setRequestExecutor(new HttpRequestExecutor())
                // SDK handles decompression
@@ -158,7 +168,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
                .setConnectionReuseStrategy(new SdkConnectionReuseStrategy())
-               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
+               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm, poolController));
 
         addProxyConfig(builder, configuration);
 
@@ -170,6 +180,40 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ApacheSdkHttpClient(builder.build(), cm);
     }
 
+    private AdaptiveConnectionPoolController createPoolController(DefaultBuilder configuration,
+                                                                  AttributeMap standardOptions,
+                                                                  HttpClientConnectionManager cm) {
+        if (configuration.adaptiveConnectionPool == null || !(cm instanceof PoolingHttpClientConnectionManager)) {
+            return null;
+        }
+
+        PoolingHttpClientConnectionManager poolingCm = (PoolingHttpClientConnectionManager) cm;
+        IntConsumer applyLimit = limit -> {
+            poolingCm.setMaxTotal(limit);
+            poolingCm.setDefaultMaxPerRoute(limit);
+        };
+        AdaptiveConnectionPoolController controller =
+            AdaptiveConnectionPoolController.create(configuration.adaptiveConnectionPool,
+                                                    standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                                                    applyLimit);
+        applyLimit.accept(controller.limit());
+        return controller;
+    }
+
+    private ConnectionPrewarmer createConnectionPrewarmer(DefaultBuilder configuration, AttributeMap standardOptions) {
+        HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
+        if (!(cm instanceof PoolingHttpClientConnectionManager)) {
+            return null;
+        }
+
+        long maxIdleMillis = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
+        return new ConnectionPrewarmer((PoolingHttpClientConnectionManager) cm,
+                                       resolveRoutePlanner(configuration),
+                                       requestConfig,
+                                       maxIdleMillis,
+                                       useIdleConnectionReaper(standardOptions) ? maxIdleMillis : 0);
+    }
+
     private void addProxyConfig(HttpClientBuilder builder,
                                 DefaultBuilder configuration) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
@@ -179,14 +223,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
         Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
                         "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
         }
+        HttpRoutePlanner routePlanner = resolveRoutePlanner(configuration);
 
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
@@ -202,6 +242,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
     }
 
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+        if (isProxyEnabled(proxyConfiguration)) {
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+        return configuration.httpRoutePlanner;
+    }
+
     private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
         return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
@@ -240,8 +291,29 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the connections missing to have the requested number of idle connections are established, and none while requests
+     * are waiting for a connection. Connections made through a proxy are not pre-established. If
+     * {@link ConnectionPrewarmConfiguration#keepWarm()} is set, the connections are topped up on a thread owned by this client
+     * once every {@link Builder#connectionMaxIdleTime(Duration)}, which requires
+     * {@link Builder#useIdleConnectionReaper(Boolean)} to be enabled.
+     */
+    @Override
+    public void prewarmConnections(URI endpoint, ConnectionPrewarmConfiguration configuration) throws IOException {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.paramNotNull(configuration, "configuration");
+        if (connectionPrewarmer != null) {
+            connectionPrewarmer.prewarm(endpoint, configuration);
+        }
+    }
+
     @Override
     public void close() {
+        if (connectionPrewarmer != null) {
+            connectionPrewarmer.close();
+        }
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
         IdleConnectionReaper.getInstance().deregisterConnectionManager(cm);
         cm.shutdown();
@@ -451,6 +523,15 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the connection pool to grow and shrink with the observed connection acquire times and connection
+         * failures, within the bounds of the given {@link AdaptiveConnectionPoolConfiguration}. The pool starts with
+         * {@link #maxConnections(Integer)} connections.
+         * <p>
+         * By default, this is not configured and the pool size is fixed to {@link #maxConnections(Integer)}.
+         */
+        Builder adaptiveConnectionPool(AdaptiveConnectionPoolConfiguration adaptiveConnectionPool);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -462,6 +543,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private AdaptiveConnectionPoolConfiguration adaptiveConnectionPool;
 
         private DefaultBuilder() {
         }
@@ -642,6 +724,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder adaptiveConnectionPool(AdaptiveConnectionPoolConfiguration adaptiveConnectionPool) {
+            this.adaptiveConnectionPool = adaptiveConnectionPool;
+            return this;
+        }
+
+        public void setAdaptiveConnectionPool(AdaptiveConnectionPoolConfiguration adaptiveConnectionPool) {
+            adaptiveConnectionPool(adaptiveConnectionPool);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -23,6 +23,7 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolController;
 
 @SdkInternalApi
 public final class ClientConnectionManagerFactory {
@@ -37,25 +38,65 @@ public final class ClientConnectionManagerFactory {
      * @param orig the target instance to be wrapped
      */
     public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link HttpClientConnectionManager}
+     * to capture the necessary performance metrics, and report connection acquires and releases to the given
+     * {@link AdaptiveConnectionPoolController}, if it is not null.
+     *
+     * @param orig the target instance to be wrapped
+     * @param poolController the controller adjusting the size of the pool of {@code orig}, or null
+     */
+    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig,
+                                                   AdaptiveConnectionPoolController poolController) {
         if (orig instanceof DelegatingHttpClientConnectionManager) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedHttpClientConnectionManager(orig);
+        return new InstrumentedHttpClientConnectionManager(orig, poolController);
     }
 
     /**
      * Further wraps {@link ConnectionRequest} to capture performance metrics.
      */
     private static class InstrumentedHttpClientConnectionManager extends DelegatingHttpClientConnectionManager {
+        private final AdaptiveConnectionPoolController poolController;
 
-        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate) {
+        private InstrumentedHttpClientConnectionManager(HttpClientConnectionManager delegate,
+                                                        AdaptiveConnectionPoolController poolController) {
             super(delegate);
+            this.poolController = poolController;
         }
 
         @Override
         public ConnectionRequest requestConnection(HttpRoute route, Object state) {
             ConnectionRequest connectionRequest = super.requestConnection(route, state);
-            return ClientConnectionRequestFactory.wrap(connectionRequest);
+            return ClientConnectionRequestFactory.wrap(connectionRequest, poolController);
+        }
+
+        @Override
+        public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+            try {
+                super.releaseConnection(conn, newState, validDuration, timeUnit);
+            } finally {
+                if (poolController != null) {
+                    poolController.released();
+                }
+            }
+        }
+
+        @Override
+        public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context)
+                throws IOException {
+            try {
+                super.connect(conn, route, connectTimeout, context);
+            } catch (IOException e) {
+                if (poolController != null) {
+                    poolController.connectFailed();
+                }
+                throw e;
+            }
         }
     }
 
@@ -24,6 +24,7 @@ import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.conn.ConnectionRequest;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolController;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -44,33 +45,54 @@ public final class ClientConnectionRequestFactory {
      * to capture the necessary performance metrics.
      *
      * @param orig the target instance to be wrapped
+     * @param poolController the controller to report the connection acquire to, or null
      */
-    static ConnectionRequest wrap(ConnectionRequest orig) {
+    static ConnectionRequest wrap(ConnectionRequest orig, AdaptiveConnectionPoolController poolController) {
         if (orig instanceof DelegatingConnectionRequest) {
             throw new IllegalArgumentException();
         }
-        return new InstrumentedConnectionRequest(orig);
+        return new InstrumentedConnectionRequest(orig, poolController);
     }
 
     /**
      * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}.
      */
     private static class InstrumentedConnectionRequest extends DelegatingConnectionRequest {
+        private final AdaptiveConnectionPoolController poolController;
 
-        private InstrumentedConnectionRequest(ConnectionRequest delegate) {
+        private InstrumentedConnectionRequest(ConnectionRequest delegate, AdaptiveConnectionPoolController poolController) {
             super(delegate);
+            this.poolController = poolController;
         }
 
         @Override
         public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException, ExecutionException,
                                                                                 ConnectionPoolTimeoutException {
             Instant startTime = Instant.now();
+            HttpClientConnection connection = null;
+            boolean timedOut = false;
             try {
-                return super.get(timeout, timeUnit);
+                connection = super.get(timeout, timeUnit);
+                return connection;
+            } catch (ConnectionPoolTimeoutException e) {
+                timedOut = true;
+                throw e;
             } finally {
                 Duration elapsed = Duration.between(startTime, Instant.now());
                 MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
                 metricCollector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, elapsed);
+                reportToPoolController(connection != null, timedOut, elapsed);
+            }
+        }
+
+        private void reportToPoolController(boolean acquired, boolean timedOut, Duration elapsed) {
+            if (poolController == null) {
+                return;
+            }
+            if (acquired) {
+                poolController.acquired(elapsed.toNanos());
+            } else if (timedOut) {
+                poolController.acquireTimedOut(elapsed.toNanos());
             }
         }
     }
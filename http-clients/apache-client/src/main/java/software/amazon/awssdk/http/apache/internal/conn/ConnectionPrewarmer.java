@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Establishes connections in a {@link PoolingHttpClientConnectionManager} ahead of the requests that will use them.
+ * <p>
+ * The pool is topped up to the requested number of idle connections: connections are leased from the pool, connected if they
+ * are not already open, and released back to the pool. The pool validates connections that were idle when they are next
+ * leased, so connections already open are reused as-is. All the connections are leased at the same time, so that the pool
+ * does not hand back the same connection. Nothing is leased while requests are waiting for a connection, and never more
+ * connections than the pool can lease without waiting.
+ * <p>
+ * Endpoints that should be kept warm are topped up on a thread owned by this prewarmer, once every time connections can
+ * remain idle, to replace the connections closed by the {@link IdleConnectionReaper}.
+ */
+@SdkInternalApi
+public final class ConnectionPrewarmer implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(ConnectionPrewarmer.class);
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final HttpRoutePlanner routePlanner;
+    private final ApacheHttpRequestConfig requestConfig;
+    private final long keepAliveMillis;
+    private final long rewarmPeriodMillis;
+    private final Map<URI, Integer> keepWarmEndpoints = new ConcurrentHashMap<>();
+
+    // Created when an endpoint is first kept warm
+    private ScheduledExecutorService rewarmExecutor;
+    private boolean closed;
+
+    /**
+     * @param connectionManager the pool to establish connections in
+     * @param routePlanner the route planner used by the client, or null if the client uses the default route planner
+     * @param requestConfig the configuration of the client
+     * @param keepAliveMillis how long established connections can remain idle in the pool, or 0 if they can remain idle
+     * indefinitely
+     * @param rewarmPeriodMillis how often to top up the endpoints that should be kept warm, or 0 if idle connections are not
+     * closed and endpoints do not need to be kept warm
+     */
+    public ConnectionPrewarmer(PoolingHttpClientConnectionManager connectionManager,
+                               HttpRoutePlanner routePlanner,
+                               ApacheHttpRequestConfig requestConfig,
+                               long keepAliveMillis,
+                               long rewarmPeriodMillis) {
+        this.connectionManager = connectionManager;
+        this.routePlanner = routePlanner != null ? routePlanner : new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+        this.requestConfig = requestConfig;
+        this.keepAliveMillis = keepAliveMillis;
+        this.rewarmPeriodMillis = rewarmPeriodMillis;
+    }
+
+    public void prewarm(URI endpoint, ConnectionPrewarmConfiguration configuration) throws IOException {
+        URI origin = origin(endpoint);
+        if (configuration.keepWarm() && rewarmPeriodMillis > 0) {
+            keepWarmEndpoints.merge(origin, configuration.connections(), Math::max);
+            startRewarming();
+        }
+        warm(origin, configuration.connections());
+    }
+
+    private synchronized void startRewarming() {
+        if (rewarmExecutor != null || closed) {
+            return;
+        }
+        rewarmExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                        .threadNamePrefix("sdk-connection-prewarmer")
+                                                                        .daemonThreads(true)
+                                                                        .build());
+        rewarmExecutor.scheduleWithFixedDelay(this::rewarm, rewarmPeriodMillis, rewarmPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Top up the endpoints that should be kept warm. Failures are logged, and retried the next time this is called.
+     */
+    void rewarm() {
+        keepWarmEndpoints.forEach((endpoint, connections) -> {
+            try {
+                warm(endpoint, connections);
+            } catch (IOException | RuntimeException e) {
+                log.debug(() -> "Unable to re-establish connections to " + endpoint, e);
+            }
+        });
+    }
+
+    private void warm(URI endpoint, int connections) throws IOException {
+        HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+        HttpRoute route = determineRoute(endpoint, context);
+        if (route.getProxyHost() != null) {
+            // Connections through a proxy need the request's proxy authentication and tunnelling; leave them to the client.
+            log.debug(() -> "Not pre-establishing connections to " + endpoint + " because they are made through a proxy.");
+            return;
+        }
+
+        int count = connectionsToLease(route, connections);
+        if (count == 0) {
+            return;
+        }
+        List<HttpClientConnection> leased = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                HttpClientConnection connection = lease(route);
+                leased.add(connection);
+                if (!connection.isOpen()) {
+                    connectionManager.connect(connection, route, (int) requestConfig.connectionTimeout().toMillis(), context);
+                    connectionManager.routeComplete(connection, route, context);
+                }
+            }
+            log.debug(() -> "Established " + count + " connections to " + endpoint);
+        } finally {
+            leased.forEach(this::release);
+        }
+    }
+
+    /**
+     * The number of connections to lease to leave the given number of idle connections in the pool. Leasing takes the idle
+     * connections first, so this includes them.
+     */
+    private int connectionsToLease(HttpRoute route, int connections) {
+        PoolStats routeStats = connectionManager.getStats(route);
+        if (routeStats.getAvailable() >= connections || routeStats.getPending() > 0) {
+            return 0;
+        }
+        int leasableForRoute = routeStats.getMax() - routeStats.getLeased();
+        int leasableInTotal = connectionManager.getMaxTotal() - connectionManager.getTotalStats().getLeased();
+        return Math.max(0, Math.min(connections, Math.min(leasableForRoute, leasableInTotal)));
+    }
+
+    private HttpRoute determineRoute(URI endpoint, HttpClientContext context) throws IOException {
+        HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+        try {
+            return routePlanner.determineRoute(target, new HttpHead(endpoint), context);
+        } catch (HttpException e) {
+            throw new IOException("Unable to determine the route to " + endpoint, e);
+        }
+    }
+
+    private HttpClientConnection lease(HttpRoute route) throws IOException {
+        ConnectionRequest request = connectionManager.requestConnection(route, null);
+        try {
+            return request.get(requestConfig.connectionAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + route);
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to get a connection to " + route, e.getCause());
+        } catch (ConnectionPoolTimeoutException e) {
+            throw new IOException("Timed out waiting for a connection to " + route, e);
+        }
+    }
+
+    private void release(HttpClientConnection connection) {
+        boolean reusable = connection.isOpen();
+        if (!reusable) {
+            IoUtils.closeQuietly(connection, log.logger());
+        }
+        connectionManager.releaseConnection(connection, null, reusable ? keepAliveMillis : 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (rewarmExecutor != null) {
+            rewarmExecutor.shutdownNow();
+        }
+    }
+
+    private static URI origin(URI endpoint) {
+        return URI.create(endpoint.getScheme() + "://" + endpoint.getRawAuthority());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
+import software.amazon.awssdk.http.apache.ProxyConfiguration;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+
+public class ConnectionPrewarmerTest {
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private ConnectionPrewarmer prewarmer;
+
+    @Before
+    public void setup() {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setDefaultMaxPerRoute(5);
+        prewarmer = new ConnectionPrewarmer(connectionManager, null, requestConfig(), 60_000, 60_000);
+    }
+
+    @After
+    public void teardown() {
+        prewarmer.close();
+        connectionManager.shutdown();
+    }
+
+    @Test
+    public void prewarm_establishesConnections() throws IOException {
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(3).build());
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(3);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    public void prewarm_isIdempotent() throws IOException {
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(3).build());
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(3).build());
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(3);
+    }
+
+    @Test
+    public void prewarm_doesNotExceedMaxConnectionsPerRoute() throws IOException {
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(10).build());
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(5);
+    }
+
+    @Test
+    public void prewarm_connectionsLeased_leasesOnlyConnectionsAvailableWithoutWaiting() throws Exception {
+        HttpRoute route = new HttpRoute(new HttpHost("localhost", mockServer.port(), "http"));
+        for (int i = 0; i < 4; i++) {
+            HttpClientConnection connection = connectionManager.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+            assertThat(connection).isNotNull();
+        }
+
+        long start = System.nanoTime();
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(3).build());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getLeased()).isEqualTo(4);
+    }
+
+    @Test
+    public void prewarm_keepWarmWithoutRewarmPeriod_doesNotKeepEndpointWarm() throws IOException {
+        prewarmer.close();
+        prewarmer = new ConnectionPrewarmer(connectionManager, null, requestConfig(), 60_000, 0);
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(2).keepWarm(true).build());
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+
+        prewarmer.rewarm();
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isZero();
+    }
+
+    @Test
+    public void rewarm_reestablishesConnectionsToEndpointsKeptWarm() throws IOException {
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(2).keepWarm(true).build());
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isZero();
+
+        prewarmer.rewarm();
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(2);
+    }
+
+    @Test
+    public void rewarm_ignoresEndpointsNotKeptWarm() throws IOException {
+        prewarmer.prewarm(endpoint(), ConnectionPrewarmConfiguration.builder().connections(2).build());
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+
+        prewarmer.rewarm();
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isZero();
+    }
+
+    @Test
+    public void prewarm_connectionFails_throwsAndReleasesConnections() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        assertThatThrownBy(() -> prewarmer.prewarm(URI.create("http://localhost:" + closedPort),
+                                                   ConnectionPrewarmConfiguration.builder().connections(2).build()))
+            .isInstanceOf(IOException.class);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    private static ApacheHttpRequestConfig requestConfig() {
+        return ApacheHttpRequestConfig.builder()
+                                      .connectionTimeout(Duration.ofSeconds(2))
+                                      .connectionAcquireTimeout(Duration.ofSeconds(2))
+                                      .socketTimeout(Duration.ofSeconds(2))
+                                      .proxyConfiguration(ProxyConfiguration.builder().useSystemPropertyValues(false).build())
+                                      .build();
+    }
+
+    private URI endpoint() {
+        return URI.create("http://localhost:" + mockServer.port() + "/some/path");
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.javahttp.internal.ConcurrencyLimiter;
+import software.amazon.awssdk.http.javahttp.internal.HttpClientFactory;
+import software.amazon.awssdk.http.javahttp.internal.RequestAdapter;
+import software.amazon.awssdk.http.javahttp.internal.ResponseAdapter;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.async.EventListeningSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} built into Java 11 and later to communicate
+ * with the service. It supports HTTP/1.1 and HTTP/2, and has no dependencies outside of the JDK.
+ *
+ * <p>See {@link JavaHttpClient} for the synchronous equivalent of this client.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JavaAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final String CLIENT_NAME = "JavaHttpAsync";
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    private JavaAsyncHttpClient(AttributeMap options, Executor executor) {
+        this.httpClient = HttpClientFactory.create(options, executor);
+        this.concurrencyLimiter = new ConcurrencyLimiter(options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                                                         options.get(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES),
+                                                         options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT));
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JavaAsyncHttpClient} with the default properties
+     *
+     * @return a {@link JavaAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+        long acquireStartTime = System.nanoTime();
+        CompletableFuture<Void> permit = concurrencyLimiter.acquire();
+        permit.whenComplete((r, t) -> {
+            if (t != null) {
+                request.responseHandler().onError(t);
+                executeFuture.completeExceptionally(t);
+                return;
+            }
+
+            if (!(metricCollector instanceof NoOpMetricCollector)) {
+                Duration acquireDuration = Duration.ofNanos(System.nanoTime() - acquireStartTime);
+                metricCollector.reportMetric(CONCURRENCY_ACQUIRE_DURATION, acquireDuration);
+                concurrencyLimiter.reportMetrics(metricCollector);
+            }
+            new RequestExecution(request, executeFuture).start();
+        });
+
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                permit.cancel(false);
+            }
+        });
+        return executeFuture;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close. The JDK client closes its idle connections once it is no longer referenced.
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    /**
+     * The execution of a request that has acquired a concurrency permit. The permit is released when the response has been
+     * fully received, or the request fails or is cancelled.
+     */
+    private final class RequestExecution {
+        private final AsyncExecuteRequest request;
+        private final SdkAsyncHttpResponseHandler responseHandler;
+        private final CompletableFuture<Void> executeFuture;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private RequestExecution(AsyncExecuteRequest request, CompletableFuture<Void> executeFuture) {
+            this.request = request;
+            this.responseHandler = request.responseHandler();
+            this.executeFuture = executeFuture;
+        }
+
+        private void start() {
+            if (executeFuture.isDone()) {
+                release();
+                return;
+            }
+
+            CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture;
+            try {
+                HttpRequest javaRequest = RequestAdapter.toJavaRequestBuilder(request.request(), readTimeout)
+                                                        .method(request.request().method().name(), bodyPublisher())
+                                                        .build();
+                responseFuture = httpClient.sendAsync(javaRequest, this::onHeaders);
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            executeFuture.whenComplete((r, t) -> {
+                if (executeFuture.isCancelled()) {
+                    responseFuture.cancel(true);
+                    release();
+                }
+            });
+
+            responseFuture.whenComplete((response, t) -> {
+                if (t != null) {
+                    fail(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+                    return;
+                }
+                responseHandler.onStream(new ResponseBodyPublisher(response.body()));
+            });
+        }
+
+        private HttpResponse.BodySubscriber<Flow.Publisher<List<ByteBuffer>>> onHeaders(HttpResponse.ResponseInfo responseInfo) {
+            responseHandler.onHeaders(ResponseAdapter.toSdkResponse(responseInfo.statusCode(), responseInfo.headers()));
+            return HttpResponse.BodySubscribers.ofPublisher();
+        }
+
+        private HttpRequest.BodyPublisher bodyPublisher() {
+            SdkHttpContentPublisher contentPublisher = request.requestContentPublisher();
+            if (contentPublisher == null) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+
+            OptionalLong contentLength = RequestAdapter.contentLength(request.request(), contentPublisher.contentLength());
+            if (contentLength.isPresent() && contentLength.getAsLong() == 0) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+
+            Flow.Publisher<ByteBuffer> flowPublisher = FlowAdapters.toFlowPublisher(contentPublisher);
+            if (contentLength.isPresent()) {
+                return HttpRequest.BodyPublishers.fromPublisher(flowPublisher, contentLength.getAsLong());
+            }
+            return HttpRequest.BodyPublishers.fromPublisher(flowPublisher);
+        }
+
+        private void fail(Throwable t) {
+            release();
+            try {
+                responseHandler.onError(t);
+            } finally {
+                executeFuture.completeExceptionally(t);
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.release();
+            }
+        }
+
+        /**
+         * Publishes the response body that the JDK client delivers as lists of buffers one buffer at a time, and completes
+         * the execution of the request once the body has been received.
+         */
+        private final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+            private final Publisher<List<ByteBuffer>> body;
+
+            private ResponseBodyPublisher(Flow.Publisher<List<ByteBuffer>> body) {
+                this.body = FlowAdapters.toPublisher(body);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+                body.subscribe(new EventListeningSubscriber<Iterable<ByteBuffer>>(new FlatteningSubscriber<>(subscriber),
+                                                                                 this::onComplete,
+                                                                                 this::onError,
+                                                                                 this::onComplete));
+            }
+
+            private void onComplete() {
+                release();
+                executeFuture.complete(null);
+            }
+
+            private void onError(Throwable t) {
+                release();
+                executeFuture.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkAsyncHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkAsyncHttpClient httpClient = JavaAsyncHttpClient.builder()
+     * .readTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .protocol(Protocol.HTTP2)
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JavaAsyncHttpClient.Builder> {
+
+        /**
+         * Maximum number of requests that are executed concurrently. With HTTP/1.1 this is also the maximum number of
+         * connections that are opened.
+         *
+         * @param maxConcurrency New value for max concurrency.
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * The maximum number of requests that are allowed to wait for one of the {@link #maxConcurrency(Integer)} concurrent
+         * requests to complete. Requests beyond this limit fail immediately.
+         *
+         * @param maxPendingConnectionAcquires New value for the max number of pending requests.
+         * @return This builder for method chaining.
+         */
+        Builder maxPendingConnectionAcquires(Integer maxPendingConnectionAcquires);
+
+        /**
+         * The amount of time to wait for the response headers of a request after it was sent, before the request is timed
+         * out. A duration of 0 means infinity, and is not recommended.
+         *
+         * @param readTimeout timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out.
+         *
+         * @param connectionTimeout timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for one of the {@link #maxConcurrency(Integer)} concurrent requests to complete before a
+         * new request is timed out.
+         *
+         * @param connectionAcquisitionTimeout the timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use. {@link Protocol#HTTP2} is negotiated with the service, and the client falls back to
+         * HTTP/1.1 if the service does not support it. Defaults to {@link Protocol#HTTP1_1}.
+         *
+         * @param protocol Protocol to use.
+         * @return This builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * The executor that the JDK client runs its asynchronous tasks on, including the delivery of response bodies. If not
+         * set, the default executor of the JDK client is used.
+         *
+         * @param executor the executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConcurrency);
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder maxPendingConnectionAcquires(Integer maxPendingConnectionAcquires) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES, maxPendingConnectionAcquires);
+            return this;
+        }
+
+        public void setMaxPendingConnectionAcquires(Integer maxPendingConnectionAcquires) {
+            maxPendingConnectionAcquires(maxPendingConnectionAcquires);
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JavaAsyncHttpClient(standardOptions.build()
+                                                          .merge(serviceDefaults)
+                                                          .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                           executor);
+        }
+    }
+}
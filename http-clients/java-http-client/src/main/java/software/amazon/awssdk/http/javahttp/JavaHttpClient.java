@@ -0,0 +1,433 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.javahttp.internal.ConcurrencyLimiter;
+import software.amazon.awssdk.http.javahttp.internal.HttpClientFactory;
+import software.amazon.awssdk.http.javahttp.internal.RequestAdapter;
+import software.amazon.awssdk.http.javahttp.internal.ResponseAdapter;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the {@link HttpClient} built into Java 11 and later to communicate
+ * with the service. Like software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient, it has no dependencies outside
+ * of the JDK, but it pools connections and supports HTTP/2.
+ *
+ * <p>See {@link JavaAsyncHttpClient} for the asynchronous equivalent of this client.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JavaHttpClient implements SdkHttpClient {
+    private static final String CLIENT_NAME = "JavaHttp";
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    private JavaHttpClient(AttributeMap options) {
+        this.httpClient = HttpClientFactory.create(options, null);
+        this.concurrencyLimiter = new ConcurrencyLimiter(options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                                                         options.get(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES),
+                                                         options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT));
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JavaHttpClient} with the default properties
+     *
+     * @return a {@link JavaHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return new RequestCallable(request);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close. The JDK client closes its idle connections once it is no longer referenced.
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpExecuteRequest request;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile boolean aborted;
+
+        private RequestCallable(HttpExecuteRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+            metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+            acquirePermit(metricCollector);
+            try {
+                HttpResponse<InputStream> response = send();
+                HttpExecuteResponse.Builder executeResponse =
+                    HttpExecuteResponse.builder()
+                                       .response(ResponseAdapter.toSdkResponse(response.statusCode(), response.headers()));
+
+                if (responseNeverHasPayload(response.statusCode())) {
+                    // The SDK differentiates between no response body and an empty response body.
+                    InputStream body = response.body();
+                    concurrencyLimiter.release();
+                    closeQuietly(body);
+                    return executeResponse.build();
+                }
+
+                InputStream body = new PermitReleasingInputStream(response.body());
+                return executeResponse.responseBody(AbortableInputStream.create(body, () -> closeQuietly(body)))
+                                      .build();
+            } catch (IOException | RuntimeException e) {
+                concurrencyLimiter.release();
+                throw e;
+            }
+        }
+
+        private void acquirePermit(MetricCollector metricCollector) throws IOException {
+            long acquireStartTime = System.nanoTime();
+            CompletableFuture<Void> permit = concurrencyLimiter.acquire();
+            try {
+                await(permit);
+            } catch (IOException e) {
+                // The permit may have been acquired just before the acquire was interrupted.
+                if (permit.isDone() && !permit.isCompletedExceptionally()) {
+                    concurrencyLimiter.release();
+                }
+                throw e;
+            }
+            if (!(metricCollector instanceof NoOpMetricCollector)) {
+                Duration acquireDuration = Duration.ofNanos(System.nanoTime() - acquireStartTime);
+                metricCollector.reportMetric(CONCURRENCY_ACQUIRE_DURATION, acquireDuration);
+                concurrencyLimiter.reportMetrics(metricCollector);
+            }
+        }
+
+        private HttpResponse<InputStream> send() throws IOException {
+            HttpRequest javaRequest = RequestAdapter.toJavaRequestBuilder(request.httpRequest(), readTimeout)
+                                                    .method(request.httpRequest().method().name(), bodyPublisher())
+                                                    .build();
+
+            // The request is sent asynchronously so that it can be cancelled when it is aborted.
+            responseFuture = httpClient.sendAsync(javaRequest, HttpResponse.BodyHandlers.ofInputStream());
+            if (aborted) {
+                responseFuture.cancel(true);
+            }
+            return await(responseFuture);
+        }
+
+        private boolean responseNeverHasPayload(int statusCode) {
+            return statusCode == 204 || statusCode == 304 || (statusCode >= 100 && statusCode < 200)
+                   || request.httpRequest().method() == SdkHttpMethod.HEAD;
+        }
+
+        private HttpRequest.BodyPublisher bodyPublisher() {
+            Optional<ContentStreamProvider> contentStreamProvider = request.contentStreamProvider();
+            if (!contentStreamProvider.isPresent()) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+
+            OptionalLong contentLength = RequestAdapter.contentLength(request.httpRequest(), Optional.empty());
+            if (contentLength.isPresent() && contentLength.getAsLong() == 0) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+
+            ContentStreamProvider streamProvider = contentStreamProvider.get();
+            HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(streamProvider::newStream);
+            if (contentLength.isPresent()) {
+                return HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength.getAsLong());
+            }
+            return publisher;
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting for the request");
+            exception.initCause(e);
+            throw exception;
+        } catch (CancellationException e) {
+            throw new IOException("The request was aborted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            // Ignored, the stream is being aborted.
+        }
+    }
+
+    /**
+     * Returns the concurrency permit of the request once its response body has been read or closed.
+     */
+    private final class PermitReleasingInputStream extends FilterInputStream {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read == -1) {
+                release();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read == -1) {
+                release();
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created via
+     * {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JavaHttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JavaHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the response headers of a request after it was sent, before the request is timed
+         * out. A duration of 0 means infinity, and is not recommended.
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for one of the {@link #maxConnections(Integer)} concurrent requests to complete before
+         * a new request is timed out. A duration of 0 means infinity, and is not recommended.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * The maximum number of requests that are executed concurrently. With HTTP/1.1 this is also the maximum number of
+         * connections that are opened.
+         */
+        Builder maxConnections(Integer maxConnections);
+
+        /**
+         * The HTTP protocol to use. {@link Protocol#HTTP2} is negotiated with the service, and the client falls back to
+         * HTTP/1.1 if the service does not support it. Defaults to {@link Protocol#HTTP1_1}.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder maxConnections(Integer maxConnections) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConnections);
+            return this;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            maxConnections(maxConnections);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        /**
+         * Used by the SDK to create a {@link SdkHttpClient} with service-default values if no other values have been configured
+         *
+         * @param serviceDefaults Service specific defaults. Keys will be one of the constants defined in
+         * {@link SdkHttpConfigurationOption}.
+         * @return an instance of {@link SdkHttpClient}
+         */
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JavaHttpClient(standardOptions.build()
+                                                     .merge(serviceDefaults)
+                                                     .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the number of requests that a {@link java.net.http.HttpClient} executes concurrently.
+ * <p>
+ * The JDK client opens as many connections as there are concurrent HTTP/1.1 requests and does not expose its connection pool,
+ * so the number of in-flight requests is bounded here instead. The state of the limiter is reported with the same
+ * {@link HttpMetric concurrency metrics} that the other HTTP clients report for their connection pools.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrencyLimiter {
+    private final int maxConcurrency;
+    private final int maxPendingAcquires;
+    private final Duration acquireTimeout;
+    private final Queue<CompletableFuture<Void>> pendingAcquires = new ArrayDeque<>();
+    private int leased;
+
+    public ConcurrencyLimiter(int maxConcurrency, int maxPendingAcquires, Duration acquireTimeout) {
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+        this.maxPendingAcquires = Validate.isPositive(maxPendingAcquires, "maxPendingAcquires");
+        this.acquireTimeout = Validate.isNotNegative(acquireTimeout, "acquireTimeout");
+    }
+
+    /**
+     * Acquire a permit to execute a request. The returned future is completed when a permit is available, or completed
+     * exceptionally if too many acquires are already pending or no permit became available within the acquire timeout. Each
+     * acquired permit must be returned with {@link #release()}.
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        synchronized (this) {
+            if (leased < maxConcurrency) {
+                leased++;
+                permit.complete(null);
+                return permit;
+            }
+            if (pendingAcquires.size() >= maxPendingAcquires) {
+                permit.completeExceptionally(new IllegalStateException("Too many outstanding acquire operations"));
+                return permit;
+            }
+            pendingAcquires.add(permit);
+        }
+
+        permit.whenComplete((r, t) -> {
+            if (t != null) {
+                removePendingAcquire(permit);
+            }
+        });
+        if (!acquireTimeout.isZero()) {
+            CompletableFuture.delayedExecutor(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                             .execute(() -> {
+                                 if (!permit.isDone()) {
+                                     permit.completeExceptionally(acquireTimeoutException());
+                                 }
+                             });
+        }
+        return permit;
+    }
+
+    /**
+     * Return a permit acquired with {@link #acquire()}, handing it to the oldest pending acquire if there is one.
+     */
+    public void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = pendingAcquires.poll();
+                if (next == null) {
+                    leased--;
+                    return;
+                }
+            }
+            // The permit is transferred to the pending acquire, unless that acquire has already timed out or been cancelled.
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Report the current state of this limiter to the given collector.
+     */
+    public void reportMetrics(MetricCollector metricCollector) {
+        int currentlyLeased;
+        int currentlyPending;
+        synchronized (this) {
+            currentlyLeased = leased;
+            currentlyPending = pendingAcquires.size();
+        }
+        metricCollector.reportMetric(HttpMetric.MAX_CONCURRENCY, maxConcurrency);
+        metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, maxConcurrency - currentlyLeased);
+        metricCollector.reportMetric(HttpMetric.LEASED_CONCURRENCY, currentlyLeased);
+        metricCollector.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, currentlyPending);
+    }
+
+    private synchronized void removePendingAcquire(CompletableFuture<Void> permit) {
+        pendingAcquires.remove(permit);
+    }
+
+    private TimeoutException acquireTimeoutException() {
+        return new TimeoutException("Acquire operation took longer than " + acquireTimeout.toMillis() + " milliseconds. "
+                                    + "Increase the max concurrency or the connection acquisition timeout of the HTTP client, "
+                                    + "or reduce the number of concurrent requests.");
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates the {@link HttpClient} that the SDK's Java HTTP clients delegate to, configured from the SDK's
+ * {@link SdkHttpConfigurationOption}s.
+ */
+@SdkInternalApi
+public final class HttpClientFactory {
+    private static final Logger log = Logger.loggerFor(HttpClientFactory.class);
+
+    private HttpClientFactory() {
+    }
+
+    /**
+     * Create a client with the given options.
+     *
+     * @param options the resolved HTTP configuration options.
+     * @param executor the executor to run asynchronous tasks on, or null to use the default executor of the JDK client.
+     */
+    public static HttpClient create(AttributeMap options, Executor executor) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                                               .version(httpVersion(options.get(SdkHttpConfigurationOption.PROTOCOL)))
+                                               // Following redirects breaks SDK error handling.
+                                               .followRedirects(HttpClient.Redirect.NEVER)
+                                               .sslContext(sslContext(options));
+
+        Duration connectionTimeout = options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT);
+        if (isPositive(connectionTimeout)) {
+            builder.connectTimeout(connectionTimeout);
+        }
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Whether the given timeout is set and not zero. The JDK client only accepts positive timeouts; a timeout of zero means
+     * that no timeout is applied.
+     */
+    public static boolean isPositive(Duration timeout) {
+        return timeout != null && !timeout.isZero() && !timeout.isNegative();
+    }
+
+    private static HttpClient.Version httpVersion(Protocol protocol) {
+        if (protocol == Protocol.HTTP2) {
+            return HttpClient.Version.HTTP_2;
+        }
+        return HttpClient.Version.HTTP_1_1;
+    }
+
+    private static SSLContext sslContext(AttributeMap options) {
+        TlsTrustManagersProvider trustManagersProvider = options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
+        boolean trustAllCertificates = options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES);
+        Validate.isTrue(trustManagersProvider == null || !trustAllCertificates,
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (trustManagersProvider != null) {
+            trustManagers = trustManagersProvider.trustManagers();
+        }
+
+        if (trustAllCertificates) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider keyManagersProvider = options.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = keyManagersProvider == null ? null : keyManagersProvider.keyManagers();
+
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+            return context;
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing.
+     * <p>
+     * The JDK verifies the host name of a server as part of trusting its certificate, so extending
+     * {@link X509ExtendedTrustManager} also disables host name verification, which the JDK client does not allow to be
+     * disabled per client otherwise.
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a client certificate: " + x509Certificates[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s, Socket socket) {
+            checkClientTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s, SSLEngine sslEngine) {
+            checkClientTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a server certificate: " + x509Certificates[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s, Socket socket) {
+            checkServerTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s, SSLEngine sslEngine) {
+            checkServerTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Header;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Converts {@link SdkHttpRequest}s to {@link HttpRequest}s.
+ */
+@SdkInternalApi
+public final class RequestAdapter {
+    /**
+     * Headers that the JDK client sets itself and does not allow to be set, or would duplicate. The request URI determines the
+     * {@code Host} header, and the length of the request body determines the {@code Content-Length} and
+     * {@code Transfer-Encoding} headers. Java 11 also rejects {@code Date}, {@code From}, {@code Via} and {@code Warning}.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "date", "expect", "from",
+                                                                 "host", "transfer-encoding", "upgrade", "via", "warning");
+
+    private RequestAdapter() {
+    }
+
+    /**
+     * Create a builder for the given request, with its URI, headers and read timeout configured. The caller configures the
+     * method and body of the request.
+     */
+    public static HttpRequest.Builder toJavaRequestBuilder(SdkHttpRequest request, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri());
+
+        request.forEachHeader((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(StringUtils.lowerCase(name))) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        if (isExpect100Continue(request)) {
+            builder.expectContinue(true);
+        }
+
+        // The JDK client applies the request timeout until the response headers are received.
+        if (HttpClientFactory.isPositive(readTimeout)) {
+            builder.timeout(readTimeout);
+        }
+        return builder;
+    }
+
+    /**
+     * The length of the request body, from the {@code Content-Length} header or, if that is not set, the given length.
+     */
+    public static OptionalLong contentLength(SdkHttpRequest request, Optional<Long> bodyLength) {
+        Optional<String> header = request.firstMatchingHeader(Header.CONTENT_LENGTH);
+        if (header.isPresent()) {
+            return OptionalLong.of(Long.parseLong(header.get()));
+        }
+        return bodyLength.map(OptionalLong::of).orElseGet(OptionalLong::empty);
+    }
+
+    private static boolean isExpect100Continue(SdkHttpRequest request) {
+        return request.firstMatchingHeader("Expect")
+                      .map(expect -> expect.equalsIgnoreCase("100-continue"))
+                      .orElse(false);
+    }
+}
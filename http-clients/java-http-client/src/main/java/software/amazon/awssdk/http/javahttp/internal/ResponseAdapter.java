@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.net.http.HttpHeaders;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Converts the status and headers of {@link java.net.http.HttpResponse}s to {@link SdkHttpResponse}s.
+ */
+@SdkInternalApi
+public final class ResponseAdapter {
+    private ResponseAdapter() {
+    }
+
+    public static SdkHttpResponse toSdkResponse(int statusCode, HttpHeaders headers) {
+        SdkHttpResponse.Builder builder = SdkHttpResponse.builder().statusCode(statusCode);
+        for (Map.Entry<String, List<String>> header : headers.map().entrySet()) {
+            // HTTP/2 pseudo-headers such as ":status" are not headers of the response
+            if (!header.getKey().startsWith(":")) {
+                builder.putHeader(header.getKey(), header.getValue());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+
+@WireMockTest
+public class JavaAsyncHttpClientWireMockTest {
+    private SdkAsyncHttpClient client;
+    private int port;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wm) {
+        port = wm.getHttpPort();
+        client = JavaAsyncHttpClient.builder()
+                                    .maxConcurrency(1)
+                                    .connectionAcquisitionTimeout(Duration.ofSeconds(5))
+                                    .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+    }
+
+    @Test
+    public void get_receivesStatusHeadersAndBody() {
+        stubFor(get(urlEqualTo("/foo")).willReturn(aResponse().withStatus(200)
+                                                              .withHeader("x-amz-test", "value")
+                                                              .withBody("helloworld")));
+
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET, "/foo").build(), null);
+        handler.completeFuture().join();
+
+        SdkHttpResponse response = handler.responses().get(0);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.firstMatchingHeader("x-amz-test")).hasValue("value");
+        assertThat(handler.fullResponseAsString()).isEqualTo("helloworld");
+    }
+
+    @Test
+    public void get_errorStatus_receivesErrorBody() {
+        stubFor(any(urlEqualTo("/foo")).willReturn(aResponse().withStatus(500).withBody("error")));
+
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET, "/foo").build(), null);
+        handler.completeFuture().join();
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(500);
+        assertThat(handler.fullResponseAsString()).isEqualTo("error");
+    }
+
+    @Test
+    public void post_knownContentLength_sendsBodyWithContentLength() {
+        stubFor(post(urlEqualTo("/foo")).willReturn(aResponse().withStatus(200)));
+        byte[] body = "helloworld".getBytes(StandardCharsets.UTF_8);
+
+        SdkHttpFullRequest request = request(SdkHttpMethod.POST, "/foo").putHeader("Content-Length", "10")
+                                                                         .putHeader("x-amz-test", "value")
+                                                                         .build();
+        execute(request, new SimpleHttpContentPublisher(body)).completeFuture().join();
+
+        verify(postRequestedFor(urlPathEqualTo("/foo")).withHeader("Content-Length", equalTo("10"))
+                                                       .withHeader("x-amz-test", equalTo("value"))
+                                                       .withRequestBody(equalTo("helloworld")));
+    }
+
+    @Test
+    public void post_unknownContentLength_sendsChunkedBody() {
+        stubFor(post(urlEqualTo("/foo")).willReturn(aResponse().withStatus(200)));
+        SdkHttpContentPublisher unknownLength = new UnknownLengthPublisher("helloworld");
+
+        execute(request(SdkHttpMethod.POST, "/foo").putHeader("Transfer-Encoding", "chunked").build(), unknownLength)
+            .completeFuture().join();
+
+        verify(postRequestedFor(urlPathEqualTo("/foo")).withHeader("Transfer-Encoding", equalTo("chunked"))
+                                                       .withRequestBody(equalTo("helloworld")));
+    }
+
+    @Test
+    public void execute_reportsConcurrencyMetrics() {
+        stubFor(get(urlEqualTo("/foo")).willReturn(aResponse().withStatus(200).withBody("helloworld")));
+
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET, "/foo").build(), null);
+        handler.completeFuture().join();
+
+        MetricCollection metrics = handler.collector().collect();
+        assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("JavaHttpAsync");
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(1);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+        assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)).hasSize(1);
+    }
+
+    @Test
+    public void execute_maxConcurrencyReached_waitsForRunningRequest() throws Exception {
+        stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(200).withBody("slow")));
+        stubFor(get(urlEqualTo("/fast")).willReturn(aResponse().withStatus(200).withBody("fast")));
+
+        RecordingResponseHandler slow = execute(request(SdkHttpMethod.GET, "/slow").build(), null);
+        RecordingResponseHandler fast = execute(request(SdkHttpMethod.GET, "/fast").build(), null);
+
+        fast.completeFuture().get(5, TimeUnit.SECONDS);
+        slow.completeFuture().get(5, TimeUnit.SECONDS);
+        assertThat(fast.collector().collect().metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION))
+            .allSatisfy(d -> assertThat(d).isGreaterThanOrEqualTo(Duration.ofMillis(100)));
+    }
+
+    @Test
+    public void execute_acquireTimesOut_failsRequest() {
+        stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(1_000)));
+        client.close();
+        client = JavaAsyncHttpClient.builder()
+                                    .maxConcurrency(1)
+                                    .connectionAcquisitionTimeout(Duration.ofMillis(100))
+                                    .build();
+
+        execute(request(SdkHttpMethod.GET, "/slow").build(), null);
+        RecordingResponseHandler timedOut = execute(request(SdkHttpMethod.GET, "/slow").build(), null);
+
+        assertThatThrownBy(() -> timedOut.completeFuture().join()).isInstanceOf(CompletionException.class)
+                                                                  .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void execute_connectionRefused_failsRequestAndReleasesPermit() {
+        SdkHttpFullRequest refused = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:1"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+
+        RecordingResponseHandler handler = execute(refused, null);
+        assertThatThrownBy(() -> handler.completeFuture().join()).isInstanceOf(CompletionException.class);
+
+        stubFor(get(urlEqualTo("/foo")).willReturn(aResponse().withStatus(200).withBody("helloworld")));
+        RecordingResponseHandler next = execute(request(SdkHttpMethod.GET, "/foo").build(), null);
+        next.completeFuture().join();
+        assertThat(next.fullResponseAsString()).isEqualTo("helloworld");
+    }
+
+    @Test
+    public void execute_cancelled_releasesPermit() throws Exception {
+        stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(2_000)));
+        stubFor(get(urlEqualTo("/foo")).willReturn(aResponse().withStatus(200).withBody("helloworld")));
+
+        RecordingResponseHandler slowHandler = new RecordingResponseHandler();
+        CompletableFuture<Void> slow = client.execute(AsyncExecuteRequest.builder()
+                                                                         .request(request(SdkHttpMethod.GET, "/slow").build())
+                                                                         .requestContentPublisher(new SimpleHttpContentPublisher(
+                                                                             new byte[0]))
+                                                                         .responseHandler(slowHandler)
+                                                                         .build());
+        slow.cancel(true);
+
+        RecordingResponseHandler next = execute(request(SdkHttpMethod.GET, "/foo").build(), null);
+        next.completeFuture().get(1, TimeUnit.SECONDS);
+        assertThat(next.fullResponseAsString()).isEqualTo("helloworld");
+    }
+
+    private SdkHttpFullRequest.Builder request(SdkHttpMethod method, String path) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("http://localhost:" + port + path))
+                                 .method(method);
+    }
+
+    private RecordingResponseHandler execute(SdkHttpFullRequest request, SdkHttpContentPublisher body) {
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(body != null ? body
+                                                                                : new SimpleHttpContentPublisher(new byte[0]))
+                                          .responseHandler(handler)
+                                          .metricCollector(handler.collector())
+                                          .build());
+        return handler;
+    }
+
+    private static final class UnknownLengthPublisher implements SdkHttpContentPublisher {
+        private final SimpleHttpContentPublisher delegate;
+
+        private UnknownLengthPublisher(String body) {
+            this.delegate = new SimpleHttpContentPublisher(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            delegate.subscribe(s);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+public class RequestAdapterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Connection", "Content-Length", "Date", "Expect", "From", "Host", "Transfer-Encoding", "Upgrade",
+                            "Via", "Warning"})
+    public void toJavaRequestBuilder_restrictedHeader_isNotCopied(String header) {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(URI.create("http://localhost:8080/path"))
+                                               .method(SdkHttpMethod.GET)
+                                               .putHeader(header, "value")
+                                               .putHeader("X-Custom", "custom")
+                                               .build();
+
+        HttpRequest javaRequest = RequestAdapter.toJavaRequestBuilder(request, Duration.ofSeconds(1))
+                                                .GET()
+                                                .build();
+
+        assertThat(javaRequest.headers().firstValue(header)).isEmpty();
+        assertThat(javaRequest.headers().firstValue("X-Custom")).hasValue("custom");
+    }
+}
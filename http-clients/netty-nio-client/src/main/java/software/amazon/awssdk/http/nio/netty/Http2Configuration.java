@@ -29,11 +29,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Integer minConnections;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.minConnections = builder.minConnections;
     }
 
     /**
@@ -57,6 +59,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The minimum number of HTTP/2 connections per host that requests are spread across.
+     */
+    public Integer minConnections() {
+        return minConnections;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,6 +87,10 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
+        if (minConnections != null ? !minConnections.equals(that.minConnections) : that.minConnections != null) {
+            return false;
+        }
+
         return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
 
     }
@@ -86,6 +99,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (minConnections != null ? minConnections.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +141,27 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the minimum number of HTTP/2 connections to open to each host before new streams are multiplexed onto the
+         * existing connections. Once this many connections are open, each new stream is placed on the less loaded of two
+         * randomly chosen connections, and a new connection is only opened when every connection has reached its maximum
+         * number of concurrent streams. The default value is 1.
+         *
+         * <p>Spreading streams across several connections can improve throughput when a single connection is limited by
+         * its flow-control window or by the server's per-connection limits.</p>
+         *
+         * @param minConnections The minimum number of connections per host.
+         * @return This builder for method chaining.
+         */
+        Builder minConnections(Integer minConnections);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Integer minConnections;
 
         private DefaultBuilder() {
         }
@@ -141,6 +170,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.minConnections = http2Configuration.minConnections;
         }
 
         @Override
@@ -173,6 +203,16 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder minConnections(Integer minConnections) {
+            this.minConnections = Validate.isPositiveOrNull(minConnections, "minConnections");
+            return this;
+        }
+
+        public void setMinConnections(Integer minConnections) {
+            minConnections(minConnections);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
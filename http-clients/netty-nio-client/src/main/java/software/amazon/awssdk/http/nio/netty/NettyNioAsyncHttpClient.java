@@ -36,6 +36,8 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolConfiguration;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -45,6 +47,7 @@ import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolPrewarmer;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -57,6 +60,7 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
@@ -82,14 +86,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
     private final NettyConfiguration configuration;
+    private final ChannelPoolPrewarmer prewarmer;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
-        this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        Http2Configuration http2Configuration = builder.http2Configuration;
+
+        this.configuration = new NettyConfiguration(serviceDefaultsMap, Boolean.TRUE.equals(builder.zeroCopyResponseBody),
+                                                    builder.adaptiveConnectionPool,
+                                                    resolveHttp2MinConnections(http2Configuration));
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
-        Http2Configuration http2Configuration = builder.http2Configuration;
-
         long maxStreams = resolveMaxHttp2Streams(builder.maxHttp2Streams, http2Configuration);
         int initialWindowSize = resolveInitialWindowSize(http2Configuration);
 
@@ -105,6 +112,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .proxyConfiguration(builder.proxyConfiguration)
                                              .useNonBlockingDnsResolver(builder.useNonBlockingDnsResolver)
                                              .build();
+        this.prewarmer = new ChannelPoolPrewarmer(pools, sdkEventLoopGroup.eventLoopGroup(), configuration);
     }
 
     @SdkTestInternalApi
@@ -114,6 +122,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.pools = pools;
         this.configuration = configuration;
+        this.prewarmer = new ChannelPoolPrewarmer(pools, sdkEventLoopGroup.eventLoopGroup(), configuration);
     }
 
     @Override
@@ -123,6 +132,23 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new NettyRequestExecutor(ctx).execute();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the connections missing to have the requested number of idle connections are established, and none while requests
+     * are waiting for a connection. For HTTP/2, concurrent streams share connections, so fewer connections than requested may
+     * be established. If {@link ConnectionPrewarmConfiguration#keepWarm()} is set, the connections are topped up on the
+     * client's event loop once every
+     * {@link Builder#connectionMaxIdleTime(Duration)}, which requires {@link Builder#useIdleConnectionReaper(Boolean)} to be
+     * enabled.
+     */
+    @Override
+    public CompletableFuture<Void> prewarmConnections(URI endpoint, ConnectionPrewarmConfiguration configuration) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.paramNotNull(configuration, "configuration");
+        return prewarmer.prewarm(poolKey(endpoint), configuration);
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -154,6 +180,11 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                           sdkRequest.port(), null, null, null));
     }
 
+    private static URI poolKey(URI endpoint) {
+        int port = endpoint.getPort() != -1 ? endpoint.getPort() : SdkHttpUtils.standardPort(endpoint.getScheme());
+        return invokeSafely(() -> new URI(endpoint.getScheme(), null, endpoint.getHost(), port, null, null, null));
+    }
+
     private SslProvider resolveSslProvider(DefaultBuilder builder) {
         if (builder.sslProvider != null) {
             return builder.sslProvider;
@@ -181,6 +212,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return http2Configuration.initialWindowSize();
     }
 
+    private int resolveHttp2MinConnections(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.minConnections() == null) {
+            return 1;
+        }
+        return http2Configuration.minConnections();
+    }
+
     private Duration resolveHealthCheckPingPeriod(Http2Configuration http2Configuration) {
         if (http2Configuration != null) {
             return http2Configuration.healthCheckPingPeriod();
@@ -195,6 +233,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
     @Override
     public void close() {
+        runAndLogError(log, "Unable to stop keeping connections warm", prewarmer::close);
         runAndLogError(log, "Unable to close channel pools", pools::close);
         runAndLogError(log, "Unable to shutdown event loop", () ->
             closeEventLoopUninterruptibly(sdkEventLoopGroup.eventLoopGroup()));
@@ -485,6 +524,35 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure whether response bodies may be published without copying them out of Netty's pooled buffers. False by
+         * default, in which case every chunk of the response body is copied into a new heap {@link java.nio.ByteBuffer}
+         * before it is published.
+         * <p>
+         * When enabled, a chunk that uses up the subscriber's outstanding demand is published as a read-only view of the
+         * pooled buffer it was read into. That buffer is borrowed: it is only valid until the subscriber next calls
+         * {@link org.reactivestreams.Subscription#request(long)} or {@link org.reactivestreams.Subscription#cancel()}, after
+         * which it is returned to the pool, and its contents are undefined after the subscriber receives
+         * {@code onError}. Completion of the response is not signalled while a borrowed buffer is outstanding. Chunks are
+         * still copied when the subscriber has requested more than one, so at most one buffer is borrowed at a time. The
+         * subscription of a response body publisher that may lend buffers is a
+         * {@link software.amazon.awssdk.utils.async.BufferLendingSubscription}.
+         * <p>
+         * Only enable this if every consumer of response bodies from this client either finishes with each buffer before
+         * requesting more, or copies it. The {@code AsyncResponseTransformer}s returned by {@code toFile} and
+         * {@code toBlockingInputStream} do so without copying.
+         */
+        Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody);
+
+        /**
+         * Configure the maximum concurrency of each connection pool to grow and shrink with the observed connection acquire
+         * times and connection failures, within the bounds of the given {@link AdaptiveConnectionPoolConfiguration}. Each
+         * pool starts with a maximum concurrency of {@link #maxConcurrency(Integer)}.
+         * <p>
+         * By default, this is not configured and the maximum concurrency is fixed to {@link #maxConcurrency(Integer)}.
+         */
+        Builder adaptiveConnectionPool(AdaptiveConnectionPoolConfiguration adaptiveConnectionPool);
     }
 
     /**
@@ -503,6 +571,8 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private Boolean useNonBlockingDnsResolver;
+        private Boolean zeroCopyResponseBody;
+        private AdaptiveConnectionPoolConfiguration adaptiveConnectionPool;
 
         private DefaultBuilder() {
         }
@@ -737,6 +807,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            this.zeroCopyResponseBody = zeroCopyResponseBody;
+            return this;
+        }
+
+        public void setZeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            zeroCopyResponseBody(zeroCopyResponseBody);
+        }
+
+        @Override
+        public Builder adaptiveConnectionPool(AdaptiveConnectionPoolConfiguration adaptiveConnectionPool) {
+            this.adaptiveConnectionPool = adaptiveConnectionPool;
+            return this;
+        }
+
+        public void setAdaptiveConnectionPool(AdaptiveConnectionPoolConfiguration adaptiveConnectionPool) {
+            adaptiveConnectionPool(adaptiveConnectionPool);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
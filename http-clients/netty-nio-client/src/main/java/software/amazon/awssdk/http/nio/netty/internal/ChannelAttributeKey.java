@@ -21,6 +21,7 @@ import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2FrameStream;
 import io.netty.util.AttributeKey;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -51,6 +52,12 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<PingTracker> PING_TRACKER =
         NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.h2.pingTracker");
 
+    /**
+     * The round-trip time of the most recently acknowledged HTTP/2 {@code PING} frame on a connection.
+     */
+    public static final AttributeKey<Duration> HTTP2_PING_ROUND_TRIP_TIME =
+        NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.h2.pingRoundTripTime");
+
     public static final AttributeKey<Http2Connection> HTTP2_CONNECTION =
         NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.http2Connection");
 
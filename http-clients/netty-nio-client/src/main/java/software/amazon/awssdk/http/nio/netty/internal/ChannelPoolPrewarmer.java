@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Establishes connections in the channel pools of a client ahead of the requests that will use them.
+ * <p>
+ * The pool is topped up to the requested number of idle channels: channels are acquired from the pool, which connects and
+ * health checks them, and are released back to the pool once all of them have been acquired, so that the pool does not hand
+ * back the same channel. Nothing is acquired while requests are waiting for a channel, and never more channels than the pool
+ * can hand out without queueing the acquire. Endpoints that should be kept warm are topped up once every
+ * {@link NettyConfiguration#idleTimeoutMillis()} on the client's event loop, to replace the channels closed by the
+ * {@link IdleConnectionReaperHandler}.
+ */
+@SdkInternalApi
+public final class ChannelPoolPrewarmer implements SdkAutoCloseable {
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(ChannelPoolPrewarmer.class);
+
+    private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
+    private final EventLoopGroup eventLoopGroup;
+    private final NettyConfiguration configuration;
+    private final Map<URI, ScheduledFuture<?>> keepWarmTasks = new ConcurrentHashMap<>();
+
+    public ChannelPoolPrewarmer(SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools,
+                                EventLoopGroup eventLoopGroup,
+                                NettyConfiguration configuration) {
+        this.pools = pools;
+        this.eventLoopGroup = eventLoopGroup;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Establish connections in the pool with the given key.
+     */
+    public CompletableFuture<Void> prewarm(URI poolKey, ConnectionPrewarmConfiguration prewarmConfiguration) {
+        int connections = Math.min(prewarmConfiguration.connections(), configuration.maxConnections());
+        if (prewarmConfiguration.keepWarm() && configuration.reapIdleConnections()) {
+            keepWarm(poolKey, connections);
+        }
+        return warm(poolKey, connections);
+    }
+
+    private void keepWarm(URI poolKey, int connections) {
+        long period = configuration.idleTimeoutMillis();
+        keepWarmTasks.compute(poolKey, (k, previousTask) -> {
+            if (previousTask != null) {
+                previousTask.cancel(false);
+            }
+            return eventLoopGroup.next().scheduleAtFixedRate(() -> rewarm(k, connections), period, period,
+                                                              TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void rewarm(URI poolKey, int connections) {
+        warm(poolKey, connections).whenComplete((r, t) -> {
+            if (t != null) {
+                log.debug(null, () -> "Unable to re-establish connections to " + poolKey, t);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> warm(URI poolKey, int connections) {
+        SdkChannelPool pool = pools.get(poolKey);
+        MetricCollector metrics = MetricCollector.create("ChannelPoolPrewarmer");
+        return pool.collectChannelPoolMetrics(metrics)
+                   .thenCompose(r -> acquireAndRelease(pool, channelsToAcquire(metrics.collect(), connections)));
+    }
+
+    /**
+     * The number of channels to acquire to leave the given number of idle channels in the pool. Acquiring takes the idle
+     * channels first, so this includes them.
+     */
+    private int channelsToAcquire(MetricCollection poolMetrics, int connections) {
+        int idle = metricValue(poolMetrics, HttpMetric.AVAILABLE_CONCURRENCY, 0);
+        int pending = metricValue(poolMetrics, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, 0);
+        if (idle >= connections || pending > 0) {
+            return 0;
+        }
+        int leased = metricValue(poolMetrics, HttpMetric.LEASED_CONCURRENCY, 0);
+        int max = metricValue(poolMetrics, HttpMetric.MAX_CONCURRENCY, configuration.maxConnections());
+        return Math.max(0, Math.min(connections, max - leased));
+    }
+
+    private static int metricValue(MetricCollection metrics, SdkMetric<Integer> metric, int defaultValue) {
+        List<Integer> values = metrics.metricValues(metric);
+        return values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    private CompletableFuture<Void> acquireAndRelease(SdkChannelPool pool, int connections) {
+        List<CompletableFuture<Channel>> acquires = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<Channel> acquire = new CompletableFuture<>();
+            pool.acquire(eventLoopGroup.next().newPromise()).addListener((Future<Channel> f) -> {
+                if (f.isSuccess()) {
+                    acquire.complete(f.getNow());
+                } else {
+                    acquire.completeExceptionally(f.cause());
+                }
+            });
+            acquires.add(acquire);
+        }
+
+        return CompletableFuture.allOf(acquires.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> acquires.stream()
+                                                                .filter(a -> !a.isCompletedExceptionally())
+                                                                .forEach(a -> pool.release(a.join())));
+    }
+
+    @Override
+    public void close() {
+        keepWarmTasks.values().forEach(task -> task.cancel(false));
+        keepWarmTasks.clear();
+    }
+}
@@ -25,6 +25,7 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolConfiguration;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
@@ -43,9 +44,20 @@ public final class NettyConfiguration {
     public static final int HTTP2_CONNECTION_PING_TIMEOUT_SECONDS = 5;
 
     private final AttributeMap configuration;
+    private final boolean zeroCopyResponseBody;
+    private final AdaptiveConnectionPoolConfiguration adaptiveConnectionPool;
+    private final int http2MinConnections;
 
     public NettyConfiguration(AttributeMap configuration) {
+        this(configuration, false, null, 1);
+    }
+
+    public NettyConfiguration(AttributeMap configuration, boolean zeroCopyResponseBody,
+                              AdaptiveConnectionPoolConfiguration adaptiveConnectionPool, int http2MinConnections) {
         this.configuration = configuration;
+        this.zeroCopyResponseBody = zeroCopyResponseBody;
+        this.adaptiveConnectionPool = adaptiveConnectionPool;
+        this.http2MinConnections = http2MinConnections;
     }
 
     public <T> T attribute(AttributeMap.Key<T> key) {
@@ -107,4 +119,25 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    /**
+     * Whether response body chunks may be published as borrowed views of Netty's buffers instead of copies.
+     */
+    public boolean zeroCopyResponseBody() {
+        return zeroCopyResponseBody;
+    }
+
+    /**
+     * The configuration for adjusting the maximum concurrency of each connection pool, or null if it is fixed.
+     */
+    public AdaptiveConnectionPoolConfiguration adaptiveConnectionPool() {
+        return adaptiveConnectionPool;
+    }
+
+    /**
+     * The number of HTTP/2 connections to open to each host before streams are multiplexed onto existing connections.
+     */
+    public int http2MinConnections() {
+        return http2MinConnections;
+    }
 }
@@ -82,6 +82,18 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+
+        Http2Stream connectionStream = http2Connection.connectionStream();
+        metricCollector.reportMetric(Http2Metric.LOCAL_CONNECTION_WINDOW_SIZE_IN_BYTES,
+                                     http2Connection.local().flowController().windowSize(connectionStream));
+        metricCollector.reportMetric(Http2Metric.REMOTE_CONNECTION_WINDOW_SIZE_IN_BYTES,
+                                     http2Connection.remote().flowController().windowSize(connectionStream));
+        metricCollector.reportMetric(Http2Metric.CONNECTION_ACTIVE_STREAMS, http2Connection.numActiveStreams());
+
+        Duration pingRoundTripTime = channel.parent().attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME).get();
+        if (pingRoundTripTime != null) {
+            metricCollector.reportMetric(Http2Metric.CONNECTION_PING_ROUND_TRIP_TIME, pingRoundTripTime);
+        }
     }
 
     /**
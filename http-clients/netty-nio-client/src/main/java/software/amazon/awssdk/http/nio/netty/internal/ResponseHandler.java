@@ -50,6 +50,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.reactivestreams.Publisher;
@@ -70,6 +71,7 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 import software.amazon.awssdk.utils.FunctionalUtils.UnsafeRunnable;
+import software.amazon.awssdk.utils.async.BufferLendingSubscription;
 import software.amazon.awssdk.utils.async.DelegatingSubscription;
 
 @Sharable
@@ -107,7 +109,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             requestContext.handler().onStream(
                     new DataCountingPublisher(channelContext,
                                               new PublisherAdapter((StreamedHttpResponse) msg, channelContext,
-                                                                   requestContext, ef)));
+                                                                   requestContext, ef,
+                                                                   zeroCopyResponseBody(requestContext))));
         } else if (msg instanceof FullHttpResponse) {
             ByteBuf fullContent = null;
             try {
@@ -263,6 +266,10 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         mapping(Map.Entry::getValue, Collectors.toList())));
     }
 
+    private static boolean zeroCopyResponseBody(RequestContext requestContext) {
+        return requestContext.configuration() != null && requestContext.configuration().zeroCopyResponseBody();
+    }
+
     private static ByteBuffer copyToByteBuffer(ByteBuf byteBuf) {
         ByteBuffer bb = ByteBuffer.allocate(byteBuf.readableBytes());
         byteBuf.getBytes(byteBuf.readerIndex(), bb);
@@ -279,23 +286,48 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final ChannelHandlerContext channelContext;
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
+        private final boolean zeroCopyResponseBody;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
                          RequestContext requestContext, CompletableFuture<Void> executeFuture) {
+            this(response, channelContext, requestContext, executeFuture, false);
+        }
+
+        PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
+                         RequestContext requestContext, CompletableFuture<Void> executeFuture,
+                         boolean zeroCopyResponseBody) {
             this.response = response;
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.zeroCopyResponseBody = zeroCopyResponseBody;
         }
 
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
             response.subscribe(new Subscriber<HttpContent>() {
+                /**
+                 * The number of chunks requested by the subscriber and not yet published. Only tracked in zero-copy mode.
+                 */
+                private long demand;
+
+                /**
+                 * The content whose buffer was published without copying, and that is released on the subscriber's next
+                 * request or cancel.
+                 */
+                private HttpContent borrowed;
+
+                /**
+                 * Whether onComplete was received while a buffer was borrowed.
+                 */
+                private boolean completionPending;
+
                 @Override
                 public void onSubscribe(Subscription subscription) {
-                    subscriber.onSubscribe(new OnCancelSubscription(resolveSubscription(subscription),
-                                                                    this::onCancel));
+                    Subscription upstream = new OnCancelSubscription(resolveSubscription(subscription), this::onCancel);
+                    subscriber.onSubscribe(zeroCopyResponseBody ? new LendingSubscription(upstream, n -> onRequest(upstream, n))
+                                                                : upstream);
                 }
 
                 private Subscription resolveSubscription(Subscription subscription) {
@@ -307,7 +339,29 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                private void onRequest(Subscription upstream, long n) {
+                    HttpContent toRelease;
+                    boolean complete;
+                    synchronized (this) {
+                        if (n > 0) {
+                            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                        }
+                        // The subscriber is done with the borrowed buffer once it asks for more
+                        toRelease = borrowed;
+                        borrowed = null;
+                        complete = completionPending;
+                        completionPending = false;
+                    }
+                    ReferenceCountUtil.release(toRelease);
+                    if (complete) {
+                        complete();
+                    } else {
+                        upstream.request(n);
+                    }
+                }
+
                 private void onCancel() {
+                    releaseBorrowed();
                     if (!isDone.compareAndSet(false, true)) {
                         return;
                     }
@@ -330,6 +384,10 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (zeroCopyResponseBody && tryPublishWithoutCopy(httpContent)) {
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -345,8 +403,42 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publish the content as a view of its buffer if this chunk uses up the subscriber's demand, so that the
+                 * subscriber has to request more, releasing the buffer, before anything else is published. The lock is held
+                 * while the subscriber is called so that a request from another thread cannot release the buffer before the
+                 * subscriber has received it.
+                 */
+                private synchronized boolean tryPublishWithoutCopy(HttpContent httpContent) {
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                    ByteBuf content = httpContent.content();
+                    if (demand != 0 || borrowed != null || content.nioBufferCount() != 1) {
+                        return false;
+                    }
+                    borrowed = httpContent;
+                    ByteBuffer view = content.nioBuffer().asReadOnlyBuffer();
+                    tryCatch(() -> subscriber.onNext(view),
+                             t -> {
+                                 releaseBorrowed();
+                                 notifyError(t);
+                             });
+                    return true;
+                }
+
+                private void releaseBorrowed() {
+                    HttpContent toRelease;
+                    synchronized (this) {
+                        toRelease = borrowed;
+                        borrowed = null;
+                    }
+                    ReferenceCountUtil.release(toRelease);
+                }
+
                 @Override
                 public void onError(Throwable t) {
+                    releaseBorrowed();
                     if (!isDone.compareAndSet(false, true)) {
                         return;
                     }
@@ -363,6 +455,19 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
                 @Override
                 public void onComplete() {
+                    if (zeroCopyResponseBody) {
+                        synchronized (this) {
+                            if (borrowed != null) {
+                                // Completed when the subscriber is done with the buffer and requests more
+                                completionPending = true;
+                                return;
+                            }
+                        }
+                    }
+                    complete();
+                }
+
+                private void complete() {
                     // For HTTP/2 it's possible to get an onComplete after we cancel due to the channel becoming
                     // inactive. We guard against that here and just ignore the signal (see HandlerPublisher)
                     if (!isDone.compareAndSet(false, true)) {
@@ -416,6 +521,24 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
     }
 
+    /**
+     * Decorator around a {@link Subscription} whose publisher lends the subscriber its buffers, that notifies of each request.
+     */
+    private static final class LendingSubscription extends DelegatingSubscription implements BufferLendingSubscription {
+
+        private final LongConsumer onRequest;
+
+        private LendingSubscription(Subscription subscription, LongConsumer onRequest) {
+            super(subscription);
+            this.onRequest = onRequest;
+        }
+
+        @Override
+        public void request(long n) {
+            onRequest.accept(n);
+        }
+    }
+
     static class FullResponseContentPublisher implements Publisher<ByteBuffer> {
         private final ChannelHandlerContext channelContext;
         private final ByteBuffer fullContent;
@@ -47,8 +47,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
@@ -68,6 +70,12 @@ import software.amazon.awssdk.utils.Validate;
  * when the max concurrency for a connection is reached then a new connection will be opened.
  *
  * <p>
+ * New streams are placed using "power of two choices": two connections with available streams are chosen at random, and
+ * the one with fewer streams in flight (or, if tied, the lower health check PING round-trip time) is used. Until the
+ * configured minimum number of connections are open, new streams open a new connection instead.
+ * </p>
+ *
+ * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
  * to enforce max concurrency which gives a bunch of other good features like timeouts, max pending acquires, etc.
  * </p>
@@ -92,6 +100,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final int minConnections;
+    private final AtomicInteger connectionsBeingEstablished = new AtomicInteger(0);
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +111,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, 1);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param minConnections The number of connections to open before new streams are multiplexed onto existing connections.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                int minConnections) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.minConnections = Validate.isPositive(minConnections, "minConnections");
     }
 
     @SdkTestInternalApi
@@ -127,18 +149,110 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
-            if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
-                return promise;
-            }
+        if (reserveConnectionBelowMinimum()) {
+            acquireStreamOnNewConnection(promise);
+            return promise;
+        }
+
+        if (acquireStreamOnLeastLoadedConnection(promise)) {
+            return promise;
         }
 
         // No available streams on existing connections, establish new connection and add it to list
+        connectionsBeingEstablished.incrementAndGet();
         acquireStreamOnNewConnection(promise);
         return promise;
     }
 
+    /**
+     * Reserve the establishment of a new connection if fewer than the minimum number of connections are open or being opened.
+     */
+    private boolean reserveConnectionBelowMinimum() {
+        while (true) {
+            int establishing = connectionsBeingEstablished.get();
+            if (connections.size() + establishing >= minConnections) {
+                return false;
+            }
+            if (connectionsBeingEstablished.compareAndSet(establishing, establishing + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Acquire a stream on the existing connection chosen by {@link #pickLeastLoaded(List)}, falling back to the other
+     * connections if a stream cannot be claimed on it. Returns false if no connection has an available stream.
+     */
+    private boolean acquireStreamOnLeastLoadedConnection(Promise<Channel> promise) {
+        List<MultiplexedChannelRecord> candidates = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+            if (multiplexedChannel.availableStreams() > 0) {
+                candidates.add(multiplexedChannel);
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            int index = pickLeastLoaded(candidates);
+            if (acquireStreamOnInitializedConnection(candidates.get(index), promise)) {
+                return true;
+            }
+
+            // Another acquire claimed the last stream first. Remove the connection without shifting the rest of the list.
+            int last = candidates.size() - 1;
+            candidates.set(index, candidates.get(last));
+            candidates.remove(last);
+        }
+        return false;
+    }
+
+    /**
+     * Pick two distinct connections at random and return the index of the less loaded one. Sampling two connections avoids
+     * both the cost of comparing every connection and the herding onto a single connection that always choosing the global
+     * minimum causes when many acquires race with the same view of the pool.
+     */
+    static int pickLeastLoaded(List<MultiplexedChannelRecord> candidates) {
+        int size = candidates.size();
+        if (size == 1) {
+            return 0;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        return compareLoad(candidates.get(first), candidates.get(second)) <= 0 ? first : second;
+    }
+
+    private static int compareLoad(MultiplexedChannelRecord a, MultiplexedChannelRecord b) {
+        int byStreams = Long.compare(a.inFlightStreams(), b.inFlightStreams());
+        if (byStreams != 0) {
+            return byStreams;
+        }
+
+        Duration aRoundTripTime = a.pingRoundTripTime();
+        Duration bRoundTripTime = b.pingRoundTripTime();
+        if (aRoundTripTime == null || bRoundTripTime == null) {
+            return 0;
+        }
+        return aRoundTripTime.compareTo(bRoundTripTime);
+    }
+
+    /**
+     * Acquire a stream on a new connection. The caller must have counted the connection in
+     * {@link #connectionsBeingEstablished}, which is decremented once the connection is cached or fails to be established.
+     * It is decremented before the promise is completed when the connection is cached, so that an acquire made once the
+     * promise completes does not count the connection twice.
+     */
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
+        AtomicBoolean establishing = new AtomicBoolean(true);
+        Runnable establishmentEnded = () -> {
+            if (establishing.compareAndSet(true, false)) {
+                connectionsBeingEstablished.decrementAndGet();
+            }
+        };
+        promise.addListener(f -> establishmentEnded.run());
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
         newConnectionAcquire.addListener(f -> {
@@ -153,7 +267,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
                 // When the protocol future is completed on the new connection, we're ready for new streams to be added to it.
                 parentChannel.attr(PROTOCOL_FUTURE).get()
-                             .thenAccept(protocol -> acquireStreamOnFreshConnection(promise, parentChannel, protocol))
+                             .thenAccept(protocol -> acquireStreamOnFreshConnection(promise, parentChannel, protocol,
+                                                                                     establishmentEnded))
                              .exceptionally(throwable -> failAndCloseParent(promise, parentChannel, throwable));
             } catch (Throwable e) {
                 failAndCloseParent(promise, parentChannel, e);
@@ -161,7 +276,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         });
     }
 
-    private void acquireStreamOnFreshConnection(Promise<Channel> promise, Channel parentChannel, Protocol protocol) {
+    private void acquireStreamOnFreshConnection(Promise<Channel> promise, Channel parentChannel, Protocol protocol,
+                                                Runnable establishmentEnded) {
         try {
             Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
 
@@ -192,7 +308,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                 }
 
                 Channel stream = streamPromise.getNow();
-                cacheConnectionForFutureStreams(stream, multiplexedChannel, promise);
+                cacheConnectionForFutureStreams(stream, multiplexedChannel, promise, establishmentEnded);
             });
         } catch (Throwable e) {
             failAndCloseParent(promise, parentChannel, e);
@@ -201,12 +317,14 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
     private void cacheConnectionForFutureStreams(Channel stream,
                                                  MultiplexedChannelRecord multiplexedChannel,
-                                                 Promise<Channel> promise) {
+                                                 Promise<Channel> promise,
+                                                 Runnable establishmentEnded) {
         Channel parentChannel = stream.parent();
 
         // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
         parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
         connections.add(multiplexedChannel);
+        establishmentEnded.run();
 
         if (closed.get()) {
             // Whoops, we were closed while we were setting up. Make sure everything here is cleaned up properly.
@@ -24,6 +24,7 @@ import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
 import io.netty.handler.codec.http2.Http2PingFrame;
 import io.netty.util.concurrent.ScheduledFuture;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
@@ -51,6 +52,7 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
     private ScheduledFuture<?> periodicPing;
     private long lastPingSendTime = 0;
     private long lastPingAckTime = 0;
+    private long lastPingSendNanoTime = 0;
 
     public Http2PingHandler(int pingTimeoutMillis) {
         this.pingTimeoutMillis = pingTimeoutMillis;
@@ -88,6 +90,7 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
         log.debug(ctx.channel(), () -> "Received PING from channel, ack=" + frame.ack());
         if (frame.ack()) {
             lastPingAckTime = System.currentTimeMillis();
+            recordRoundTripTime(ctx.channel());
         } else {
             ctx.fireChannelRead(frame);
         }
@@ -119,6 +122,7 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
             } else {
                 log.debug(channel, () -> "Successfully flushed PING frame to connection");
                 lastPingSendTime = System.currentTimeMillis();
+                lastPingSendNanoTime = System.nanoTime();
                 long flushTime = lastPingSendTime - writeMs;
                 if (flushTime > delayWarningTimeLimitMs) {
                     log.warn(channel, () -> "Flushing PING frame took " + flushTime + "ms");
@@ -141,6 +145,17 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
         });
     }
 
+    /**
+     * Store the time between the last PING being flushed and its acknowledgement on the channel, so that it can be used to
+     * prefer faster connections when choosing one for a new stream.
+     */
+    private void recordRoundTripTime(Channel channel) {
+        if (lastPingSendNanoTime != 0) {
+            Duration roundTripTime = Duration.ofNanos(System.nanoTime() - lastPingSendNanoTime);
+            channel.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME).set(roundTripTime);
+        }
+    }
+
     private void channelIsUnhealthy(Channel channel, PingFailedException exception) {
         stop();
         channel.pipeline().fireExceptionCaught(exception);
@@ -166,11 +166,13 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .adaptiveConnectionPool(configuration.adaptiveConnectionPool())
                                                  .build();
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                    configuration.http2MinConnections());
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
@@ -178,6 +180,7 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .adaptiveConnectionPool(configuration.adaptiveConnectionPool())
                                                  .build();
         }
         // Give the channel back so it can be acquired again by protocolImpl
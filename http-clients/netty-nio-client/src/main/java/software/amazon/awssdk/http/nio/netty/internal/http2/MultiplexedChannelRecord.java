@@ -279,6 +279,29 @@ public class MultiplexedChannelRecord {
         return connection;
     }
 
+    /**
+     * The number of streams that can currently be claimed on this connection. This is zero once the connection has started
+     * shutting down because it was idle.
+     */
+    long availableStreams() {
+        return availableChildChannels.get();
+    }
+
+    /**
+     * The number of streams that are claimed on this connection, including those that are still being opened.
+     */
+    long inFlightStreams() {
+        return maxConcurrencyPerConnection - availableChildChannels.get();
+    }
+
+    /**
+     * The round-trip time of the last acknowledged health check {@code PING} on this connection, or null if none has been
+     * acknowledged yet.
+     */
+    Duration pingRoundTripTime() {
+        return connection.attr(ChannelAttributeKey.HTTP2_PING_ROUND_TRIP_TIME).get();
+    }
+
     private boolean claimStream() {
         lastReserveAttemptTimeMillis = System.currentTimeMillis();
         for (int attempt = 0; attempt < 5; ++attempt) {
@@ -34,6 +34,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolConfiguration;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolController;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -77,8 +79,9 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     // There is no need to worry about synchronization as everything that modified the queue or counts is done
     // by the above EventExecutor.
     private final Queue<AcquireTask> pendingAcquireQueue = new ArrayDeque<>();
-    private final int maxConnections;
     private final int maxPendingAcquires;
+    private final AdaptiveConnectionPoolController poolController;
+    private int maxConnections;
     private int acquiredChannelCount;
     private int pendingAcquireCount;
     private boolean closed;
@@ -128,8 +131,29 @@ public class BetterFixedChannelPool implements SdkChannelPool {
                     throw new Error();
             }
         }
-        this.maxConnections = builder.maxConnections;
         this.maxPendingAcquires = builder.maxPendingAcquires;
+        if (builder.adaptiveConnectionPool != null) {
+            this.poolController = AdaptiveConnectionPoolController.create(builder.adaptiveConnectionPool,
+                                                                          builder.maxConnections,
+                                                                          this::setMaxConnections);
+            this.maxConnections = poolController.limit();
+        } else {
+            this.poolController = null;
+            this.maxConnections = builder.maxConnections;
+        }
+    }
+
+    /**
+     * Change the maximum number of concurrent connections. Pending acquires are served if the limit grew; if it shrank,
+     * connections already acquired are not affected, but no new ones are handed out until enough are released.
+     */
+    private void setMaxConnections(int maxConnections) {
+        doInEventLoop(executor, () -> {
+            if (!closed) {
+                this.maxConnections = maxConnections;
+                runTaskQueue();
+            }
+        });
     }
 
     @Override
@@ -228,12 +252,14 @@ public class BetterFixedChannelPool implements SdkChannelPool {
                 }
 
                 if (future.isSuccess()) {
+                    reportReleased();
                     decrementAndRunTaskQueue();
                     promise.setSuccess(null);
                 } else {
                     Throwable cause = future.cause();
                     // Check if the exception was not because of we passed the Channel to the wrong pool.
                     if (!(cause instanceof IllegalArgumentException)) {
+                        reportReleased();
                         decrementAndRunTaskQueue();
                     }
                     promise.setFailure(future.cause());
@@ -243,6 +269,12 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    private void reportReleased() {
+        if (poolController != null) {
+            poolController.released();
+        }
+    }
+
     private void decrementAndRunTaskQueue() {
         --acquiredChannelCount;
 
@@ -320,6 +352,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
 
     private class AcquireListener implements FutureListener<Channel> {
         private final Promise<Channel> originalPromise;
+        private final long startNanoTime = System.nanoTime();
         protected boolean acquired;
 
         AcquireListener(Promise<Channel> originalPromise) {
@@ -339,6 +372,8 @@ public class BetterFixedChannelPool implements SdkChannelPool {
                 return;
             }
 
+            reportAcquire(future);
+
             if (future.isSuccess()) {
                 originalPromise.setSuccess(future.getNow());
             } else {
@@ -352,6 +387,21 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             }
         }
 
+        private void reportAcquire(Future<Channel> future) {
+            if (poolController == null) {
+                return;
+            }
+            long acquireTimeNanos = System.nanoTime() - startNanoTime;
+            if (future.isSuccess()) {
+                poolController.acquired(acquireTimeNanos);
+            } else if (future.cause() == TIMEOUT_EXCEPTION) {
+                poolController.acquireTimedOut(acquireTimeNanos);
+            } else if (acquired) {
+                // The delegate pool failed to provide a channel, for example because a connection could not be established.
+                poolController.acquireFailed(acquireTimeNanos);
+            }
+        }
+
         public void acquired() {
             if (acquired) {
                 return;
@@ -405,6 +455,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         private long acquireTimeoutMillis;
         private int maxConnections;
         private int maxPendingAcquires;
+        private AdaptiveConnectionPoolConfiguration adaptiveConnectionPool;
 
         private Builder() {
         }
@@ -439,6 +490,15 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             return this;
         }
 
+        /**
+         * Adjust the maximum number of connections within the bounds of the given configuration, starting from
+         * {@link #maxConnections(int)}. If null, the maximum number of connections is fixed.
+         */
+        public Builder adaptiveConnectionPool(AdaptiveConnectionPoolConfiguration adaptiveConnectionPool) {
+            this.adaptiveConnectionPool = adaptiveConnectionPool;
+            return this;
+        }
+
         public BetterFixedChannelPool build() {
             return new BetterFixedChannelPool(this);
         }
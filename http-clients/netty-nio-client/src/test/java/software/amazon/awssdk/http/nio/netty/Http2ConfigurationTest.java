@@ -49,6 +49,7 @@ public class Http2ConfigurationTest {
         Http2Configuration config1 = Http2Configuration.builder()
                 .maxStreams(7L)
                 .initialWindowSize(42)
+                .minConnections(3)
                 .build();
 
         Http2Configuration config2 = config1.toBuilder().build();
@@ -89,4 +90,15 @@ public class Http2ConfigurationTest {
         expected.expect(IllegalArgumentException.class);
         Http2Configuration.builder().initialWindowSize(0);
     }
+
+    @Test
+    public void builder_minConnections_nullValue_doesNotThrow() {
+        Http2Configuration.builder().minConnections(null);
+    }
+
+    @Test
+    public void builder_minConnections_0_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().minConnections(0);
+    }
 }
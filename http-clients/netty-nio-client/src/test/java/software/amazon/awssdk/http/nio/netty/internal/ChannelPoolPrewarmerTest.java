@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.http.ConnectionPrewarmConfiguration;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class ChannelPoolPrewarmerTest {
+    private static final URI POOL_KEY = URI.create("https://localhost:443");
+
+    private static EventLoopGroup eventLoopGroup;
+
+    private SdkChannelPool channelPool;
+    private List<Promise<Channel>> acquirePromises;
+    private ChannelPoolPrewarmer prewarmer;
+    private int idleChannels;
+    private int leasedChannels;
+    private int pendingAcquires;
+
+    @BeforeClass
+    public static void setupClass() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+
+    @AfterClass
+    public static void teardownClass() throws InterruptedException {
+        eventLoopGroup.shutdownGracefully().await();
+    }
+
+    @Before
+    public void setup() {
+        channelPool = mock(SdkChannelPool.class);
+        acquirePromises = new ArrayList<>();
+        when(channelPool.acquire(any(Promise.class))).thenAnswer(i -> {
+            Promise<Channel> promise = i.getArgument(0);
+            acquirePromises.add(promise);
+            return promise;
+        });
+        when(channelPool.collectChannelPoolMetrics(any(MetricCollector.class))).thenAnswer(i -> {
+            MetricCollector metrics = i.getArgument(0);
+            metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, idleChannels);
+            metrics.reportMetric(HttpMetric.LEASED_CONCURRENCY, leasedChannels);
+            metrics.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pendingAcquires);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        SdkChannelPoolMap<URI, SdkChannelPool> pools = new SdkChannelPoolMap<URI, SdkChannelPool>() {
+            @Override
+            protected SdkChannelPool newPool(URI key) {
+                return channelPool;
+            }
+        };
+        NettyConfiguration configuration = new NettyConfiguration(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+        prewarmer = new ChannelPoolPrewarmer(pools, eventLoopGroup, configuration);
+    }
+
+    @After
+    public void teardown() {
+        prewarmer.close();
+    }
+
+    @Test
+    public void prewarm_acquiresAllChannelsBeforeReleasingThem() throws Exception {
+        CompletableFuture<Void> result = prewarmer.prewarm(POOL_KEY, ConnectionPrewarmConfiguration.builder()
+                                                                                                   .connections(3)
+                                                                                                   .build());
+        assertThat(acquirePromises).hasSize(3);
+
+        List<Channel> channels = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            channels.add(completeAcquire(i));
+        }
+        verify(channelPool, never()).release(any(Channel.class));
+
+        channels.add(completeAcquire(2));
+        result.get(5, TimeUnit.SECONDS);
+
+        for (Channel channel : channels) {
+            verify(channelPool).release(channel);
+        }
+    }
+
+    @Test
+    public void prewarm_doesNotExceedMaxConnections() {
+        prewarmer.prewarm(POOL_KEY, ConnectionPrewarmConfiguration.builder().connections(1_000).build());
+
+        assertThat(acquirePromises).hasSize(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS
+                                                .get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
+    }
+
+    @Test
+    public void prewarm_enoughIdleChannels_acquiresNothing() throws Exception {
+        idleChannels = 3;
+
+        prewarmer.prewarm(POOL_KEY, ConnectionPrewarmConfiguration.builder().connections(3).build()).get(5, TimeUnit.SECONDS);
+
+        assertThat(acquirePromises).isEmpty();
+    }
+
+    @Test
+    public void prewarm_acquiresPending_acquiresNothing() throws Exception {
+        pendingAcquires = 1;
+
+        prewarmer.prewarm(POOL_KEY, ConnectionPrewarmConfiguration.builder().connections(3).build()).get(5, TimeUnit.SECONDS);
+
+        assertThat(acquirePromises).isEmpty();
+    }
+
+    @Test
+    public void prewarm_channelsLeased_acquiresOnlyChannelsAvailableWithoutWaiting() {
+        int maxConnections = SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        leasedChannels = maxConnections - 2;
+
+        prewarmer.prewarm(POOL_KEY, ConnectionPrewarmConfiguration.builder().connections(5).build());
+
+        assertThat(acquirePromises).hasSize(2);
+    }
+
+    @Test
+    public void prewarm_acquireFails_releasesAcquiredChannelsAndFails() throws Exception {
+        CompletableFuture<Void> result = prewarmer.prewarm(POOL_KEY, ConnectionPrewarmConfiguration.builder()
+                                                                                                   .connections(2)
+                                                                                                   .build());
+        Channel channel = completeAcquire(0);
+        IOException failure = new IOException("connect failed");
+        acquirePromises.get(1).setFailure(failure);
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        verify(channelPool, times(1)).release(any(Channel.class));
+        verify(channelPool).release(channel);
+    }
+
+    private Channel completeAcquire(int index) throws Exception {
+        MockChannel channel = new MockChannel();
+        acquirePromises.get(index).setSuccess(channel);
+        return channel;
+    }
+}
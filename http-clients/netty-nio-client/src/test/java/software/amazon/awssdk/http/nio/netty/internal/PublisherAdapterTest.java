@@ -38,8 +38,11 @@ import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +59,8 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.async.BufferLendingSubscription;
+import software.amazon.awssdk.utils.async.InputStreamSubscriber;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -285,6 +290,135 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
+    @Test
+    public void zeroCopyResponseBody_demandExhausted_publishesReadOnlyViewReleasedOnNextRequest() {
+        HttpContent first = new DefaultHttpContent(Unpooled.directBuffer().writeBytes(new byte[] {1, 2, 3}));
+        HttpContent second = new DefaultHttpContent(Unpooled.directBuffer().writeBytes(new byte[] {4}));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        zeroCopyPublisherAdapter(first, second).subscribe(subscriber);
+        assertThat(subscriber.subscription).isInstanceOf(BufferLendingSubscription.class);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.received).hasSize(1);
+        ByteBuffer view = subscriber.received.get(0);
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(view.remaining()).isEqualTo(3);
+        assertThat(first.refCnt()).isEqualTo(1);
+
+        subscriber.subscription.request(1);
+
+        assertThat(first.refCnt()).isZero();
+        assertThat(subscriber.received).hasSize(2);
+        assertThat(second.refCnt()).isEqualTo(1);
+        assertThat(subscriber.isCompleted).isFalse();
+
+        subscriber.subscription.request(1);
+
+        assertThat(second.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+        verify(channelPool).release(channel);
+        assertThat(executeFuture).isCompleted();
+    }
+
+    @Test
+    public void zeroCopyResponseBody_inputStreamSubscriber_readsEachBufferBeforeReleasingIt() throws IOException {
+        HttpContent first = new DefaultHttpContent(Unpooled.directBuffer().writeBytes(new byte[] {1, 2, 3}));
+        HttpContent second = new DefaultHttpContent(Unpooled.directBuffer().writeBytes(new byte[] {4}));
+        InputStreamSubscriber subscriber = new InputStreamSubscriber();
+
+        zeroCopyPublisherAdapter(first, second).subscribe(subscriber);
+
+        assertThat(subscriber.read()).isEqualTo(1);
+        assertThat(first.refCnt()).isEqualTo(1);
+        assertThat(subscriber.read()).isEqualTo(2);
+        assertThat(subscriber.read()).isEqualTo(3);
+        assertThat(subscriber.read()).isEqualTo(4);
+        assertThat(first.refCnt()).isZero();
+        assertThat(subscriber.read()).isEqualTo(-1);
+        assertThat(second.refCnt()).isZero();
+    }
+
+    @Test
+    public void zeroCopyResponseBody_unboundedDemand_copiesContent() {
+        HttpContent content = new DefaultHttpContent(Unpooled.directBuffer().writeBytes(new byte[] {1, 2, 3}));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        zeroCopyPublisherAdapter(content).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.received).hasSize(1);
+        assertThat(subscriber.received.get(0).isReadOnly()).isFalse();
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+    }
+
+    @Test
+    public void zeroCopyResponseBody_cancelled_releasesBorrowedContent() {
+        HttpContent content = new DefaultHttpContent(Unpooled.directBuffer().writeBytes(new byte[] {1, 2, 3}));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        zeroCopyPublisherAdapter(content).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertThat(content.refCnt()).isEqualTo(1);
+
+        subscriber.subscription.cancel();
+
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isFalse();
+    }
+
+    private ResponseHandler.PublisherAdapter zeroCopyPublisherAdapter(HttpContent... contents) {
+        Publisher<HttpContent> publisher = subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int next;
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && next < contents.length; i++) {
+                    subscriber.onNext(contents[next++]);
+                }
+                if (next == contents.length && !done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        DefaultStreamedHttpResponse streamedResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                       HttpResponseStatus.OK, publisher);
+        return new ResponseHandler.PublisherAdapter(streamedResponse, ctx, requestContext, executeFuture, true);
+    }
+
+    static final class RecordingSubscriber implements Subscriber<ByteBuffer> {
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private Subscription subscription;
+        private boolean isCompleted = false;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            received.add(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
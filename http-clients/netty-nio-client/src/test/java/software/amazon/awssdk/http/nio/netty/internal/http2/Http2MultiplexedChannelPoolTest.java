@@ -38,7 +38,12 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -330,6 +335,79 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_belowMinConnections_opensNewConnection() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(8L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(8L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+
+            loopGroup.register(channel1).awaitUninterruptibly();
+            loopGroup.register(channel2).awaitUninterruptibly();
+            Promise<Channel> channel1Promise = new DefaultPromise<>(loopGroup.next());
+            Promise<Channel> channel2Promise = new DefaultPromise<>(loopGroup.next());
+            channel1Promise.setSuccess(channel1);
+            channel2Promise.setSuccess(channel2);
+
+            Mockito.when(connectionPool.acquire()).thenReturn(channel1Promise, channel2Promise);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup, null, 2);
+
+            Channel firstStream = doAcquire(channel1, channel2, h2Pool);
+            Channel secondStream = doAcquire(channel1, channel2, h2Pool);
+            doAcquire(channel1, channel2, h2Pool);
+
+            assertThat(firstStream.parent()).isNotEqualTo(secondStream.parent());
+            Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void pickLeastLoaded_prefersFewerStreamsInFlight() {
+        MultiplexedChannelRecord busy = record(5, null);
+        MultiplexedChannelRecord idle = record(1, null);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(Http2MultiplexedChannelPool.pickLeastLoaded(Arrays.asList(busy, idle))).isEqualTo(1);
+            assertThat(Http2MultiplexedChannelPool.pickLeastLoaded(Arrays.asList(idle, busy))).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void pickLeastLoaded_sameStreamsInFlight_prefersLowerPingRoundTripTime() {
+        MultiplexedChannelRecord slow = record(2, Duration.ofMillis(50));
+        MultiplexedChannelRecord fast = record(2, Duration.ofMillis(5));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(Http2MultiplexedChannelPool.pickLeastLoaded(Arrays.asList(slow, fast))).isEqualTo(1);
+            assertThat(Http2MultiplexedChannelPool.pickLeastLoaded(Arrays.asList(fast, slow))).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void pickLeastLoaded_samplesFromAllConnections() {
+        List<MultiplexedChannelRecord> records = Arrays.asList(record(0, null), record(0, null), record(0, null));
+
+        Set<Integer> picked = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            picked.add(Http2MultiplexedChannelPool.pickLeastLoaded(records));
+        }
+        assertThat(picked).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    private MultiplexedChannelRecord record(long inFlightStreams, Duration pingRoundTripTime) {
+        MultiplexedChannelRecord record = mock(MultiplexedChannelRecord.class);
+        when(record.inFlightStreams()).thenReturn(inFlightStreams);
+        when(record.pingRoundTripTime()).thenReturn(pingRoundTripTime);
+        return record;
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
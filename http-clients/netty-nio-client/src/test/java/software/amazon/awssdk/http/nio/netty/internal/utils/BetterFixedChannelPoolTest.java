@@ -38,6 +38,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
+import software.amazon.awssdk.http.AdaptiveConnectionPoolConfiguration;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.nio.netty.internal.MockChannel;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -151,6 +152,30 @@ public class BetterFixedChannelPoolTest {
         assertConnectionsCheckedOutAndPending(0, 0);
     }
 
+    @Test
+    public void adaptiveConnectionPool_maxConnectionsIsClampedToConfiguredBounds() {
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+        AdaptiveConnectionPoolConfiguration adaptiveConfiguration = AdaptiveConnectionPoolConfiguration.builder()
+                                                                                                       .maxConnections(3)
+                                                                                                       .build();
+        BetterFixedChannelPool adaptivePool = BetterFixedChannelPool.builder()
+                                                                    .channelPool(delegatePool)
+                                                                    .maxConnections(10)
+                                                                    .maxPendingAcquires(2)
+                                                                    .acquireTimeoutAction(AcquireTimeoutAction.FAIL)
+                                                                    .acquireTimeoutMillis(10_000)
+                                                                    .executor(eventLoopGroup.next())
+                                                                    .adaptiveConnectionPool(adaptiveConfiguration)
+                                                                    .build();
+        try {
+            MetricCollector metricCollector = MetricCollector.create("test");
+            waitForCompletion(adaptivePool.collectChannelPoolMetrics(metricCollector));
+            assertThat(metricCollector.collect().metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(3);
+        } finally {
+            adaptivePool.close();
+        }
+    }
+
     private void completePromise(List<Promise<Channel>> promises, int promiseIndex) throws Exception {
         waitForPromise(promises, promiseIndex);
 
@@ -37,6 +37,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Immutable;
@@ -198,11 +199,17 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
     private final boolean closeClientWithPublisher;
 
     /**
-     * The aggregator that takes {@link MetricCollection}s and converts them into {@link PutMetricDataRequest}s. This aggregator
-     * is *not* thread safe, so it should only ever be accessed from the {@link #executor}'s thread.
+     * The aggregator that takes {@link MetricCollection}s and converts them into {@link PutMetricDataRequest}s. Collections
+     * may be added to this aggregator from any thread, but they are only aggregated on the {@link #executor}'s thread.
      */
     private final MetricCollectionAggregator metricAggregator;
 
+    /**
+     * Whether an {@link AggregateMetricsTask} has been submitted to the {@link #executor} and has not yet started. This allows
+     * {@link #publish(MetricCollection)} to submit one task for a batch of collections instead of one task per collection.
+     */
+    private final AtomicBoolean aggregationScheduled = new AtomicBoolean(false);
+
     /**
      * The uploader that takes {@link PutMetricDataRequest}s and sends them to a {@link CloudWatchAsyncClient}.
      */
@@ -239,7 +246,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("cloud-watch-metric-publisher").build();
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
 
-        // Do not increase above 1 thread: access to MetricCollectionAggregator is not thread safe.
+        // Do not increase above 1 thread: aggregation in MetricCollectionAggregator is not thread safe.
         this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
                                                new ArrayBlockingQueue<>(MAXIMUM_TASK_QUEUE_SIZE),
                                                threadFactory);
@@ -287,12 +294,23 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
 
     @Override
     public void publish(MetricCollection metricCollection) {
-        try {
-            executor.submit(new AggregateMetricsTask(metricAggregator, metricCollection));
-        } catch (RejectedExecutionException e) {
-            METRIC_LOGGER.warn(() -> "Some AWS SDK client-side metrics have been dropped because an internal executor did not "
-                                     + "accept them. This usually occurs because your publisher has been shut down or you have "
-                                     + "generated too many requests for the publisher to handle in a timely fashion.", e);
+        if (!metricAggregator.addCollection(metricCollection)) {
+            METRIC_LOGGER.warn(() -> "Some AWS SDK client-side metrics have been dropped because too many were waiting to be "
+                                     + "aggregated. This usually occurs because you have generated too many requests for the "
+                                     + "publisher to handle in a timely fashion.");
+            return;
+        }
+
+        if (aggregationScheduled.compareAndSet(false, true)) {
+            try {
+                executor.submit(new AggregateMetricsTask(metricAggregator, aggregationScheduled));
+            } catch (RejectedExecutionException e) {
+                aggregationScheduled.set(false);
+                METRIC_LOGGER.warn(() -> "Some AWS SDK client-side metrics have been dropped because an internal executor did "
+                                         + "not accept them. This usually occurs because your publisher has been shut down or "
+                                         + "you have generated too many requests for the publisher to handle in a timely "
+                                         + "fashion.", e);
+            }
         }
     }
 
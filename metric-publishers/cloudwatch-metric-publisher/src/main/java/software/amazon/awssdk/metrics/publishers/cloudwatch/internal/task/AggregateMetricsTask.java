@@ -15,28 +15,34 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.task;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.CloudWatchMetricPublisher;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.MetricCollectionAggregator;
 
 /**
- * A task that is executed on the {@link CloudWatchMetricPublisher}'s executor to add a {@link MetricCollection} to a
- * {@link MetricCollectionAggregator}.
+ * A task that is executed on the {@link CloudWatchMetricPublisher}'s executor to aggregate the {@link MetricCollection}s
+ * queued on a {@link MetricCollectionAggregator}.
+ *
+ * <p>At most one of these tasks is pending at a time: publishers only submit a task after setting {@code scheduled}, and
+ * the task clears it before aggregating. A collection queued after the flag is cleared either is picked up by this task or
+ * causes a new task to be submitted.
  */
 @SdkInternalApi
 public class AggregateMetricsTask implements Runnable {
     private final MetricCollectionAggregator collectionAggregator;
-    private final MetricCollection metricCollection;
+    private final AtomicBoolean scheduled;
 
     public AggregateMetricsTask(MetricCollectionAggregator collectionAggregator,
-                                MetricCollection metricCollection) {
+                                AtomicBoolean scheduled) {
         this.collectionAggregator = collectionAggregator;
-        this.metricCollection = metricCollection;
+        this.scheduled = scheduled;
     }
 
     @Override
     public void run() {
-        collectionAggregator.addCollection(metricCollection);
+        scheduled.set(false);
+        collectionAggregator.aggregatePendingCollections();
     }
 }
@@ -27,16 +27,28 @@ import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 
 /**
- * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
- * until they can be added to a {@link MetricDatum}.
+ * An implementation of {@link MetricAggregator} that stores values and counts for a given metric/dimension pair until they
+ * can be added to a {@link MetricDatum}.
+ *
+ * <p>Values are kept in a log-linear histogram: each power-of-two range is split into {@code 2^SUB_BUCKET_BITS} equally sized
+ * buckets, so values are grouped with a relative error of at most {@code 2^-SUB_BUCKET_BITS} (about three significant
+ * digits). The number of buckets is bounded by the range of the values that were added rather than by the number of values,
+ * so memory does not grow with request volume. Each bucket is reported as the mean of its values, which is exact whenever
+ * a bucket only received one distinct value.
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
+    /**
+     * The number of mantissa bits used to select a bucket within a power-of-two range.
+     */
+    private static final int SUB_BUCKET_BITS = 10;
+    private static final int BUCKET_KEY_SHIFT = 52 - SUB_BUCKET_BITS;
+
     private final SdkMetric<?> metric;
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final Map<Long, DetailedMetrics> metricDetails = new HashMap<>();
 
     DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
         this.metric = key.metric();
@@ -56,7 +68,16 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+        DetailedMetrics bucket = metricDetails.computeIfAbsent(bucketKey(value), k -> new DetailedMetrics());
+        bucket.metricSum += value;
+        bucket.metricCount++;
+    }
+
+    /**
+     * The sign, exponent and top {@link #SUB_BUCKET_BITS} mantissa bits of the value, which identify its histogram bucket.
+     */
+    private static long bucketKey(double value) {
+        return Double.doubleToLongBits(value) >> BUCKET_KEY_SHIFT;
     }
 
     @Override
@@ -69,15 +90,17 @@ class DetailedMetricAggregator implements MetricAggregator {
     }
 
     public static class DetailedMetrics {
-        private final double metricValue;
+        private double metricSum = 0;
         private int metricCount = 0;
 
-        private DetailedMetrics(double metricValue) {
-            this.metricValue = metricValue;
+        private DetailedMetrics() {
         }
 
+        /**
+         * The mean of the values in this bucket.
+         */
         public double metricValue() {
-            return metricValue;
+            return metricSum / metricCount;
         }
 
         public int metricCount() {
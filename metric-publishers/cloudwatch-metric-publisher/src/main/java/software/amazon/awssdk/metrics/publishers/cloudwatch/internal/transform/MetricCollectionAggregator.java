@@ -20,9 +20,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
-import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ApiName;
 import software.amazon.awssdk.metrics.MetricCategory;
@@ -41,10 +43,11 @@ import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
  * <p>It would be too expensive to upload every {@code MetricCollection} as a unique {@code PutMetricDataRequest}, so this
  * class aggregates the data so that multiple {@code MetricCollection}s can be placed in the same {@code PutMetricDataRequest}.
  *
- * <p><b>Warning:</b> This class is *not* thread-safe.
+ * <p>{@link #addCollection(MetricCollection)} may be called from any thread: it only places the collection in a lock-free
+ * queue. The queued collections are aggregated by {@link #aggregatePendingCollections()} or {@link #getRequests()}, which
+ * are *not* thread-safe and must only be called from a single thread at a time.
  */
 @SdkInternalApi
-@NotThreadSafe
 public class MetricCollectionAggregator {
     /**
      * The maximum number of {@link MetricDatum}s allowed in {@link PutMetricDataRequest#metricData()}. This limit is imposed by
@@ -59,6 +62,12 @@ public class MetricCollectionAggregator {
      */
     public static final int MAX_VALUES_PER_REQUEST = 300;
 
+    /**
+     * The maximum number of {@link MetricCollection}s that may be waiting to be aggregated. Collections added beyond this limit
+     * are dropped, so that a stalled aggregation thread cannot cause memory to grow without bound.
+     */
+    public static final int MAX_PENDING_COLLECTIONS = 4096;
+
     /**
      * The API name to include in the user agent for all {@link PutMetricDataRequest}s generated by this aggregator.
      */
@@ -76,6 +85,17 @@ public class MetricCollectionAggregator {
      */
     private final TimeBucketedMetrics timeBucketedMetrics;
 
+    /**
+     * The collections that have been added via {@link #addCollection(MetricCollection)} but not yet aggregated.
+     */
+    private final Queue<MetricCollection> pendingCollections = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of entries in {@link #pendingCollections}, tracked separately because {@link ConcurrentLinkedQueue#size()}
+     * is not a constant-time operation.
+     */
+    private final AtomicInteger pendingCollectionCount = new AtomicInteger();
+
     public MetricCollectionAggregator(String namespace,
                                       Set<SdkMetric<String>> dimensions,
                                       Set<MetricCategory> metricCategories,
@@ -86,10 +106,31 @@ public class MetricCollectionAggregator {
     }
 
     /**
-     * Add a collection to this aggregator.
+     * Add a collection to this aggregator. The collection is aggregated by the next call to
+     * {@link #aggregatePendingCollections()} or {@link #getRequests()}. This method is thread-safe.
+     *
+     * @return False if the collection was dropped because {@link #MAX_PENDING_COLLECTIONS} collections are already waiting to
+     * be aggregated.
+     */
+    public boolean addCollection(MetricCollection collection) {
+        if (pendingCollectionCount.incrementAndGet() > MAX_PENDING_COLLECTIONS) {
+            pendingCollectionCount.decrementAndGet();
+            return false;
+        }
+        pendingCollections.add(collection);
+        return true;
+    }
+
+    /**
+     * Aggregate all collections that were added via {@link #addCollection(MetricCollection)} since the last call to this
+     * method.
      */
-    public void addCollection(MetricCollection collection) {
-        timeBucketedMetrics.addMetrics(collection);
+    public void aggregatePendingCollections() {
+        MetricCollection collection;
+        while ((collection = pendingCollections.poll()) != null) {
+            pendingCollectionCount.decrementAndGet();
+            timeBucketedMetrics.addMetrics(collection);
+        }
     }
 
     /**
@@ -97,6 +138,8 @@ public class MetricCollectionAggregator {
      * {@link #addCollection(MetricCollection)}. This method resets the state of this {@code MetricCollectionAggregator}.
      */
     public List<PutMetricDataRequest> getRequests() {
+        aggregatePendingCollections();
+
         List<PutMetricDataRequest> requests = new ArrayList<>();
 
         List<MetricDatum> requestMetricDatums = new ArrayList<>();
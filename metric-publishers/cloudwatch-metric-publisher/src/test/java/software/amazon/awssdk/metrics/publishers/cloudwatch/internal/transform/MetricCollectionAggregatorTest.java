@@ -21,10 +21,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -336,6 +340,88 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void detailedMetricsWithCloseValuesAreGrouped() {
+        SdkMetric<Double> metric = someMetric(Double.class);
+        MetricCollectionAggregator aggregator = aggregatorWithCustomDetailedMetrics(metric);
+        MetricCollector collector = collector();
+        collector.reportMetric(metric, 10_000.0);
+        collector.reportMetric(metric, 10_002.0);
+        collector.reportMetric(metric, 20_000.0);
+        aggregator.addCollection(collectToFixedTime(collector));
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.values()).containsExactlyInAnyOrder(10_001.0, 20_000.0);
+                int groupedIndex = metricData.values().indexOf(10_001.0);
+                assertThat(metricData.counts().get(groupedIndex)).isEqualTo(2.0);
+            });
+        });
+    }
+
+    @Test
+    public void detailedMetricsValueCountIsBoundedByRange() {
+        SdkMetric<Double> metric = someMetric(Double.class);
+        MetricCollectionAggregator aggregator = aggregatorWithCustomDetailedMetrics(metric);
+        for (int i = 0; i < 10_000; i++) {
+            MetricCollector collector = collector();
+            collector.reportMetric(metric, 1000.0 + i / 100_000.0);
+            aggregator.addCollection(collectToFixedTime(collector));
+            aggregator.aggregatePendingCollections();
+        }
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.values()).hasSize(1);
+                assertThat(metricData.counts()).containsExactly(10_000.0);
+            });
+        });
+    }
+
+    @Test
+    public void collectionsCanBeAddedConcurrently() throws Exception {
+        MetricCollectionAggregator aggregator = defaultAggregator();
+        int threads = 4;
+        int collectionsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < collectionsPerThread; i++) {
+                        MetricCollector collector = collector();
+                        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1);
+                        assertThat(aggregator.addCollection(collectToFixedTime(collector))).isTrue();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.statisticValues().sampleCount()).isEqualTo((double) threads * collectionsPerThread);
+            });
+        });
+    }
+
+    @Test
+    public void collectionsBeyondPendingLimitAreDropped() {
+        MetricCollectionAggregator aggregator = defaultAggregator();
+        MetricCollection collection = collectToFixedTime(collector());
+        for (int i = 0; i < MetricCollectionAggregator.MAX_PENDING_COLLECTIONS; i++) {
+            assertThat(aggregator.addCollection(collection)).isTrue();
+        }
+        assertThat(aggregator.addCollection(collection)).isFalse();
+
+        aggregator.aggregatePendingCollections();
+        assertThat(aggregator.addCollection(collection)).isTrue();
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
@@ -0,0 +1,342 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.percentile.internal.PercentileMetrics;
+import software.amazon.awssdk.metrics.publishers.percentile.internal.SlidingWindowHistogram;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricPublisher} that keeps rolling percentiles of duration metrics in memory, per service and operation, so that
+ * SDK latency can be inspected from within the application without sending every {@link MetricCollection} elsewhere.
+ *
+ * <p>Each operation and metric pair is tracked in a fixed-size histogram that covers a sliding {@link Builder#window(Duration)}.
+ * The current percentiles can be read with {@link #snapshots()}, or through JMX when {@link Builder#jmxEnabled(Boolean)} is
+ * set.
+ *
+ * <p>By default, the following metrics are tracked:
+ * <ul>
+ *     <li>{@link CoreMetric#API_CALL_DURATION}</li>
+ *     <li>{@link CoreMetric#SERVICE_CALL_DURATION}</li>
+ *     <li>{@link CoreMetric#TIME_TO_FIRST_BYTE}</li>
+ *     <li>{@link HttpMetric#CONCURRENCY_ACQUIRE_DURATION}</li>
+ * </ul>
+ *
+ * <p>Publishing a collection does not block and performs no I/O.
+ *
+ * <p><b>Example:</b>
+ * <pre>
+ * PercentileMetricPublisher publisher = PercentileMetricPublisher.builder().jmxEnabled(true).build();
+ * DynamoDbClient client = DynamoDbClient.builder()
+ *                                       .overrideConfiguration(o -> o.addMetricPublisher(publisher))
+ *                                       .build();
+ * ...
+ * publisher.snapshots().forEach(System.out::println);
+ * </pre>
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class PercentileMetricPublisher implements MetricPublisher {
+    private static final Logger log = Logger.loggerFor(PercentileMetricPublisher.class);
+
+    private static final Set<SdkMetric<Duration>> DEFAULT_METRICS =
+        Stream.of(CoreMetric.API_CALL_DURATION,
+                  CoreMetric.SERVICE_CALL_DURATION,
+                  CoreMetric.TIME_TO_FIRST_BYTE,
+                  HttpMetric.CONCURRENCY_ACQUIRE_DURATION)
+              .collect(Collectors.toSet());
+    private static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+    private static final String JMX_DOMAIN = "software.amazon.awssdk.metrics";
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    /**
+     * The number of slices the window is divided into. Values leave the window one slice at a time, so the window covers
+     * between {@code (WINDOW_SLICES - 1) / WINDOW_SLICES} and all of the configured duration.
+     */
+    private static final int WINDOW_SLICES = 6;
+
+    private static final Comparator<PercentileSnapshot> SNAPSHOT_ORDER =
+        Comparator.comparing(PercentileSnapshot::serviceId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                  .thenComparing(PercentileSnapshot::operationName, Comparator.nullsFirst(Comparator.naturalOrder()))
+                  .thenComparing(s -> s.metric().name());
+
+    private final Set<SdkMetric<Duration>> metrics;
+    private final Duration window;
+    private final Clock clock;
+    private final Map<OperationMetric, SlidingWindowHistogram> histograms = new ConcurrentHashMap<>();
+    private final ObjectName jmxName;
+
+    private PercentileMetricPublisher(Builder builder) {
+        this.metrics = builder.metrics == null ? DEFAULT_METRICS : new HashSet<>(builder.metrics);
+        this.window = builder.window == null ? DEFAULT_WINDOW : Validate.isPositive(builder.window, "window");
+        this.clock = builder.clock == null ? Clock.systemUTC() : builder.clock;
+        this.jmxName = Boolean.TRUE.equals(builder.jmxEnabled) ? registerJmx(resolveName(builder)) : null;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static PercentileMetricPublisher create() {
+        return builder().build();
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        String serviceId = firstValue(metricCollection, CoreMetric.SERVICE_ID);
+        String operationName = firstValue(metricCollection, CoreMetric.OPERATION_NAME);
+        record(metricCollection, serviceId, operationName);
+    }
+
+    /**
+     * Retrieve the current percentiles of every operation and metric that has been published during the window, ordered by
+     * service ID, operation name and metric name.
+     */
+    public List<PercentileSnapshot> snapshots() {
+        List<PercentileSnapshot> result = new ArrayList<>();
+        histograms.forEach((key, histogram) -> {
+            SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot();
+            if (snapshot.count() == 0) {
+                return;
+            }
+            result.add(PercentileSnapshot.builder()
+                                         .serviceId(key.serviceId)
+                                         .operationName(key.operationName)
+                                         .metric(key.metric)
+                                         .count(snapshot.count())
+                                         .p50(toDuration(snapshot.valueAtPercentile(50)))
+                                         .p90(toDuration(snapshot.valueAtPercentile(90)))
+                                         .p99(toDuration(snapshot.valueAtPercentile(99)))
+                                         .max(toDuration(snapshot.max()))
+                                         .build());
+        });
+        result.sort(SNAPSHOT_ORDER);
+        return result;
+    }
+
+    /**
+     * Unregister this publisher from JMX, if it was registered, and discard all recorded values.
+     */
+    @Override
+    public void close() {
+        if (jmxName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(jmxName);
+            } catch (JMException e) {
+                log.warn(() -> "Failed to unregister " + jmxName + " from JMX.", e);
+            }
+        }
+        histograms.clear();
+    }
+
+    ObjectName jmxName() {
+        return jmxName;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void record(MetricCollection collection, String serviceId, String operationName) {
+        for (MetricRecord<?> record : collection) {
+            if (metrics.contains(record.metric())) {
+                OperationMetric key = new OperationMetric(serviceId, operationName, (SdkMetric<Duration>) record.metric());
+                histograms.computeIfAbsent(key, k -> new SlidingWindowHistogram(window, WINDOW_SLICES, clock))
+                          .record(toMicros((Duration) record.value()));
+            }
+        }
+        collection.children().forEach(child -> record(child, serviceId, operationName));
+    }
+
+    private static String firstValue(MetricCollection collection, SdkMetric<String> metric) {
+        List<String> values = collection.metricValues(metric);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static long toMicros(Duration duration) {
+        long seconds = duration.getSeconds();
+        if (seconds >= SlidingWindowHistogram.MAX_VALUE / 1_000_000) {
+            return SlidingWindowHistogram.MAX_VALUE;
+        }
+        return TimeUnit.SECONDS.toMicros(seconds) + TimeUnit.NANOSECONDS.toMicros(duration.getNano());
+    }
+
+    private static Duration toDuration(long micros) {
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+
+    private String resolveName(Builder builder) {
+        if (builder.name != null) {
+            return builder.name;
+        }
+        int instance = INSTANCE_COUNT.getAndIncrement();
+        return instance == 0 ? "default" : "default-" + instance;
+    }
+
+    private ObjectName registerJmx(String name) {
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=PercentileMetricPublisher,name=" + ObjectName.quote(name));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(new PercentileMetrics(this::snapshots), objectName);
+            return objectName;
+        } catch (JMException e) {
+            log.warn(() -> "Failed to register the percentile metric publisher '" + name + "' with JMX. Percentiles will only "
+                           + "be available through snapshots().", e);
+            return null;
+        }
+    }
+
+    private static final class OperationMetric {
+        private final String serviceId;
+        private final String operationName;
+        private final SdkMetric<Duration> metric;
+
+        private OperationMetric(String serviceId, String operationName, SdkMetric<Duration> metric) {
+            this.serviceId = serviceId;
+            this.operationName = operationName;
+            this.metric = metric;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            OperationMetric that = (OperationMetric) o;
+
+            return Objects.equals(serviceId, that.serviceId) &&
+                   Objects.equals(operationName, that.operationName) &&
+                   metric.equals(that.metric);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(serviceId);
+            result = 31 * result + Objects.hashCode(operationName);
+            result = 31 * result + metric.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * Builder class to construct {@link PercentileMetricPublisher} instances. See the individual properties for which
+     * configuration settings are available.
+     */
+    public static final class Builder {
+        private Collection<SdkMetric<Duration>> metrics;
+        private Duration window;
+        private Boolean jmxEnabled;
+        private String name;
+        private Clock clock;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the duration metrics whose percentiles should be tracked. Metrics that are not in this set are ignored.
+         *
+         * <p>If this is not specified, {@link CoreMetric#API_CALL_DURATION}, {@link CoreMetric#SERVICE_CALL_DURATION},
+         * {@link CoreMetric#TIME_TO_FIRST_BYTE} and {@link HttpMetric#CONCURRENCY_ACQUIRE_DURATION} are tracked.
+         */
+        public Builder metrics(Collection<SdkMetric<Duration>> metrics) {
+            this.metrics = new ArrayList<>(metrics);
+            return this;
+        }
+
+        /**
+         * @see #metrics(Collection)
+         */
+        @SafeVarargs
+        public final Builder metrics(SdkMetric<Duration>... metrics) {
+            return metrics(Arrays.asList(metrics));
+        }
+
+        /**
+         * Configure how long a value contributes to the percentiles after it is published.
+         *
+         * <p>If this is not specified, a window of 1 minute is used.
+         */
+        public Builder window(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Configure whether the percentiles should be exposed as an MXBean on the platform MBean server, under
+         * {@code software.amazon.awssdk.metrics:type=PercentileMetricPublisher,name="<name>"}. The MXBean is unregistered when
+         * the publisher is closed.
+         *
+         * <p>If this is not specified, the percentiles are only available through {@link PercentileMetricPublisher#snapshots()}.
+         */
+        public Builder jmxEnabled(Boolean jmxEnabled) {
+            this.jmxEnabled = jmxEnabled;
+            return this;
+        }
+
+        /**
+         * Configure the name used to register this publisher with JMX. Each publisher registered at the same time must use a
+         * different name.
+         *
+         * <p>If this is not specified, "default" is used for the first publisher and "default-N" for later ones.
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Build a {@link PercentileMetricPublisher} using the configuration currently configured in this builder.
+         */
+        public PercentileMetricPublisher build() {
+            return new PercentileMetricPublisher(this);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The percentiles of a single duration metric for a single operation, as returned by
+ * {@link PercentileMetricPublisher#snapshots()}.
+ *
+ * <p>The percentiles cover the values published during the publisher's configured window, and are accurate to within a few
+ * percent of the true value.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class PercentileSnapshot {
+    private final String serviceId;
+    private final String operationName;
+    private final SdkMetric<Duration> metric;
+    private final long count;
+    private final Duration p50;
+    private final Duration p90;
+    private final Duration p99;
+    private final Duration max;
+
+    private PercentileSnapshot(Builder builder) {
+        this.serviceId = builder.serviceId;
+        this.operationName = builder.operationName;
+        this.metric = builder.metric;
+        this.count = builder.count;
+        this.p50 = builder.p50;
+        this.p90 = builder.p90;
+        this.p99 = builder.p99;
+        this.max = builder.max;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The service ID of the API calls that reported the metric, or null if the metric collection did not include one.
+     */
+    public String serviceId() {
+        return serviceId;
+    }
+
+    /**
+     * The name of the operation that reported the metric, or null if the metric collection did not include one.
+     */
+    public String operationName() {
+        return operationName;
+    }
+
+    /**
+     * The metric that these percentiles describe.
+     */
+    public SdkMetric<Duration> metric() {
+        return metric;
+    }
+
+    /**
+     * The number of values in the window.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * The median value in the window.
+     */
+    public Duration p50() {
+        return p50;
+    }
+
+    /**
+     * The 90th percentile value in the window.
+     */
+    public Duration p90() {
+        return p90;
+    }
+
+    /**
+     * The 99th percentile value in the window.
+     */
+    public Duration p99() {
+        return p99;
+    }
+
+    /**
+     * The largest value in the window.
+     */
+    public Duration max() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PercentileSnapshot that = (PercentileSnapshot) o;
+
+        return count == that.count &&
+               Objects.equals(serviceId, that.serviceId) &&
+               Objects.equals(operationName, that.operationName) &&
+               Objects.equals(metric, that.metric) &&
+               Objects.equals(p50, that.p50) &&
+               Objects.equals(p90, that.p90) &&
+               Objects.equals(p99, that.p99) &&
+               Objects.equals(max, that.max);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(serviceId);
+        result = 31 * result + Objects.hashCode(operationName);
+        result = 31 * result + Objects.hashCode(metric);
+        result = 31 * result + Long.hashCode(count);
+        result = 31 * result + Objects.hashCode(p50);
+        result = 31 * result + Objects.hashCode(p90);
+        result = 31 * result + Objects.hashCode(p99);
+        result = 31 * result + Objects.hashCode(max);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("PercentileSnapshot")
+                       .add("serviceId", serviceId)
+                       .add("operationName", operationName)
+                       .add("metric", metric.name())
+                       .add("count", count)
+                       .add("p50", p50)
+                       .add("p90", p90)
+                       .add("p99", p99)
+                       .add("max", max)
+                       .build();
+    }
+
+    static final class Builder {
+        private String serviceId;
+        private String operationName;
+        private SdkMetric<Duration> metric;
+        private long count;
+        private Duration p50;
+        private Duration p90;
+        private Duration p99;
+        private Duration max;
+
+        private Builder() {
+        }
+
+        Builder serviceId(String serviceId) {
+            this.serviceId = serviceId;
+            return this;
+        }
+
+        Builder operationName(String operationName) {
+            this.operationName = operationName;
+            return this;
+        }
+
+        Builder metric(SdkMetric<Duration> metric) {
+            this.metric = metric;
+            return this;
+        }
+
+        Builder count(long count) {
+            this.count = count;
+            return this;
+        }
+
+        Builder p50(Duration p50) {
+            this.p50 = p50;
+            return this;
+        }
+
+        Builder p90(Duration p90) {
+            this.p90 = p90;
+            return this;
+        }
+
+        Builder p99(Duration p99) {
+            this.p99 = p99;
+            return this;
+        }
+
+        Builder max(Duration max) {
+            this.max = max;
+            return this;
+        }
+
+        PercentileSnapshot build() {
+            return new PercentileSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile.internal;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.percentile.PercentileSnapshot;
+
+/**
+ * The {@link PercentileMetricsMxBean} implementation, which reads from the publisher's snapshots on every call.
+ */
+@SdkInternalApi
+public final class PercentileMetrics implements PercentileMetricsMxBean {
+    private final Supplier<List<PercentileSnapshot>> snapshots;
+
+    public PercentileMetrics(Supplier<List<PercentileSnapshot>> snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public List<PercentileView> getPercentiles() {
+        return snapshots.get().stream().map(PercentileView::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile.internal;
+
+import java.util.List;
+import javax.management.MXBean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.percentile.PercentileMetricPublisher;
+
+/**
+ * The JMX view of a {@link PercentileMetricPublisher}. Registered by the publisher when JMX is enabled.
+ */
+@SdkInternalApi
+@MXBean
+public interface PercentileMetricsMxBean {
+    /**
+     * The current percentiles of every operation and metric that has been published.
+     */
+    List<PercentileView> getPercentiles();
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.publishers.percentile.PercentileSnapshot;
+
+/**
+ * A {@link PercentileSnapshot} with JavaBean-style getters, so that JMX can expose it as composite data. Durations are in
+ * milliseconds.
+ */
+@SdkInternalApi
+public final class PercentileView {
+    private final PercentileSnapshot snapshot;
+
+    public PercentileView(PercentileSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public String getServiceId() {
+        return snapshot.serviceId();
+    }
+
+    public String getOperationName() {
+        return snapshot.operationName();
+    }
+
+    public String getMetricName() {
+        return snapshot.metric().name();
+    }
+
+    public long getCount() {
+        return snapshot.count();
+    }
+
+    public double getP50Millis() {
+        return toMillis(snapshot.p50().toNanos());
+    }
+
+    public double getP90Millis() {
+        return toMillis(snapshot.p90().toNanos());
+    }
+
+    public double getP99Millis() {
+        return toMillis(snapshot.p99().toNanos());
+    }
+
+    public double getMaxMillis() {
+        return toMillis(snapshot.max().toNanos());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile.internal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A fixed-size histogram of non-negative {@code long} values recorded over a sliding time window.
+ *
+ * <p>Values are counted in log-linear buckets: values below {@code 2^SUB_BUCKET_BITS} have a bucket each, and every larger
+ * power-of-two range is split into {@code 2^SUB_BUCKET_BITS} equally sized buckets. A bucket's width is therefore at most
+ * {@code 2^-SUB_BUCKET_BITS} of its lower bound. Values above {@link #MAX_VALUE} are counted as {@code MAX_VALUE}.
+ *
+ * <p>The window is split into a fixed number of slices, and each slice has its own bucket array. A slice is replaced when its
+ * slot is reused for a later period, so memory does not depend on the number of recorded values. Recording never blocks;
+ * values recorded at the moment a slice is replaced may be lost.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class SlidingWindowHistogram {
+    /**
+     * The largest value that is tracked precisely. Recorded in microseconds, this is about 25 days.
+     */
+    public static final long MAX_VALUE = (1L << 41) - 1;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final Clock clock;
+    private final long sliceMillis;
+    private final AtomicReferenceArray<Slice> slices;
+
+    public SlidingWindowHistogram(Duration window, int sliceCount, Clock clock) {
+        Validate.isPositive(window, "window");
+        Validate.isPositive(sliceCount, "sliceCount");
+        this.clock = Validate.paramNotNull(clock, "clock");
+        this.sliceMillis = Math.max(1, window.toMillis() / sliceCount);
+        this.slices = new AtomicReferenceArray<>(sliceCount);
+    }
+
+    /**
+     * Record a value in the current slice of the window. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_VALUE));
+        Slice slice = currentSlice();
+        slice.counts.incrementAndGet(bucketIndex(clamped));
+        slice.max.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Merge the slices that are still within the window into a point-in-time snapshot.
+     */
+    public Snapshot snapshot() {
+        long currentPeriod = currentPeriod();
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (slice == null || slice.period <= currentPeriod - slices.length() || slice.period > currentPeriod) {
+                continue;
+            }
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                long count = slice.counts.get(bucket);
+                counts[bucket] += count;
+                total += count;
+            }
+            max = Math.max(max, slice.max.get());
+        }
+        return new Snapshot(counts, total, max);
+    }
+
+    private Slice currentSlice() {
+        long period = currentPeriod();
+        int slot = (int) Math.floorMod(period, (long) slices.length());
+        Slice slice = slices.get(slot);
+        while (slice == null || slice.period < period) {
+            Slice fresh = new Slice(period);
+            if (slices.compareAndSet(slot, slice, fresh)) {
+                return fresh;
+            }
+            slice = slices.get(slot);
+        }
+        return slice;
+    }
+
+    private long currentPeriod() {
+        return clock.millis() / sliceMillis;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * The midpoint of the values that fall into the given bucket.
+     */
+    static long bucketValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        int widthBits = exponent - SUB_BUCKET_BITS;
+        long lowerBound = (SUB_BUCKET_COUNT + subBucket) << widthBits;
+        return lowerBound + ((1L << widthBits) >> 1);
+    }
+
+    private static final class Slice {
+        private final long period;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong max = new AtomicLong();
+
+        private Slice(long period) {
+            this.period = period;
+        }
+    }
+
+    /**
+     * The values recorded in a {@link SlidingWindowHistogram}'s window at the time {@link #snapshot()} was called.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.max = max;
+        }
+
+        /**
+         * The number of values in the window.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * The largest value in the window, or 0 if the window is empty.
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * The value below which the given percentage of values in the window fall, or 0 if the window is empty. The result is
+         * the midpoint of the bucket containing that value, capped at {@link #max()}.
+         */
+        public long valueAtPercentile(double percentile) {
+            Validate.isTrue(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100: %s", percentile);
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(bucketValue(bucket), max);
+                }
+            }
+            return max;
+        }
+    }
+}
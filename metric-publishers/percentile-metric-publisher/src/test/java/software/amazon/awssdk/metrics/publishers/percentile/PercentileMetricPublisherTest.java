@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class PercentileMetricPublisherTest {
+
+    @Test
+    public void publish_tracksPercentilesPerOperation() {
+        try (PercentileMetricPublisher publisher = PercentileMetricPublisher.create()) {
+            for (int i = 1; i <= 100; i++) {
+                publisher.publish(apiCall("DynamoDB", "GetItem", Duration.ofMillis(i)).collect());
+            }
+            publisher.publish(apiCall("DynamoDB", "PutItem", Duration.ofMillis(7)).collect());
+
+            List<PercentileSnapshot> snapshots = publisher.snapshots();
+            assertThat(snapshots).extracting(PercentileSnapshot::operationName).containsExactly("GetItem", "PutItem");
+
+            PercentileSnapshot getItem = snapshots.get(0);
+            assertThat(getItem.serviceId()).isEqualTo("DynamoDB");
+            assertThat(getItem.metric()).isEqualTo(CoreMetric.API_CALL_DURATION);
+            assertThat(getItem.count()).isEqualTo(100);
+            assertThat(getItem.max()).isEqualTo(Duration.ofMillis(100));
+            assertThat(getItem.p50().toNanos()).isBetween(Duration.ofMillis(47).toNanos(), Duration.ofMillis(53).toNanos());
+            assertThat(getItem.p99().toNanos()).isBetween(Duration.ofMillis(95).toNanos(), Duration.ofMillis(100).toNanos());
+
+            assertThat(snapshots.get(1).p50()).isEqualTo(Duration.ofMillis(7));
+        }
+    }
+
+    @Test
+    public void publish_recordsMetricsFromChildCollections() {
+        try (PercentileMetricPublisher publisher = PercentileMetricPublisher.create()) {
+            MetricCollector collector = apiCall("S3", "GetObject", Duration.ofMillis(10));
+            MetricCollector http = collector.createChild("ApiCallAttempt").createChild("HttpClient");
+            http.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(2));
+            publisher.publish(collector.collect());
+
+            assertThat(publisher.snapshots()).extracting(PercentileSnapshot::metric)
+                                             .containsExactlyInAnyOrder(CoreMetric.API_CALL_DURATION,
+                                                                        HttpMetric.CONCURRENCY_ACQUIRE_DURATION);
+        }
+    }
+
+    @Test
+    public void publish_ignoresMetricsNotConfigured() {
+        try (PercentileMetricPublisher publisher = PercentileMetricPublisher.builder()
+                                                                            .metrics(CoreMetric.SERVICE_CALL_DURATION)
+                                                                            .build()) {
+            publisher.publish(apiCall("S3", "GetObject", Duration.ofMillis(10)).collect());
+            assertThat(publisher.snapshots()).isEmpty();
+        }
+    }
+
+    @Test
+    public void jmxEnabled_registersAndUnregistersMxBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name;
+        try (PercentileMetricPublisher publisher = PercentileMetricPublisher.builder()
+                                                                            .jmxEnabled(true)
+                                                                            .name("jmx-test")
+                                                                            .build()) {
+            publisher.publish(apiCall("S3", "GetObject", Duration.ofMillis(10)).collect());
+
+            name = publisher.jmxName();
+            assertThat(name).isNotNull();
+            assertThat(name.getKeyProperty("name")).isEqualTo("\"jmx-test\"");
+
+            CompositeData[] percentiles = (CompositeData[]) server.getAttribute(name, "Percentiles");
+            assertThat(percentiles).hasSize(1);
+            assertThat(percentiles[0].get("operationName")).isEqualTo("GetObject");
+            assertThat(percentiles[0].get("maxMillis")).isEqualTo(10.0);
+        }
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+
+    private static MetricCollector apiCall(String serviceId, String operationName, Duration duration) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        collector.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+        return collector;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.percentile.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowHistogramTest {
+    private final MutableClock clock = new MutableClock();
+    private final SlidingWindowHistogram histogram = new SlidingWindowHistogram(Duration.ofSeconds(60), 6, clock);
+
+    @Test
+    public void emptyHistogram_returnsZeros() {
+        SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.max()).isZero();
+        assertThat(snapshot.valueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    public void smallValues_areExact() {
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(10);
+        assertThat(snapshot.valueAtPercentile(50)).isEqualTo(5);
+        assertThat(snapshot.valueAtPercentile(90)).isEqualTo(9);
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(10);
+        assertThat(snapshot.max()).isEqualTo(10);
+    }
+
+    @Test
+    public void largeValues_areWithinBucketPrecision() {
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.record(i * 10L);
+        }
+
+        SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat((double) snapshot.valueAtPercentile(50)).isCloseTo(500_000, within(500_000 * 0.07));
+        assertThat((double) snapshot.valueAtPercentile(90)).isCloseTo(900_000, within(900_000 * 0.07));
+        assertThat((double) snapshot.valueAtPercentile(99)).isCloseTo(990_000, within(990_000 * 0.07));
+        assertThat(snapshot.max()).isEqualTo(1_000_000);
+    }
+
+    @Test
+    public void outOfRangeValues_areClamped() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.valueAtPercentile(50)).isZero();
+        assertThat(snapshot.max()).isEqualTo(SlidingWindowHistogram.MAX_VALUE);
+    }
+
+    @Test
+    public void valuesOutsideWindow_areDropped() {
+        histogram.record(100);
+        clock.advance(Duration.ofSeconds(30));
+        histogram.record(200);
+
+        assertThat(histogram.snapshot().count()).isEqualTo(2);
+
+        clock.advance(Duration.ofSeconds(31));
+        SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.max()).isEqualTo(200);
+
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(histogram.snapshot().count()).isZero();
+    }
+
+    @Test
+    public void bucketIndex_isMonotonicAndValueFallsInBucket() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 16; value++) {
+            int index = SlidingWindowHistogram.bucketIndex(value);
+            assertThat(index).isGreaterThanOrEqualTo(previous);
+            previous = index;
+            assertThat(SlidingWindowHistogram.bucketIndex(SlidingWindowHistogram.bucketValue(index))).isEqualTo(index);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.ofEpochSecond(1_000_000);
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import com.squareup.javapoet.JavaFile;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessingException;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.TableSchemaGenerator;
+
+/**
+ * An annotation processor that generates a {@link TableSchema} for every class annotated with {@link DynamoDbBean} or
+ * {@link DynamoDbImmutable} at build time.
+ * <p>
+ * {@link BeanTableSchema} and {@link ImmutableTableSchema} introspect the annotated class with reflection the first time
+ * a schema is requested, which adds a noticeable cost to the first request an application makes. The schema generated by
+ * this processor describes the same attributes as a {@link StaticTableSchema} or {@link StaticImmutableTableSchema} that
+ * uses method references instead, so none of that work happens at runtime.
+ * <p>
+ * For an annotated class {@code com.example.Customer} the processor generates {@code com.example.CustomerTableSchema},
+ * whose {@code create()} method returns the schema. Nested classes are named after their enclosing classes, so
+ * {@code Order.LineItem} generates {@code Order_LineItemTableSchema}. Abstract classes are skipped.
+ * <p>
+ * The processor is registered as a service, so adding this module to the compile classpath (or the annotation processor
+ * path) of a project is all that is required to enable it. {@link TableSchema#fromBean(Class)} and
+ * {@link TableSchema#fromImmutableClass(Class)} are unaffected; the generated schema must be used explicitly:
+ * <pre>
+ * {@code
+ * DynamoDbTable<Customer> customerTable = enhancedClient.table("customers", CustomerTableSchema.create());
+ * }
+ * </pre>
+ * <p>
+ * Since the processor is enabled just by being on the classpath, a class it cannot generate a schema for (for example a
+ * private class) only causes a warning, and no schema is generated for it. Generated schemas that refer to such a class
+ * use its reflective schema instead. Pass {@code -A}{@value #STRICT_OPTION}{@code =true} to the compiler to report these
+ * classes as errors instead.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    /**
+     * The processor option that makes classes that no schema can be generated for fail the build.
+     */
+    public static final String STRICT_OPTION = "awssdk.enhanced.dynamodb.processor.strict";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Stream.of(DynamoDbBean.class, DynamoDbImmutable.class)
+                     .map(Class::getCanonicalName)
+                     .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(STRICT_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> itemTypes = new LinkedHashSet<>();
+        itemTypes.addAll(ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(DynamoDbBean.class)));
+        itemTypes.addAll(ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(DynamoDbImmutable.class)));
+
+        Map<TypeElement, JavaFile> schemas = new LinkedHashMap<>();
+        boolean unsupportedTypeFound = true;
+        while (unsupportedTypeFound) {
+            // A class that fails to generate is removed from the round, and the schemas are generated again so that none
+            // of them refers to the schema of that class.
+            unsupportedTypeFound = false;
+            schemas.clear();
+            TableSchemaGenerator generator = new TableSchemaGenerator(processingEnv, itemTypes);
+
+            for (TypeElement itemType : new ArrayList<>(itemTypes)) {
+                if (!generator.canGenerate(itemType)) {
+                    continue;
+                }
+
+                try {
+                    schemas.put(itemType, generator.generate(itemType));
+                } catch (ProcessingException e) {
+                    reportUnsupported(itemType, e);
+                    itemTypes.remove(itemType);
+                    unsupportedTypeFound = true;
+                }
+            }
+        }
+
+        schemas.forEach((itemType, schema) -> {
+            try {
+                schema.writeTo(processingEnv.getFiler());
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                         "Unable to write the generated table schema: " + e.getMessage(),
+                                                         itemType);
+            }
+        });
+
+        return false;
+    }
+
+    private void reportUnsupported(TypeElement itemType, ProcessingException e) {
+        if (Boolean.parseBoolean(processingEnv.getOptions().get(STRICT_OPTION))) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element());
+        } else {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                                                     "No table schema is generated for " + itemType + ": " + e.getMessage(),
+                                                     e.element());
+        }
+    }
+}
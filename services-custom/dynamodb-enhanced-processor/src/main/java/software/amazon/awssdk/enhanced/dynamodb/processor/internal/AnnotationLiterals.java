@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.SimpleAnnotationValueVisitor8;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Generates expressions that create an instance of an annotation found in the source. Attribute tag suppliers take the
+ * annotation they were found for as their argument, and the generated schema passes them an anonymous implementation of
+ * the annotation interface that returns the same member values, instead of reading the annotation with reflection.
+ */
+@SdkInternalApi
+final class AnnotationLiterals {
+    private final Elements elements;
+    private final Types types;
+
+    AnnotationLiterals(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    CodeBlock literal(AnnotationMirror annotation, Element annotatedElement) {
+        TypeElement annotationType = Annotations.annotationElement(annotation);
+        ClassName annotationClass = ClassName.get(annotationType);
+
+        TypeSpec.Builder literal =
+            TypeSpec.anonymousClassBuilder("")
+                    .addSuperinterface(annotationClass)
+                    .addMethod(MethodSpec.methodBuilder("annotationType")
+                                         .addAnnotation(Override.class)
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .returns(ParameterizedTypeName.get(ClassName.get(Class.class),
+                                                                            WildcardTypeName.subtypeOf(Annotation.class)))
+                                         .addStatement("return $T.class", annotationClass)
+                                         .build());
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> member :
+            elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            TypeMirror memberType = member.getKey().getReturnType();
+            literal.addMethod(MethodSpec.methodBuilder(member.getKey().getSimpleName().toString())
+                                        .addAnnotation(Override.class)
+                                        .addModifiers(Modifier.PUBLIC)
+                                        .returns(TypeName.get(memberType))
+                                        .addStatement("return $L", value(member.getValue(), memberType, annotatedElement))
+                                        .build());
+        }
+
+        return CodeBlock.of("$L", literal.build());
+    }
+
+    private CodeBlock value(AnnotationValue value, TypeMirror valueType, Element annotatedElement) {
+        return value.accept(new ValueLiteralVisitor(annotatedElement), valueType);
+    }
+
+    private final class ValueLiteralVisitor extends SimpleAnnotationValueVisitor8<CodeBlock, TypeMirror> {
+        private final Element annotatedElement;
+
+        private ValueLiteralVisitor(Element annotatedElement) {
+            this.annotatedElement = annotatedElement;
+        }
+
+        @Override
+        public CodeBlock visitBoolean(boolean b, TypeMirror type) {
+            return CodeBlock.of("$L", b);
+        }
+
+        @Override
+        public CodeBlock visitByte(byte b, TypeMirror type) {
+            return CodeBlock.of("(byte) $L", b);
+        }
+
+        @Override
+        public CodeBlock visitChar(char c, TypeMirror type) {
+            return CodeBlock.of("(char) $L", (int) c);
+        }
+
+        @Override
+        public CodeBlock visitShort(short s, TypeMirror type) {
+            return CodeBlock.of("(short) $L", s);
+        }
+
+        @Override
+        public CodeBlock visitInt(int i, TypeMirror type) {
+            return CodeBlock.of("$L", i);
+        }
+
+        @Override
+        public CodeBlock visitLong(long l, TypeMirror type) {
+            return CodeBlock.of("$LL", l);
+        }
+
+        @Override
+        public CodeBlock visitFloat(float f, TypeMirror type) {
+            if (Float.isNaN(f)) {
+                return CodeBlock.of("$T.NaN", Float.class);
+            }
+
+            if (Float.isInfinite(f)) {
+                return CodeBlock.of("$T.$N", Float.class, f > 0 ? "POSITIVE_INFINITY" : "NEGATIVE_INFINITY");
+            }
+
+            return CodeBlock.of("$LF", f);
+        }
+
+        @Override
+        public CodeBlock visitDouble(double d, TypeMirror type) {
+            if (Double.isNaN(d)) {
+                return CodeBlock.of("$T.NaN", Double.class);
+            }
+
+            if (Double.isInfinite(d)) {
+                return CodeBlock.of("$T.$N", Double.class, d > 0 ? "POSITIVE_INFINITY" : "NEGATIVE_INFINITY");
+            }
+
+            return CodeBlock.of("$LD", d);
+        }
+
+        @Override
+        public CodeBlock visitString(String s, TypeMirror type) {
+            return CodeBlock.of("$S", s);
+        }
+
+        @Override
+        public CodeBlock visitType(TypeMirror t, TypeMirror type) {
+            return CodeBlock.of("$T.class", TypeName.get(types.erasure(t)));
+        }
+
+        @Override
+        public CodeBlock visitEnumConstant(VariableElement c, TypeMirror type) {
+            return CodeBlock.of("$T.$N", ClassName.get((TypeElement) c.getEnclosingElement()), c.getSimpleName().toString());
+        }
+
+        @Override
+        public CodeBlock visitArray(List<? extends AnnotationValue> values, TypeMirror type) {
+            TypeMirror componentType = ((ArrayType) type).getComponentType();
+            List<CodeBlock> elementLiterals = values.stream()
+                                                    .map(v -> v.accept(this, componentType))
+                                                    .collect(Collectors.toList());
+
+            return CodeBlock.of("new $T {$L}", TypeName.get(types.erasure(type)), CodeBlock.join(elementLiterals, ", "));
+        }
+
+        @Override
+        protected CodeBlock defaultAction(Object o, TypeMirror type) {
+            throw new ProcessingException(annotatedElement, "A table schema cannot be generated for an attribute tag "
+                                                            + "annotation with a member of type " + type + ".");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Helpers for reading annotations from the source model. Annotations are always read through their mirrors, because
+ * reading a {@code Class} valued member of an annotation instance fails for classes that have not been compiled yet.
+ */
+@SdkInternalApi
+final class Annotations {
+    private Annotations() {
+    }
+
+    static boolean isPresent(Element element, Class<? extends Annotation> annotationType) {
+        return find(element, annotationType).isPresent();
+    }
+
+    static Optional<AnnotationMirror> find(Element element, Class<? extends Annotation> annotationType) {
+        return element.getAnnotationMirrors()
+                      .stream()
+                      .filter(a -> isOfType(a, annotationType))
+                      .map(a -> (AnnotationMirror) a)
+                      .findFirst();
+    }
+
+    static boolean isOfType(AnnotationMirror annotation, Class<? extends Annotation> annotationType) {
+        return annotationElement(annotation).getQualifiedName().contentEquals(annotationType.getCanonicalName());
+    }
+
+    static TypeElement annotationElement(AnnotationMirror annotation) {
+        return (TypeElement) annotation.getAnnotationType().asElement();
+    }
+
+    /**
+     * Returns the value of the named member of an annotation, falling back to the member's default value.
+     */
+    static AnnotationValue value(Elements elements, AnnotationMirror annotation, String memberName) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+            elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(memberName)) {
+                return entry.getValue();
+            }
+        }
+
+        throw new IllegalArgumentException("Annotation " + annotation + " has no member named '" + memberName + "'");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A property of an annotated class that is mapped to an attribute: the getter on the item class, the setter on the item
+ * (or builder) class, and the property type resolved against the item class.
+ */
+@SdkInternalApi
+final class MappedProperty {
+    private final String name;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final TypeMirror type;
+
+    MappedProperty(String name, ExecutableElement getter, ExecutableElement setter, TypeMirror type) {
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+        this.type = type;
+    }
+
+    String name() {
+        return name;
+    }
+
+    ExecutableElement getter() {
+        return getter;
+    }
+
+    ExecutableElement setter() {
+        return setter;
+    }
+
+    TypeMirror type() {
+        return type;
+    }
+
+    /**
+     * Returns the annotation of the given type, preferring the one on the getter over the one on the setter.
+     */
+    Optional<AnnotationMirror> annotation(Class<? extends Annotation> annotationType) {
+        Optional<AnnotationMirror> getterAnnotation = Annotations.find(getter, annotationType);
+        return getterAnnotation.isPresent() ? getterAnnotation : Annotations.find(setter, annotationType);
+    }
+
+    boolean hasAnnotation(Class<? extends Annotation> annotationType) {
+        return annotation(annotationType).isPresent();
+    }
+
+    /**
+     * Returns all annotations on the getter followed by all annotations on the setter.
+     */
+    List<AnnotationMirror> annotations() {
+        List<AnnotationMirror> annotations = new ArrayList<>(getter.getAnnotationMirrors());
+        annotations.addAll(setter.getAnnotationMirrors());
+        return annotations;
+    }
+}
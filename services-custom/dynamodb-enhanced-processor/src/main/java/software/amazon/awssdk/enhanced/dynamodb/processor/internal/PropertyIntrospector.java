@@ -0,0 +1,273 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.beans.Introspector;
+import java.beans.Transient;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnore;
+
+/**
+ * Discovers the mapped properties of annotated classes from the source model. The rules are the same as the ones
+ * {@link BeanTableSchema} (through {@link Introspector}) and {@link ImmutableTableSchema} apply at runtime, so a
+ * generated schema maps exactly the attributes the reflective schema would.
+ */
+@SdkInternalApi
+final class PropertyIntrospector {
+    private static final String BUILD_METHOD = "build";
+    private static final String TO_BUILDER_METHOD = "toBuilder";
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    // Methods from Object are commonly overridden and confuse the mapper, automatically exclude any method with a name
+    // that matches a method defined on Object.
+    private static final Set<String> IMMUTABLE_NAMES_TO_EXCLUDE =
+        Collections.unmodifiableSet(Stream.concat(Arrays.stream(Object.class.getMethods()).map(Method::getName),
+                                                  Stream.of(TO_BUILDER_METHOD))
+                                          .collect(Collectors.toSet()));
+
+    private final Elements elements;
+    private final Types types;
+
+    PropertyIntrospector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Returns the properties of a bean class, sorted by name: every public getter that has a public setter of the same
+     * type, unless either of them is annotated with {@link DynamoDbIgnore} or {@link Transient}.
+     */
+    List<MappedProperty> beanProperties(TypeElement beanType) {
+        DeclaredType owner = (DeclaredType) beanType.asType();
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, List<ExecutableElement>> setters = new LinkedHashMap<>();
+
+        for (ExecutableElement method : publicInstanceMethods(beanType)) {
+            String methodName = method.getSimpleName().toString();
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(owner, method);
+            TypeMirror returnType = methodType.getReturnType();
+
+            if (methodType.getParameterTypes().isEmpty()) {
+                if (methodName.length() > 2 && methodName.startsWith(IS_PREFIX) && returnType.getKind() == TypeKind.BOOLEAN) {
+                    getters.put(Introspector.decapitalize(methodName.substring(2)), method);
+                } else if (methodName.length() > 3 && methodName.startsWith(GET_PREFIX)
+                           && returnType.getKind() != TypeKind.VOID) {
+                    // An 'is' getter takes precedence over a 'get' getter for the same property
+                    getters.putIfAbsent(Introspector.decapitalize(methodName.substring(3)), method);
+                }
+            } else if (methodType.getParameterTypes().size() == 1 && methodName.length() > 3
+                       && methodName.startsWith(SET_PREFIX) && returnType.getKind() == TypeKind.VOID) {
+                setters.computeIfAbsent(Introspector.decapitalize(methodName.substring(3)), n -> new ArrayList<>())
+                       .add(method);
+            }
+        }
+
+        List<MappedProperty> properties = new ArrayList<>();
+
+        getters.forEach((name, getter) -> {
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf(owner, getter)).getReturnType();
+
+            setters.getOrDefault(name, Collections.emptyList())
+                   .stream()
+                   .filter(s -> isSameErasure(parameterType(owner, s), propertyType))
+                   .findFirst()
+                   .map(setter -> new MappedProperty(name, getter, setter, propertyType))
+                   .filter(p -> !isIgnored(p.getter()) && !isIgnored(p.setter()))
+                   .ifPresent(properties::add);
+        });
+
+        return properties;
+    }
+
+    /**
+     * Returns the properties of an immutable class in declaration order: every public getter on the immutable class paired
+     * with the method of the same name (optionally prefixed with 'set') on its builder. Like {@link ImmutableTableSchema},
+     * any getter without a matching builder method, and any builder method without a matching getter, is an error.
+     */
+    List<MappedProperty> immutableProperties(TypeElement immutableType, TypeElement builderType) {
+        DeclaredType owner = (DeclaredType) immutableType.asType();
+        DeclaredType builderOwner = (DeclaredType) builderType.asType();
+
+        Map<String, ExecutableElement> builderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(builderType)) {
+            if (isImmutableMappable(method)
+                && builderMethods.putIfAbsent(normalizeSetterName(method), method) != null) {
+                throw exceptionForMethod(method, "More than one method on the immutable class builder maps to the same "
+                                                 + "property.");
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !isSameErasure(((ExecutableType) types.asMemberOf(builderOwner, buildMethod)).getReturnType(), owner)) {
+            throw new ProcessingException(builderType, "An immutable builder class must have a public method named "
+                                                       + "'build()' that takes no arguments and returns an instance of "
+                                                       + "the immutable class it builds");
+        }
+
+        List<MappedProperty> properties = new ArrayList<>();
+
+        for (ExecutableElement getter : publicInstanceMethods(immutableType)) {
+            if (!isImmutableMappable(getter)) {
+                continue;
+            }
+
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf(owner, getter)).getReturnType();
+
+            if (propertyType.getKind() == TypeKind.VOID || isOfType(propertyType, Void.class)) {
+                throw exceptionForMethod(getter, "A method was found on the immutable class that does not appear to be a "
+                                                 + "valid getter due to the return type being void.");
+            }
+
+            if (!getter.getParameters().isEmpty()) {
+                throw exceptionForMethod(getter, "A method was found on the immutable class that does not appear to be a "
+                                                 + "valid getter due to it having one or more parameters.");
+            }
+
+            String propertyName = normalizeGetterName(getter, propertyType);
+            ExecutableElement setter = builderMethods.get(propertyName);
+
+            if (setter == null || !isValidBuilderSetter(builderOwner, setter, propertyType)) {
+                throw exceptionForMethod(getter, "A method was found on the immutable class that does not appear to have a "
+                                                 + "matching setter on the builder class.");
+            }
+
+            builderMethods.remove(propertyName);
+            properties.add(new MappedProperty(propertyName, getter, setter, propertyType));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw exceptionForMethod(builderMethods.values().iterator().next(),
+                                     "A method was found on the immutable class builder that does not appear to have a "
+                                     + "matching getter on the immutable class.");
+        }
+
+        return properties;
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                            .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                            .filter(m -> !isDeclaredByObject(m))
+                            .collect(Collectors.toList());
+    }
+
+    private boolean isDeclaredByObject(ExecutableElement method) {
+        return ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    private boolean isIgnored(ExecutableElement method) {
+        return Annotations.isPresent(method, DynamoDbIgnore.class) || Annotations.isPresent(method, Transient.class);
+    }
+
+    private boolean isImmutableMappable(ExecutableElement method) {
+        return !isIgnored(method) && !IMMUTABLE_NAMES_TO_EXCLUDE.contains(method.getSimpleName().toString());
+    }
+
+    private boolean isValidBuilderSetter(DeclaredType builderOwner, ExecutableElement setter, TypeMirror propertyType) {
+        ExecutableType setterType = (ExecutableType) types.asMemberOf(builderOwner, setter);
+
+        if (setterType.getParameterTypes().size() != 1
+            || !isSameErasure(setterType.getParameterTypes().get(0), propertyType)) {
+            return false;
+        }
+
+        TypeMirror returnType = setterType.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || isOfType(returnType, Void.class)
+               || types.isAssignable(types.erasure(builderOwner), types.erasure(returnType));
+    }
+
+    private TypeMirror parameterType(DeclaredType owner, ExecutableElement setter) {
+        return ((ExecutableType) types.asMemberOf(owner, setter)).getParameterTypes().get(0);
+    }
+
+    private boolean isSameErasure(TypeMirror first, TypeMirror second) {
+        return types.isSameType(types.erasure(first), types.erasure(second));
+    }
+
+    private boolean isOfType(TypeMirror type, Class<?> clazz) {
+        TypeElement element = elements.getTypeElement(clazz.getCanonicalName());
+        return element != null && types.isSameType(type, element.asType());
+    }
+
+    private String normalizeSetterName(ExecutableElement setter) {
+        String setterName = setter.getSimpleName().toString();
+
+        if (setterName.length() > 3
+            && Character.isUpperCase(setterName.charAt(3))
+            && setterName.startsWith(SET_PREFIX)) {
+
+            return Character.toLowerCase(setterName.charAt(3)) + setterName.substring(4);
+        }
+
+        return setterName;
+    }
+
+    private String normalizeGetterName(ExecutableElement getter, TypeMirror propertyType) {
+        String getterName = getter.getSimpleName().toString();
+
+        if (getterName.length() > 2
+            && Character.isUpperCase(getterName.charAt(2))
+            && getterName.startsWith(IS_PREFIX)
+            && (propertyType.getKind() == TypeKind.BOOLEAN || isOfType(propertyType, Boolean.class))) {
+
+            return Character.toLowerCase(getterName.charAt(2)) + getterName.substring(3);
+        }
+
+        if (getterName.length() > 3
+            && Character.isUpperCase(getterName.charAt(3))
+            && getterName.startsWith(GET_PREFIX)) {
+
+            return Character.toLowerCase(getterName.charAt(3)) + getterName.substring(4);
+        }
+
+        return getterName;
+    }
+
+    private static ProcessingException exceptionForMethod(ExecutableElement method, String message) {
+        return new ProcessingException(method, message + " Use the @DynamoDbIgnore annotation on the method if you do not "
+                                               + "want it to be included in the TableSchema introspection.");
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbConvertedBy;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbFlatten;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbIgnoreNulls;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPreserveEmptyObject;
+
+/**
+ * Generates the source of a table schema class for a class annotated with {@link DynamoDbBean} or
+ * {@link DynamoDbImmutable}.
+ * <p>
+ * The generated class holds a {@link MetaTableSchema} that is initialized with a {@link StaticTableSchema} (or
+ * {@link StaticImmutableTableSchema}) when the class is loaded. Nested documents and flattened classes that are also
+ * generated reference each other's generated classes, and the {@link MetaTableSchema} placeholder lets recursive
+ * references resolve the same way they do for the reflective schemas.
+ */
+@SdkInternalApi
+public final class TableSchemaGenerator {
+    private static final String GENERATOR_NAME = "software.amazon.awssdk:dynamodb-enhanced-processor";
+    private static final String SCHEMA_CLASS_SUFFIX = "TableSchema";
+    private static final String SCHEMA_FIELD = "TABLE_SCHEMA";
+    private static final String CREATE_METHOD = "create";
+    private static final String CREATE_STATIC_SCHEMA_METHOD = "createStaticTableSchema";
+    private static final String ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME = "attributeTagFor";
+    private static final String BUILDER_METHOD = "builder";
+
+    private final Elements elements;
+    private final Types types;
+    private final Set<TypeElement> itemTypesInRound;
+    private final PropertyIntrospector introspector;
+    private final AnnotationLiterals annotationLiterals;
+
+    public TableSchemaGenerator(ProcessingEnvironment processingEnv, Set<TypeElement> itemTypesInRound) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.itemTypesInRound = itemTypesInRound;
+        this.introspector = new PropertyIntrospector(elements, types);
+        this.annotationLiterals = new AnnotationLiterals(elements, types);
+    }
+
+    /**
+     * Returns the name of the class generated for the given item class.
+     */
+    public static ClassName schemaClassName(TypeElement itemType) {
+        ClassName itemClass = ClassName.get(itemType);
+        return ClassName.get(itemClass.packageName(), String.join("_", itemClass.simpleNames()) + SCHEMA_CLASS_SUFFIX);
+    }
+
+    /**
+     * Abstract classes cannot be instantiated by a table schema, so no schema is generated for them. They may still be
+     * annotated to be used as the base class of other annotated classes.
+     */
+    public boolean canGenerate(TypeElement itemType) {
+        return itemType.getKind() == ElementKind.CLASS && !itemType.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    public JavaFile generate(TypeElement itemType) {
+        validateItemType(itemType);
+
+        ClassName itemClass = ClassName.get(itemType);
+        ClassName schemaClass = schemaClassName(itemType);
+        boolean immutable = Annotations.isPresent(itemType, DynamoDbImmutable.class);
+
+        MethodSpec createStaticSchema = immutable ? createStaticImmutableTableSchema(itemType)
+                                                  : createStaticTableSchema(itemType);
+
+        TypeSpec schemaType =
+            TypeSpec.classBuilder(schemaClass)
+                    .addJavadoc("The {@link $T} for {@link $T}, generated at build time from the annotations on the class.\n",
+                                TableSchema.class, itemClass)
+                    .addAnnotation(AnnotationSpec.builder(Generated.class)
+                                                 .addMember("value", "$S", GENERATOR_NAME)
+                                                 .build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addOriginatingElement(itemType)
+                    .addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(MetaTableSchema.class), itemClass),
+                                                SCHEMA_FIELD, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                                       .initializer("$T.create($T.class)", MetaTableSchema.class, itemClass)
+                                       .build())
+                    .addStaticBlock(CodeBlock.of("$N.initialize($N());\n", SCHEMA_FIELD, createStaticSchema))
+                    .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                    .addMethod(create(itemClass))
+                    .addMethod(createStaticSchema)
+                    .build();
+
+        return JavaFile.builder(itemClass.packageName(), schemaType)
+                       .skipJavaLangImports(true)
+                       .indent("    ")
+                       .build();
+    }
+
+    private void validateItemType(TypeElement itemType) {
+        if (!itemType.getTypeParameters().isEmpty()) {
+            throw new ProcessingException(itemType, "A table schema cannot be generated for a generic class.");
+        }
+
+        for (Element element = itemType; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new ProcessingException(itemType, "A table schema cannot be generated for a private class.");
+            }
+
+            if (element.getEnclosingElement() instanceof TypeElement && !element.getModifiers().contains(Modifier.STATIC)) {
+                throw new ProcessingException(itemType, "A table schema cannot be generated for an inner class. Declare "
+                                                        + "the nested class static.");
+            }
+        }
+    }
+
+    private MethodSpec create(ClassName itemClass) {
+        return MethodSpec.methodBuilder(CREATE_METHOD)
+                         .addJavadoc("Returns the {@link $T} for {@link $T}.\n", TableSchema.class, itemClass)
+                         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                         .returns(ParameterizedTypeName.get(ClassName.get(TableSchema.class), itemClass))
+                         .addStatement("return $1N.isInitialized() ? $1N.concreteTableSchema() : $1N", SCHEMA_FIELD)
+                         .build();
+    }
+
+    private MethodSpec createStaticTableSchema(TypeElement beanType) {
+        ClassName beanClass = ClassName.get(beanType);
+
+        if (!hasAccessibleNoArgConstructor(beanType)) {
+            throw new ProcessingException(beanType, "A DynamoDb bean class must have a non-private no-argument constructor.");
+        }
+
+        CodeBlock.Builder body = CodeBlock.builder()
+                                          .add("return $T.builder($T.class)\n", StaticTableSchema.class, beanClass)
+                                          .indent().indent()
+                                          .add(".newItemSupplier($T::new)\n", beanClass)
+                                          .add(converterProviders(beanType, DynamoDbBean.class));
+
+        for (MappedProperty property : introspector.beanProperties(beanType)) {
+            body.add(mappedProperty(property, beanClass, beanClass));
+        }
+
+        body.add(".build();\n").unindent().unindent();
+
+        return MethodSpec.methodBuilder(CREATE_STATIC_SCHEMA_METHOD)
+                         .addAnnotation(suppressWarnings())
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(ParameterizedTypeName.get(ClassName.get(StaticTableSchema.class), beanClass))
+                         .addCode(body.build())
+                         .build();
+    }
+
+    private MethodSpec createStaticImmutableTableSchema(TypeElement immutableType) {
+        ClassName immutableClass = ClassName.get(immutableType);
+        AnnotationMirror dynamoDbImmutable = Annotations.find(immutableType, DynamoDbImmutable.class).get();
+        TypeMirror builderTypeMirror = (TypeMirror) Annotations.value(elements, dynamoDbImmutable, "builder").getValue();
+        TypeElement builderType = (TypeElement) types.asElement(builderTypeMirror);
+        ClassName builderClass = ClassName.get(builderType);
+
+        List<MappedProperty> properties = introspector.immutableProperties(immutableType, builderType);
+
+        CodeBlock.Builder body = CodeBlock.builder()
+                                          .add("return $T.builder($T.class, $T.class)\n",
+                                               StaticImmutableTableSchema.class, immutableClass, builderClass)
+                                          .indent().indent()
+                                          .add(".newItemBuilder($L, $T::build)\n",
+                                               newBuilderSupplier(immutableType, builderType), builderClass)
+                                          .add(converterProviders(immutableType, DynamoDbImmutable.class));
+
+        for (MappedProperty property : properties) {
+            body.add(mappedProperty(property, immutableClass, builderClass));
+        }
+
+        body.add(".build();\n").unindent().unindent();
+
+        return MethodSpec.methodBuilder(CREATE_STATIC_SCHEMA_METHOD)
+                         .addAnnotation(suppressWarnings())
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(ParameterizedTypeName.get(ClassName.get(StaticImmutableTableSchema.class),
+                                                            immutableClass, builderClass))
+                         .addCode(body.build())
+                         .build();
+    }
+
+    private CodeBlock newBuilderSupplier(TypeElement immutableType, TypeElement builderType) {
+        ClassName builderClass = ClassName.get(builderType);
+        TypeMirror builderErasure = types.erasure(builderType.asType());
+
+        Optional<ExecutableElement> staticBuilderMethod =
+            ElementFilter.methodsIn(elements.getAllMembers(immutableType))
+                         .stream()
+                         .filter(m -> m.getSimpleName().contentEquals(BUILDER_METHOD))
+                         .filter(m -> m.getModifiers().contains(Modifier.PUBLIC) && m.getModifiers().contains(Modifier.STATIC))
+                         .filter(m -> m.getParameters().isEmpty())
+                         .filter(m -> types.isAssignable(builderErasure, types.erasure(m.getReturnType())))
+                         .findFirst();
+
+        if (staticBuilderMethod.isPresent()) {
+            if (types.isSameType(builderErasure, types.erasure(staticBuilderMethod.get().getReturnType()))) {
+                return CodeBlock.of("$T::$N", ClassName.get(immutableType), BUILDER_METHOD);
+            }
+
+            return CodeBlock.of("() -> ($T) $T.$N()", builderClass, ClassName.get(immutableType), BUILDER_METHOD);
+        }
+
+        if (builderType.getKind() != ElementKind.CLASS
+            || builderType.getModifiers().contains(Modifier.ABSTRACT)
+            || !hasAccessibleNoArgConstructor(builderType)) {
+            throw new ProcessingException(builderType, String.format("Builder class '%s' appears to have no default "
+                                                                     + "constructor thus cannot be used with the "
+                                                                     + "ImmutableTableSchema", builderType));
+        }
+
+        return CodeBlock.of("$T::new", builderClass);
+    }
+
+    private CodeBlock converterProviders(TypeElement itemType, Class<? extends Annotation> annotation) {
+        AnnotationMirror itemAnnotation = Annotations.find(itemType, annotation).get();
+        List<?> providerClasses = (List<?>) Annotations.value(elements, itemAnnotation, "converterProviders").getValue();
+
+        List<CodeBlock> providers =
+            providerClasses.stream()
+                           .map(v -> (TypeMirror) ((AnnotationValue) v).getValue())
+                           .map(t -> CodeBlock.of("new $T()", TypeName.get(types.erasure(t))))
+                           .collect(Collectors.toList());
+
+        return CodeBlock.of(".attributeConverterProviders($L)\n", CodeBlock.join(providers, ", "));
+    }
+
+    private CodeBlock mappedProperty(MappedProperty property, ClassName itemClass, ClassName setterClass) {
+        if (property.hasAnnotation(DynamoDbFlatten.class)) {
+            return CodeBlock.of(".flatten($L, $T::$N, $T::$N)\n",
+                                schemaForFlattened(property), itemClass, property.getter().getSimpleName(),
+                                setterClass, property.setter().getSimpleName());
+        }
+
+        boolean preserveEmptyObject = property.hasAnnotation(DynamoDbPreserveEmptyObject.class);
+        boolean ignoreNulls = property.hasAnnotation(DynamoDbIgnoreNulls.class);
+
+        CodeBlock.Builder attribute =
+            CodeBlock.builder()
+                     .add(".addAttribute($L,$Wa -> a.name($S)\n",
+                          enhancedType(property.type(), property, preserveEmptyObject, ignoreNulls),
+                          attributeName(property))
+                     .indent().indent()
+                     .add(".getter($T::$N)\n", itemClass, property.getter().getSimpleName())
+                     .add(".setter($T::$N)", setterClass, property.setter().getSimpleName());
+
+        property.annotation(DynamoDbConvertedBy.class).ifPresent(convertedBy -> {
+            TypeMirror converterType = (TypeMirror) Annotations.value(elements, convertedBy, "value").getValue();
+            attribute.add("\n.attributeConverter(($T) new $T())",
+                          AttributeConverter.class, TypeName.get(types.erasure(converterType)));
+        });
+
+        for (AnnotationMirror annotation : property.annotations()) {
+            tagFor(annotation, property).ifPresent(tag -> attribute.add("\n.addTag($L)", tag));
+        }
+
+        return attribute.add(")\n").unindent().unindent().build();
+    }
+
+    private String attributeName(MappedProperty property) {
+        return property.annotation(DynamoDbAttribute.class)
+                       .map(a -> (String) Annotations.value(elements, a, "value").getValue())
+                       .orElse(property.name());
+    }
+
+    /**
+     * Mirrors the type conversion of the reflective schemas: lists and maps are unwrapped so that annotated element
+     * classes are mapped as nested documents with their own table schema.
+     */
+    private CodeBlock enhancedType(TypeMirror type, MappedProperty property, boolean preserveEmptyObject,
+                                   boolean ignoreNulls) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            TypeElement element = (TypeElement) declaredType.asElement();
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+            if (!typeArguments.isEmpty() && isClass(element, List.class)) {
+                return CodeBlock.of("$T.listOf($L)", EnhancedType.class,
+                                    enhancedType(typeArguments.get(0), property, preserveEmptyObject, ignoreNulls));
+            }
+
+            if (!typeArguments.isEmpty() && isClass(element, Map.class)) {
+                return CodeBlock.of("$T.mapOf($L,$W$L)", EnhancedType.class,
+                                    plainEnhancedType(typeArguments.get(0), property),
+                                    enhancedType(typeArguments.get(1), property, preserveEmptyObject, ignoreNulls));
+            }
+
+            if (isAnnotatedItemType(element)) {
+                if (!typeArguments.isEmpty()) {
+                    throw new ProcessingException(property.getter(), "A table schema cannot be generated for a "
+                                                                     + "property whose type is a generic document class.");
+                }
+
+                return CodeBlock.of("$T.documentOf($T.class,$W$L,$Wb -> b.preserveEmptyObject($L).ignoreNulls($L))",
+                                    EnhancedType.class, ClassName.get(element), schemaForDocument(element),
+                                    preserveEmptyObject, ignoreNulls);
+            }
+        }
+
+        return plainEnhancedType(type, property);
+    }
+
+    private CodeBlock plainEnhancedType(TypeMirror type, MappedProperty property) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return CodeBlock.of("$T.of($T.class)", EnhancedType.class, TypeName.get(type));
+            case ARRAY:
+            case DECLARED:
+                if (!hasTypeArguments(type)) {
+                    return CodeBlock.of("$T.of($T.class)", EnhancedType.class, TypeName.get(types.erasure(type)));
+                }
+
+                TypeSpec typeToken = TypeSpec.anonymousClassBuilder("")
+                                             .superclass(ParameterizedTypeName.get(ClassName.get(EnhancedType.class),
+                                                                                   TypeName.get(type)))
+                                             .build();
+                return CodeBlock.of("$L", typeToken);
+            default:
+                throw new ProcessingException(property.getter(), "A table schema cannot be generated for a property of "
+                                                                 + "type " + type + ".");
+        }
+    }
+
+    private boolean hasTypeArguments(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return hasTypeArguments(((ArrayType) type).getComponentType());
+        }
+
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private CodeBlock schemaForDocument(TypeElement documentType) {
+        if (hasGeneratedSchema(documentType)) {
+            return CodeBlock.of("$T.$N()", schemaClassName(documentType), CREATE_METHOD);
+        }
+
+        String factoryMethod = Annotations.isPresent(documentType, DynamoDbImmutable.class) ? "fromImmutableClass"
+                                                                                            : "fromBean";
+        return CodeBlock.of("$T.$N($T.class)", TableSchema.class, factoryMethod, ClassName.get(documentType));
+    }
+
+    private CodeBlock schemaForFlattened(MappedProperty property) {
+        TypeElement flattenedType = (TypeElement) types.asElement(property.type());
+
+        if (flattenedType != null && isAnnotatedItemType(flattenedType) && hasGeneratedSchema(flattenedType)) {
+            return CodeBlock.of("$T.$N()", schemaClassName(flattenedType), CREATE_METHOD);
+        }
+
+        return CodeBlock.of("$T.fromClass($T.class)", TableSchema.class, TypeName.get(types.erasure(property.type())));
+    }
+
+    /**
+     * A schema is generated for the class in this round of processing, or was generated for it by an earlier
+     * compilation (for example when the class lives in another module that also uses this processor).
+     */
+    private boolean hasGeneratedSchema(TypeElement itemType) {
+        if (itemTypesInRound.contains(itemType)) {
+            return canGenerate(itemType);
+        }
+
+        return elements.getTypeElement(schemaClassName(itemType).canonicalName()) != null;
+    }
+
+    private Optional<CodeBlock> tagFor(AnnotationMirror annotation, MappedProperty property) {
+        TypeElement annotationType = Annotations.annotationElement(annotation);
+        Optional<AnnotationMirror> attributeTag = Annotations.find(annotationType, BeanTableSchemaAttributeTag.class);
+
+        if (!attributeTag.isPresent()) {
+            return Optional.empty();
+        }
+
+        TypeMirror tagClass = (TypeMirror) Annotations.value(elements, attributeTag.get(), "value").getValue();
+        TypeElement tagType = (TypeElement) types.asElement(tagClass);
+
+        Optional<ExecutableElement> tagMethod =
+            ElementFilter.methodsIn(tagType.getEnclosedElements())
+                         .stream()
+                         .filter(m -> m.getSimpleName().contentEquals(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME))
+                         .filter(m -> m.getModifiers().contains(Modifier.STATIC))
+                         .filter(m -> m.getParameters().size() == 1)
+                         .filter(m -> types.isSameType(m.getParameters().get(0).asType(), annotationType.asType()))
+                         .findFirst();
+
+        if (!tagMethod.isPresent()) {
+            throw new ProcessingException(property.getter(), String.format(
+                "Could not find a static method named '%s' on class '%s' that returns an AttributeTag for annotation '%s'",
+                ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME, tagType, annotationType));
+        }
+
+        if (!tagMethod.get().getModifiers().contains(Modifier.PUBLIC) || !tagType.getModifiers().contains(Modifier.PUBLIC)) {
+            throw new ProcessingException(property.getter(), String.format(
+                "The method '%s' on class '%s' that returns an AttributeTag for annotation '%s' must be public to be used "
+                + "by a generated table schema", ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME, tagType, annotationType));
+        }
+
+        return Optional.of(CodeBlock.of("$T.$N($L)", ClassName.get(tagType), ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
+                                        annotationLiterals.literal(annotation, property.getter())));
+    }
+
+    private boolean isAnnotatedItemType(TypeElement type) {
+        return Annotations.isPresent(type, DynamoDbBean.class) || Annotations.isPresent(type, DynamoDbImmutable.class);
+    }
+
+    private boolean isClass(TypeElement element, Class<?> clazz) {
+        return element.getQualifiedName().contentEquals(clazz.getCanonicalName());
+    }
+
+    private boolean hasAccessibleNoArgConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private static AnnotationSpec suppressWarnings() {
+        return AnnotationSpec.builder(SuppressWarnings.class)
+                             .addMember("value", "{$S, $S}", "unchecked", "rawtypes")
+                             .build();
+    }
+}
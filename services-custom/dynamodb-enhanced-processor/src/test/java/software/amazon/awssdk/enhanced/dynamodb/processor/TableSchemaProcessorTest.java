@@ -0,0 +1,342 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.processor.fixtures.Audit;
+import software.amazon.awssdk.enhanced.dynamodb.processor.fixtures.Customer;
+import software.amazon.awssdk.enhanced.dynamodb.processor.fixtures.Order;
+import software.amazon.awssdk.enhanced.dynamodb.processor.fixtures.TreeNode;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class TableSchemaProcessorTest {
+    private static final Path FIXTURES = Paths.get("src", "test", "java", "software", "amazon", "awssdk", "enhanced",
+                                                   "dynamodb", "processor", "fixtures");
+    private static final String FIXTURES_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.processor.fixtures.";
+    private static final List<String> STRICT = Collections.singletonList("-A" + TableSchemaProcessor.STRICT_OPTION + "=true");
+
+    @TempDir
+    static Path fixturesOutput;
+
+    private static ClassLoader generatedClasses;
+
+    @BeforeAll
+    static void compileFixtures() throws IOException {
+        List<JavaFileObject> sources;
+        try (StandardJavaFileManager fileManager = ToolProvider.getSystemJavaCompiler()
+                                                               .getStandardFileManager(null, null, UTF_8)) {
+            List<File> fixtureFiles = Files.list(FIXTURES).map(Path::toFile).collect(Collectors.toList());
+            sources = new ArrayList<>();
+            fileManager.getJavaFileObjectsFromFiles(fixtureFiles).forEach(sources::add);
+        }
+
+        CompilationResult result = compile(fixturesOutput, sources);
+        assertThat(result.errors()).isEmpty();
+
+        generatedClasses = new URLClassLoader(new URL[] {fixturesOutput.resolve("classes").toUri().toURL()},
+                                              TableSchemaProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    void bean_generatedSchemaMatchesBeanTableSchema() throws Exception {
+        TableSchema<Customer> generated = generatedSchema("CustomerTableSchema");
+        TableSchema<Customer> reflective = TableSchema.fromBean(Customer.class);
+
+        assertThat(generated.attributeNames()).containsExactlyElementsOf(reflective.attributeNames());
+        assertSameMetadata(generated.tableMetadata(), reflective.tableMetadata());
+
+        Customer customer = customer();
+        assertThat(generated.itemToMap(customer, false)).isEqualTo(reflective.itemToMap(customer, false));
+        assertThat(generated.itemToMap(customer, true)).isEqualTo(reflective.itemToMap(customer, true));
+
+        Map<String, AttributeValue> itemMap = reflective.itemToMap(customer, true);
+        assertThat(generated.itemToMap(generated.mapToItem(itemMap), true))
+            .isEqualTo(reflective.itemToMap(reflective.mapToItem(itemMap), true));
+    }
+
+    @Test
+    void bean_ignoredAndReadOnlyPropertiesAreNotMapped() throws Exception {
+        TableSchema<Customer> generated = generatedSchema("CustomerTableSchema");
+
+        assertThat(generated.attributeNames()).contains("customer_name", "active", "createdBy")
+                                              .doesNotContain("name", "cachedDisplayName", "readOnlyValue", "audit");
+    }
+
+    @Test
+    void nestedClass_generatedSchemaIsNamedAfterEnclosingClass() throws Exception {
+        TableSchema<Customer.Address> generated = generatedSchema("Customer_AddressTableSchema");
+
+        assertThat(generated.attributeNames()).containsExactly("city", "street");
+    }
+
+    @Test
+    void immutable_generatedSchemaMatchesImmutableTableSchema() throws Exception {
+        TableSchema<Order> generated = generatedSchema("OrderTableSchema");
+        TableSchema<Order> reflective = TableSchema.fromImmutableClass(Order.class);
+
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(reflective.attributeNames());
+        assertSameMetadata(generated.tableMetadata(), reflective.tableMetadata());
+
+        Customer.Address address = new Customer.Address();
+        address.setCity("Seattle");
+        Order order = Order.builder()
+                           .orderId("order-1")
+                           .quantity(3)
+                           .items(Arrays.asList("a", "b"))
+                           .shipTo(address)
+                           .build();
+
+        Map<String, AttributeValue> itemMap = reflective.itemToMap(order, true);
+        assertThat(generated.itemToMap(order, true)).isEqualTo(itemMap);
+        assertThat(generated.itemToMap(generated.mapToItem(itemMap), true)).isEqualTo(itemMap);
+    }
+
+    @Test
+    void recursiveBean_generatedSchemaResolvesItself() throws Exception {
+        TableSchema<TreeNode> generated = generatedSchema("TreeNodeTableSchema");
+
+        TreeNode child = new TreeNode();
+        child.setId("child");
+        TreeNode root = new TreeNode();
+        root.setId("root");
+        root.setChildren(Collections.singletonList(child));
+
+        Map<String, AttributeValue> itemMap = generated.itemToMap(root, true);
+        assertThat(itemMap).isEqualTo(TableSchema.fromBean(TreeNode.class).itemToMap(root, true));
+        assertThat(generated.mapToItem(itemMap).getChildren()).extracting(TreeNode::getId).containsExactly("child");
+    }
+
+    @Test
+    void abstractClass_noSchemaGenerated() {
+        assertThat(fixturesOutput.resolve("classes").resolve(FIXTURES_PACKAGE.replace('.', File.separatorChar)
+                                                             + "AbstractRecordTableSchema.class")).doesNotExist();
+    }
+
+    @Test
+    void immutableBuilderMethodWithoutGetter_strict_reportsError(@TempDir Path output) {
+        CompilationResult result = compile(output, STRICT, Collections.singletonList(source(
+            "Broken",
+            "@software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable(builder = Broken.Builder.class)",
+            "public final class Broken {",
+            "    public String id() { return null; }",
+            "    public static final class Builder {",
+            "        public Builder id(String id) { return this; }",
+            "        public Builder extra(String extra) { return this; }",
+            "        public Broken build() { return new Broken(); }",
+            "    }",
+            "}")));
+
+        assertThat(result.errors()).hasSize(1);
+        assertThat(result.errors().get(0)).contains("does not appear to have a matching getter on the immutable class");
+    }
+
+    @Test
+    void privateNestedClass_strict_reportsError(@TempDir Path output) {
+        CompilationResult result = compile(output, STRICT, Collections.singletonList(privateNestedClassSource()));
+
+        assertThat(result.errors()).hasSize(1);
+        assertThat(result.errors().get(0)).contains("cannot be generated for a private class");
+    }
+
+    @Test
+    void privateNestedClass_reportsWarningAndGeneratesNoSchema(@TempDir Path output) {
+        CompilationResult result = compile(output, Collections.singletonList(privateNestedClassSource()));
+
+        assertThat(result.errors()).isEmpty();
+        assertThat(result.warnings()).anySatisfy(w -> assertThat(w).contains("No table schema is generated for Outer.Hidden")
+                                                                  .contains("cannot be generated for a private class"));
+        assertThat(output.resolve("classes").resolve("Outer_HiddenTableSchema.class")).doesNotExist();
+    }
+
+    @Test
+    void documentOfUnsupportedClass_usesReflectiveSchemaOfThatClass(@TempDir Path output) throws IOException {
+        CompilationResult result = compile(output, Collections.singletonList(source(
+            "Outer",
+            "public class Outer {",
+            "    @software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean",
+            "    public static class Parent {",
+            "        public String getId() { return null; }",
+            "        public void setId(String id) { }",
+            "        public Child getChild() { return null; }",
+            "        public void setChild(Child child) { }",
+            "    }",
+            "    @software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean",
+            "    public static class Child {",
+            "        public Child(String name) { }",
+            "        public String getName() { return null; }",
+            "        public void setName(String name) { }",
+            "    }",
+            "}")));
+
+        assertThat(result.errors()).isEmpty();
+        assertThat(output.resolve("classes").resolve("Outer_ParentTableSchema.class")).exists();
+        assertThat(output.resolve("classes").resolve("Outer_ChildTableSchema.class")).doesNotExist();
+        assertThat(new String(Files.readAllBytes(output.resolve("generated-sources").resolve("Outer_ParentTableSchema.java")),
+                              UTF_8))
+            .contains("TableSchema.fromBean(Outer.Child.class)");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TableSchema<T> generatedSchema(String simpleName) throws Exception {
+        Class<?> schemaClass = generatedClasses.loadClass(FIXTURES_PACKAGE + simpleName);
+        return (TableSchema<T>) schemaClass.getMethod("create").invoke(null);
+    }
+
+    private static void assertSameMetadata(TableMetadata generated, TableMetadata reflective) {
+        assertThat(generated.primaryPartitionKey()).isEqualTo(reflective.primaryPartitionKey());
+        assertThat(generated.primarySortKey()).isEqualTo(reflective.primarySortKey());
+        assertThat(new HashSet<>(generated.indices())).isEqualTo(new HashSet<>(reflective.indices()));
+        assertThat(new HashSet<>(generated.keyAttributes())).isEqualTo(new HashSet<>(reflective.keyAttributes()));
+        generated.indices().forEach(index -> {
+            assertThat(generated.indexPartitionKey(index.name())).isEqualTo(reflective.indexPartitionKey(index.name()));
+            assertThat(generated.indexSortKey(index.name())).isEqualTo(reflective.indexSortKey(index.name()));
+        });
+    }
+
+    private static Customer customer() {
+        Customer.Address home = new Customer.Address();
+        home.setStreet("1 Main St");
+        home.setCity("Seattle");
+
+        Customer.Address work = new Customer.Address();
+        work.setCity("Vancouver");
+
+        Audit audit = new Audit();
+        audit.setCreatedBy("creator");
+
+        Map<String, Customer.Address> addressesByType = new HashMap<>();
+        addressesByType.put("home", home);
+
+        Customer customer = new Customer();
+        customer.setId("id-1");
+        customer.setVersion(7);
+        customer.setName("name");
+        customer.setActive(true);
+        customer.setCreatedDate(Instant.ofEpochSecond(1_000_000));
+        customer.setTags(new HashSet<>(Arrays.asList("a", "b")));
+        customer.setAddresses(Arrays.asList(home, work));
+        customer.setAddressesByType(addressesByType);
+        customer.setPrimaryAddress(new Customer.Address());
+        customer.setAudit(audit);
+        customer.setCachedDisplayName("ignored");
+        return customer;
+    }
+
+    private static JavaFileObject source(String className, String... lines) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return String.join("\n", lines);
+            }
+        };
+    }
+
+    private static JavaFileObject privateNestedClassSource() {
+        return source(
+            "Outer",
+            "public class Outer {",
+            "    @software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean",
+            "    private static class Hidden {",
+            "        public String getId() { return null; }",
+            "        public void setId(String id) { }",
+            "    }",
+            "}");
+    }
+
+    private static CompilationResult compile(Path output, List<JavaFileObject> sources) {
+        return compile(output, Collections.emptyList(), sources);
+    }
+
+    private static CompilationResult compile(Path output, List<String> processorOptions, List<JavaFileObject> sources) {
+        try {
+            Path classes = Files.createDirectories(output.resolve("classes"));
+            Path generatedSources = Files.createDirectories(output.resolve("generated-sources"));
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            List<String> options = new ArrayList<>(Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                                                                 "-d", classes.toString(),
+                                                                 "-s", generatedSources.toString()));
+            options.addAll(processorOptions);
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, sources);
+            task.setProcessors(Collections.singletonList(new TableSchemaProcessor()));
+            task.call();
+
+            return new CompilationResult(messages(diagnostics, Diagnostic.Kind.ERROR),
+                                         messages(diagnostics, Diagnostic.Kind.WARNING));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<String> messages(DiagnosticCollector<JavaFileObject> diagnostics, Diagnostic.Kind kind) {
+        return diagnostics.getDiagnostics()
+                          .stream()
+                          .filter(d -> d.getKind() == kind)
+                          .map(d -> d.getMessage(null))
+                          .collect(Collectors.toList());
+    }
+
+    private static final class CompilationResult {
+        private final List<String> errors;
+        private final List<String> warnings;
+
+        private CompilationResult(List<String> errors, List<String> warnings) {
+            this.errors = errors;
+            this.warnings = warnings;
+        }
+
+        List<String> errors() {
+            return errors;
+        }
+
+        List<String> warnings() {
+            return warnings;
+        }
+    }
+}
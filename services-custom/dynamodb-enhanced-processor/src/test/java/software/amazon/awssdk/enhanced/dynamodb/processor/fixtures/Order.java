@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.fixtures;
+
+import java.util.List;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbImmutable(builder = Order.Builder.class)
+public final class Order {
+    private final String orderId;
+    private final int quantity;
+    private final boolean gift;
+    private final List<String> items;
+    private final Customer.Address shipTo;
+
+    private Order(Builder builder) {
+        this.orderId = builder.orderId;
+        this.quantity = builder.quantity;
+        this.gift = builder.gift;
+        this.items = builder.items;
+        this.shipTo = builder.shipTo;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @DynamoDbPartitionKey
+    public String orderId() {
+        return orderId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public boolean isGift() {
+        return gift;
+    }
+
+    public List<String> items() {
+        return items;
+    }
+
+    public Customer.Address shipTo() {
+        return shipTo;
+    }
+
+    public static final class Builder {
+        private String orderId;
+        private int quantity;
+        private boolean gift;
+        private List<String> items;
+        private Customer.Address shipTo;
+
+        private Builder() {
+        }
+
+        public Builder orderId(String orderId) {
+            this.orderId = orderId;
+            return this;
+        }
+
+        public Builder quantity(int quantity) {
+            this.quantity = quantity;
+            return this;
+        }
+
+        public void setGift(boolean gift) {
+            this.gift = gift;
+        }
+
+        public Builder items(List<String> items) {
+            this.items = items;
+            return this;
+        }
+
+        public Builder shipTo(Customer.Address shipTo) {
+            this.shipTo = shipTo;
+            return this;
+        }
+
+        public Order build() {
+            return new Order(this);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
@@ -209,6 +210,61 @@ public interface DynamoDbAsyncIndex<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table against a secondary index in parallel and retrieves all items.
+     * <p>
+     * The index is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrency()} segments are scanned at the same time. The pages of all segments
+     * are merged into a single result in the order they are retrieved, so pages of different segments are interleaved. The
+     * scan is started each time the result is subscribed to.
+     * <p>
+     * The next page of a segment is only requested once the previous page of that segment has been delivered to the
+     * subscriber, so that a slow subscriber does not cause pages to be buffered without bound.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link ParallelScanEnhancedRequest}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkPublisher<Page<MyItem>> publisher =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder().totalSegments(8).build());
+     * publisher.subscribe(page -> page.items().forEach(item -> System.out.println(item)));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining how to divide the scan and handle the results.
+     * @return a publisher {@link SdkPublisher} with paginated results (see {@link Page}).
+     */
+    default SdkPublisher<Page<T>> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     *
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkPublisher<Page<MyItem>> publisher = mappedTable.parallelScan(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining how to divide the
+     * scan and handle the results.
+     * @return a publisher {@link SdkPublisher} with paginated results (see {@link Page}).
+     */
+    default SdkPublisher<Page<T>> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Gets the {@link DynamoDbEnhancedClientExtension} associated with this mapped resource.
      * @return The {@link DynamoDbEnhancedClientExtension} associated with this mapped resource.
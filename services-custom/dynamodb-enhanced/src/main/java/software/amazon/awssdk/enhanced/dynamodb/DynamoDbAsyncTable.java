@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -785,6 +786,61 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrency()} segments are scanned at the same time. The pages of all segments
+     * are merged into a single result in the order they are retrieved, so pages of different segments are interleaved. The
+     * scan is started each time the result is subscribed to.
+     * <p>
+     * The next page of a segment is only requested once the previous page of that segment has been delivered to the
+     * subscriber, so that a slow subscriber does not cause pages to be buffered without bound.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link ParallelScanEnhancedRequest}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder().totalSegments(8).build());
+     * publisher.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining how to divide the scan and handle the results.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     *
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining how to divide the
+     * scan and handle the results.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A long-lived writer that groups put and delete actions from any number of threads into batchWriteItem() calls.
+ * <p>
+ * Writes are buffered and sent in batches of up to {@link BatchWriterConfiguration#maxBatchSize()} writes, as soon as a batch
+ * is full or at every {@link BatchWriterConfiguration#flushInterval()}. Up to
+ * {@link BatchWriterConfiguration#maxBatchesInFlight()} batches are sent at the same time, and writes that DynamoDb returns as
+ * unprocessed are retried with backoff. Writes may go to any number of tables, and writes to different tables may share a
+ * batch.
+ * <p>
+ * Writes to the same item are applied in the order they were made. A write that replaces a buffered write to the same item
+ * before it is sent takes its place, so that only the latest of the two is sent, and the futures of both complete when it has
+ * been written. A write to an item with a write in flight waits for that write to complete.
+ * <p>
+ * Each write returns a future that completes when DynamoDb has processed the write. A batch writer must be closed when it is no
+ * longer needed; {@link #close()} sends every buffered write and waits for all writes to complete.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * try (DynamoDbBatchWriter writer = enhancedClient.batchWriter()) {
+ *     customers.forEach(customer -> writer.putItem(customerTable, customer));
+ *     writer.deleteItem(orderTable, Key.builder().partitionValue("order-1").build());
+ * }
+ * }
+ * </pre>
+ * <p>
+ * By default, all command methods throw an {@link UnsupportedOperationException} to prevent interface extensions from breaking
+ * implementing classes.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DynamoDbBatchWriter extends SdkAutoCloseable {
+
+    /**
+     * Adds a put action for the item to the next batch for the table.
+     *
+     * @param mappedTableResource the table to put the item into
+     * @param item the item to insert or overwrite in the database
+     * @param <T> the type that items in the table map to
+     * @return a future that completes when the item has been written, or completes exceptionally if it could not be written
+     * @throws IllegalStateException if the batch writer has been closed
+     */
+    default <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTableResource, T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Adds a delete action for the item with the given key to the next batch for the table.
+     *
+     * @param mappedTableResource the table to delete the item from
+     * @param key a {@link Key} to match the item to be deleted from the database
+     * @param <T> the type that items in the table map to
+     * @return a future that completes when the item has been deleted, or completes exceptionally if it could not be deleted
+     * @throws IllegalStateException if the batch writer has been closed
+     */
+    default <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTableResource, Key key) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Adds a delete action for the item to the next batch for the table.
+     *
+     * @param mappedTableResource the table to delete the item from
+     * @param keyItem an item that will have its key fields used to match a record to delete from the database
+     * @param <T> the type that items in the table map to
+     * @return a future that completes when the item has been deleted, or completes exceptionally if it could not be deleted
+     * @throws IllegalStateException if the batch writer has been closed
+     */
+    default <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTableResource, T keyItem) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sends every buffered write without waiting for its batch to fill.
+     *
+     * @return a future that completes when every write made before this call has completed, or completes exceptionally if any
+     * of them failed
+     */
+    default CompletableFuture<Void> flush() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Sends every buffered write and waits for all writes to complete. Writes that fail are reported through their own
+     * futures. Once closed, the batch writer rejects new writes.
+     */
+    @Override
+    void close();
+}
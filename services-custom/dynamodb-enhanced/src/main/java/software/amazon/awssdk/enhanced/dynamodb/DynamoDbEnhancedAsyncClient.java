@@ -29,8 +29,10 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemCoalescingConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
@@ -429,6 +431,57 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a {@link DynamoDbBatchWriter} that buffers puts and deletes to the tables of this client and writes them in
+     * batches, using the low-level DynamoDB API BatchWriteItem operation. Writes that DynamoDb returns as unprocessed are
+     * retried with backoff, and the future of each write completes once the write has been applied or has failed.
+     * <p>
+     * The batch writer must be closed when it is no longer needed, which writes any buffered writes.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter(BatchWriterConfiguration.builder()
+     *                                                                                          .maxBatchesInFlight(4)
+     *                                                                                          .build())) {
+     *     CompletableFuture<Void> put = batchWriter.putItem(mappedTable, item);
+     *     CompletableFuture<Void> delete = batchWriter.deleteItem(mappedTable, key);
+     * }
+     * }
+     * </pre>
+     *
+     * @param configuration the {@link BatchWriterConfiguration} for the batch writer.
+     * @return a {@link DynamoDbBatchWriter} that must be closed after use.
+     */
+    default DynamoDbBatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link DynamoDbBatchWriter} that buffers puts and deletes to the tables of this client and writes them in
+     * batches. See {@link #batchWriter(BatchWriterConfiguration)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the configuration builder avoiding the need to
+     * create one manually via {@link BatchWriterConfiguration#builder()}.
+     *
+     * @param configuration a {@link Consumer} of {@link BatchWriterConfiguration.Builder}.
+     * @return a {@link DynamoDbBatchWriter} that must be closed after use.
+     */
+    default DynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link DynamoDbBatchWriter} with the default {@link BatchWriterConfiguration}. See
+     * {@link #batchWriter(BatchWriterConfiguration)}.
+     *
+     * @return a {@link DynamoDbBatchWriter} that must be closed after use.
+     */
+    default DynamoDbBatchWriter batchWriter() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Creates a default builder for {@link DynamoDbEnhancedAsyncClient}.
      */
@@ -460,6 +513,33 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         @Override
         Builder extensions(List<DynamoDbEnhancedClientExtension> dynamoDbEnhancedClientExtensions);
 
+        /**
+         * Enables the coalescing of concurrent {@link DynamoDbAsyncTable#getItem(GetItemEnhancedRequest)} calls on the tables of
+         * this client into batchGetItem() calls of up to 100 keys. Reads that arrive within a short window of each other are
+         * sent together, keys that DynamoDb returns as unprocessed are retried, and the future of each read completes
+         * individually. This reduces the number of requests made by many concurrent reads, at the cost of the window's added
+         * latency for each read.
+         * <p>
+         * Reads that request the consumed capacity, and calls to
+         * {@link DynamoDbAsyncTable#getItemWithResponse(GetItemEnhancedRequest)}, are not coalesced. Coalescing is disabled by
+         * default.
+         *
+         * @param getItemCoalescingConfiguration the {@link GetItemCoalescingConfiguration} for coalesced reads, or null to
+         * disable coalescing.
+         */
+        default Builder getItemCoalescing(GetItemCoalescingConfiguration getItemCoalescingConfiguration) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Enables the coalescing of concurrent getItem() calls. See {@link #getItemCoalescing(GetItemCoalescingConfiguration)}.
+         *
+         * @param getItemCoalescingConfiguration a {@link Consumer} of {@link GetItemCoalescingConfiguration.Builder}.
+         */
+        default Builder getItemCoalescing(Consumer<GetItemCoalescingConfiguration.Builder> getItemCoalescingConfiguration) {
+            throw new UnsupportedOperationException();
+        }
+
         /**
          * Builds an enhanced client based on the settings supplied to this builder
          * @return An initialized {@link DynamoDbEnhancedAsyncClient}
@@ -28,6 +28,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -443,6 +444,57 @@ public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a {@link DynamoDbBatchWriter} that buffers puts and deletes to the tables of this client and writes them in
+     * batches, using the low-level DynamoDB API BatchWriteItem operation. Writes that DynamoDb returns as unprocessed are
+     * retried with backoff, and the future of each write completes once the write has been applied or has failed.
+     * <p>
+     * The batch writer must be closed when it is no longer needed, which writes any buffered writes.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter(BatchWriterConfiguration.builder()
+     *                                                                                          .maxBatchesInFlight(4)
+     *                                                                                          .build())) {
+     *     items.forEach(item -> batchWriter.putItem(mappedTable, item));
+     *     batchWriter.flush().join();
+     * }
+     * }
+     * </pre>
+     *
+     * @param configuration the {@link BatchWriterConfiguration} for the batch writer.
+     * @return a {@link DynamoDbBatchWriter} that must be closed after use.
+     */
+    default DynamoDbBatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link DynamoDbBatchWriter} that buffers puts and deletes to the tables of this client and writes them in
+     * batches. See {@link #batchWriter(BatchWriterConfiguration)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the configuration builder avoiding the need to
+     * create one manually via {@link BatchWriterConfiguration#builder()}.
+     *
+     * @param configuration a {@link Consumer} of {@link BatchWriterConfiguration.Builder}.
+     * @return a {@link DynamoDbBatchWriter} that must be closed after use.
+     */
+    default DynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link DynamoDbBatchWriter} with the default {@link BatchWriterConfiguration}. See
+     * {@link #batchWriter(BatchWriterConfiguration)}.
+     *
+     * @return a {@link DynamoDbBatchWriter} that must be closed after use.
+     */
+    default DynamoDbBatchWriter batchWriter() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Creates a default builder for {@link DynamoDbEnhancedClient}.
      */
@@ -20,6 +20,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
@@ -209,6 +210,62 @@ public interface DynamoDbIndex<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table against a secondary index in parallel and retrieves all items.
+     * <p>
+     * The index is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrency()} segments are scanned at the same time. The pages of all segments
+     * are merged into a single result in the order they are retrieved, so pages of different segments are interleaved. The
+     * scan is started each time the result is iterated.
+     * <p>
+     * Segments are scanned on the {@link ParallelScanEnhancedRequest#executor()} if set, or otherwise on a pool of threads
+     * created for each iteration of the results. At most one page per segment being scanned is retrieved ahead of the
+     * consumer.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link ParallelScanEnhancedRequest}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkIterable<Page<MyItem>> results =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder().totalSegments(8).build());
+     * results.stream().forEach(p -> p.items().forEach(item -> System.out.println(item)));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining how to divide the scan and handle the results.
+     * @return an iterator of type {@link SdkIterable} with paginated results (see {@link Page}).
+     */
+    default SdkIterable<Page<T>> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     *
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * SdkIterable<Page<MyItem>> results = mappedTable.parallelScan(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining how to divide the
+     * scan and handle the results.
+     * @return an iterator of type {@link SdkIterable} with paginated results (see {@link Page}).
+     */
+    default SdkIterable<Page<T>> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Gets the {@link DynamoDbEnhancedClientExtension} associated with this mapped resource.
      * @return The {@link DynamoDbEnhancedClientExtension} associated with this mapped resource.
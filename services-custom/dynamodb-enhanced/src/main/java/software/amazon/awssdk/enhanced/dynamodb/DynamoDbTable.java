@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -766,6 +767,62 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrency()} segments are scanned at the same time. The pages of all segments
+     * are merged into a single result in the order they are retrieved, so pages of different segments are interleaved. The
+     * scan is started each time the result is iterated.
+     * <p>
+     * Segments are scanned on the {@link ParallelScanEnhancedRequest#executor()} if set, or otherwise on a pool of threads
+     * created for each iteration of the results. At most one page per segment being scanned is retrieved ahead of the
+     * consumer.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link ParallelScanEnhancedRequest}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results =
+     *     mappedTable.parallelScan(ParallelScanEnhancedRequest.builder().totalSegments(8).build());
+     * results.items().stream().forEach(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining how to divide the scan and handle the results.
+     * @return an iterator of type {@link SdkIterable} with paginated results (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     *
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining how to divide the
+     * scan and handle the results.
+     * @return an iterator of type {@link SdkIterable} with paginated results (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -25,9 +25,11 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PaginatedIndexOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ParallelScanOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.QueryOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ScanOperation;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
@@ -89,6 +91,19 @@ public final class DefaultDynamoDbAsyncIndex<T> implements DynamoDbAsyncIndex<T>
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public SdkPublisher<Page<T>> parallelScan(ParallelScanEnhancedRequest request) {
+        ParallelScanOperation<T> operation = ParallelScanOperation.create(request);
+        return operation.executeOnSecondaryIndexAsync(tableSchema, tableName, indexName, extension, dynamoDbClient);
+    }
+
+    @Override
+    public SdkPublisher<Page<T>> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
     @Override
     public DynamoDbEnhancedClientExtension mapperExtension() {
         return this.extension;
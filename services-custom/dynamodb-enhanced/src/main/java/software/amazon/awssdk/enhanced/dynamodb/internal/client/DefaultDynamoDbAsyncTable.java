@@ -31,6 +31,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteTableO
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DescribeTableOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.GetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PaginatedTableOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ParallelScanOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.QueryOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ScanOperation;
@@ -43,6 +44,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedRespo
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -60,15 +62,25 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
     private final DynamoDbEnhancedClientExtension extension;
     private final TableSchema<T> tableSchema;
     private final String tableName;
+    private final GetItemCoalescer getItemCoalescer;
 
     DefaultDynamoDbAsyncTable(DynamoDbAsyncClient dynamoDbClient,
                               DynamoDbEnhancedClientExtension extension,
                               TableSchema<T> tableSchema,
                               String tableName) {
+        this(dynamoDbClient, extension, tableSchema, tableName, null);
+    }
+
+    DefaultDynamoDbAsyncTable(DynamoDbAsyncClient dynamoDbClient,
+                              DynamoDbEnhancedClientExtension extension,
+                              TableSchema<T> tableSchema,
+                              String tableName,
+                              GetItemCoalescer getItemCoalescer) {
         this.dynamoDbClient = dynamoDbClient;
         this.extension = extension;
         this.tableSchema = tableSchema;
         this.tableName = tableName;
+        this.getItemCoalescer = getItemCoalescer;
     }
 
     @Override
@@ -157,6 +169,10 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
 
     @Override
     public CompletableFuture<T> getItem(GetItemEnhancedRequest request) {
+        if (getItemCoalescer != null && GetItemCoalescer.canCoalesce(request)) {
+            return getItemCoalescer.getItem(tableSchema, tableName, extension, request);
+        }
+
         TableOperation<T, ?, ?, GetItemEnhancedResponse<T>> operation = GetItemOperation.create(request);
         CompletableFuture<GetItemEnhancedResponse<T>> future = operation.executeOnPrimaryIndexAsync(
             tableSchema, tableName, extension, dynamoDbClient
@@ -265,6 +281,19 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        ParallelScanOperation<T> operation = ParallelScanOperation.create(request);
+        return operation.executeOnPrimaryIndexAsync(tableSchema, tableName, extension, dynamoDbClient);
+    }
+
+    @Override
+    public PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
     @Override
     public CompletableFuture<T> updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -0,0 +1,463 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * The default {@link DynamoDbBatchWriter}, which sends batches through a function that makes the batchWriteItem() call. The
+ * synchronous client makes the call on the scheduled executor, and the asynchronous client makes it directly.
+ * <p>
+ * Buffered writes are kept in insertion order and keyed by their table and primary key, so that a later write to the same item
+ * replaces an earlier one that has not been sent yet. The keys of writes that have been sent, including those waiting to be
+ * retried, are kept until the write completes; a write to such a key stays buffered until then, so that writes to the same item
+ * are never in flight at the same time and are applied in order.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultDynamoDbBatchWriter implements DynamoDbBatchWriter {
+    private static final Logger log = Logger.loggerFor(DefaultDynamoDbBatchWriter.class);
+
+    private final BatchWriteItemFunction batchWriteItem;
+    private final int maxBatchSize;
+    private final long maxBatchSizeInBytes;
+    private final int maxBatchesInFlight;
+    private final int maxRetries;
+    private final BackoffStrategy backoffStrategy;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final ScheduledFuture<?> periodicFlush;
+
+    private final Object lock = new Object();
+    private final Map<WriteKey, PendingWrite> bufferedWrites = new LinkedHashMap<>();
+    private final Set<WriteKey> keysInFlight = new HashSet<>();
+    private final Set<CompletableFuture<Void>> incompleteWrites = ConcurrentHashMap.newKeySet();
+    private int batchesInFlight;
+    private int flushesInProgress;
+    private boolean closed;
+
+    private DefaultDynamoDbBatchWriter(BatchWriterConfiguration configuration,
+                                       ScheduledExecutorService scheduler,
+                                       BatchWriteItemFunction batchWriteItem) {
+        this.batchWriteItem = batchWriteItem;
+        this.maxBatchSize = configuration.maxBatchSize();
+        this.maxBatchSizeInBytes = configuration.maxBatchSizeInBytes();
+        this.maxBatchesInFlight = configuration.maxBatchesInFlight();
+        this.maxRetries = configuration.maxRetries();
+        this.backoffStrategy = configuration.backoffStrategy();
+        this.scheduler = scheduler;
+        this.ownsScheduler = configuration.scheduledExecutorService() == null;
+
+        long flushIntervalNanos = configuration.flushInterval().toNanos();
+        this.periodicFlush = scheduler.scheduleWithFixedDelay(() -> sendBatches(true), flushIntervalNanos, flushIntervalNanos,
+                                                              TimeUnit.NANOSECONDS);
+    }
+
+    public static DefaultDynamoDbBatchWriter create(DynamoDbClient dynamoDbClient, BatchWriterConfiguration configuration) {
+        // One thread for each batch in flight, and one for the periodic flush and retries.
+        ScheduledExecutorService scheduler = scheduler(configuration, configuration.maxBatchesInFlight() + 1);
+        return new DefaultDynamoDbBatchWriter(configuration, scheduler, request -> CompletableFuture.supplyAsync(
+            () -> dynamoDbClient.batchWriteItem(request), scheduler));
+    }
+
+    public static DefaultDynamoDbBatchWriter create(DynamoDbAsyncClient dynamoDbAsyncClient,
+                                                    BatchWriterConfiguration configuration) {
+        return new DefaultDynamoDbBatchWriter(configuration, scheduler(configuration, 1), dynamoDbAsyncClient::batchWriteItem);
+    }
+
+    private static ScheduledExecutorService scheduler(BatchWriterConfiguration configuration, int threads) {
+        if (configuration.scheduledExecutorService() != null) {
+            return configuration.scheduledExecutorService();
+        }
+        return Executors.newScheduledThreadPool(
+            threads, new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-enhanced-batch-writer").build());
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTableResource, T item) {
+        TableSchema<T> tableSchema = mappedTableResource.tableSchema();
+        OperationContext context = DefaultOperationContext.create(mappedTableResource.tableName());
+        PutItemEnhancedRequest<T> request = PutItemEnhancedRequest.builder(tableSchema.itemType().rawClass()).item(item).build();
+        WriteRequest writeRequest =
+            PutItemOperation.create(request).generateWriteRequest(tableSchema, context, mappedTableResource.mapperExtension());
+
+        Map<String, AttributeValue> key = new HashMap<>();
+        Map<String, AttributeValue> attributes = writeRequest.putRequest().item();
+        tableSchema.tableMetadata().primaryKeys().forEach(name -> key.put(name, attributes.get(name)));
+        return write(new WriteKey(mappedTableResource.tableName(), key), writeRequest);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTableResource, Key key) {
+        DeleteItemEnhancedRequest request = DeleteItemEnhancedRequest.builder().key(key).build();
+        OperationContext context = DefaultOperationContext.create(mappedTableResource.tableName());
+        DeleteItemOperation<T> operation = DeleteItemOperation.create(request);
+        WriteRequest writeRequest = operation.generateWriteRequest(mappedTableResource.tableSchema(), context,
+                                                                   mappedTableResource.mapperExtension());
+        return write(new WriteKey(mappedTableResource.tableName(), writeRequest.deleteRequest().key()), writeRequest);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTableResource, T keyItem) {
+        return deleteItem(mappedTableResource, mappedTableResource.keyFrom(keyItem));
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<?>[] writes;
+        synchronized (lock) {
+            writes = incompleteWrites.toArray(new CompletableFuture<?>[0]);
+            flushesInProgress++;
+        }
+
+        CompletableFuture<Void> flushed = CompletableFuture.allOf(writes);
+        flushed.whenComplete((r, t) -> {
+            synchronized (lock) {
+                flushesInProgress--;
+            }
+        });
+        sendBatches(true);
+        return flushed;
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+
+        periodicFlush.cancel(false);
+        try {
+            flush().join();
+        } catch (CompletionException e) {
+            log.debug(() -> "Not all writes completed successfully before the batch writer was closed.", e);
+        } finally {
+            if (ownsScheduler) {
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    private CompletableFuture<Void> write(WriteKey key, WriteRequest writeRequest) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("The batch writer has been closed.");
+            }
+
+            PendingWrite write = new PendingWrite(key, writeRequest);
+            PendingWrite replaced = bufferedWrites.put(key, write);
+            if (replaced != null) {
+                write.futures.addAll(replaced.futures);
+            }
+            write.futures.add(future);
+            incompleteWrites.add(future);
+        }
+        future.whenComplete((r, t) -> incompleteWrites.remove(future));
+
+        sendBatches(false);
+        return future;
+    }
+
+    /**
+     * Sends as many batches as the number of batches in flight allows. Unless forced, or a flush is in progress, only full
+     * batches are sent.
+     */
+    private void sendBatches(boolean force) {
+        List<List<PendingWrite>> batches = new ArrayList<>();
+        synchronized (lock) {
+            boolean sendPartialBatches = force || closed || flushesInProgress > 0;
+            while (batchesInFlight < maxBatchesInFlight) {
+                List<PendingWrite> batch = nextBatch(sendPartialBatches);
+                if (batch == null) {
+                    break;
+                }
+                batchesInFlight++;
+                batches.add(batch);
+            }
+        }
+        batches.forEach(this::send);
+    }
+
+    /**
+     * Removes the writes for the next batch from the buffer, skipping writes to items that have a write in flight. Returns null
+     * if there are no writes to send, or if the batch is not full and partial batches should not be sent.
+     */
+    private List<PendingWrite> nextBatch(boolean sendPartialBatches) {
+        List<PendingWrite> batch = new ArrayList<>();
+        long batchSizeInBytes = 0;
+        boolean full = false;
+
+        for (PendingWrite write : bufferedWrites.values()) {
+            if (keysInFlight.contains(write.key)) {
+                continue;
+            }
+            if (!batch.isEmpty() && batchSizeInBytes + write.sizeInBytes > maxBatchSizeInBytes) {
+                full = true;
+                break;
+            }
+            batch.add(write);
+            batchSizeInBytes += write.sizeInBytes;
+            if (batch.size() == maxBatchSize) {
+                full = true;
+                break;
+            }
+        }
+
+        if (batch.isEmpty() || !full && !sendPartialBatches) {
+            return null;
+        }
+        batch.forEach(write -> {
+            bufferedWrites.remove(write.key);
+            keysInFlight.add(write.key);
+        });
+        return batch;
+    }
+
+    private void send(List<PendingWrite> batch) {
+        Map<String, List<WriteRequest>> requestItems = new HashMap<>();
+        batch.forEach(write -> requestItems.computeIfAbsent(write.key.tableName, t -> new ArrayList<>())
+                                           .add(write.writeRequest));
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder().requestItems(requestItems).build();
+
+        CompletableFuture<BatchWriteItemResponse> response;
+        try {
+            response = batchWriteItem.batchWriteItem(request);
+        } catch (RuntimeException e) {
+            response = CompletableFutureUtils.failedFuture(e);
+        }
+        response.whenComplete((r, t) -> batchComplete(batch, r, t));
+    }
+
+    private void batchComplete(List<PendingWrite> batch, BatchWriteItemResponse response, Throwable error) {
+        List<PendingWrite> succeeded = new ArrayList<>();
+        List<PendingWrite> unprocessed = new ArrayList<>();
+        List<PendingWrite> exhausted = new ArrayList<>();
+
+        synchronized (lock) {
+            batchesInFlight--;
+            Set<WriteKey> unprocessedKeys = error == null ? unprocessedKeys(batch, response) : null;
+            for (PendingWrite write : batch) {
+                if (error != null) {
+                    keysInFlight.remove(write.key);
+                } else if (!unprocessedKeys.contains(write.key)) {
+                    keysInFlight.remove(write.key);
+                    succeeded.add(write);
+                } else if (write.retries < maxRetries) {
+                    // The key stays in flight until the write is buffered again, so that later writes to the same item
+                    // wait for it.
+                    write.retries++;
+                    unprocessed.add(write);
+                } else {
+                    keysInFlight.remove(write.key);
+                    exhausted.add(write);
+                }
+            }
+        }
+
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            batch.forEach(write -> write.completeExceptionally(cause));
+        }
+        succeeded.forEach(PendingWrite::complete);
+        exhausted.forEach(write -> write.completeExceptionally(SdkClientException.create(
+            "DynamoDb did not process the write after " + (maxRetries + 1) + " attempts.")));
+
+        if (!unprocessed.isEmpty()) {
+            int retries = unprocessed.stream().mapToInt(write -> write.retries).max().getAsInt();
+            Duration delay = backoffStrategy.computeDelay(retries);
+            scheduler.schedule(() -> retry(unprocessed), delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        sendBatches(false);
+    }
+
+    /**
+     * Returns the keys of the writes in the batch that DynamoDb did not process.
+     */
+    private static Set<WriteKey> unprocessedKeys(List<PendingWrite> batch, BatchWriteItemResponse response) {
+        if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Map<String, Set<WriteRequest>> unprocessedByTable = new HashMap<>();
+        response.unprocessedItems().forEach((table, writes) -> unprocessedByTable.put(table, new HashSet<>(writes)));
+
+        Set<WriteKey> unprocessedKeys = new HashSet<>();
+        for (PendingWrite write : batch) {
+            Set<WriteRequest> unprocessed = unprocessedByTable.get(write.key.tableName);
+            if (unprocessed != null && unprocessed.contains(write.writeRequest)) {
+                unprocessedKeys.add(write.key);
+            }
+        }
+        return unprocessedKeys;
+    }
+
+    private void retry(List<PendingWrite> unprocessed) {
+        synchronized (lock) {
+            for (PendingWrite write : unprocessed) {
+                keysInFlight.remove(write.key);
+                PendingWrite newer = bufferedWrites.get(write.key);
+                if (newer != null) {
+                    // A newer write to the same item has been buffered in the meantime, and replaces the unprocessed one.
+                    newer.futures.addAll(write.futures);
+                } else {
+                    bufferedWrites.put(write.key, write);
+                }
+            }
+        }
+        sendBatches(false);
+    }
+
+    /**
+     * Estimates the size in bytes of an item, or of a key, from the names and values of its attributes.
+     */
+    static long estimateSize(Map<String, AttributeValue> attributes) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+            size += utf8Length(attribute.getKey()) + estimateSize(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long estimateSize(AttributeValue value) {
+        switch (value.type()) {
+            case S:
+                return utf8Length(value.s());
+            case N:
+                return value.n().length();
+            case B:
+                return value.b().asByteArrayUnsafe().length;
+            case SS:
+                return value.ss().stream().mapToLong(DefaultDynamoDbBatchWriter::utf8Length).sum();
+            case NS:
+                return value.ns().stream().mapToLong(String::length).sum();
+            case BS:
+                return value.bs().stream().mapToLong(b -> b.asByteArrayUnsafe().length).sum();
+            case L:
+                return 3 + value.l().stream().mapToLong(element -> 1 + estimateSize(element)).sum();
+            case M:
+                return 3 + value.m().size() + estimateSize(value.m());
+            default:
+                return 1;
+        }
+    }
+
+    private static long utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Makes the batchWriteItem() call for a batch.
+     */
+    @FunctionalInterface
+    interface BatchWriteItemFunction {
+        CompletableFuture<BatchWriteItemResponse> batchWriteItem(BatchWriteItemRequest request);
+    }
+
+    private static final class WriteKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private WriteKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            WriteKey writeKey = (WriteKey) o;
+            return tableName.equals(writeKey.tableName) && key.equals(writeKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + key.hashCode();
+        }
+    }
+
+    private static final class PendingWrite {
+        private final WriteKey key;
+        private final WriteRequest writeRequest;
+        private final long sizeInBytes;
+        private final Collection<CompletableFuture<Void>> futures = new ArrayList<>();
+        private int retries;
+
+        private PendingWrite(WriteKey key, WriteRequest writeRequest) {
+            this.key = key;
+            this.writeRequest = writeRequest;
+            this.sizeInBytes = writeRequest.putRequest() != null ? estimateSize(writeRequest.putRequest().item())
+                                                                 : estimateSize(writeRequest.deleteRequest().key());
+        }
+
+        private void complete() {
+            futures.forEach(future -> future.complete(null));
+        }
+
+        private void completeExceptionally(Throwable error) {
+            futures.forEach(future -> future.completeExceptionally(error));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.Document;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
@@ -34,6 +35,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedReques
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemCoalescingConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -42,10 +45,16 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhancedAsyncClient {
     private final DynamoDbAsyncClient dynamoDbClient;
     private final DynamoDbEnhancedClientExtension extension;
+    private final GetItemCoalescingConfiguration getItemCoalescingConfiguration;
+    private final GetItemCoalescer getItemCoalescer;
 
     private DefaultDynamoDbEnhancedAsyncClient(Builder builder) {
         this.dynamoDbClient = builder.dynamoDbClient == null ? DynamoDbAsyncClient.create() : builder.dynamoDbClient;
         this.extension = ExtensionResolver.resolveExtensions(builder.dynamoDbEnhancedClientExtensions);
+        this.getItemCoalescingConfiguration = builder.getItemCoalescingConfiguration;
+        this.getItemCoalescer = getItemCoalescingConfiguration == null
+                                ? null
+                                : GetItemCoalescer.create(dynamoDbClient, getItemCoalescingConfiguration);
     }
 
     public static Builder builder() {
@@ -54,7 +63,7 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
 
     @Override
     public <T> DefaultDynamoDbAsyncTable<T> table(String tableName, TableSchema<T> tableSchema) {
-        return new DefaultDynamoDbAsyncTable<>(dynamoDbClient, extension, tableSchema, tableName);
+        return new DefaultDynamoDbAsyncTable<>(dynamoDbClient, extension, tableSchema, tableName, getItemCoalescer);
     }
 
     @Override
@@ -116,6 +125,23 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return transactWriteItems(builder.build());
     }
 
+    @Override
+    public DynamoDbBatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        return DefaultDynamoDbBatchWriter.create(dynamoDbClient, configuration);
+    }
+
+    @Override
+    public DynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+        configuration.accept(builder);
+        return batchWriter(builder.build());
+    }
+
+    @Override
+    public DynamoDbBatchWriter batchWriter() {
+        return batchWriter(BatchWriterConfiguration.builder().build());
+    }
+
     public DynamoDbAsyncClient dynamoDbAsyncClient() {
         return dynamoDbClient;
     }
@@ -125,7 +151,9 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
     }
 
     public Builder toBuilder() {
-        return builder().dynamoDbClient(this.dynamoDbClient).extensions(this.extension);
+        return builder().dynamoDbClient(this.dynamoDbClient)
+                        .extensions(this.extension)
+                        .getItemCoalescing(this.getItemCoalescingConfiguration);
     }
 
     @Override
@@ -159,6 +187,7 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         private DynamoDbAsyncClient dynamoDbClient;
         private List<DynamoDbEnhancedClientExtension> dynamoDbEnhancedClientExtensions =
             new ArrayList<>(ExtensionResolver.defaultExtensions());
+        private GetItemCoalescingConfiguration getItemCoalescingConfiguration;
 
         @Override
         public DefaultDynamoDbEnhancedAsyncClient build() {
@@ -182,5 +211,18 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
             this.dynamoDbEnhancedClientExtensions = new ArrayList<>(dynamoDbEnhancedClientExtensions);
             return this;
         }
+
+        @Override
+        public Builder getItemCoalescing(GetItemCoalescingConfiguration getItemCoalescingConfiguration) {
+            this.getItemCoalescingConfiguration = getItemCoalescingConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder getItemCoalescing(Consumer<GetItemCoalescingConfiguration.Builder> getItemCoalescingConfiguration) {
+            GetItemCoalescingConfiguration.Builder builder = GetItemCoalescingConfiguration.builder();
+            getItemCoalescingConfiguration.accept(builder);
+            return getItemCoalescing(builder.build());
+        }
     }
 }
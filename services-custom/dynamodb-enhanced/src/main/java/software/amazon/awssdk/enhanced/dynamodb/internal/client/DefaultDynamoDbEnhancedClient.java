@@ -22,6 +22,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.Document;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
@@ -33,6 +34,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedReques
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -110,6 +112,23 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return transactWriteItems(builder.build());
     }
 
+    @Override
+    public DynamoDbBatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        return DefaultDynamoDbBatchWriter.create(dynamoDbClient, configuration);
+    }
+
+    @Override
+    public DynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+        configuration.accept(builder);
+        return batchWriter(builder.build());
+    }
+
+    @Override
+    public DynamoDbBatchWriter batchWriter() {
+        return batchWriter(BatchWriterConfiguration.builder().build());
+    }
+
     public DynamoDbClient dynamoDbClient() {
         return dynamoDbClient;
     }
@@ -37,6 +37,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteTableO
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DescribeTableOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.GetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PaginatedTableOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ParallelScanOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.QueryOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ScanOperation;
@@ -51,6 +52,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.EnhancedLocalSecondaryInde
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -313,6 +315,19 @@ public class DefaultDynamoDbTable<T> implements DynamoDbTable<T> {
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public PageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        ParallelScanOperation<T> operation = ParallelScanOperation.create(request);
+        return operation.executeOnPrimaryIndex(tableSchema, tableName, extension, dynamoDbClient);
+    }
+
+    @Override
+    public PageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
     @Override
     public T updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -0,0 +1,355 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemCoalescingConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Combines concurrent getItem() calls into batchGetItem() calls. The first read that arrives when no reads are waiting starts a
+ * window, and the reads that arrive before the window ends are sent together, in batches of at most the configured size. A
+ * batch that fills up is sent without waiting for the window to end.
+ * <p>
+ * Reads of the same key with the same consistency that wait at the same time share a single key in the batch. Keys that DynamoDb
+ * returns as unprocessed are retried with backoff, and keys that are neither returned nor unprocessed do not exist.
+ * <p>
+ * If a batch that reads more than one table fails, the reads of each table are sent again as a batch of their own, so that an
+ * error caused by one table, such as a missing table or a key that does not match its schema, only fails the reads of that
+ * table.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class GetItemCoalescer {
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final int maxRetries;
+    private final BackoffStrategy backoffStrategy;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private final Map<ReadKey, PendingRead> pendingReads = new LinkedHashMap<>();
+    private boolean windowScheduled;
+
+    private GetItemCoalescer(DynamoDbAsyncClient dynamoDbClient, GetItemCoalescingConfiguration configuration) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.maxBatchSize = configuration.maxBatchSize();
+        this.windowNanos = configuration.window().toNanos();
+        this.maxRetries = configuration.maxRetries();
+        this.backoffStrategy = configuration.backoffStrategy();
+        this.scheduler = configuration.scheduledExecutorService() != null ? configuration.scheduledExecutorService()
+                                                                           : defaultScheduler();
+    }
+
+    public static GetItemCoalescer create(DynamoDbAsyncClient dynamoDbClient, GetItemCoalescingConfiguration configuration) {
+        return new GetItemCoalescer(dynamoDbClient, configuration);
+    }
+
+    private static ScheduledExecutorService defaultScheduler() {
+        // The enhanced client is never closed, so the thread is a daemon that stops when there is nothing to schedule.
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+            1, new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-enhanced-get-item-coalescer").build());
+        scheduler.setKeepAliveTime(10, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Returns true if the request can be read as part of a batch. Requests for the consumed capacity are read individually,
+     * since the consumed capacity of a batch is not broken down by key.
+     */
+    public static boolean canCoalesce(GetItemEnhancedRequest request) {
+        return request.returnConsumedCapacityAsString() == null;
+    }
+
+    public <T> CompletableFuture<T> getItem(TableSchema<T> tableSchema,
+                                            String tableName,
+                                            DynamoDbEnhancedClientExtension extension,
+                                            GetItemEnhancedRequest request) {
+        Map<String, AttributeValue> key = request.key().keyMap(tableSchema, TableMetadata.primaryIndexName());
+        ReadKey readKey = new ReadKey(tableName, Boolean.TRUE.equals(request.consistentRead()), key);
+        CompletableFuture<Map<String, AttributeValue>> itemFuture = new CompletableFuture<>();
+
+        List<List<PendingRead>> batches = new ArrayList<>();
+        synchronized (lock) {
+            pendingReads.computeIfAbsent(readKey, PendingRead::new).futures.add(itemFuture);
+            if (pendingReads.size() >= maxBatchSize) {
+                batches.add(nextBatch());
+            } else if (!windowScheduled) {
+                windowScheduled = true;
+                scheduler.schedule(this::endWindow, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        batches.forEach(this::send);
+
+        DefaultOperationContext context = DefaultOperationContext.create(tableName);
+        return itemFuture.thenApply(item -> EnhancedClientUtils.readAndTransformSingleItem(item, tableSchema, context,
+                                                                                             extension));
+    }
+
+    private void endWindow() {
+        List<List<PendingRead>> batches = new ArrayList<>();
+        synchronized (lock) {
+            windowScheduled = false;
+            while (!pendingReads.isEmpty()) {
+                batches.add(nextBatch());
+            }
+        }
+        batches.forEach(this::send);
+    }
+
+    /**
+     * Removes the reads for the next batch from the pending reads. A batch can read a table either consistently or not, so
+     * reads of a table with the other consistency are left for a later batch.
+     */
+    private List<PendingRead> nextBatch() {
+        List<PendingRead> batch = new ArrayList<>();
+        Map<String, Boolean> consistentReadByTable = new HashMap<>();
+
+        for (PendingRead read : pendingReads.values()) {
+            Boolean consistentRead = consistentReadByTable.putIfAbsent(read.key.tableName, read.key.consistentRead);
+            if (consistentRead != null && consistentRead != read.key.consistentRead) {
+                continue;
+            }
+            batch.add(read);
+            if (batch.size() == maxBatchSize) {
+                break;
+            }
+        }
+
+        batch.forEach(read -> pendingReads.remove(read.key));
+        return batch;
+    }
+
+    private void send(List<PendingRead> batch) {
+        Map<String, KeysAndAttributes.Builder> keysByTable = new HashMap<>();
+        Map<String, List<Map<String, AttributeValue>>> keyMapsByTable = new HashMap<>();
+        for (PendingRead read : batch) {
+            keysByTable.computeIfAbsent(read.key.tableName,
+                                        t -> KeysAndAttributes.builder().consistentRead(read.key.consistentRead));
+            keyMapsByTable.computeIfAbsent(read.key.tableName, t -> new ArrayList<>()).add(read.key.key);
+        }
+
+        Map<String, KeysAndAttributes> requestItems = new HashMap<>();
+        keysByTable.forEach((table, keys) -> requestItems.put(table, keys.keys(keyMapsByTable.get(table)).build()));
+        BatchGetItemRequest request = BatchGetItemRequest.builder().requestItems(requestItems).build();
+
+        CompletableFuture<BatchGetItemResponse> response;
+        try {
+            response = dynamoDbClient.batchGetItem(request);
+        } catch (RuntimeException e) {
+            response = CompletableFutureUtils.failedFuture(e);
+        }
+        response.whenComplete((r, t) -> batchComplete(batch, r, t));
+    }
+
+    private void batchComplete(List<PendingRead> batch, BatchGetItemResponse response, Throwable error) {
+        if (error != null) {
+            batchFailed(batch, error);
+            return;
+        }
+
+        Map<ReadKey, PendingRead> readsByKey = new HashMap<>();
+        Map<String, ReadKey> tableKeys = new HashMap<>();
+        batch.forEach(read -> {
+            readsByKey.put(read.key, read);
+            tableKeys.putIfAbsent(read.key.tableName, read.key);
+        });
+
+        response.responses().forEach((table, items) -> items.forEach(item -> {
+            ReadKey tableKey = tableKeys.get(table);
+            PendingRead read = tableKey == null ? null : readsByKey.remove(tableKey.forItem(item));
+            if (read != null) {
+                read.complete(item);
+            }
+        }));
+
+        Set<ReadKey> unprocessedKeys = new HashSet<>();
+        response.unprocessedKeys().forEach((table, keys) -> keys.keys().forEach(
+            key -> unprocessedKeys.add(new ReadKey(table, Boolean.TRUE.equals(keys.consistentRead()), key))));
+
+        List<PendingRead> unprocessed = new ArrayList<>();
+        for (PendingRead read : readsByKey.values()) {
+            if (!unprocessedKeys.contains(read.key)) {
+                read.complete(null);
+            } else if (read.retries < maxRetries) {
+                read.retries++;
+                unprocessed.add(read);
+            } else {
+                read.completeExceptionally(SdkClientException.create(
+                    "DynamoDb did not process the read after " + (maxRetries + 1) + " attempts."));
+            }
+        }
+
+        if (!unprocessed.isEmpty()) {
+            int retries = unprocessed.stream().mapToInt(read -> read.retries).max().getAsInt();
+            Duration delay = backoffStrategy.computeDelay(retries);
+            scheduler.schedule(() -> retry(unprocessed), delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void batchFailed(List<PendingRead> batch, Throwable error) {
+        Map<String, List<PendingRead>> readsByTable = new LinkedHashMap<>();
+        batch.forEach(read -> readsByTable.computeIfAbsent(read.key.tableName, t -> new ArrayList<>()).add(read));
+
+        if (readsByTable.size() > 1) {
+            readsByTable.values().forEach(this::send);
+            return;
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        batch.forEach(read -> read.completeExceptionally(cause));
+    }
+
+    private void retry(List<PendingRead> unprocessed) {
+        List<List<PendingRead>> batches = new ArrayList<>();
+        synchronized (lock) {
+            for (PendingRead read : unprocessed) {
+                PendingRead newer = pendingReads.get(read.key);
+                if (newer != null) {
+                    // A read of the same key is already waiting, and will complete both.
+                    newer.futures.addAll(read.futures);
+                } else {
+                    pendingReads.put(read.key, read);
+                }
+            }
+            while (pendingReads.size() >= maxBatchSize) {
+                batches.add(nextBatch());
+            }
+            if (!pendingReads.isEmpty() && !windowScheduled) {
+                windowScheduled = true;
+                scheduler.schedule(this::endWindow, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        batches.forEach(this::send);
+    }
+
+    /**
+     * The key of a read. Number attributes are compared by value, since DynamoDb returns numbers in their canonical form, e.g.
+     * {@code 1} for a key read as {@code 1.0}.
+     */
+    private static final class ReadKey {
+        private final String tableName;
+        private final boolean consistentRead;
+        private final Map<String, AttributeValue> key;
+        private final Map<String, Object> comparableKey;
+
+        private ReadKey(String tableName, boolean consistentRead, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.consistentRead = consistentRead;
+            this.key = key;
+            this.comparableKey = comparableKey(key);
+        }
+
+        private static Map<String, Object> comparableKey(Map<String, AttributeValue> key) {
+            Map<String, Object> comparableKey = new HashMap<>();
+            key.forEach((name, value) -> comparableKey.put(name, comparableValue(value)));
+            return comparableKey;
+        }
+
+        private static Object comparableValue(AttributeValue value) {
+            if (value == null || value.n() == null) {
+                return value;
+            }
+            try {
+                return new BigDecimal(value.n()).stripTrailingZeros();
+            } catch (NumberFormatException e) {
+                // Left for DynamoDb to reject
+                return value;
+            }
+        }
+
+        /**
+         * Returns the key of an item returned for this key's table. All the reads of a table in a batch have the same
+         * consistency and key attributes.
+         */
+        private ReadKey forItem(Map<String, AttributeValue> item) {
+            Map<String, AttributeValue> itemKey = new HashMap<>();
+            key.keySet().forEach(name -> itemKey.put(name, item.get(name)));
+            return new ReadKey(tableName, consistentRead, itemKey);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ReadKey readKey = (ReadKey) o;
+            return consistentRead == readKey.consistentRead && tableName.equals(readKey.tableName)
+                   && comparableKey.equals(readKey.comparableKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = tableName.hashCode();
+            result = 31 * result + Boolean.hashCode(consistentRead);
+            result = 31 * result + comparableKey.hashCode();
+            return result;
+        }
+    }
+
+    private static final class PendingRead {
+        private final ReadKey key;
+        private final List<CompletableFuture<Map<String, AttributeValue>>> futures = new ArrayList<>();
+        private int retries;
+
+        private PendingRead(ReadKey key) {
+            this.key = key;
+        }
+
+        private void complete(Map<String, AttributeValue> item) {
+            futures.forEach(future -> future.complete(item));
+        }
+
+        private void completeExceptionally(Throwable error) {
+            futures.forEach(future -> future.completeExceptionally(error));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Iterates over the pages of a parallel scan in the order they are retrieved.
+ * <p>
+ * Pages are retrieved on the executor, at most one page ahead of the consumer per segment being scanned. The request for the
+ * next page of a segment is only made once the previous page of that segment has been returned by {@link #next()}, so no more
+ * than {@code maxConcurrency} pages are in flight or waiting to be consumed at any time.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class ParallelScanIterator<T> implements Iterator<Page<T>> {
+    private final int totalSegments;
+    private final int maxConcurrency;
+    private final ThreadPoolExecutor ownedExecutor;
+    private final CompletionService<SegmentPage<T>> completionService;
+    private final ReadCapacityLimiter readCapacityLimiter;
+    private final BiFunction<Integer, Map<String, AttributeValue>, Page<T>> pageFetcher;
+
+    private int nextSegment;
+    private int pagesInFlight;
+    private SegmentPage<T> nextPage;
+
+    ParallelScanIterator(int totalSegments,
+                         int maxConcurrency,
+                         Executor executor,
+                         ReadCapacityLimiter readCapacityLimiter,
+                         BiFunction<Integer, Map<String, AttributeValue>, Page<T>> pageFetcher) {
+        this.totalSegments = totalSegments;
+        this.maxConcurrency = maxConcurrency;
+        this.ownedExecutor = executor == null ? createExecutor(maxConcurrency) : null;
+        this.completionService = new ExecutorCompletionService<>(executor == null ? ownedExecutor : executor);
+        this.readCapacityLimiter = readCapacityLimiter;
+        this.pageFetcher = pageFetcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPage != null) {
+            return true;
+        }
+
+        while (pagesInFlight < maxConcurrency && nextSegment < totalSegments) {
+            requestPage(nextSegment++, null);
+        }
+
+        if (pagesInFlight == 0) {
+            shutdownOwnedExecutor();
+            return false;
+        }
+
+        nextPage = awaitPage();
+        pagesInFlight--;
+        return true;
+    }
+
+    @Override
+    public Page<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more pages left.");
+        }
+        SegmentPage<T> segmentPage = nextPage;
+        nextPage = null;
+        if (segmentPage.page.lastEvaluatedKey() != null) {
+            requestPage(segmentPage.segment, segmentPage.page.lastEvaluatedKey());
+        }
+        return segmentPage.page;
+    }
+
+    private void requestPage(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+        completionService.submit(() -> {
+            awaitReadCapacity();
+            Page<T> page = pageFetcher.apply(segment, exclusiveStartKey);
+            if (readCapacityLimiter != null) {
+                readCapacityLimiter.record(page.consumedCapacity());
+            }
+            return new SegmentPage<>(segment, page);
+        });
+        pagesInFlight++;
+    }
+
+    private void awaitReadCapacity() throws InterruptedException {
+        if (readCapacityLimiter != null) {
+            long delayNanos = readCapacityLimiter.delayNanos();
+            if (delayNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            }
+        }
+    }
+
+    private SegmentPage<T> awaitPage() {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon();
+            throw AbortedException.create("Thread interrupted while waiting for a page of the parallel scan.", e);
+        } catch (ExecutionException e) {
+            abandon();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw SdkClientException.create("Failed to scan a segment of the parallel scan.", cause);
+        }
+    }
+
+    /**
+     * Stops the scan after a failure. Pages that are still in flight are discarded.
+     */
+    private void abandon() {
+        nextSegment = totalSegments;
+        pagesInFlight = 0;
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private void shutdownOwnedExecutor() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor(int maxConcurrency) {
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-enhanced-parallel-scan").build());
+        // Let the threads of an iterator that is abandoned before the scan completes die out.
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class SegmentPage<T> {
+        private final int segment;
+        private final Page<T> page;
+
+        private SegmentPage(int segment, Page<T> page) {
+            this.segment = segment;
+            this.page = page;
+        }
+    }
+}
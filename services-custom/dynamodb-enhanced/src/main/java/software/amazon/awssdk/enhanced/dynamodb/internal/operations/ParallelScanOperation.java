@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+/**
+ * Scans a table or index by dividing it into segments that are scanned concurrently. Each segment is scanned page by page
+ * with a {@link ScanOperation}, and the pages of all segments are merged into a single {@link PageIterable} or
+ * {@link PagePublisher} in the order they are retrieved.
+ */
+@SdkInternalApi
+public class ParallelScanOperation<T> {
+    private static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final ParallelScanEnhancedRequest request;
+    private final ScanEnhancedRequest segmentRequest;
+    private final int maxConcurrency;
+
+    private ParallelScanOperation(ParallelScanEnhancedRequest request) {
+        this.request = request;
+        this.segmentRequest = segmentRequest(request);
+        this.maxConcurrency = Math.min(request.maxConcurrency() != null ? request.maxConcurrency() : DEFAULT_MAX_CONCURRENCY,
+                                       request.totalSegments());
+    }
+
+    public static <T> ParallelScanOperation<T> create(ParallelScanEnhancedRequest request) {
+        return new ParallelScanOperation<>(request);
+    }
+
+    public PageIterable<T> executeOnPrimaryIndex(TableSchema<T> tableSchema,
+                                                 String tableName,
+                                                 DynamoDbEnhancedClientExtension extension,
+                                                 DynamoDbClient dynamoDbClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        return execute(tableSchema, context, extension, dynamoDbClient);
+    }
+
+    public PageIterable<T> executeOnSecondaryIndex(TableSchema<T> tableSchema,
+                                                   String tableName,
+                                                   String indexName,
+                                                   DynamoDbEnhancedClientExtension extension,
+                                                   DynamoDbClient dynamoDbClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, indexName);
+        return execute(tableSchema, context, extension, dynamoDbClient);
+    }
+
+    public PagePublisher<T> executeOnPrimaryIndexAsync(TableSchema<T> tableSchema,
+                                                       String tableName,
+                                                       DynamoDbEnhancedClientExtension extension,
+                                                       DynamoDbAsyncClient dynamoDbAsyncClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        return executeAsync(tableSchema, context, extension, dynamoDbAsyncClient);
+    }
+
+    public PagePublisher<T> executeOnSecondaryIndexAsync(TableSchema<T> tableSchema,
+                                                         String tableName,
+                                                         String indexName,
+                                                         DynamoDbEnhancedClientExtension extension,
+                                                         DynamoDbAsyncClient dynamoDbAsyncClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, indexName);
+        return executeAsync(tableSchema, context, extension, dynamoDbAsyncClient);
+    }
+
+    /**
+     * Returns an iterable that scans all segments each time it is iterated, using the executor of the request or, if it has
+     * none, a pool of threads owned by the iterator.
+     */
+    public PageIterable<T> execute(TableSchema<T> tableSchema,
+                                   OperationContext context,
+                                   DynamoDbEnhancedClientExtension extension,
+                                   DynamoDbClient dynamoDbClient) {
+        return PageIterable.create(() -> new ParallelScanIterator<>(
+            request.totalSegments(),
+            maxConcurrency,
+            request.executor(),
+            readCapacityLimiter(),
+            (segment, startKey) -> {
+                ScanOperation<T> operation = segmentOperation(segment, startKey);
+                ScanRequest scanRequest = operation.generateRequest(tableSchema, context, extension);
+                return operation.transformResponse(dynamoDbClient.scan(scanRequest), tableSchema, context, extension);
+            }));
+    }
+
+    /**
+     * Returns a publisher that scans all segments for each subscriber.
+     */
+    public PagePublisher<T> executeAsync(TableSchema<T> tableSchema,
+                                         OperationContext context,
+                                         DynamoDbEnhancedClientExtension extension,
+                                         DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return PagePublisher.create(subscriber -> new ParallelScanPublisher<T>(
+            request.totalSegments(),
+            maxConcurrency,
+            readCapacityLimiter(),
+            (segment, startKey) -> {
+                ScanOperation<T> operation = segmentOperation(segment, startKey);
+                ScanRequest scanRequest = operation.generateRequest(tableSchema, context, extension);
+                return dynamoDbAsyncClient.scan(scanRequest)
+                                          .thenApply(r -> operation.transformResponse(r, tableSchema, context, extension));
+            }).subscribe(subscriber));
+    }
+
+    private ScanOperation<T> segmentOperation(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+        return ScanOperation.create(segmentRequest.toBuilder()
+                                                  .segment(segment)
+                                                  .totalSegments(request.totalSegments())
+                                                  .exclusiveStartKey(exclusiveStartKey)
+                                                  .build());
+    }
+
+    private ReadCapacityLimiter readCapacityLimiter() {
+        Double unitsPerSecond = request.maxReadCapacityUnitsPerSecond();
+        return unitsPerSecond != null ? new ReadCapacityLimiter(unitsPerSecond) : null;
+    }
+
+    private static ScanEnhancedRequest segmentRequest(ParallelScanEnhancedRequest request) {
+        ScanEnhancedRequest scanRequest = request.scanRequest();
+        String returnConsumedCapacity = scanRequest.returnConsumedCapacityAsString();
+        if (request.maxReadCapacityUnitsPerSecond() != null
+            && (returnConsumedCapacity == null
+                || ReturnConsumedCapacity.NONE.toString().equals(returnConsumedCapacity))) {
+            return scanRequest.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        return scanRequest;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Publishes the pages of a parallel scan in the order they are retrieved. This publisher supports a single subscriber; a new
+ * instance is created for each subscription to a parallel scan.
+ * <p>
+ * Scanning starts when the subscriber first requests a page. The request for the next page of a segment is only made once the
+ * previous page of that segment has been delivered to the subscriber, so no more than {@code maxConcurrency} pages are in
+ * flight or waiting for demand at any time.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ParallelScanPublisher<T> implements SdkPublisher<Page<T>> {
+    private final int totalSegments;
+    private final int maxConcurrency;
+    private final ReadCapacityLimiter readCapacityLimiter;
+    private final BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher;
+
+    private final SimplePublisher<Page<T>> publisher = new SimplePublisher<>();
+    private final AtomicInteger nextSegment = new AtomicInteger();
+    private final AtomicInteger activeSegments = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    /**
+     * Schedules the pages delayed by the read capacity limiter. Created when the scan starts, and shut down when it completes,
+     * fails or is cancelled.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    ParallelScanPublisher(int totalSegments,
+                          int maxConcurrency,
+                          ReadCapacityLimiter readCapacityLimiter,
+                          BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher) {
+        this.totalSegments = totalSegments;
+        this.maxConcurrency = maxConcurrency;
+        this.readCapacityLimiter = readCapacityLimiter;
+        this.pageFetcher = pageFetcher;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        publisher.subscribe(new ScanStartingSubscriber(subscriber));
+    }
+
+    private void startScan() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (readCapacityLimiter != null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-enhanced-parallel-scan").build());
+            if (done.get()) {
+                // Cancelled while the scheduler was being created
+                shutdownScheduler();
+                return;
+            }
+        }
+
+        // Every segment that is started up front is counted as active before any of them can complete, so that the first
+        // segment to complete does not mistake itself for the last one.
+        activeSegments.set(maxConcurrency);
+        for (int i = 0; i < maxConcurrency; i++) {
+            scanNextSegment();
+        }
+    }
+
+    private void scanSegment(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+        if (done.get()) {
+            return;
+        }
+
+        awaitReadCapacity().thenCompose(ignored -> pageFetcher.apply(segment, exclusiveStartKey))
+                           .thenCompose(page -> {
+                               if (readCapacityLimiter != null) {
+                                   readCapacityLimiter.record(page.consumedCapacity());
+                               }
+                               return publisher.send(page).thenApply(ignored -> page);
+                           })
+                           .whenComplete((page, error) -> {
+                               if (error != null) {
+                                   fail(error);
+                               } else if (page.lastEvaluatedKey() != null) {
+                                   scanSegment(segment, page.lastEvaluatedKey());
+                               } else {
+                                   scanNextSegment();
+                               }
+                           });
+    }
+
+    private CompletableFuture<Void> awaitReadCapacity() {
+        if (readCapacityLimiter == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long delayNanos = readCapacityLimiter.delayNanos();
+        if (delayNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> delay = new CompletableFuture<>();
+        scheduler.schedule(() -> delay.complete(null), delayNanos, TimeUnit.NANOSECONDS);
+        return delay;
+    }
+
+    /**
+     * Starts scanning the next segment that has not been started yet, or completes the publisher if no segment is left and
+     * this was the last active segment.
+     */
+    private void scanNextSegment() {
+        int segment = nextSegment.getAndIncrement();
+        if (segment < totalSegments) {
+            scanSegment(segment, null);
+            return;
+        }
+        if (activeSegments.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+            shutdownScheduler();
+            publisher.complete();
+        }
+    }
+
+    private void fail(Throwable error) {
+        if (done.compareAndSet(false, true)) {
+            shutdownScheduler();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            publisher.error(cause);
+        }
+    }
+
+    private void cancel() {
+        if (done.compareAndSet(false, true)) {
+            shutdownScheduler();
+        }
+    }
+
+    private void shutdownScheduler() {
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Starts the scan once the subscriber signals demand for the first time, and stops it when the subscriber cancels.
+     */
+    private final class ScanStartingSubscriber extends DelegatingSubscriber<Page<T>, Page<T>> {
+        private ScanStartingSubscriber(Subscriber<? super Page<T>> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            super.onSubscribe(new DelegatingSubscription(subscription) {
+                @Override
+                public void request(long n) {
+                    super.request(n);
+                    if (n > 0) {
+                        startScan();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    super.cancel();
+                    ParallelScanPublisher.this.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(Page<T> page) {
+            subscriber.onNext(page);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+/**
+ * Limits the rate of a scan to a number of read capacity units per second. The capacity consumed by each page is only known
+ * once the page has been retrieved, so each page pushes back the time at which the next page may be requested by the time it
+ * takes to earn the capacity it consumed.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ReadCapacityLimiter {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double nanosPerUnit;
+    private final LongSupplier nanoClock;
+    private long permittedAtNanos;
+
+    ReadCapacityLimiter(double unitsPerSecond) {
+        this(unitsPerSecond, System::nanoTime);
+    }
+
+    ReadCapacityLimiter(double unitsPerSecond, LongSupplier nanoClock) {
+        this.nanosPerUnit = NANOS_PER_SECOND / unitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.permittedAtNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Returns how long to wait, in nanoseconds, before the next page may be requested.
+     */
+    synchronized long delayNanos() {
+        return Math.max(0, permittedAtNanos - nanoClock.getAsLong());
+    }
+
+    /**
+     * Records the capacity consumed by a page.
+     */
+    synchronized void record(ConsumedCapacity consumedCapacity) {
+        if (consumedCapacity == null || consumedCapacity.capacityUnits() == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        if (permittedAtNanos - now < 0) {
+            permittedAtNanos = now;
+        }
+        permittedAtNanos += (long) (consumedCapacity.capacityUnits() * nanosPerUnit);
+    }
+}
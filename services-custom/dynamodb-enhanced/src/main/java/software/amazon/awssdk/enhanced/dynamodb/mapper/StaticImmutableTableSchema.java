@@ -462,12 +462,14 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             builder = constructNewBuilder();
         }
 
-        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = new LinkedHashMap<>();
-        
+        // Attributes of flattened objects are only grouped per flattened object when the item has any, so that mapping an
+        // item without flattened attributes does not allocate anything but the item itself.
+        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = null;
+
         for (Map.Entry<String, AttributeValue> entry : attributeMap.entrySet()) {
             String key = entry.getKey();
             AttributeValue value = entry.getValue();
-            
+
             if (!isNullAttributeValue(value)) {
                 ResolvedImmutableAttribute<T, B> attributeMapper = indexedMappers.get(key);
 
@@ -477,29 +479,27 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
                     }
 
                     attributeMapper.updateItemMethod().accept(builder, value);
-                } else {
+                } else if (!indexedFlattenedMappers.isEmpty()) {
                     FlattenedMapper<T, B, ?> flattenedMapper = this.indexedFlattenedMappers.get(key);
 
                     if (flattenedMapper != null) {
-                        Map<String, AttributeValue> flattenedAttributeValues = 
-                            flattenedAttributeValuesMap.get(flattenedMapper);
-                        
-                        if (flattenedAttributeValues == null) {
-                            flattenedAttributeValues = new HashMap<>();
+                        if (flattenedAttributeValuesMap == null) {
+                            flattenedAttributeValuesMap = new LinkedHashMap<>();
                         }
-                        
-                        flattenedAttributeValues.put(key, value);
-                        flattenedAttributeValuesMap.put(flattenedMapper, flattenedAttributeValues);
+
+                        flattenedAttributeValuesMap.computeIfAbsent(flattenedMapper, m -> new HashMap<>()).put(key, value);
                     }
                 }
             }
         }
 
-        for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
-                flattenedAttributeValuesMap.entrySet()) {
-            builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+        if (flattenedAttributeValuesMap != null) {
+            for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
+                    flattenedAttributeValuesMap.entrySet()) {
+                builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+            }
         }
-        
+
         return builder == null ? null : buildItemFunction.apply(builder);
     }
 
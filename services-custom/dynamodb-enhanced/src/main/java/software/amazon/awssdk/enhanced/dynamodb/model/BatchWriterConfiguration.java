@@ -0,0 +1,302 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines how a {@link DynamoDbBatchWriter} groups writes into batchWriteItem() calls, such as those created by
+ * {@link DynamoDbEnhancedClient#batchWriter(BatchWriterConfiguration)}.
+ * <p>
+ * All parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BatchWriterConfiguration {
+    /**
+     * The maximum number of write requests DynamoDb accepts in a single batchWriteItem() call.
+     */
+    public static final int MAX_BATCH_SIZE = 25;
+
+    private static final long DEFAULT_MAX_BATCH_SIZE_IN_BYTES = 16L * 1024 * 1024;
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+    private static final int DEFAULT_MAX_BATCHES_IN_FLIGHT = 8;
+    private static final int DEFAULT_MAX_RETRIES = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelay(Duration.ofMillis(50), Duration.ofSeconds(5));
+
+    private final int maxBatchSize;
+    private final long maxBatchSizeInBytes;
+    private final Duration flushInterval;
+    private final int maxBatchesInFlight;
+    private final int maxRetries;
+    private final BackoffStrategy backoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private BatchWriterConfiguration(Builder builder) {
+        this.maxBatchSize = builder.maxBatchSize != null ? builder.maxBatchSize : MAX_BATCH_SIZE;
+        this.maxBatchSizeInBytes = builder.maxBatchSizeInBytes != null ? builder.maxBatchSizeInBytes
+                                                                         : DEFAULT_MAX_BATCH_SIZE_IN_BYTES;
+        this.flushInterval = builder.flushInterval != null ? builder.flushInterval : DEFAULT_FLUSH_INTERVAL;
+        this.maxBatchesInFlight = builder.maxBatchesInFlight != null ? builder.maxBatchesInFlight
+                                                                       : DEFAULT_MAX_BATCHES_IN_FLIGHT;
+        this.maxRetries = builder.maxRetries != null ? builder.maxRetries : DEFAULT_MAX_RETRIES;
+        this.backoffStrategy = builder.backoffStrategy != null ? builder.backoffStrategy : DEFAULT_BACKOFF_STRATEGY;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+
+        Validate.isPositive(maxBatchSize, "maxBatchSize");
+        Validate.isTrue(maxBatchSize <= MAX_BATCH_SIZE, "maxBatchSize must not be greater than %s.", MAX_BATCH_SIZE);
+        Validate.isPositive(maxBatchSizeInBytes, "maxBatchSizeInBytes");
+        Validate.isPositive(flushInterval, "flushInterval");
+        Validate.isPositive(maxBatchesInFlight, "maxBatchesInFlight");
+        Validate.isNotNegative(maxRetries, "maxRetries");
+    }
+
+    /**
+     * Creates a newly initialized builder for the configuration.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the configuration.
+     */
+    public Builder toBuilder() {
+        return builder().maxBatchSize(maxBatchSize)
+                        .maxBatchSizeInBytes(maxBatchSizeInBytes)
+                        .flushInterval(flushInterval)
+                        .maxBatchesInFlight(maxBatchesInFlight)
+                        .maxRetries(maxRetries)
+                        .backoffStrategy(backoffStrategy)
+                        .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    /**
+     * Returns the maximum number of writes sent in a single batch.
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Returns the maximum estimated size in bytes of the writes sent in a single batch.
+     */
+    public long maxBatchSizeInBytes() {
+        return maxBatchSizeInBytes;
+    }
+
+    /**
+     * Returns how often writes that do not fill a batch are sent.
+     */
+    public Duration flushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Returns the maximum number of batches that are sent at the same time.
+     */
+    public int maxBatchesInFlight() {
+        return maxBatchesInFlight;
+    }
+
+    /**
+     * Returns how many times a write that DynamoDb returns as unprocessed is retried.
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Returns the backoff strategy used to delay the retry of unprocessed writes.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    /**
+     * Returns the scheduled executor service set on this configuration, or null if it doesn't exist.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchWriterConfiguration that = (BatchWriterConfiguration) o;
+
+        if (maxBatchSize != that.maxBatchSize) {
+            return false;
+        }
+        if (maxBatchSizeInBytes != that.maxBatchSizeInBytes) {
+            return false;
+        }
+        if (maxBatchesInFlight != that.maxBatchesInFlight) {
+            return false;
+        }
+        if (maxRetries != that.maxRetries) {
+            return false;
+        }
+        if (!flushInterval.equals(that.flushInterval)) {
+            return false;
+        }
+        if (!backoffStrategy.equals(that.backoffStrategy)) {
+            return false;
+        }
+        return scheduledExecutorService != null ? scheduledExecutorService.equals(that.scheduledExecutorService)
+                                                : that.scheduledExecutorService == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize;
+        result = 31 * result + Long.hashCode(maxBatchSizeInBytes);
+        result = 31 * result + flushInterval.hashCode();
+        result = 31 * result + maxBatchesInFlight;
+        result = 31 * result + maxRetries;
+        result = 31 * result + backoffStrategy.hashCode();
+        result = 31 * result + (scheduledExecutorService != null ? scheduledExecutorService.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a configuration with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxBatchSize;
+        private Long maxBatchSizeInBytes;
+        private Duration flushInterval;
+        private Integer maxBatchesInFlight;
+        private Integer maxRetries;
+        private BackoffStrategy backoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of writes sent in a single batch. A batch is sent as soon as it is full, without waiting for the
+         * {@link #flushInterval(Duration)}.
+         * <p>
+         * By default, and at most, this is the 25 writes that DynamoDb accepts in a single batchWriteItem() call.
+         *
+         * @param maxBatchSize the maximum number of writes in a batch
+         * @return a builder of this type
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * The maximum estimated size in bytes of the writes sent in a single batch. A batch that would exceed this size with
+         * the next write is sent without it. The size of each write is estimated from the names and values of its attributes.
+         * <p>
+         * By default, this is the 16 MB that DynamoDb accepts in a single batchWriteItem() call.
+         *
+         * @param maxBatchSizeInBytes the maximum estimated size of a batch in bytes
+         * @return a builder of this type
+         */
+        public Builder maxBatchSizeInBytes(Long maxBatchSizeInBytes) {
+            this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+            return this;
+        }
+
+        /**
+         * How often writes that do not fill a batch are sent. This bounds how long a write waits for other writes to share
+         * a batch with. By default, this is 100 milliseconds.
+         *
+         * @param flushInterval the interval at which partial batches are sent
+         * @return a builder of this type
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * The maximum number of batches that are sent at the same time. Writes that arrive while this many batches are in
+         * flight are buffered until a batch completes. By default, this is 8.
+         *
+         * @param maxBatchesInFlight the maximum number of concurrent batchWriteItem() calls
+         * @return a builder of this type
+         */
+        public Builder maxBatchesInFlight(Integer maxBatchesInFlight) {
+            this.maxBatchesInFlight = maxBatchesInFlight;
+            return this;
+        }
+
+        /**
+         * How many times a write that DynamoDb returns as unprocessed is retried before it fails. By default, this is 10.
+         * <p>
+         * This is in addition to the retries of the underlying DynamoDb client, which apply to failed batchWriteItem() calls.
+         *
+         * @param maxRetries the maximum number of retries of an unprocessed write
+         * @return a builder of this type
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * The backoff strategy used to delay the retry of unprocessed writes. By default, this is an exponential delay with
+         * jitter, starting at 50 milliseconds and growing to at most 5 seconds.
+         *
+         * @param backoffStrategy the backoff strategy for unprocessed writes
+         * @return a builder of this type
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        /**
+         * The scheduled executor service used to send partial batches periodically and to delay retries. The synchronous
+         * client also sends batches on this executor. An executor set here is not shut down when the batch writer is closed.
+         * <p>
+         * By default, each batch writer creates its own executor of daemon threads, which is shut down when the batch writer is
+         * closed.
+         *
+         * @param scheduledExecutorService the executor for the batch writer to use
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public BatchWriterConfiguration build() {
+            return new BatchWriterConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines how concurrent {@link DynamoDbAsyncTable#getItem(GetItemEnhancedRequest)} calls are combined into batchGetItem()
+ * calls, when enabled with {@link DynamoDbEnhancedAsyncClient.Builder#getItemCoalescing(GetItemCoalescingConfiguration)}.
+ * <p>
+ * All parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class GetItemCoalescingConfiguration {
+    /**
+     * The maximum number of keys DynamoDb accepts in a single batchGetItem() call.
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(1);
+    private static final int DEFAULT_MAX_RETRIES = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelay(Duration.ofMillis(50), Duration.ofSeconds(5));
+
+    private final int maxBatchSize;
+    private final Duration window;
+    private final int maxRetries;
+    private final BackoffStrategy backoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private GetItemCoalescingConfiguration(Builder builder) {
+        this.maxBatchSize = builder.maxBatchSize != null ? builder.maxBatchSize : MAX_BATCH_SIZE;
+        this.window = builder.window != null ? builder.window : DEFAULT_WINDOW;
+        this.maxRetries = builder.maxRetries != null ? builder.maxRetries : DEFAULT_MAX_RETRIES;
+        this.backoffStrategy = builder.backoffStrategy != null ? builder.backoffStrategy : DEFAULT_BACKOFF_STRATEGY;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+
+        Validate.isPositive(maxBatchSize, "maxBatchSize");
+        Validate.isTrue(maxBatchSize <= MAX_BATCH_SIZE, "maxBatchSize must not be greater than %s.", MAX_BATCH_SIZE);
+        Validate.isPositive(window, "window");
+        Validate.isNotNegative(maxRetries, "maxRetries");
+    }
+
+    /**
+     * Creates a newly initialized builder for the configuration.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the configuration.
+     */
+    public Builder toBuilder() {
+        return builder().maxBatchSize(maxBatchSize)
+                        .window(window)
+                        .maxRetries(maxRetries)
+                        .backoffStrategy(backoffStrategy)
+                        .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    /**
+     * Returns the maximum number of keys read in a single batch.
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Returns how long a read waits for other reads to share a batch with.
+     */
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * Returns how many times a key that DynamoDb returns as unprocessed is retried.
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Returns the backoff strategy used to delay the retry of unprocessed keys.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    /**
+     * Returns the scheduled executor service set on this configuration, or null if it doesn't exist.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        GetItemCoalescingConfiguration that = (GetItemCoalescingConfiguration) o;
+
+        if (maxBatchSize != that.maxBatchSize) {
+            return false;
+        }
+        if (maxRetries != that.maxRetries) {
+            return false;
+        }
+        if (!window.equals(that.window)) {
+            return false;
+        }
+        if (!backoffStrategy.equals(that.backoffStrategy)) {
+            return false;
+        }
+        return scheduledExecutorService != null ? scheduledExecutorService.equals(that.scheduledExecutorService)
+                                                : that.scheduledExecutorService == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize;
+        result = 31 * result + window.hashCode();
+        result = 31 * result + maxRetries;
+        result = 31 * result + backoffStrategy.hashCode();
+        result = 31 * result + (scheduledExecutorService != null ? scheduledExecutorService.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a configuration with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxBatchSize;
+        private Duration window;
+        private Integer maxRetries;
+        private BackoffStrategy backoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of keys read in a single batch. A batch is sent as soon as it is full, without waiting for the
+         * rest of the {@link #window(Duration)}.
+         * <p>
+         * By default, and at most, this is the 100 keys that DynamoDb accepts in a single batchGetItem() call.
+         *
+         * @param maxBatchSize the maximum number of keys in a batch
+         * @return a builder of this type
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * How long the first read of a batch waits for other reads to share the batch with. This is added to the latency of
+         * reads that do not fill a batch. By default, this is 1 millisecond.
+         *
+         * @param window the time a read waits for other reads
+         * @return a builder of this type
+         */
+        public Builder window(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * How many times a key that DynamoDb returns as unprocessed is retried before the read fails. By default, this is 10.
+         * <p>
+         * This is in addition to the retries of the underlying DynamoDb client, which apply to failed batchGetItem() calls.
+         *
+         * @param maxRetries the maximum number of retries of an unprocessed key
+         * @return a builder of this type
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * The backoff strategy used to delay the retry of unprocessed keys. By default, this is an exponential delay with
+         * jitter, starting at 50 milliseconds and growing to at most 5 seconds.
+         *
+         * @param backoffStrategy the backoff strategy for unprocessed keys
+         * @return a builder of this type
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        /**
+         * The scheduled executor service used to end each window and to delay retries. An executor set here is not shut down
+         * by the enhanced client.
+         * <p>
+         * By default, the enhanced client creates an executor with a single daemon thread, which stops when no reads are
+         * waiting.
+         *
+         * @param scheduledExecutorService the executor to use to send batches
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public GetItemCoalescingConfiguration build() {
+            return new GetItemCoalescingConfiguration(this);
+        }
+    }
+}
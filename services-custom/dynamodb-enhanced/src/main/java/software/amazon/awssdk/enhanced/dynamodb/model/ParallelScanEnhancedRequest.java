@@ -0,0 +1,245 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used to scan a DynamoDb table or index in parallel using the parallelScan() operation (such as
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * The scan is divided into {@link #totalSegments()} segments that are scanned concurrently, and the pages of all segments are
+ * merged into a single result in the order they are retrieved. Every other scan parameter, such as the filter expression or the
+ * attributes to project, is taken from the {@link #scanRequest()} and applied to each segment.
+ * <p>
+ * Only {@link #totalSegments()} is required.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrency;
+    private final Double maxReadCapacityUnitsPerSecond;
+    private final Executor executor;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        this.totalSegments = Validate.paramNotNull(builder.totalSegments, "totalSegments");
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxReadCapacityUnitsPerSecond = builder.maxReadCapacityUnitsPerSecond;
+        this.executor = builder.executor;
+
+        Validate.isPositive(totalSegments, "totalSegments");
+        Validate.isPositiveOrNull(maxConcurrency, "maxConcurrency");
+        Validate.isPositiveOrNull(maxReadCapacityUnitsPerSecond, "maxReadCapacityUnitsPerSecond");
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                        "The scanRequest must not set segment or totalSegments; use totalSegments on the parallel scan "
+                        + "request instead.");
+        Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                        "The scanRequest must not set an exclusiveStartKey for a parallel scan.");
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrency(maxConcurrency)
+                        .maxReadCapacityUnitsPerSecond(maxReadCapacityUnitsPerSecond)
+                        .executor(executor);
+    }
+
+    /**
+     * Returns the scan request that is applied to each segment. If none was set, this is a scan request with default settings.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the scan is divided into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the value of maxConcurrency set on this request object, or null if it doesn't exist.
+     */
+    public Integer maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the value of maxReadCapacityUnitsPerSecond set on this request object, or null if it doesn't exist.
+     */
+    public Double maxReadCapacityUnitsPerSecond() {
+        return maxReadCapacityUnitsPerSecond;
+    }
+
+    /**
+     * Returns the executor set on this request object, or null if it doesn't exist.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (!scanRequest.equals(that.scanRequest)) {
+            return false;
+        }
+        if (!totalSegments.equals(that.totalSegments)) {
+            return false;
+        }
+        if (maxConcurrency != null ? !maxConcurrency.equals(that.maxConcurrency) : that.maxConcurrency != null) {
+            return false;
+        }
+        if (maxReadCapacityUnitsPerSecond != null
+            ? !maxReadCapacityUnitsPerSecond.equals(that.maxReadCapacityUnitsPerSecond)
+            : that.maxReadCapacityUnitsPerSecond != null) {
+            return false;
+        }
+        return executor != null ? executor.equals(that.executor) : that.executor == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest.hashCode();
+        result = 31 * result + totalSegments.hashCode();
+        result = 31 * result + (maxConcurrency != null ? maxConcurrency.hashCode() : 0);
+        result = 31 * result + (maxReadCapacityUnitsPerSecond != null ? maxReadCapacityUnitsPerSecond.hashCode() : 0);
+        result = 31 * result + (executor != null ? executor.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrency;
+        private Double maxReadCapacityUnitsPerSecond;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan request that is applied to each segment, for example to set a filter expression or the attributes to
+         * project. The request must not set {@link ScanEnhancedRequest#segment()}, {@link ScanEnhancedRequest#totalSegments()}
+         * or {@link ScanEnhancedRequest#exclusiveStartKey()}. By default, each segment is scanned with default settings.
+         *
+         * @param scanRequest the scan request to apply to each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The number of segments into which the scan is divided. Each segment is scanned independently, so a higher number of
+         * segments allows a larger table to be scanned with more parallelism.
+         * <p>
+         * This value is required, and must be between 1 and the maximum number of segments supported by DynamoDb.
+         *
+         * @param totalSegments the total number of segments to divide the table or index into
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments that are scanned at the same time. Once a segment has been fully scanned, the next
+         * segment that has not been started yet is scanned in its place.
+         * <p>
+         * At most one page per segment being scanned is retrieved ahead of the consumer, so this value also bounds the
+         * number of pages that are held in memory. By default, the lower of {@link #totalSegments(Integer)} and 16 is used.
+         *
+         * @param maxConcurrency the maximum number of segments to scan at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Limits the rate of the scan to the given number of read capacity units per second, as reported by DynamoDb in the
+         * consumed capacity of each response. When the capacity consumed by all segments exceeds this rate, new page requests
+         * are delayed until the scan is back within the limit.
+         * <p>
+         * If set and the {@link #scanRequest(ScanEnhancedRequest)} does not request the consumed capacity to be returned,
+         * {@link software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity#TOTAL} is requested on its behalf.
+         * By default, the rate of the scan is not limited.
+         *
+         * @param maxReadCapacityUnitsPerSecond the maximum read capacity units the scan should consume per second
+         * @return a builder of this type
+         */
+        public Builder maxReadCapacityUnitsPerSecond(Double maxReadCapacityUnitsPerSecond) {
+            this.maxReadCapacityUnitsPerSecond = maxReadCapacityUnitsPerSecond;
+            return this;
+        }
+
+        /**
+         * The executor that the synchronous client uses to scan segments concurrently. This is not used by the asynchronous
+         * client.
+         * <p>
+         * By default, each iteration of the results uses its own pool of daemon threads, sized to the maximum concurrency,
+         * that is shut down once the scan completes.
+         *
+         * @param executor the executor to scan segments with
+         * @return a builder of this type
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class AsyncGetItemCoalescingTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private Integer id;
+        private String attribute;
+
+        private Integer getId() {
+            return id;
+        }
+
+        private Record setId(Integer id) {
+            this.id = id;
+            return this;
+        }
+
+        private String getAttribute() {
+            return attribute;
+        }
+
+        private Record setAttribute(String attribute) {
+            this.attribute = attribute;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(attribute, record.attribute);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, attribute);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(Integer.class, a -> a.name("id")
+                                                            .getter(Record::getId)
+                                                            .setter(Record::setId)
+                                                            .tags(primaryPartitionKey()))
+                         .addAttribute(String.class, a -> a.name("attribute")
+                                                           .getter(Record::getAttribute)
+                                                           .setter(Record::setAttribute))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 120)
+                 .mapToObj(i -> new Record().setId(i).setAttribute(Integer.toString(i)))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                    .dynamoDbClient(getDynamoDbAsyncClient())
+                                                                                    .getItemCoalescing(c -> c.maxBatchSize(100))
+                                                                                    .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+        CompletableFuture.allOf(RECORDS.stream()
+                                       .map(mappedTable::putItem)
+                                       .toArray(CompletableFuture[]::new))
+                         .join();
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void concurrentGetItems_returnEachItem() {
+        List<CompletableFuture<Record>> futures = RECORDS.stream()
+                                                         .map(mappedTable::getItem)
+                                                         .collect(Collectors.toList());
+
+        for (int i = 0; i < RECORDS.size(); i++) {
+            assertThat(futures.get(i).join(), is(RECORDS.get(i)));
+        }
+    }
+
+    @Test
+    public void concurrentGetItems_sameAndMissingKeys() {
+        CompletableFuture<Record> first = mappedTable.getItem(Key.builder().partitionValue(1).build());
+        CompletableFuture<Record> same = mappedTable.getItem(r -> r.key(k -> k.partitionValue(1)));
+        CompletableFuture<Record> consistent = mappedTable.getItem(r -> r.key(k -> k.partitionValue(2)).consistentRead(true));
+        CompletableFuture<Record> missing = mappedTable.getItem(Key.builder().partitionValue(1000).build());
+
+        assertThat(first.join(), is(RECORDS.get(1)));
+        assertThat(same.join(), is(RECORDS.get(1)));
+        assertThat(consistent.join(), is(RECORDS.get(2)));
+        assertThat(missing.join(), is(nullValue()));
+    }
+}
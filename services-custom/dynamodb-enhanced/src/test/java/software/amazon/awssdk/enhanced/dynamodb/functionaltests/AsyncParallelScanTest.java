@@ -0,0 +1,220 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.EnhancedGlobalSecondaryIndex;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+public class AsyncParallelScanTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+        private String gsiId;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        private String getGsiId() {
+            return gsiId;
+        }
+
+        private Record setGsiId(String gsiId) {
+            this.gsiId = gsiId;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value) &&
+                   Objects.equals(gsiId, record.gsiId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value, gsiId);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .addAttribute(String.class, a -> a.name("gsi_id")
+                                                           .getter(Record::getGsiId)
+                                                           .setter(Record::setGsiId)
+                                                           .tags(secondaryPartitionKey("gsi_1")))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 40)
+                 .mapToObj(i -> new Record().setId("id-value-" + i).setValue(i).setGsiId("gsi-id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                         .dynamoDbClient(getDynamoDbAsyncClient())
+                                                                                         .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+    private DynamoDbAsyncIndex<Record> mappedIndex = mappedTable.index("gsi_1");
+
+    private void insertRecords() {
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)).join());
+    }
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())
+                                      .globalSecondaryIndices(
+                                          EnhancedGlobalSecondaryIndex.builder()
+                                                                      .indexName("gsi_1")
+                                                                      .projection(p -> p.projectionType(ProjectionType.ALL))
+                                                                      .provisionedThroughput(getDefaultProvisionedThroughput())
+                                                                      .build()))
+                   .join();
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void parallelScanAllRecords() {
+        insertRecords();
+
+        SdkPublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(4)).items();
+
+        assertThat(drainPublisher(publisher, RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanAllRecords_subscribedTwice_scansTwice() {
+        insertRecords();
+
+        SdkPublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(4)).items();
+
+        assertThat(drainPublisher(publisher, RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(drainPublisher(publisher, RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanWithLimitAndBoundedConcurrency_retrievesEveryPageOfEverySegment() {
+        insertRecords();
+
+        SdkPublisher<Record> publisher =
+            mappedTable.parallelScan(r -> r.totalSegments(8)
+                                           .maxConcurrency(3)
+                                           .scanRequest(ScanEnhancedRequest.builder().limit(2).build()))
+                       .items();
+
+        assertThat(drainPublisher(publisher, RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanWithReadCapacityLimit() {
+        insertRecords();
+
+        SdkPublisher<Page<Record>> publisher =
+            mappedTable.parallelScan(r -> r.totalSegments(4)
+                                           .maxReadCapacityUnitsPerSecond(1000.0)
+                                           .scanRequest(ScanEnhancedRequest.builder().limit(10).build()));
+
+        BufferingSubscriber<Page<Record>> subscriber = new BufferingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.waitForCompletion(5000L);
+
+        List<Page<Record>> pages = subscriber.bufferedItems();
+        assertThat(subscriber.isCompleted(), is(true));
+        assertThat(pages.stream().allMatch(p -> p.consumedCapacity() != null), is(true));
+        assertThat(pages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toList()),
+                   containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanEmptyTable() {
+        SdkPublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(4)).items();
+
+        assertThat(drainPublisher(publisher, 0), is(empty()));
+    }
+
+    @Test
+    public void parallelScanMissingTable_publishesError() {
+        DynamoDbAsyncTable<Record> missingTable =
+            enhancedAsyncClient.table(getConcreteTableName("missing-table-name"), TABLE_SCHEMA);
+
+        drainPublisherToError(missingTable.parallelScan(r -> r.totalSegments(4)), 0, ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void parallelScanIndex() {
+        insertRecords();
+
+        SdkPublisher<Record> publisher = mappedIndex.parallelScan(r -> r.totalSegments(4)).flatMapIterable(Page::items);
+
+        assertThat(drainPublisher(publisher, RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+    }
+}
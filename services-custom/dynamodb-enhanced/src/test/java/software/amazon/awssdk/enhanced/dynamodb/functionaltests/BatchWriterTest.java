@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbBatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class BatchWriterTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private Integer id;
+        private String attribute;
+
+        private Integer getId() {
+            return id;
+        }
+
+        private Record setId(Integer id) {
+            this.id = id;
+            return this;
+        }
+
+        private String getAttribute() {
+            return attribute;
+        }
+
+        private Record setAttribute(String attribute) {
+            this.attribute = attribute;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(attribute, record.attribute);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, attribute);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(Integer.class, a -> a.name("id")
+                                                            .getter(Record::getId)
+                                                            .setter(Record::setId)
+                                                            .tags(primaryPartitionKey()))
+                         .addAttribute(String.class, a -> a.name("attribute")
+                                                           .getter(Record::getAttribute)
+                                                           .setter(Record::setAttribute))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 60)
+                 .mapToObj(i -> new Record().setId(i).setAttribute(Integer.toString(i)))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                                                                          .dynamoDbClient(getDynamoDbClient())
+                                                                          .build();
+
+    private DynamoDbTable<Record> mappedTable = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name"))
+                                                          .build());
+    }
+
+    @Test
+    public void putItems_moreThanOneBatch_writesEveryItem() {
+        try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter()) {
+            RECORDS.forEach(record -> batchWriter.putItem(mappedTable, record));
+            batchWriter.flush().join();
+        }
+
+        RECORDS.forEach(record -> assertThat(mappedTable.getItem(record), is(record)));
+    }
+
+    @Test
+    public void close_writesBufferedItems() {
+        try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter(c -> c.flushInterval(Duration.ofHours(1)))) {
+            batchWriter.putItem(mappedTable, RECORDS.get(0));
+        }
+
+        assertThat(mappedTable.getItem(RECORDS.get(0)), is(RECORDS.get(0)));
+    }
+
+    @Test
+    public void writesToSameItem_lastWriteWins() {
+        Record updated = new Record().setId(1).setAttribute("updated");
+
+        try (DynamoDbBatchWriter batchWriter = enhancedClient.batchWriter()) {
+            batchWriter.putItem(mappedTable, RECORDS.get(0));
+            batchWriter.putItem(mappedTable, RECORDS.get(1));
+            batchWriter.flush().join();
+
+            CompletableFuture<Void> put = batchWriter.putItem(mappedTable, updated);
+            CompletableFuture<Void> delete = batchWriter.deleteItem(mappedTable, Key.builder().partitionValue(0).build());
+            CompletableFuture.allOf(put, delete).join();
+        }
+
+        assertThat(mappedTable.getItem(RECORDS.get(0)), is(nullValue()));
+        assertThat(mappedTable.getItem(RECORDS.get(1)), is(updated));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.EnhancedGlobalSecondaryIndex;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+public class ParallelScanTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+        private String gsiId;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        private String getGsiId() {
+            return gsiId;
+        }
+
+        private Record setGsiId(String gsiId) {
+            this.gsiId = gsiId;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value) &&
+                   Objects.equals(gsiId, record.gsiId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value, gsiId);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .addAttribute(String.class, a -> a.name("gsi_id")
+                                                           .getter(Record::getGsiId)
+                                                           .setter(Record::setGsiId)
+                                                           .tags(secondaryPartitionKey("gsi_1")))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 40)
+                 .mapToObj(i -> new Record().setId("id-value-" + i).setValue(i).setGsiId("gsi-id-value-" + i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                                                                          .dynamoDbClient(getDynamoDbClient())
+                                                                          .build();
+
+    private DynamoDbTable<Record> mappedTable = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+    private DynamoDbIndex<Record> mappedIndex = mappedTable.index("gsi_1");
+
+    private void insertRecords() {
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)));
+    }
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())
+                                      .globalSecondaryIndices(
+                                          EnhancedGlobalSecondaryIndex.builder()
+                                                                      .indexName("gsi_1")
+                                                                      .projection(p -> p.projectionType(ProjectionType.ALL))
+                                                                      .provisionedThroughput(getDefaultProvisionedThroughput())
+                                                                      .build()));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name"))
+                                                          .build());
+    }
+
+    @Test
+    public void parallelScanAllRecords() {
+        insertRecords();
+
+        List<Record> results = mappedTable.parallelScan(r -> r.totalSegments(4)).items().stream().collect(Collectors.toList());
+
+        assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanAllRecords_iteratedTwice_scansTwice() {
+        insertRecords();
+
+        Iterable<Record> results = mappedTable.parallelScan(r -> r.totalSegments(4)).items();
+
+        assertThat(iterate(results), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(iterate(results), containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanWithLimitAndBoundedConcurrency_retrievesEveryPageOfEverySegment() {
+        insertRecords();
+
+        List<Page<Record>> pages = mappedTable.parallelScan(r -> r.totalSegments(8)
+                                                                  .maxConcurrency(3)
+                                                                  .scanRequest(ScanEnhancedRequest.builder().limit(2).build()))
+                                              .stream()
+                                              .collect(Collectors.toList());
+
+        assertThat(pages.size(), greaterThan(RECORDS.size() / 2));
+        assertThat(pages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toList()),
+                   containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanWithFilterAndProjection() {
+        insertRecords();
+        Expression expression = Expression.builder()
+                                          .expression("#value >= :min_value")
+                                          .putExpressionName("#value", "value")
+                                          .putExpressionValue(":min_value", numberValue(30))
+                                          .build();
+
+        List<Record> results =
+            mappedTable.parallelScan(r -> r.totalSegments(4)
+                                           .scanRequest(ScanEnhancedRequest.builder()
+                                                                           .filterExpression(expression)
+                                                                           .attributesToProject("id")
+                                                                           .build()))
+                       .items()
+                       .stream()
+                       .collect(Collectors.toList());
+
+        assertThat(results, containsInAnyOrder(RECORDS.stream()
+                                                      .filter(r -> r.value >= 30)
+                                                      .map(r -> new Record().setId(r.id))
+                                                      .toArray()));
+    }
+
+    @Test
+    public void parallelScanWithExecutor() {
+        insertRecords();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            List<Record> results = mappedTable.parallelScan(r -> r.totalSegments(4).executor(executor))
+                                              .items()
+                                              .stream()
+                                              .collect(Collectors.toList());
+
+            assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelScanWithReadCapacityLimit() {
+        insertRecords();
+
+        List<Page<Record>> pages = mappedTable.parallelScan(r -> r.totalSegments(4).maxReadCapacityUnitsPerSecond(1000.0))
+                                              .stream()
+                                              .collect(Collectors.toList());
+
+        assertThat(pages.stream().allMatch(p -> p.consumedCapacity() != null), is(true));
+        assertThat(pages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toList()),
+                   containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScanEmptyTable() {
+        List<Record> results = mappedTable.parallelScan(r -> r.totalSegments(4)).items().stream().collect(Collectors.toList());
+
+        assertThat(results, is(empty()));
+    }
+
+    @Test
+    public void parallelScanMissingTable_throwsException() {
+        DynamoDbTable<Record> missingTable = enhancedClient.table(getConcreteTableName("missing-table-name"), TABLE_SCHEMA);
+
+        assertThatExceptionOfType(ResourceNotFoundException.class)
+            .isThrownBy(() -> missingTable.parallelScan(r -> r.totalSegments(4)).items().stream().count());
+    }
+
+    @Test
+    public void parallelScanIndex() {
+        insertRecords();
+
+        List<Record> results = mappedIndex.parallelScan(r -> r.totalSegments(4))
+                                          .stream()
+                                          .flatMap(p -> p.items().stream())
+                                          .collect(Collectors.toList());
+
+        assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    private static List<Record> iterate(Iterable<Record> records) {
+        List<Record> result = new ArrayList<>();
+        records.forEach(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+public class DefaultDynamoDbBatchWriterTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(String.class, a -> a.name("value")
+                                                           .getter(Record::getValue)
+                                                           .setter(Record::setValue))
+                         .build();
+
+    private final List<BatchWriteItemRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private final ConcurrentLinkedQueue<Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>>> responses =
+        new ConcurrentLinkedQueue<>();
+
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+    private DynamoDbAsyncTable<Record> mappedTable;
+    private DefaultDynamoDbBatchWriter batchWriter;
+
+    @Before
+    public void setupClient() {
+        mockDynamoDbAsyncClient = mock(DynamoDbAsyncClient.class);
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> response = responses.poll();
+            return response == null ? CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build())
+                                    : response.apply(request);
+        });
+
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                                                .extensions()
+                                                                                .build();
+        mappedTable = enhancedClient.table(TABLE_NAME, TABLE_SCHEMA);
+    }
+
+    @After
+    public void closeBatchWriter() {
+        if (batchWriter != null) {
+            batchWriter.close();
+        }
+    }
+
+    @Test
+    public void putItem_fullBatch_isSentWithoutFlush() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(2));
+
+        CompletableFuture<Void> first = batchWriter.putItem(mappedTable, record("1", "a"));
+        assertThat(requests).isEmpty();
+        CompletableFuture<Void> second = batchWriter.putItem(mappedTable, record("2", "b"));
+
+        assertThat(requests).hasSize(1);
+        assertThat(writtenIds(requests.get(0))).containsExactly("1", "2");
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    public void flush_sendsPartialBatchAndCompletesWhenWritesComplete() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(25));
+
+        CompletableFuture<Void> put = batchWriter.putItem(mappedTable, record("1", "a"));
+        CompletableFuture<Void> delete = batchWriter.deleteItem(mappedTable, Key.builder().partitionValue("2").build());
+        batchWriter.flush().join();
+
+        assertThat(requests).hasSize(1);
+        List<WriteRequest> writes = requests.get(0).requestItems().get(TABLE_NAME);
+        assertThat(writes).hasSize(2);
+        assertThat(writes.get(0).putRequest().item()).containsEntry("value", stringValue("a"));
+        assertThat(writes.get(1).deleteRequest().key()).containsExactly(entry("id", "2"));
+        assertThat(put).isCompleted();
+        assertThat(delete).isCompleted();
+    }
+
+    @Test
+    public void flushInterval_sendsPartialBatch() {
+        batchWriter = batchWriter(c -> c.flushInterval(Duration.ofMillis(10)));
+
+        batchWriter.putItem(mappedTable, record("1", "a")).join();
+
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    public void putItem_sameKeyBuffered_replacesEarlierWrite() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(25));
+
+        CompletableFuture<Void> first = batchWriter.putItem(mappedTable, record("1", "a"));
+        CompletableFuture<Void> second = batchWriter.putItem(mappedTable, record("1", "b"));
+        batchWriter.flush().join();
+
+        assertThat(requests).hasSize(1);
+        List<WriteRequest> writes = requests.get(0).requestItems().get(TABLE_NAME);
+        assertThat(writes).hasSize(1);
+        assertThat(writes.get(0).putRequest().item()).containsEntry("value", stringValue("b"));
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    public void putItem_sameKeyInFlight_isSentAfterEarlierWriteCompletes() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(25));
+        CompletableFuture<BatchWriteItemResponse> firstResponse = new CompletableFuture<>();
+        responses.add(r -> firstResponse);
+
+        CompletableFuture<Void> first = batchWriter.putItem(mappedTable, record("1", "a"));
+        batchWriter.flush();
+        CompletableFuture<Void> second = batchWriter.putItem(mappedTable, record("1", "b"));
+        CompletableFuture<Void> flushed = batchWriter.flush();
+
+        assertThat(requests).hasSize(1);
+        assertThat(flushed).isNotDone();
+
+        firstResponse.complete(BatchWriteItemResponse.builder().build());
+        flushed.join();
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME).get(0).putRequest().item())
+            .containsEntry("value", stringValue("b"));
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    public void putItem_maxBatchesInFlight_limitsRequestsInFlight() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(1).maxBatchesInFlight(1));
+        CompletableFuture<BatchWriteItemResponse> firstResponse = new CompletableFuture<>();
+        responses.add(r -> firstResponse);
+
+        batchWriter.putItem(mappedTable, record("1", "a"));
+        CompletableFuture<Void> second = batchWriter.putItem(mappedTable, record("2", "b"));
+
+        assertThat(requests).hasSize(1);
+
+        firstResponse.complete(BatchWriteItemResponse.builder().build());
+        second.join();
+
+        assertThat(requests).hasSize(2);
+        assertThat(writtenIds(requests.get(1))).containsExactly("2");
+    }
+
+    @Test
+    public void unprocessedItems_areRetried() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(25).backoffStrategy(BackoffStrategy.retryImmediately()));
+        responses.add(r -> CompletableFuture.completedFuture(unprocessed(r, "2")));
+
+        CompletableFuture<Void> first = batchWriter.putItem(mappedTable, record("1", "a"));
+        CompletableFuture<Void> second = batchWriter.putItem(mappedTable, record("2", "b"));
+        batchWriter.flush().join();
+
+        assertThat(requests).hasSize(2);
+        assertThat(writtenIds(requests.get(0))).containsExactly("1", "2");
+        assertThat(writtenIds(requests.get(1))).containsExactly("2");
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    public void unprocessedItems_afterMaxRetries_failsWrite() {
+        batchWriter = batchWriter(c -> c.maxRetries(2).backoffStrategy(BackoffStrategy.retryImmediately()));
+        for (int i = 0; i < 3; i++) {
+            responses.add(r -> CompletableFuture.completedFuture(unprocessed(r, "1")));
+        }
+
+        CompletableFuture<Void> put = batchWriter.putItem(mappedTable, record("1", "a"));
+        batchWriter.flush();
+
+        assertThatThrownBy(put::join).isInstanceOf(CompletionException.class)
+                                     .hasCauseInstanceOf(SdkClientException.class)
+                                     .hasMessageContaining("3 attempts");
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    public void requestFails_failsEveryWriteInBatch() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(25));
+        ProvisionedThroughputExceededException exception = ProvisionedThroughputExceededException.builder().build();
+        responses.add(r -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(exception);
+            return response;
+        });
+
+        CompletableFuture<Void> first = batchWriter.putItem(mappedTable, record("1", "a"));
+        CompletableFuture<Void> second = batchWriter.putItem(mappedTable, record("2", "b"));
+
+        assertThatThrownBy(() -> batchWriter.flush().join()).hasCause(exception);
+        assertThatThrownBy(first::join).hasCause(exception);
+        assertThatThrownBy(second::join).hasCause(exception);
+
+        batchWriter.putItem(mappedTable, record("1", "c"));
+        batchWriter.flush().join();
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    public void close_sendsBufferedWritesAndRejectsNewWrites() {
+        batchWriter = batchWriter(c -> c.maxBatchSize(25));
+
+        CompletableFuture<Void> put = batchWriter.putItem(mappedTable, record("1", "a"));
+        batchWriter.close();
+
+        assertThat(put).isCompleted();
+        assertThat(requests).hasSize(1);
+        assertThatThrownBy(() -> batchWriter.putItem(mappedTable, record("2", "b")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void estimateSize_countsNamesAndValues() {
+        Map<String, AttributeValue> item = Collections.singletonMap("id", stringValue("abc"));
+
+        assertThat(DefaultDynamoDbBatchWriter.estimateSize(item)).isEqualTo(5);
+    }
+
+    private DefaultDynamoDbBatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configuration) {
+        BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder().flushInterval(Duration.ofHours(1));
+        configuration.accept(builder);
+        return DefaultDynamoDbBatchWriter.create(mockDynamoDbAsyncClient, builder.build());
+    }
+
+    private static BatchWriteItemResponse unprocessed(BatchWriteItemRequest request, String id) {
+        List<WriteRequest> unprocessed =
+            request.requestItems().get(TABLE_NAME).stream()
+                   .filter(w -> w.putRequest().item().get("id").s().equals(id))
+                   .collect(Collectors.toList());
+        return BatchWriteItemResponse.builder()
+                                     .unprocessedItems(Collections.singletonMap(TABLE_NAME, unprocessed))
+                                     .build();
+    }
+
+    private static List<String> writtenIds(BatchWriteItemRequest request) {
+        return request.requestItems().get(TABLE_NAME).stream()
+                      .map(w -> w.putRequest().item().get("id").s())
+                      .collect(Collectors.toList());
+    }
+
+    private static Map.Entry<String, AttributeValue> entry(String name, String value) {
+        return new AbstractMap.SimpleEntry<>(name, stringValue(value));
+    }
+
+    private static Record record(String id, String value) {
+        return new Record().setId(id).setValue(value);
+    }
+
+    private static class Record {
+        private String id;
+        private String value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private Record setValue(String value) {
+            this.value = value;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemCoalescingConfiguration;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+public class GetItemCoalescerTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final String OTHER_TABLE_NAME = "other-table-name";
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(String.class, a -> a.name("value")
+                                                           .getter(Record::getValue)
+                                                           .setter(Record::setValue))
+                         .build();
+
+    private static final TableSchema<NumberRecord> NUMBER_TABLE_SCHEMA =
+        StaticTableSchema.builder(NumberRecord.class)
+                         .newItemSupplier(NumberRecord::new)
+                         .addAttribute(BigDecimal.class, a -> a.name("id")
+                                                               .getter(NumberRecord::getId)
+                                                               .setter(NumberRecord::setId)
+                                                               .tags(primaryPartitionKey()))
+                         .build();
+
+    private final Map<String, Map<String, AttributeValue>> storedItems = new HashMap<>();
+    private final List<BatchGetItemRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private final ConcurrentLinkedQueue<Function<BatchGetItemRequest, CompletableFuture<BatchGetItemResponse>>> responses =
+        new ConcurrentLinkedQueue<>();
+
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    @Before
+    public void setupClient() {
+        storedItems.put("1", item("1", "one"));
+        storedItems.put("2", item("2", "two"));
+        storedItems.put("3", item("3", "three"));
+
+        mockDynamoDbAsyncClient = mock(DynamoDbAsyncClient.class);
+        when(mockDynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            Function<BatchGetItemRequest, CompletableFuture<BatchGetItemResponse>> response = responses.poll();
+            return response == null ? CompletableFuture.completedFuture(respond(request, Collections.emptyList()))
+                                    : response.apply(request);
+        });
+        when(mockDynamoDbAsyncClient.getItem(any(GetItemRequest.class))).thenReturn(
+            CompletableFuture.completedFuture(GetItemResponse.builder().item(item("1", "one")).build()));
+    }
+
+    @Test
+    public void getItem_fullBatch_isSentWithoutWaitingForWindow() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.maxBatchSize(3).window(Duration.ofHours(1)));
+
+        CompletableFuture<Record> first = table.getItem(key("1"));
+        CompletableFuture<Record> second = table.getItem(key("2"));
+        assertThat(requests).isEmpty();
+        CompletableFuture<Record> missing = table.getItem(key("4"));
+
+        assertThat(requests).hasSize(1);
+        assertThat(requestedIds(requests.get(0))).containsExactly("1", "2", "4");
+        assertThat(first.join().getValue()).isEqualTo("one");
+        assertThat(second.join().getValue()).isEqualTo("two");
+        assertThat(missing.join()).isNull();
+        verify(mockDynamoDbAsyncClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    public void getItem_partialBatch_isSentWhenWindowEnds() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.window(Duration.ofMillis(10)));
+
+        assertThat(table.getItem(key("1")).join().getValue()).isEqualTo("one");
+
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    public void getItem_sameKey_isReadOnce() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.maxBatchSize(2).window(Duration.ofHours(1)));
+
+        CompletableFuture<Record> first = table.getItem(key("1"));
+        CompletableFuture<Record> second = table.getItem(key("1"));
+        CompletableFuture<Record> third = table.getItem(key("2"));
+
+        assertThat(requests).hasSize(1);
+        assertThat(requestedIds(requests.get(0))).containsExactly("1", "2");
+        assertThat(first.join().getValue()).isEqualTo("one");
+        assertThat(second.join().getValue()).isEqualTo("one");
+        assertThat(third.join().getValue()).isEqualTo("two");
+    }
+
+    @Test
+    public void getItem_differentConsistency_isSentInSeparateBatches() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.window(Duration.ofMillis(50)));
+
+        CompletableFuture<Record> eventual = table.getItem(r -> r.key(key("1")));
+        CompletableFuture<Record> consistent = table.getItem(r -> r.key(key("2")).consistentRead(true));
+
+        assertThat(eventual.join().getValue()).isEqualTo("one");
+        assertThat(consistent.join().getValue()).isEqualTo("two");
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME).consistentRead()).isFalse();
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME).consistentRead()).isTrue();
+    }
+
+    @Test
+    public void unprocessedKeys_areRetried() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.maxBatchSize(2)
+                                                       .window(Duration.ofMillis(10))
+                                                       .backoffStrategy(BackoffStrategy.retryImmediately()));
+        responses.add(r -> CompletableFuture.completedFuture(respond(r, Collections.singletonList("2"))));
+
+        CompletableFuture<Record> first = table.getItem(key("1"));
+        CompletableFuture<Record> second = table.getItem(key("2"));
+
+        assertThat(first.join().getValue()).isEqualTo("one");
+        assertThat(second.join().getValue()).isEqualTo("two");
+        assertThat(requests).hasSize(2);
+        assertThat(requestedIds(requests.get(1))).containsExactly("2");
+    }
+
+    @Test
+    public void unprocessedKeys_afterMaxRetries_failsRead() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.maxRetries(1)
+                                                       .window(Duration.ofMillis(10))
+                                                       .backoffStrategy(BackoffStrategy.retryImmediately()));
+        for (int i = 0; i < 2; i++) {
+            responses.add(r -> CompletableFuture.completedFuture(respond(r, Collections.singletonList("1"))));
+        }
+
+        assertThatThrownBy(() -> table.getItem(key("1")).join()).isInstanceOf(CompletionException.class)
+                                                                .hasCauseInstanceOf(SdkClientException.class)
+                                                                .hasMessageContaining("2 attempts");
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    public void requestFails_failsEveryReadInBatch() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.maxBatchSize(2).window(Duration.ofHours(1)));
+        ProvisionedThroughputExceededException exception = ProvisionedThroughputExceededException.builder().build();
+        responses.add(r -> {
+            CompletableFuture<BatchGetItemResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(exception);
+            return response;
+        });
+
+        CompletableFuture<Record> first = table.getItem(key("1"));
+        CompletableFuture<Record> second = table.getItem(key("2"));
+
+        assertThatThrownBy(first::join).hasCause(exception);
+        assertThatThrownBy(second::join).hasCause(exception);
+    }
+
+    @Test
+    public void requestFails_multipleTables_onlyFailsReadsOfFailingTable() {
+        DynamoDbEnhancedAsyncClient client = client(c -> c.maxBatchSize(2).window(Duration.ofHours(1)));
+        DynamoDbAsyncTable<Record> table = client.table(TABLE_NAME, TABLE_SCHEMA);
+        DynamoDbAsyncTable<Record> missingTable = client.table(OTHER_TABLE_NAME, TABLE_SCHEMA);
+        ResourceNotFoundException exception = ResourceNotFoundException.builder().build();
+        for (int i = 0; i < 3; i++) {
+            responses.add(r -> {
+                if (r.requestItems().containsKey(OTHER_TABLE_NAME)) {
+                    CompletableFuture<BatchGetItemResponse> response = new CompletableFuture<>();
+                    response.completeExceptionally(exception);
+                    return response;
+                }
+                return CompletableFuture.completedFuture(respond(r, Collections.emptyList()));
+            });
+        }
+
+        CompletableFuture<Record> found = table.getItem(key("1"));
+        CompletableFuture<Record> failed = missingTable.getItem(key("2"));
+
+        assertThat(found.join().getValue()).isEqualTo("one");
+        assertThatThrownBy(failed::join).hasCause(exception);
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(0).requestItems()).containsOnlyKeys(TABLE_NAME, OTHER_TABLE_NAME);
+        assertThat(requests.subList(1, 3)).extracting(r -> r.requestItems().keySet())
+                                          .containsExactlyInAnyOrder(Collections.singleton(TABLE_NAME),
+                                                                     Collections.singleton(OTHER_TABLE_NAME));
+    }
+
+    @Test
+    public void getItem_nonCanonicalNumberKey_matchesCanonicalReturnedKey() {
+        DynamoDbAsyncTable<NumberRecord> table = client(c -> c.maxBatchSize(2).window(Duration.ofHours(1)))
+            .table(TABLE_NAME, NUMBER_TABLE_SCHEMA);
+        responses.add(r -> CompletableFuture.completedFuture(
+            BatchGetItemResponse.builder()
+                                .responses(Collections.singletonMap(TABLE_NAME, Collections.singletonList(
+                                    Collections.singletonMap("id", numberValue(1)))))
+                                .build()));
+
+        CompletableFuture<NumberRecord> decimal = table.getItem(Key.builder().partitionValue(new BigDecimal("1.0")).build());
+        CompletableFuture<NumberRecord> integer = table.getItem(Key.builder().partitionValue(1).build());
+        CompletableFuture<NumberRecord> missing = table.getItem(Key.builder().partitionValue(2).build());
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME).keys()).hasSize(2);
+        assertThat(decimal.join().getId()).isEqualByComparingTo("1");
+        assertThat(integer.join().getId()).isEqualByComparingTo("1");
+        assertThat(missing.join()).isNull();
+    }
+
+    @Test
+    public void getItem_returnConsumedCapacity_isNotCoalesced() {
+        DynamoDbAsyncTable<Record> table = table(c -> c.window(Duration.ofHours(1)));
+
+        Record record = table.getItem(r -> r.key(key("1")).returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)).join();
+
+        assertThat(record.getValue()).isEqualTo("one");
+        assertThat(requests).isEmpty();
+        verify(mockDynamoDbAsyncClient).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    public void getItem_coalescingNotEnabled_isNotCoalesced() {
+        DynamoDbAsyncTable<Record> table = DynamoDbEnhancedAsyncClient.builder()
+                                                                      .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                                      .build()
+                                                                      .table(TABLE_NAME, TABLE_SCHEMA);
+
+        assertThat(table.getItem(key("1")).join().getValue()).isEqualTo("one");
+
+        assertThat(requests).isEmpty();
+        verify(mockDynamoDbAsyncClient).getItem(any(GetItemRequest.class));
+    }
+
+    private DynamoDbAsyncTable<Record> table(Consumer<GetItemCoalescingConfiguration.Builder> configuration) {
+        return client(configuration).table(TABLE_NAME, TABLE_SCHEMA);
+    }
+
+    private DynamoDbEnhancedAsyncClient client(Consumer<GetItemCoalescingConfiguration.Builder> configuration) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                                          .dynamoDbClient(mockDynamoDbAsyncClient)
+                                          .getItemCoalescing(configuration)
+                                          .build();
+    }
+
+    /**
+     * Returns the stored items for the keys of the request, except for those with the given ids, which are unprocessed.
+     */
+    private BatchGetItemResponse respond(BatchGetItemRequest request, List<String> unprocessedIds) {
+        KeysAndAttributes keys = request.requestItems().get(TABLE_NAME);
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        List<Map<String, AttributeValue>> unprocessed = new ArrayList<>();
+        for (Map<String, AttributeValue> key : keys.keys()) {
+            String id = key.get("id").s();
+            if (unprocessedIds.contains(id)) {
+                unprocessed.add(key);
+            } else if (storedItems.containsKey(id)) {
+                items.add(storedItems.get(id));
+            }
+        }
+
+        BatchGetItemResponse.Builder response = BatchGetItemResponse.builder()
+                                                                    .responses(Collections.singletonMap(TABLE_NAME, items));
+        if (!unprocessed.isEmpty()) {
+            response.unprocessedKeys(Collections.singletonMap(TABLE_NAME, keys.toBuilder().keys(unprocessed).build()));
+        }
+        return response.build();
+    }
+
+    private static List<String> requestedIds(BatchGetItemRequest request) {
+        return request.requestItems().get(TABLE_NAME).keys().stream()
+                      .map(key -> key.get("id").s())
+                      .collect(Collectors.toList());
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+
+    private static Map<String, AttributeValue> item(String id, String value) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", stringValue(id));
+        item.put("value", stringValue(value));
+        return item;
+    }
+
+    private static class NumberRecord {
+        private BigDecimal id;
+
+        private BigDecimal getId() {
+            return id;
+        }
+
+        private NumberRecord setId(BigDecimal id) {
+            this.id = id;
+            return this;
+        }
+    }
+
+    private static class Record {
+        private String id;
+        private String value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private Record setValue(String value) {
+            this.value = value;
+            return this;
+        }
+    }
+}
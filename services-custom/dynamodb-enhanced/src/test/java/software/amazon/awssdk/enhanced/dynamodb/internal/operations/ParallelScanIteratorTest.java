@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ParallelScanIteratorTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private final AtomicInteger fetchedPages = new AtomicInteger();
+
+    @Test
+    public void iterate_returnsEveryPageOfEverySegmentInSegmentOrder() {
+        List<Page<String>> pages = iterate(new ParallelScanIterator<>(5, 2, null, null, this::fetchPage));
+
+        assertThat(pages).hasSize(5 * PAGES_PER_SEGMENT);
+        for (int segment = 0; segment < 5; segment++) {
+            String prefix = segment + "-";
+            assertThat(pages.stream()
+                            .flatMap(p -> p.items().stream())
+                            .filter(item -> item.startsWith(prefix)))
+                .containsExactly(prefix + 0, prefix + 1, prefix + 2);
+        }
+    }
+
+    @Test
+    public void iterate_retrievesAtMostOnePageAheadPerSegment() {
+        ParallelScanIterator<String> iterator = new ParallelScanIterator<>(8, 3, Runnable::run, null, this::fetchPage);
+
+        assertThat(fetchedPages.get()).isZero();
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(fetchedPages.get()).isEqualTo(3);
+
+        iterator.next();
+        assertThat(fetchedPages.get()).isEqualTo(4);
+
+        iterator.next();
+        assertThat(fetchedPages.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void iterate_segmentFails_throwsExceptionAndStops() {
+        RuntimeException failure = new RuntimeException("failed");
+        BiFunction<Integer, Map<String, AttributeValue>, Page<String>> pageFetcher = (segment, startKey) -> {
+            if (segment == 1) {
+                throw failure;
+            }
+            return fetchPage(segment, startKey);
+        };
+        ParallelScanIterator<String> iterator = new ParallelScanIterator<>(4, 1, null, null, pageFetcher);
+
+        assertThatThrownBy(() -> iterate(iterator)).isSameAs(failure);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    private Page<String> fetchPage(Integer segment, Map<String, AttributeValue> exclusiveStartKey) {
+        fetchedPages.incrementAndGet();
+        int pageNumber = exclusiveStartKey == null ? 0 : Integer.parseInt(exclusiveStartKey.get("page").n());
+        Map<String, AttributeValue> lastEvaluatedKey =
+            pageNumber + 1 < PAGES_PER_SEGMENT ? Collections.singletonMap("page", numberValue(pageNumber + 1)) : null;
+        return Page.create(Collections.singletonList(segment + "-" + pageNumber), lastEvaluatedKey);
+    }
+
+    private static List<Page<String>> iterate(ParallelScanIterator<String> iterator) {
+        List<Page<String>> pages = new ArrayList<>();
+        iterator.forEachRemaining(pages::add);
+        return pages;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+public class ParallelScanPublisherTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private final AtomicInteger fetchedPages = new AtomicInteger();
+
+    @Test
+    public void subscribe_publishesEveryPageOfEverySegmentInSegmentOrder() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        new ParallelScanPublisher<>(5, 2, null, this::fetchPage).subscribe(subscriber);
+
+        subscriber.completion.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.pages).hasSize(5 * PAGES_PER_SEGMENT);
+        for (int segment = 0; segment < 5; segment++) {
+            String prefix = segment + "-";
+            assertThat(subscriber.pages.stream()
+                                       .flatMap(p -> p.items().stream())
+                                       .filter(item -> item.startsWith(prefix)))
+                .containsExactly(prefix + 0, prefix + 1, prefix + 2);
+        }
+    }
+
+    @Test
+    public void subscribe_retrievesAtMostOnePageAheadPerSegmentOfDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        new ParallelScanPublisher<>(8, 3, null, this::fetchPage).subscribe(subscriber);
+
+        assertThat(subscriber.pages).hasSize(1);
+        assertThat(fetchedPages.get()).isEqualTo(4);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.pages).hasSize(2);
+        assertThat(fetchedPages.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void subscribe_noDemand_retrievesNoPages() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        new ParallelScanPublisher<>(8, 3, null, this::fetchPage).subscribe(subscriber);
+
+        assertThat(fetchedPages.get()).isZero();
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.pages).hasSize(1);
+        assertThat(fetchedPages.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void subscribe_cancelledBeforeDemand_retrievesNoPages() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        new ParallelScanPublisher<>(8, 3, new ReadCapacityLimiter(10), this::fetchPage).subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertThat(fetchedPages.get()).isZero();
+    }
+
+    @Test
+    public void subscribe_cancelled_retrievesNoMorePages() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        new ParallelScanPublisher<>(8, 3, null, this::fetchPage).subscribe(subscriber);
+        assertThat(fetchedPages.get()).isEqualTo(4);
+
+        subscriber.subscription.cancel();
+
+        assertThat(fetchedPages.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void subscribe_segmentFails_publishesError() {
+        RuntimeException failure = new RuntimeException("failed");
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        new ParallelScanPublisher<String>(4, 2, null, (segment, startKey) -> {
+            if (segment == 1) {
+                return CompletableFutureUtils.failedFuture(failure);
+            }
+            return fetchPage(segment, startKey);
+        }).subscribe(subscriber);
+
+        assertThat(subscriber.completion).isCompletedExceptionally();
+        assertThat(subscriber.error).isSameAs(failure);
+    }
+
+    private CompletableFuture<Page<String>> fetchPage(Integer segment, Map<String, AttributeValue> exclusiveStartKey) {
+        fetchedPages.incrementAndGet();
+        int pageNumber = exclusiveStartKey == null ? 0 : Integer.parseInt(exclusiveStartKey.get("page").n());
+        Map<String, AttributeValue> lastEvaluatedKey =
+            pageNumber + 1 < PAGES_PER_SEGMENT ? Collections.singletonMap("page", numberValue(pageNumber + 1)) : null;
+        return CompletableFuture.completedFuture(Page.create(Collections.singletonList(segment + "-" + pageNumber),
+                                                             lastEvaluatedKey));
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<Page<String>> {
+        private final long initialDemand;
+        private final List<Page<String>> pages = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private Subscription subscription;
+        private Throwable error;
+
+        private RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(Page<String> page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            completion.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+}
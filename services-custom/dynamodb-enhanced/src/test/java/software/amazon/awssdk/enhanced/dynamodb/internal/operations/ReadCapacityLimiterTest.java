@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+public class ReadCapacityLimiterTest {
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final ReadCapacityLimiter limiter = new ReadCapacityLimiter(10.0, nanoTime::get);
+
+    @Test
+    public void delayNanos_nothingConsumed_isZero() {
+        assertThat(limiter.delayNanos()).isZero();
+    }
+
+    @Test
+    public void delayNanos_afterConsumingCapacity_delaysByTimeToEarnCapacity() {
+        limiter.record(consumed(5.0));
+
+        assertThat(limiter.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(limiter.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(300));
+    }
+
+    @Test
+    public void delayNanos_consumedCapacityAccumulates() {
+        limiter.record(consumed(5.0));
+        limiter.record(consumed(10.0));
+
+        assertThat(limiter.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1500));
+    }
+
+    @Test
+    public void delayNanos_unusedCapacityIsNotSaved() {
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.record(consumed(5.0));
+
+        assertThat(limiter.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void record_missingConsumedCapacity_isIgnored() {
+        limiter.record(null);
+        limiter.record(ConsumedCapacity.builder().build());
+
+        assertThat(limiter.delayNanos()).isZero();
+    }
+
+    private static ConsumedCapacity consumed(double capacityUnits) {
+        return ConsumedCapacity.builder().capacityUnits(capacityUnits).build();
+    }
+}
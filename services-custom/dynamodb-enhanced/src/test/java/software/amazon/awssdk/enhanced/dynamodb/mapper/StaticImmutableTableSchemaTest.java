@@ -1287,6 +1287,26 @@ public class StaticImmutableTableSchemaTest {
                               .build()));
     }
 
+    @Test
+    public void mapToItem_unknownAttributeAndNoComposedAttributes_mapsKnownAttributesOnly() {
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", AttributeValue.builder().s("id-value").build());
+        itemMap.put("unknown_attribute", AttributeValue.builder().s("unknown-value").build());
+
+        FakeItem fakeItem = FakeItem.getTableSchema().mapToItem(itemMap);
+
+        assertThat(fakeItem, is(FakeItem.builder().id("id-value").build()));
+        assertThat(fakeItem.getComposedObject(), is(nullValue()));
+    }
+
+    @Test
+    public void mapToItem_onlyUnknownAttributes_returnsNull() {
+        Map<String, AttributeValue> itemMap = singletonMap("unknown_attribute", ATTRIBUTE_VALUE_S);
+
+        assertThat(FakeItem.getTableSchema().mapToItem(itemMap), is(nullValue()));
+        assertThat(createSimpleTableSchema().mapToItem(itemMap), is(nullValue()));
+    }
+
     @Test
     public void mapToItem_preserveEmptyBean_shouldInitializeEmptyBean() {
         FakeItem fakeItem = new FakeItem();
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.Test;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+
+public class BatchWriterConfigurationTest {
+
+    @Test
+    public void builder_minimal() {
+        BatchWriterConfiguration builtObject = BatchWriterConfiguration.builder().build();
+
+        assertThat(builtObject.maxBatchSize(), is(25));
+        assertThat(builtObject.maxBatchSizeInBytes(), is(16L * 1024 * 1024));
+        assertThat(builtObject.flushInterval(), is(Duration.ofMillis(100)));
+        assertThat(builtObject.maxBatchesInFlight(), is(8));
+        assertThat(builtObject.maxRetries(), is(10));
+        assertThat(builtObject.backoffStrategy(), is(notNullValue()));
+        assertThat(builtObject.scheduledExecutorService(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        BackoffStrategy backoffStrategy = BackoffStrategy.retryImmediately();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            BatchWriterConfiguration builtObject = BatchWriterConfiguration.builder()
+                                                                           .maxBatchSize(10)
+                                                                           .maxBatchSizeInBytes(1024L)
+                                                                           .flushInterval(Duration.ofSeconds(1))
+                                                                           .maxBatchesInFlight(2)
+                                                                           .maxRetries(0)
+                                                                           .backoffStrategy(backoffStrategy)
+                                                                           .scheduledExecutorService(executor)
+                                                                           .build();
+
+            assertThat(builtObject.maxBatchSize(), is(10));
+            assertThat(builtObject.maxBatchSizeInBytes(), is(1024L));
+            assertThat(builtObject.flushInterval(), is(Duration.ofSeconds(1)));
+            assertThat(builtObject.maxBatchesInFlight(), is(2));
+            assertThat(builtObject.maxRetries(), is(0));
+            assertThat(builtObject.backoffStrategy(), is(backoffStrategy));
+            assertThat(builtObject.scheduledExecutorService(), is(executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void toBuilder() {
+        BatchWriterConfiguration builtObject = BatchWriterConfiguration.builder().maxBatchSize(5).maxRetries(3).build();
+
+        BatchWriterConfiguration copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+        assertThat(copiedObject.hashCode(), is(builtObject.hashCode()));
+        assertThat(copiedObject.toBuilder().maxRetries(4).build(), is(not(builtObject)));
+    }
+
+    @Test
+    public void build_maxBatchSizeAboveLimit_throwsException() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().maxBatchSize(26).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxBatchSize");
+    }
+
+    @Test
+    public void build_maxBatchSizeNotPositive_throwsException() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().maxBatchSize(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxBatchSize");
+    }
+
+    @Test
+    public void build_flushIntervalNotPositive_throwsException() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().flushInterval(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("flushInterval");
+    }
+
+    @Test
+    public void build_maxBatchesInFlightNotPositive_throwsException() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().maxBatchesInFlight(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxBatchesInFlight");
+    }
+
+    @Test
+    public void build_maxRetriesNegative_throwsException() {
+        assertThatThrownBy(() -> BatchWriterConfiguration.builder().maxRetries(-1).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxRetries");
+    }
+}
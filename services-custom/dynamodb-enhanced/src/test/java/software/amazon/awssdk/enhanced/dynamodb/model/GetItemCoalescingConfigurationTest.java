@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.Test;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+
+public class GetItemCoalescingConfigurationTest {
+
+    @Test
+    public void builder_minimal() {
+        GetItemCoalescingConfiguration builtObject = GetItemCoalescingConfiguration.builder().build();
+
+        assertThat(builtObject.maxBatchSize(), is(100));
+        assertThat(builtObject.window(), is(Duration.ofMillis(1)));
+        assertThat(builtObject.maxRetries(), is(10));
+        assertThat(builtObject.backoffStrategy(), is(notNullValue()));
+        assertThat(builtObject.scheduledExecutorService(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        BackoffStrategy backoffStrategy = BackoffStrategy.retryImmediately();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            GetItemCoalescingConfiguration builtObject = GetItemCoalescingConfiguration.builder()
+                                                                                       .maxBatchSize(50)
+                                                                                       .window(Duration.ofMillis(5))
+                                                                                       .maxRetries(0)
+                                                                                       .backoffStrategy(backoffStrategy)
+                                                                                       .scheduledExecutorService(executor)
+                                                                                       .build();
+
+            assertThat(builtObject.maxBatchSize(), is(50));
+            assertThat(builtObject.window(), is(Duration.ofMillis(5)));
+            assertThat(builtObject.maxRetries(), is(0));
+            assertThat(builtObject.backoffStrategy(), is(backoffStrategy));
+            assertThat(builtObject.scheduledExecutorService(), is(executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void toBuilder() {
+        GetItemCoalescingConfiguration builtObject = GetItemCoalescingConfiguration.builder().maxBatchSize(10).build();
+
+        GetItemCoalescingConfiguration copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+        assertThat(copiedObject.hashCode(), is(builtObject.hashCode()));
+        assertThat(copiedObject.toBuilder().window(Duration.ofMillis(2)).build(), is(not(builtObject)));
+    }
+
+    @Test
+    public void build_maxBatchSizeAboveLimit_throwsException() {
+        assertThatThrownBy(() -> GetItemCoalescingConfiguration.builder().maxBatchSize(101).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxBatchSize");
+    }
+
+    @Test
+    public void build_windowNotPositive_throwsException() {
+        assertThatThrownBy(() -> GetItemCoalescingConfiguration.builder().window(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("window");
+    }
+
+    @Test
+    public void build_maxRetriesNegative_throwsException() {
+        assertThatThrownBy(() -> GetItemCoalescingConfiguration.builder().maxRetries(-1).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxRetries");
+    }
+}
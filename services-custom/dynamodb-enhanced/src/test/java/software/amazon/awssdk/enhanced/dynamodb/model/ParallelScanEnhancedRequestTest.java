@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+
+public class ParallelScanEnhancedRequestTest {
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(builtObject.totalSegments(), is(4));
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().build()));
+        assertThat(builtObject.maxConcurrency(), is(nullValue()));
+        assertThat(builtObject.maxReadCapacityUnitsPerSecond(), is(nullValue()));
+        assertThat(builtObject.executor(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().limit(10).consistentRead(true).build();
+        Executor executor = Runnable::run;
+
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(scanRequest)
+                                                                             .totalSegments(8)
+                                                                             .maxConcurrency(2)
+                                                                             .maxReadCapacityUnitsPerSecond(100.0)
+                                                                             .executor(executor)
+                                                                             .build();
+
+        assertThat(builtObject.scanRequest(), is(scanRequest));
+        assertThat(builtObject.totalSegments(), is(8));
+        assertThat(builtObject.maxConcurrency(), is(2));
+        assertThat(builtObject.maxReadCapacityUnitsPerSecond(), is(100.0));
+        assertThat(builtObject.executor(), is(executor));
+    }
+
+    @Test
+    public void builder_missingTotalSegments_throwsException() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("totalSegments");
+    }
+
+    @Test
+    public void builder_invalidValues_throwsException() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("totalSegments");
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(4).maxConcurrency(0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrency");
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(4).maxReadCapacityUnitsPerSecond(0.0).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxReadCapacityUnitsPerSecond");
+    }
+
+    @Test
+    public void builder_scanRequestWithSegment_throwsException() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(4)
+                                                            .scanRequest(ScanEnhancedRequest.builder()
+                                                                                            .segment(0)
+                                                                                            .totalSegments(4)
+                                                                                            .build())
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("segment");
+    }
+
+    @Test
+    public void builder_scanRequestWithExclusiveStartKey_throwsException() {
+        ScanEnhancedRequest scanRequest =
+            ScanEnhancedRequest.builder().exclusiveStartKey(Collections.singletonMap("id", stringValue("id-value"))).build();
+
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(4).scanRequest(scanRequest).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("exclusiveStartKey");
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .totalSegments(8)
+                                                                             .maxConcurrency(2)
+                                                                             .maxReadCapacityUnitsPerSecond(100.0)
+                                                                             .build();
+
+        ParallelScanEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+    }
+}
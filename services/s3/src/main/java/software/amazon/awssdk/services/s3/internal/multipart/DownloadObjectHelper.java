@@ -32,10 +32,18 @@ public class DownloadObjectHelper {
 
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
+    private final ParallelDownloadObjectHelper parallelDownloadHelper;
 
     public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes) {
+        this(s3AsyncClient, bufferSizeInBytes, 1);
+    }
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int maxInFlightParts) {
         this.s3AsyncClient = s3AsyncClient;
         this.bufferSizeInBytes = bufferSizeInBytes;
+        this.parallelDownloadHelper = maxInFlightParts > 1
+                                      ? new ParallelDownloadObjectHelper(s3AsyncClient, maxInFlightParts, bufferSizeInBytes)
+                                      : null;
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -45,6 +53,11 @@ public class DownloadObjectHelper {
             return s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
         }
         GetObjectRequest requestToPerform = getObjectRequest.toBuilder().checksumMode(ChecksumMode.ENABLED).build();
+        // Resumed downloads keep track of the parts downloaded in sequence, so they are always downloaded sequentially
+        if (parallelDownloadHelper != null
+            && !MultipartDownloadUtils.multipartDownloadResumeContext(requestToPerform).isPresent()) {
+            return parallelDownloadHelper.downloadObject(requestToPerform, asyncResponseTransformer);
+        }
         AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split =
             asyncResponseTransformer.split(SplittingTransformerConfiguration.builder()
                                                                             .bufferSizeInBytes(bufferSizeInBytes)
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.Optional;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * A CRC32 or CRC32C checksum of a whole object that is uploaded in parts.
+ * <p>
+ * S3 only stores checksums of the parts of a multipart upload, so the checksum of the object set on a {@link PutObjectRequest}
+ * is not sent. Instead, the parts are uploaded with the same algorithm, and before the upload is completed the checksum of the
+ * object is computed by combining the part checksums returned by S3 and compared with the expected value. This validates the
+ * whole object without reading its data again.
+ * <p>
+ * The combined checksum is only used for this validation. The {@code PutObjectResponse} keeps the checksum returned by S3,
+ * which for a multipart upload is the checksum of the part checksums followed by {@code -<number of parts>}.
+ */
+@SdkInternalApi
+final class FullObjectChecksum {
+    private final ChecksumAlgorithm algorithm;
+    private final software.amazon.awssdk.checksums.spi.ChecksumAlgorithm crcAlgorithm;
+    private final Function<CompletedPart, String> partChecksum;
+    private final String expectedChecksum;
+
+    private FullObjectChecksum(ChecksumAlgorithm algorithm,
+                               software.amazon.awssdk.checksums.spi.ChecksumAlgorithm crcAlgorithm,
+                               Function<CompletedPart, String> partChecksum,
+                               String expectedChecksum) {
+        this.algorithm = algorithm;
+        this.crcAlgorithm = crcAlgorithm;
+        this.partChecksum = partChecksum;
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    /**
+     * The CRC32 or CRC32C checksum of the object set on the request, if any. Requests that also specify a different checksum
+     * algorithm are left as they are.
+     */
+    static Optional<FullObjectChecksum> fromRequest(PutObjectRequest putObjectRequest) {
+        ChecksumAlgorithm requestedAlgorithm = putObjectRequest.checksumAlgorithm();
+        if (putObjectRequest.checksumCRC32() != null
+            && (requestedAlgorithm == null || requestedAlgorithm == ChecksumAlgorithm.CRC32)) {
+            return Optional.of(new FullObjectChecksum(ChecksumAlgorithm.CRC32, DefaultChecksumAlgorithm.CRC32,
+                                                      CompletedPart::checksumCRC32, putObjectRequest.checksumCRC32()));
+        }
+        if (putObjectRequest.checksumCRC32C() != null
+            && (requestedAlgorithm == null || requestedAlgorithm == ChecksumAlgorithm.CRC32_C)) {
+            return Optional.of(new FullObjectChecksum(ChecksumAlgorithm.CRC32_C, DefaultChecksumAlgorithm.CRC32C,
+                                                      CompletedPart::checksumCRC32C, putObjectRequest.checksumCRC32C()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The request to upload the parts with: the checksum of the object is removed, and the parts are checksummed with the same
+     * algorithm.
+     */
+    PutObjectRequest toPartChecksumRequest(PutObjectRequest putObjectRequest) {
+        return putObjectRequest.toBuilder()
+                               .checksumAlgorithm(algorithm)
+                               .checksumCRC32(null)
+                               .checksumCRC32C(null)
+                               .build();
+    }
+
+    /**
+     * Combine the checksums of the given parts, which must be in order, and compare the result with the expected checksum.
+     *
+     * @param parts the completed parts of the object
+     * @param partSize the size of every part but the last
+     * @param contentLength the size of the object
+     * @throws SdkClientException if a part has no checksum or the checksum of the object does not match
+     */
+    void validate(CompletedPart[] parts, long partSize, long contentLength) {
+        long combined = 0;
+        for (int i = 0; i < parts.length; i++) {
+            String encodedPartChecksum = partChecksum.apply(parts[i]);
+            if (encodedPartChecksum == null) {
+                throw SdkClientException.create(String.format("The %s checksum of the object could not be validated because S3 "
+                                                              + "did not return a checksum for part %d",
+                                                              algorithm, parts[i].partNumber()));
+            }
+            long partLength = Math.min(partSize, contentLength - i * partSize);
+            combined = SdkChecksum.combine(crcAlgorithm, combined, decode(encodedPartChecksum), partLength);
+        }
+
+        String actualChecksum = BinaryUtils.toBase64(encode(combined));
+        if (!actualChecksum.equals(expectedChecksum)) {
+            throw SdkClientException.create(String.format("The %s checksum of the uploaded parts (%s) does not match the %s "
+                                                          + "checksum set on the request (%s)",
+                                                          algorithm, actualChecksum, algorithm, expectedChecksum));
+        }
+    }
+
+    private static long decode(String base64Checksum) {
+        byte[] bytes = BinaryUtils.fromBase64(base64Checksum);
+        long value = 0;
+        for (byte b : bytes) {
+            value = (value << 8) | (b & 0xFF);
+        }
+        return value;
+    }
+
+    private static byte[] encode(long crc32) {
+        return new byte[] {(byte) (crc32 >>> 24), (byte) (crc32 >>> 16), (byte) (crc32 >>> 8), (byte) crc32};
+    }
+}
@@ -32,6 +32,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -55,6 +56,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicInteger partNumber = new AtomicInteger(1);
     private final MultipartUploadHelper multipartUploadHelper;
     private final long partSize;
+    private final long contentLength;
     private final int partCount;
     private final int numExistingParts;
     private final String uploadId;
@@ -64,6 +66,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicReferenceArray<CompletedPart> completedParts;
     private final Map<Integer, CompletedPart> existingParts;
     private final PublisherListener<Long> progressListener;
+    private final FullObjectChecksum fullObjectChecksum;
     private Subscription subscription;
     private volatile boolean isDone;
     private volatile boolean isPaused;
@@ -77,7 +80,8 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                                                  CompletableFuture<PutObjectResponse> returnFuture,
                                                  MultipartUploadHelper multipartUploadHelper) {
         this.partSize = mpuRequestContext.partSize();
-        this.partCount = determinePartCount(mpuRequestContext.contentLength(), partSize);
+        this.contentLength = mpuRequestContext.contentLength();
+        this.partCount = determinePartCount(contentLength, partSize);
         this.putObjectRequest = mpuRequestContext.request().left();
         this.returnFuture = returnFuture;
         this.uploadId = mpuRequestContext.uploadId();
@@ -88,6 +92,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         this.progressListener = putObjectRequest.overrideConfiguration().map(c -> c.executionAttributes()
                                                                                    .getAttribute(JAVA_PROGRESS_LISTENER))
                                                 .orElseGet(PublisherListener::noOp);
+        this.fullObjectChecksum = mpuRequestContext.fullObjectChecksum();
     }
 
     private int determinePartCount(long contentLength, long partSize) {
@@ -210,6 +215,16 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                 // List of CompletedParts needs to be in ascending order
                 parts = mergeCompletedParts();
             }
+            if (fullObjectChecksum != null) {
+                try {
+                    fullObjectChecksum.validate(parts, partSize, contentLength);
+                } catch (SdkClientException e) {
+                    if (failureActionInitiated.compareAndSet(false, true)) {
+                        multipartUploadHelper.failRequestsElegantly(futures, e, uploadId, returnFuture, putObjectRequest);
+                    }
+                    return;
+                }
+            }
             completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
         }
     }
@@ -32,6 +32,7 @@ public class MpuRequestContext {
     private final Long numPartsCompleted;
     private final String uploadId;
     private final Map<Integer, CompletedPart> existingParts;
+    private final FullObjectChecksum fullObjectChecksum;
 
     protected MpuRequestContext(Builder builder) {
         this.request = builder.request;
@@ -40,6 +41,7 @@ public class MpuRequestContext {
         this.uploadId = builder.uploadId;
         this.existingParts = builder.existingParts;
         this.numPartsCompleted = builder.numPartsCompleted;
+        this.fullObjectChecksum = builder.fullObjectChecksum;
     }
 
     public static Builder builder() {
@@ -58,7 +60,8 @@ public class MpuRequestContext {
 
         return Objects.equals(request, that.request) && Objects.equals(contentLength, that.contentLength)
                && Objects.equals(partSize, that.partSize) && Objects.equals(numPartsCompleted, that.numPartsCompleted)
-               && Objects.equals(uploadId, that.uploadId) && Objects.equals(existingParts, that.existingParts);
+               && Objects.equals(uploadId, that.uploadId) && Objects.equals(existingParts, that.existingParts)
+               && Objects.equals(fullObjectChecksum, that.fullObjectChecksum);
     }
 
     @Override
@@ -69,6 +72,7 @@ public class MpuRequestContext {
         result = 31 * result + (contentLength != null ? contentLength.hashCode() : 0);
         result = 31 * result + (partSize != null ? partSize.hashCode() : 0);
         result = 31 * result + (numPartsCompleted != null ? numPartsCompleted.hashCode() : 0);
+        result = 31 * result + (fullObjectChecksum != null ? fullObjectChecksum.hashCode() : 0);
         return result;
     }
 
@@ -96,6 +100,13 @@ public class MpuRequestContext {
         return existingParts;
     }
 
+    /**
+     * The checksum of the whole object to validate the part checksums against, or null.
+     */
+    FullObjectChecksum fullObjectChecksum() {
+        return fullObjectChecksum;
+    }
+
     public static final class Builder {
         private Pair<PutObjectRequest, AsyncRequestBody> request;
         private Long contentLength;
@@ -103,6 +114,7 @@ public class MpuRequestContext {
         private Long numPartsCompleted;
         private String uploadId;
         private Map<Integer, CompletedPart> existingParts;
+        private FullObjectChecksum fullObjectChecksum;
 
         private Builder() {
         }
@@ -137,6 +149,11 @@ public class MpuRequestContext {
             return this;
         }
 
+        Builder fullObjectChecksum(FullObjectChecksum fullObjectChecksum) {
+            this.fullObjectChecksum = fullObjectChecksum;
+            return this;
+        }
+
         public MpuRequestContext build() {
             return new MpuRequestContext(this);
         }
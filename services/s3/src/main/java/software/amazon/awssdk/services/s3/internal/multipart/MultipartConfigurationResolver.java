@@ -26,9 +26,12 @@ import software.amazon.awssdk.utils.Validate;
 public final class MultipartConfigurationResolver {
 
     private static final long DEFAULT_MIN_PART_SIZE = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_IN_FLIGHT_DOWNLOAD_PARTS = 1;
     private final long minimalPartSizeInBytes;
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
+    private final int maxInFlightDownloadParts;
+    private final boolean offHeapBufferingEnabled;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -37,6 +40,10 @@ public final class MultipartConfigurationResolver {
         this.apiCallBufferSize = Validate.getOrDefault(multipartConfiguration.apiCallBufferSizeInBytes(),
                                                        () -> minimalPartSizeInBytes * 4);
         this.thresholdInBytes = Validate.getOrDefault(multipartConfiguration.thresholdInBytes(), () -> minimalPartSizeInBytes);
+        this.maxInFlightDownloadParts = Validate.isPositive(
+            Validate.getOrDefault(multipartConfiguration.maxInFlightDownloadParts(), () -> DEFAULT_MAX_IN_FLIGHT_DOWNLOAD_PARTS),
+            "maxInFlightDownloadParts");
+        this.offHeapBufferingEnabled = Boolean.TRUE.equals(multipartConfiguration.offHeapBufferingEnabled());
     }
 
     public long minimalPartSizeInBytes() {
@@ -50,4 +57,12 @@ public final class MultipartConfigurationResolver {
     public long apiCallBufferSize() {
         return apiCallBufferSize;
     }
+
+    public int maxInFlightDownloadParts() {
+        return maxInFlightDownloadParts;
+    }
+
+    public boolean offHeapBufferingEnabled() {
+        return offHeapBufferingEnabled;
+    }
 }
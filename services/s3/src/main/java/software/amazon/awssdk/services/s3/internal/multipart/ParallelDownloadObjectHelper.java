@@ -0,0 +1,412 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Downloads the parts of a multipart object concurrently. The first part is downloaded on its own to find the number of parts
+ * of the object, then the remaining parts are requested with at most {@code maxInFlightParts} requests in flight at a time.
+ * <p>
+ * When the destination is a file, each part is written directly at the position given by the Content-Range of its response.
+ * For any other {@link AsyncResponseTransformer}, parts are held in memory until the parts preceding them have been delivered,
+ * and the number of parts in flight is further limited so that the parts held do not exceed {@code bufferSizeInBytes}.
+ */
+@SdkInternalApi
+public final class ParallelDownloadObjectHelper {
+    private static final Logger log = Logger.loggerFor(ParallelDownloadObjectHelper.class);
+    private static final String CONTENT_RANGE_PREFIX = "bytes ";
+
+    private final S3AsyncClient s3AsyncClient;
+    private final int maxInFlightParts;
+    private final long bufferSizeInBytes;
+
+    public ParallelDownloadObjectHelper(S3AsyncClient s3AsyncClient, int maxInFlightParts, long bufferSizeInBytes) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.maxInFlightParts = maxInFlightParts;
+        this.bufferSizeInBytes = bufferSizeInBytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> downloadObject(GetObjectRequest getObjectRequest,
+                                                   AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer) {
+        if (asyncResponseTransformer instanceof FileAsyncResponseTransformer) {
+            // A FileAsyncResponseTransformer<GetObjectResponse> always produces the GetObjectResponse, so T is GetObjectResponse
+            FileAsyncResponseTransformer<GetObjectResponse> fileTransformer =
+                (FileAsyncResponseTransformer<GetObjectResponse>) (AsyncResponseTransformer<?, ?>) asyncResponseTransformer;
+            return (CompletableFuture<T>) (CompletableFuture<?>) downloadToFile(getObjectRequest, fileTransformer);
+        }
+        return downloadInOrder(getObjectRequest, asyncResponseTransformer);
+    }
+
+    private CompletableFuture<GetObjectResponse> downloadToFile(GetObjectRequest getObjectRequest,
+                                                                FileAsyncResponseTransformer<GetObjectResponse> fileTransformer) {
+        CompletableFuture<GetObjectResponse> returnFuture = new CompletableFuture<>();
+
+        // The first part goes through the transformer itself, so that the file is created as it is configured to be.
+        CompletableFuture<GetObjectResponse> firstPartFuture =
+            s3AsyncClient.getObject(partRequest(getObjectRequest, 1, null), fileTransformer);
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, firstPartFuture);
+
+        firstPartFuture.whenComplete((firstPart, error) -> {
+            if (error != null) {
+                returnFuture.completeExceptionally(error);
+                return;
+            }
+            int totalParts = totalParts(firstPart);
+            if (totalParts == 1) {
+                returnFuture.complete(firstPart);
+                return;
+            }
+            String eTag = firstPart.eTag();
+            PartWindow window = new PartWindow(totalParts, partNumber -> s3AsyncClient.getObject(
+                partRequest(getObjectRequest, partNumber, eTag), new OffsetFileTransformer(fileTransformer)));
+            CompletableFuture<Void> windowFuture = window.start(maxInFlightParts);
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, windowFuture);
+            windowFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    // Applies the failure behavior the file transformer is configured with
+                    fileTransformer.exceptionOccurred(t);
+                    returnFuture.completeExceptionally(t);
+                } else {
+                    returnFuture.complete(firstPart);
+                }
+            });
+        });
+        return returnFuture;
+    }
+
+    private <T> CompletableFuture<T> downloadInOrder(GetObjectRequest getObjectRequest,
+                                                     AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer) {
+        CompletableFuture<T> returnFuture = asyncResponseTransformer.prepare();
+        SimplePublisher<ByteBuffer> bodyPublisher = new SimplePublisher<>();
+
+        // The first part is streamed as it is received, as it is the whole object if the object is not a multipart object
+        CompletableFuture<GetObjectResponse> firstPartFuture =
+            s3AsyncClient.getObject(partRequest(getObjectRequest, 1, null),
+                                    new FirstPartTransformer<>(asyncResponseTransformer, bodyPublisher));
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, firstPartFuture);
+
+        firstPartFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                bodyPublisher.error(error);
+                asyncResponseTransformer.exceptionOccurred(error);
+                return;
+            }
+            int totalParts = totalParts(response);
+            if (totalParts == 1) {
+                bodyPublisher.complete();
+                return;
+            }
+            String eTag = response.eTag();
+            long partSize = response.contentLength() == null ? 1 : Math.max(1, response.contentLength());
+            int maxInFlight = (int) Math.max(1, Math.min(maxInFlightParts, bufferSizeInBytes / partSize));
+            log.debug(() -> String.format("Downloading %d parts with at most %d parts in flight", totalParts, maxInFlight));
+
+            OrderedPartSender sender = new OrderedPartSender(bodyPublisher);
+            PartWindow window = new PartWindow(totalParts, partNumber -> s3AsyncClient
+                .getObject(partRequest(getObjectRequest, partNumber, eTag), AsyncResponseTransformer.toBytes())
+                .thenCompose(part -> sender.send(partNumber, ByteBuffer.wrap(part.asByteArrayUnsafe()))));
+            CompletableFuture<Void> windowFuture = window.start(maxInFlight);
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, windowFuture);
+            windowFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    bodyPublisher.error(t);
+                    asyncResponseTransformer.exceptionOccurred(t);
+                } else {
+                    bodyPublisher.complete();
+                }
+            });
+        });
+        return returnFuture;
+    }
+
+    private static int totalParts(GetObjectResponse response) {
+        Integer partsCount = response.partsCount();
+        return partsCount == null ? 1 : partsCount;
+    }
+
+    private static GetObjectRequest partRequest(GetObjectRequest getObjectRequest, int partNumber, String eTag) {
+        return getObjectRequest.copy(req -> {
+            req.partNumber(partNumber);
+            if (eTag != null) {
+                req.ifMatch(eTag);
+            }
+        });
+    }
+
+    /**
+     * The position of the first byte of a part in the object, from the Content-Range of the part's response, for example
+     * {@code bytes 8388608-16777215/33554432}.
+     */
+    static long partStart(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange == null || !contentRange.startsWith(CONTENT_RANGE_PREFIX) || contentRange.indexOf('-') < 0) {
+            throw SdkClientException.create("Unable to determine the position of the part in the object from the Content-Range "
+                                            + "of the response: " + contentRange);
+        }
+        try {
+            return Long.parseLong(contentRange.substring(CONTENT_RANGE_PREFIX.length(), contentRange.indexOf('-')));
+        } catch (NumberFormatException e) {
+            throw SdkClientException.create("Unable to determine the position of the part in the object from the Content-Range "
+                                            + "of the response: " + contentRange, e);
+        }
+    }
+
+    /**
+     * Downloads the parts from 2 to {@code totalParts}, starting the next part as soon as one completes, so that a fixed number
+     * of parts are in flight at a time. The returned future completes when all the parts have completed, or exceptionally as
+     * soon as one of them fails, in which case the parts still in flight are cancelled.
+     */
+    private static final class PartWindow {
+        private final int totalParts;
+        private final IntFunction<CompletableFuture<?>> partDownloader;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        private int nextPart = 2;
+        private int completedParts = 1;
+
+        private PartWindow(int totalParts, IntFunction<CompletableFuture<?>> partDownloader) {
+            this.totalParts = totalParts;
+            this.partDownloader = partDownloader;
+        }
+
+        private CompletableFuture<Void> start(int maxInFlight) {
+            future.whenComplete((r, t) -> {
+                if (t != null) {
+                    inFlight.forEach(f -> f.cancel(true));
+                }
+            });
+            for (int i = 0; i < maxInFlight; i++) {
+                downloadNextPart();
+            }
+            return future;
+        }
+
+        private void downloadNextPart() {
+            int partNumber;
+            synchronized (this) {
+                if (future.isDone() || nextPart > totalParts) {
+                    return;
+                }
+                partNumber = nextPart++;
+            }
+            log.debug(() -> "Sending GetObjectRequest for part with partNumber=" + partNumber);
+            CompletableFuture<?> partFuture = partDownloader.apply(partNumber);
+            inFlight.add(partFuture);
+            if (future.isCompletedExceptionally()) {
+                partFuture.cancel(true);
+            }
+            partFuture.whenComplete((r, t) -> {
+                inFlight.remove(partFuture);
+                if (t != null) {
+                    log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                    future.completeExceptionally(t);
+                    return;
+                }
+                boolean allPartsCompleted;
+                synchronized (this) {
+                    allPartsCompleted = ++completedParts == totalParts;
+                }
+                if (allPartsCompleted) {
+                    log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.",
+                                                  totalParts));
+                    future.complete(null);
+                } else {
+                    downloadNextPart();
+                }
+            });
+        }
+    }
+
+    /**
+     * Sends the parts to the publisher in order, holding the parts that are received before the parts preceding them. The part
+     * 1 is expected to have been sent already.
+     */
+    private static final class OrderedPartSender {
+        private final SimplePublisher<ByteBuffer> publisher;
+        private final Map<Integer, Pair<ByteBuffer, CompletableFuture<Void>>> heldParts = new HashMap<>();
+        private int nextPartToSend = 2;
+
+        private OrderedPartSender(SimplePublisher<ByteBuffer> publisher) {
+            this.publisher = publisher;
+        }
+
+        /**
+         * @return a future completed once the part has been delivered to the subscriber of the publisher.
+         */
+        private synchronized CompletableFuture<Void> send(int partNumber, ByteBuffer part) {
+            CompletableFuture<Void> sent = new CompletableFuture<>();
+            heldParts.put(partNumber, Pair.of(part, sent));
+            Pair<ByteBuffer, CompletableFuture<Void>> next;
+            while ((next = heldParts.remove(nextPartToSend)) != null) {
+                nextPartToSend++;
+                CompletableFutureUtils.forwardResultTo(publisher.send(next.left()), next.right());
+            }
+            return sent;
+        }
+    }
+
+    /**
+     * Forwards the content of the first part to the publisher the transformer being downloaded to is subscribed to, calling
+     * {@code onResponse} and {@code onStream} on that transformer with the response of the first part.
+     */
+    private static final class FirstPartTransformer<T> implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+        private final AsyncResponseTransformer<GetObjectResponse, T> downloadTransformer;
+        private final SimplePublisher<ByteBuffer> bodyPublisher;
+        private final AtomicBoolean onResponseCalled = new AtomicBoolean(false);
+        private volatile CompletableFuture<GetObjectResponse> future;
+        private volatile GetObjectResponse response;
+
+        private FirstPartTransformer(AsyncResponseTransformer<GetObjectResponse, T> downloadTransformer,
+                                     SimplePublisher<ByteBuffer> bodyPublisher) {
+            this.downloadTransformer = downloadTransformer;
+            this.bodyPublisher = bodyPublisher;
+        }
+
+        @Override
+        public CompletableFuture<GetObjectResponse> prepare() {
+            this.future = new CompletableFuture<>();
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            this.response = response;
+            if (onResponseCalled.compareAndSet(false, true)) {
+                downloadTransformer.onResponse(response);
+                downloadTransformer.onStream(SdkPublisher.adapt(bodyPublisher));
+            }
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            CompletableFuture<GetObjectResponse> partFuture = future;
+            publisher.subscribe(new Subscriber<ByteBuffer>() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    this.subscription = s;
+                    s.request(1);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    bodyPublisher.send(byteBuffer).whenComplete((r, t) -> {
+                        if (t != null) {
+                            subscription.cancel();
+                            partFuture.completeExceptionally(t);
+                            return;
+                        }
+                        subscription.request(1);
+                    });
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    partFuture.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    partFuture.complete(response);
+                }
+            });
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            if (future != null) {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Writes a part to the file of the {@link FileAsyncResponseTransformer} at the position of the part in the object, which is
+     * only known once the response of the part is received.
+     */
+    private static final class OffsetFileTransformer implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+        private final FileAsyncResponseTransformer<GetObjectResponse> fileTransformer;
+        private volatile CompletableFuture<GetObjectResponse> future;
+        private volatile AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> delegate;
+
+        private OffsetFileTransformer(FileAsyncResponseTransformer<GetObjectResponse> fileTransformer) {
+            this.fileTransformer = fileTransformer;
+        }
+
+        @Override
+        public CompletableFuture<GetObjectResponse> prepare() {
+            // prepare is called again on each retry of the part request
+            this.future = new CompletableFuture<>();
+            this.delegate = null;
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            try {
+                delegate = fileTransformer.atOffset(partStart(response));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            CompletableFutureUtils.forwardResultTo(delegate.prepare(), future);
+            delegate.onResponse(response);
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            if (delegate == null) {
+                publisher.subscribe(new CancelledSubscriber<>());
+                return;
+            }
+            delegate.onStream(publisher);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            if (delegate != null) {
+                delegate.exceptionOccurred(error);
+            }
+            if (future != null) {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -90,18 +90,22 @@ public final class UploadWithKnownContentLengthHelper {
         S3ResumeToken resumeToken = putObjectRequest.overrideConfiguration()
                                                     .map(c -> c.executionAttributes()
                                                                .getAttribute(RESUME_TOKEN)).orElse(null);
+        FullObjectChecksum fullObjectChecksum = FullObjectChecksum.fromRequest(putObjectRequest).orElse(null);
+        PutObjectRequest partsRequest = fullObjectChecksum == null ? putObjectRequest
+                                                                   : fullObjectChecksum.toPartChecksumRequest(putObjectRequest);
 
         if (resumeToken == null) {
-            initiateNewUpload(putObjectRequest, contentLength, asyncRequestBody, returnFuture);
+            initiateNewUpload(partsRequest, contentLength, asyncRequestBody, fullObjectChecksum, returnFuture);
         } else {
-            ResumeRequestContext resumeRequestContext = new ResumeRequestContext(resumeToken, putObjectRequest, contentLength,
-                                                                                 asyncRequestBody, returnFuture);
+            ResumeRequestContext resumeRequestContext = new ResumeRequestContext(resumeToken, partsRequest, contentLength,
+                                                                                 asyncRequestBody, fullObjectChecksum,
+                                                                                 returnFuture);
             resumePausedUpload(resumeRequestContext);
         }
     }
 
     private void initiateNewUpload(PutObjectRequest putObjectRequest, long contentLength, AsyncRequestBody asyncRequestBody,
-                                   CompletableFuture<PutObjectResponse> returnFuture) {
+                                   FullObjectChecksum fullObjectChecksum, CompletableFuture<PutObjectResponse> returnFuture) {
         CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
             multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
 
@@ -110,14 +114,15 @@ public final class UploadWithKnownContentLengthHelper {
                 genericMultipartHelper.handleException(returnFuture, () -> "Failed to initiate multipart upload", throwable);
             } else {
                 log.debug(() -> "Initiated a new multipart upload, uploadId: " + createMultipartUploadResponse.uploadId());
-                uploadFromBeginning(Pair.of(putObjectRequest, asyncRequestBody), contentLength, returnFuture,
-                                    createMultipartUploadResponse.uploadId());
+                uploadFromBeginning(Pair.of(putObjectRequest, asyncRequestBody), contentLength, fullObjectChecksum,
+                                    returnFuture, createMultipartUploadResponse.uploadId());
             }
         });
     }
 
     private void uploadFromBeginning(Pair<PutObjectRequest, AsyncRequestBody> request, long contentLength,
-                                     CompletableFuture<PutObjectResponse> returnFuture, String uploadId) {
+                                     FullObjectChecksum fullObjectChecksum, CompletableFuture<PutObjectResponse> returnFuture,
+                                     String uploadId) {
 
         long numPartsCompleted = 0;
         long partSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
@@ -137,6 +142,7 @@ public final class UploadWithKnownContentLengthHelper {
                                                                .partSize(partSize)
                                                                .uploadId(uploadId)
                                                                .numPartsCompleted(numPartsCompleted)
+                                                               .fullObjectChecksum(fullObjectChecksum)
                                                                .build();
 
         splitAndSubscribe(mpuRequestContext, returnFuture);
@@ -171,6 +177,7 @@ public final class UploadWithKnownContentLengthHelper {
                                                                    .uploadId(uploadId)
                                                                    .existingParts(existingParts)
                                                                    .numPartsCompleted(resumeToken.numPartsCompleted())
+                                                                   .fullObjectChecksum(resumeContext.fullObjectChecksum)
                                                                    .build();
 
             splitAndSubscribe(mpuRequestContext, resumeContext.returnFuture);
@@ -210,17 +217,20 @@ public final class UploadWithKnownContentLengthHelper {
         private final PutObjectRequest putObjectRequest;
         private final long contentLength;
         private final AsyncRequestBody asyncRequestBody;
+        private final FullObjectChecksum fullObjectChecksum;
         private final CompletableFuture<PutObjectResponse> returnFuture;
 
         private ResumeRequestContext(S3ResumeToken resumeToken,
                                      PutObjectRequest putObjectRequest,
                                      long contentLength,
                                      AsyncRequestBody asyncRequestBody,
+                                     FullObjectChecksum fullObjectChecksum,
                                      CompletableFuture<PutObjectResponse> returnFuture) {
             this.resumeToken = resumeToken;
             this.putObjectRequest = putObjectRequest;
             this.contentLength = contentLength;
             this.asyncRequestBody = asyncRequestBody;
+            this.fullObjectChecksum = fullObjectChecksum;
             this.returnFuture = returnFuture;
         }
     }
@@ -31,6 +31,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
@@ -54,13 +55,15 @@ public final class UploadWithUnknownContentLengthHelper {
 
     private final long maxMemoryUsageInBytes;
     private final long multipartUploadThresholdInBytes;
+    private final boolean offHeapBufferingEnabled;
 
     private final MultipartUploadHelper multipartUploadHelper;
 
     public UploadWithUnknownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                                 long partSizeInBytes,
                                                 long multipartUploadThresholdInBytes,
-                                                long maxMemoryUsageInBytes) {
+                                                long maxMemoryUsageInBytes,
+                                                boolean offHeapBufferingEnabled) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -68,6 +71,7 @@ public final class UploadWithUnknownContentLengthHelper {
                                                                    SdkPojoConversionUtils::toPutObjectResponse);
         this.maxMemoryUsageInBytes = maxMemoryUsageInBytes;
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
+        this.offHeapBufferingEnabled = offHeapBufferingEnabled;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes,
                                                                maxMemoryUsageInBytes);
     }
@@ -78,7 +82,8 @@ public final class UploadWithUnknownContentLengthHelper {
 
         SdkPublisher<AsyncRequestBody> splitAsyncRequestBodyResponse =
             asyncRequestBody.split(b -> b.chunkSizeInBytes(partSizeInBytes)
-                                         .bufferSizeInBytes(maxMemoryUsageInBytes));
+                                         .bufferSizeInBytes(maxMemoryUsageInBytes)
+                                         .offHeapBufferingEnabled(offHeapBufferingEnabled));
 
         splitAsyncRequestBodyResponse.subscribe(new UnknownContentLengthAsyncRequestBodySubscriber(partSizeInBytes,
                                                                                                    putObjectRequest,
@@ -149,6 +154,7 @@ public final class UploadWithUnknownContentLengthHelper {
             returnFuture.whenComplete((r, t) -> {
                 if (t != null) {
                     s.cancel();
+                    discardUnsentFirstRequestBody();
                     multipartUploadHelper.cancelingOtherOngoingRequests(futures, t);
                 }
             });
@@ -157,12 +163,19 @@ public final class UploadWithUnknownContentLengthHelper {
         @Override
         public void onNext(AsyncRequestBody asyncRequestBody) {
             log.trace(() -> "Received asyncRequestBody " + asyncRequestBody.contentLength());
+            if (isFailed()) {
+                log.trace(() -> "The upload has failed, discarding asyncRequestBody");
+                discard(asyncRequestBody);
+                return;
+            }
             asyncRequestBodyInFlight.incrementAndGet();
 
             if (isFirstAsyncRequestBody.compareAndSet(true, false)) {
                 log.trace(() -> "Received first async request body");
                 // If this is the first AsyncRequestBody received, request another one because we don't know if there is more
-                firstRequestBody = asyncRequestBody;
+                synchronized (this) {
+                    firstRequestBody = asyncRequestBody;
+                }
                 subscription.request(1);
                 return;
             }
@@ -176,14 +189,23 @@ public final class UploadWithUnknownContentLengthHelper {
 
                 createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
                     if (throwable != null) {
+                        subscription.cancel();
+                        discardUnsentFirstRequestBody();
+                        discard(asyncRequestBody);
+                        uploadIdFuture.completeExceptionally(throwable);
                         genericMultipartHelper.handleException(returnFuture, () -> "Failed to initiate multipart upload",
                                                                throwable);
-                        subscription.cancel();
                     } else {
                         uploadId = createMultipartUploadResponse.uploadId();
                         log.debug(() -> "Initiated a new multipart upload, uploadId: " + uploadId);
 
-                        sendUploadPartRequest(uploadId, firstRequestBody);
+                        AsyncRequestBody first = takeFirstRequestBody();
+                        if (first == null) {
+                            // The upload failed while CreateMultipartUpload was in progress, and the first body was discarded
+                            abortUnusedUpload(asyncRequestBody);
+                            return;
+                        }
+                        sendUploadPartRequest(uploadId, first);
                         sendUploadPartRequest(uploadId, asyncRequestBody);
 
                         // We need to complete the uploadIdFuture *after* the first two requests have been sent
@@ -193,16 +215,55 @@ public final class UploadWithUnknownContentLengthHelper {
                 CompletableFutureUtils.forwardExceptionTo(returnFuture, createMultipartUploadFuture);
             } else {
                 uploadIdFuture.whenComplete((r, t) -> {
+                    if (t != null || isFailed()) {
+                        discard(asyncRequestBody);
+                        return;
+                    }
                     sendUploadPartRequest(uploadId, asyncRequestBody);
                 });
             }
         }
 
+        private boolean isFailed() {
+            return failureActionInitiated.get() || returnFuture.isCompletedExceptionally();
+        }
+
+        /**
+         * Release a body that will not be uploaded, so that any content it buffered off-heap or in a temporary file is freed.
+         */
+        private void discard(AsyncRequestBody asyncRequestBody) {
+            asyncRequestBody.subscribe(new CancelledSubscriber<>());
+        }
+
+        private void discardUnsentFirstRequestBody() {
+            AsyncRequestBody unsent = takeFirstRequestBody();
+            if (unsent != null) {
+                discard(unsent);
+            }
+        }
+
+        private synchronized AsyncRequestBody takeFirstRequestBody() {
+            AsyncRequestBody first = firstRequestBody;
+            firstRequestBody = null;
+            return first;
+        }
+
+        private void abortUnusedUpload(AsyncRequestBody asyncRequestBody) {
+            discard(asyncRequestBody);
+            SdkClientException exception = SdkClientException.create("The upload failed while initiating the multipart upload");
+            if (failureActionInitiated.compareAndSet(false, true)) {
+                multipartUploadHelper.failRequestsElegantly(futures, exception, uploadId, returnFuture, putObjectRequest);
+            }
+            uploadIdFuture.completeExceptionally(exception);
+        }
+
         private void sendUploadPartRequest(String uploadId, AsyncRequestBody asyncRequestBody) {
             multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedParts::add, futures,
                                                                   uploadPart(asyncRequestBody), progressListener)
                 .whenComplete((r, t) -> {
                     if (t != null) {
+                        // The request may have been cancelled before it subscribed to the body
+                        discard(asyncRequestBody);
                         if (failureActionInitiated.compareAndSet(false, true)) {
                             multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
                         }
@@ -229,6 +290,7 @@ public final class UploadWithUnknownContentLengthHelper {
             if (failureActionInitiated.compareAndSet(false, true)) {
                 multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
             }
+            discardUnsentFirstRequestBody();
         }
 
         @Override
@@ -236,8 +298,12 @@ public final class UploadWithUnknownContentLengthHelper {
             log.debug(() -> "Received onComplete()");
             // If CreateMultipartUpload has not been initiated at this point, we know this is a single object upload
             if (createMultipartUploadInitiated.get() == false) {
+                AsyncRequestBody first = takeFirstRequestBody();
+                if (first == null && isFailed()) {
+                    return;
+                }
                 log.debug(() -> "Starting the upload as a single object upload request");
-                multipartUploadHelper.uploadInOneChunk(putObjectRequest, firstRequestBody, returnFuture);
+                multipartUploadHelper.uploadInOneChunk(putObjectRequest, first, returnFuture);
             } else {
                 isDone = true;
                 completeMultipartUploadIfFinish(asyncRequestBodyInFlight.get());
@@ -44,11 +44,15 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Integer maxInFlightDownloadParts;
+    private final Boolean offHeapBufferingEnabled;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.maxInFlightDownloadParts = builder.maxInFlightDownloadParts;
+        this.offHeapBufferingEnabled = builder.offHeapBufferingEnabled;
     }
 
     public static Builder builder() {
@@ -60,7 +64,9 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .maxInFlightDownloadParts(maxInFlightDownloadParts)
+            .offHeapBufferingEnabled(offHeapBufferingEnabled);
     }
 
     /**
@@ -89,6 +95,22 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * The maximum number of parts that will be downloaded concurrently for a single multipart get-object request.
+     * @return the value of the configured maximum number of parts downloaded concurrently.
+     */
+    public Integer maxInFlightDownloadParts() {
+        return this.maxInFlightDownloadParts;
+    }
+
+    /**
+     * Whether the content of uploads with an unknown content length is buffered outside of the Java heap.
+     * @return the value of the configured off-heap buffering.
+     */
+    public Boolean offHeapBufferingEnabled() {
+        return this.offHeapBufferingEnabled;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -163,12 +185,62 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures the maximum number of parts that will be downloaded concurrently for a single
+         * {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer) getObject} request. When set to a value
+         * higher than 1, the first part is downloaded to learn the number of parts of the object, and the remaining parts are
+         * then requested concurrently, up to this limit.
+         * <p>
+         * When downloading to a file, each part is written directly at its position in the file as it is received. For any
+         * other {@link AsyncResponseTransformer}, parts that are received ahead of the parts preceding them are held in memory
+         * until they can be delivered in order, and the number of parts downloaded concurrently is also limited so that the
+         * parts held in memory do not exceed {@link #apiCallBufferSizeInBytes(Long)}.
+         * <p>
+         * Default value: 1, parts are downloaded one after the other.
+         *
+         * @param maxInFlightDownloadParts the maximum number of parts downloaded concurrently.
+         * @return an instance of this builder.
+         */
+        Builder maxInFlightDownloadParts(Integer maxInFlightDownloadParts);
+
+        /**
+         * Indicates the value of the maximum number of parts downloaded concurrently.
+         * @return the value of the maximum number of parts downloaded concurrently.
+         */
+        Integer maxInFlightDownloadParts();
+
+        /**
+         * Configures whether the content of {@link S3AsyncClient#putObject(PutObjectRequest, AsyncRequestBody) putObject}
+         * requests with an unknown content length is buffered outside of the Java heap while it waits to be uploaded as a part.
+         * When enabled, buffered content is copied into direct memory, up to a limit shared by the whole process, and into
+         * temporary files once that limit is reached. This keeps the heap used by many concurrent streaming uploads small, at the
+         * cost of copying the content once.
+         * <p>
+         * The limit defaults to 256 Mib and can be configured with the {@code aws.offHeapUploadBufferLimitBytes} system
+         * property. The content buffered for each upload is still limited by {@link #apiCallBufferSizeInBytes(Long)}, and the
+         * source of the upload is not asked for more content until buffered parts are uploaded.
+         * <p>
+         * Default value: false
+         *
+         * @param offHeapBufferingEnabled whether to buffer upload content outside of the Java heap.
+         * @return an instance of this builder.
+         */
+        Builder offHeapBufferingEnabled(Boolean offHeapBufferingEnabled);
+
+        /**
+         * Indicates whether the content of uploads with an unknown content length is buffered outside of the Java heap.
+         * @return the value of the configured off-heap buffering.
+         */
+        Boolean offHeapBufferingEnabled();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Integer maxInFlightDownloadParts;
+        private Boolean offHeapBufferingEnabled;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -199,6 +271,28 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder maxInFlightDownloadParts(Integer maxInFlightDownloadParts) {
+            this.maxInFlightDownloadParts = maxInFlightDownloadParts;
+            return this;
+        }
+
+        @Override
+        public Integer maxInFlightDownloadParts() {
+            return maxInFlightDownloadParts;
+        }
+
+        @Override
+        public Builder offHeapBufferingEnabled(Boolean offHeapBufferingEnabled) {
+            this.offHeapBufferingEnabled = offHeapBufferingEnabled;
+            return this;
+        }
+
+        @Override
+        public Boolean offHeapBufferingEnabled() {
+            return offHeapBufferingEnabled;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class FullObjectChecksumTest {
+    private static final int PART_SIZE = 1000;
+    private static final byte[] CONTENT = new byte[3500];
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+    }
+
+    @Test
+    void fromRequest_noChecksumValue_isEmpty() {
+        PutObjectRequest request = PutObjectRequest.builder().checksumAlgorithm(ChecksumAlgorithm.CRC32).build();
+
+        assertThat(FullObjectChecksum.fromRequest(request)).isEmpty();
+    }
+
+    @Test
+    void fromRequest_checksumValueForDifferentAlgorithm_isEmpty() {
+        PutObjectRequest request = PutObjectRequest.builder()
+                                                   .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                                                   .checksumCRC32("AAAAAA==")
+                                                   .build();
+
+        assertThat(FullObjectChecksum.fromRequest(request)).isEmpty();
+    }
+
+    @Test
+    void toPartChecksumRequest_replacesChecksumValueWithAlgorithm() {
+        PutObjectRequest request = PutObjectRequest.builder().bucket("bucket").checksumCRC32C("AAAAAA==").build();
+
+        PutObjectRequest partsRequest = FullObjectChecksum.fromRequest(request).get().toPartChecksumRequest(request);
+
+        assertThat(partsRequest.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32_C);
+        assertThat(partsRequest.checksumCRC32C()).isNull();
+        assertThat(partsRequest.bucket()).isEqualTo("bucket");
+    }
+
+    @Test
+    void validate_crc32PartsMatch_doesNotThrow() {
+        PutObjectRequest request = PutObjectRequest.builder().checksumCRC32(checksumOf(CONTENT, CRC32::new)).build();
+        CompletedPart[] parts = parts((b, crc) -> b.checksumCRC32(crc), CRC32::new);
+
+        assertThatCode(() -> FullObjectChecksum.fromRequest(request).get().validate(parts, PART_SIZE, CONTENT.length))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    void validate_crc32cPartsMatch_doesNotThrow() {
+        Supplier<Checksum> crc32c = () -> SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC32C);
+        PutObjectRequest request = PutObjectRequest.builder().checksumCRC32C(checksumOf(CONTENT, crc32c)).build();
+        CompletedPart[] parts = parts((b, crc) -> b.checksumCRC32C(crc), crc32c);
+
+        assertThatCode(() -> FullObjectChecksum.fromRequest(request).get().validate(parts, PART_SIZE, CONTENT.length))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    void validate_partsDoNotMatch_throws() {
+        PutObjectRequest request = PutObjectRequest.builder().checksumCRC32("AAAAAA==").build();
+        CompletedPart[] parts = parts((b, crc) -> b.checksumCRC32(crc), CRC32::new);
+
+        assertThatThrownBy(() -> FullObjectChecksum.fromRequest(request).get().validate(parts, PART_SIZE, CONTENT.length))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("does not match");
+    }
+
+    @Test
+    void validate_partWithoutChecksum_throws() {
+        PutObjectRequest request = PutObjectRequest.builder().checksumCRC32("AAAAAA==").build();
+        CompletedPart[] parts = {CompletedPart.builder().partNumber(1).build()};
+
+        assertThatThrownBy(() -> FullObjectChecksum.fromRequest(request).get().validate(parts, PART_SIZE, PART_SIZE))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("part 1");
+    }
+
+    private static CompletedPart[] parts(PartChecksumSetter setter, Supplier<Checksum> checksum) {
+        int partCount = (CONTENT.length + PART_SIZE - 1) / PART_SIZE;
+        CompletedPart[] parts = new CompletedPart[partCount];
+        for (int i = 0; i < partCount; i++) {
+            int offset = i * PART_SIZE;
+            byte[] part = new byte[Math.min(PART_SIZE, CONTENT.length - offset)];
+            System.arraycopy(CONTENT, offset, part, 0, part.length);
+            CompletedPart.Builder builder = CompletedPart.builder().partNumber(i + 1);
+            setter.set(builder, checksumOf(part, checksum));
+            parts[i] = builder.build();
+        }
+        return parts;
+    }
+
+    private static String checksumOf(byte[] data, Supplier<Checksum> checksumSupplier) {
+        Checksum checksum = checksumSupplier.get();
+        checksum.update(data, 0, data.length);
+        return BinaryUtils.toBase64(ByteBuffer.allocate(4).putInt((int) checksum.getValue()).array());
+    }
+
+    private interface PartChecksumSetter {
+        void set(CompletedPart.Builder builder, String checksum);
+    }
+}
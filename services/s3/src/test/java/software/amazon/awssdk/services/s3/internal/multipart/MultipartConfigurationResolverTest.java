@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
@@ -65,11 +66,15 @@ public class MultipartConfigurationResolverTest {
                                                                      .minimumPartSizeInBytes(10L)
                                                                      .thresholdInBytes(8L)
                                                                      .apiCallBufferSizeInBytes(3L)
+                                                                     .maxInFlightDownloadParts(5)
+                                                                     .offHeapBufferingEnabled(true)
                                                                      .build();
         MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(10L);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(3L);
+        assertThat(resolver.maxInFlightDownloadParts()).isEqualTo(5);
+        assertThat(resolver.offHeapBufferingEnabled()).isTrue();
     }
 
     @Test
@@ -79,5 +84,17 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
+        assertThat(resolver.maxInFlightDownloadParts()).isEqualTo(1);
+        assertThat(resolver.offHeapBufferingEnabled()).isFalse();
+    }
+
+    @Test
+    void resolveMaxInFlightDownloadParts_notPositive_shouldThrow() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .maxInFlightDownloadParts(0)
+                                                                     .build();
+        assertThatThrownBy(() -> new MultipartConfigurationResolver(configuration))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxInFlightDownloadParts");
     }
 }
@@ -70,10 +70,16 @@ public class MultipartDownloadTestUtil {
             aResponse()
                 .withHeader("x-amz-mp-parts-count", totalPart + "")
                 .withHeader("ETag", eTag)
+                .withHeader("Content-Range", contentRange(part, totalPart, partSize))
                 .withBody(body)));
         return body;
     }
 
+    private static String contentRange(int part, int totalPart, int partSize) {
+        long start = (long) (part - 1) * partSize;
+        return String.format("bytes %d-%d/%d", start, start + partSize - 1, (long) totalPart * partSize);
+    }
+
     public void verifyCorrectAmountOfRequestsMade(int amountOfPartToTest) {
         String urlTemplate = ".*partNumber=%d.*";
         for (int i = 1; i <= amountOfPartToTest; i++) {
@@ -34,13 +34,21 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -59,9 +67,11 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.SpillingPartBuffer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -78,6 +88,8 @@ import software.amazon.awssdk.services.s3.multipart.PauseObservable;
 import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
 import software.amazon.awssdk.services.s3.paginators.ListPartsPublisher;
 import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.testutils.Waiter;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 public class UploadObjectHelperTest {
@@ -302,6 +314,32 @@ public class UploadObjectHelperTest {
                                         .hasCause(exception);
     }
 
+    @Test
+    void uploadObject_offHeapBufferingCreateMultipartUploadFailed_shouldReleaseBufferedParts() throws IOException {
+        UploadObjectHelper offHeapUploadHelper =
+            new UploadObjectHelper(s3AsyncClient,
+                                   new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                                            .minimumPartSizeInBytes(PART_SIZE)
+                                                                                            .thresholdInBytes(PART_SIZE * 2)
+                                                                                            .offHeapBufferingEnabled(true)
+                                                                                            .build()));
+        SdkClientException exception = SdkClientException.create("CreateMultipartUpload failed");
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(exception));
+        Set<Path> spillFilesBefore = spillFiles();
+
+        CompletableFuture<PutObjectResponse> future =
+            offHeapUploadHelper.uploadObject(putObjectRequest(null),
+                                             new UnknownContentLengthAsyncRequestBody(AsyncRequestBody.fromFile(testFile)));
+
+        assertThatThrownBy(future::join).hasCause(exception);
+        // Content that was being read when the upload failed is released once the read completes
+        Waiter.run(SpillingPartBuffer::globalReservedBytes)
+              .until(reservedBytes -> reservedBytes == 0)
+              .orFailAfter(Duration.ofSeconds(5));
+        assertThat(spillFiles()).isEqualTo(spillFilesBefore);
+    }
+
     @ParameterizedTest
     @MethodSource("asyncRequestBody")
     void uploadObject_completeMultipartFailed_shouldFailAndAbort(AsyncRequestBody asyncRequestBody) {
@@ -414,6 +452,98 @@ public class UploadObjectHelperTest {
         assertThat(actualRequest.multipartUpload().parts()).isEqualTo(completedParts(numTotalParts));
     }
 
+    @Test
+    void uploadObject_fullObjectChecksumMatchesParts_shouldUploadPartsWithChecksumAndComplete() {
+        byte[] content = RandomStringUtils.randomAscii((int) MPU_CONTENT_SIZE).getBytes(StandardCharsets.UTF_8);
+        PutObjectRequest putObjectRequest = putObjectRequest(MPU_CONTENT_SIZE).toBuilder()
+                                                                              .checksumCRC32(crc32(content))
+                                                                              .build();
+
+        stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubUploadPartCallsReturningCrc32(s3AsyncClient);
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+
+        uploadHelper.uploadObject(putObjectRequest, AsyncRequestBody.fromBytes(content)).join();
+
+        ArgumentCaptor<CreateMultipartUploadRequest> createMpuArgumentCaptor =
+            ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3AsyncClient).createMultipartUpload(createMpuArgumentCaptor.capture());
+        assertThat(createMpuArgumentCaptor.getValue().checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32);
+
+        ArgumentCaptor<UploadPartRequest> uploadPartArgumentCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(4)).uploadPart(uploadPartArgumentCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(uploadPartArgumentCaptor.getAllValues()).allSatisfy(
+            r -> assertThat(r.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32));
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeMpuArgumentCaptor =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(completeMpuArgumentCaptor.capture());
+        assertThat(completeMpuArgumentCaptor.getValue().checksumCRC32()).isNull();
+    }
+
+    @Test
+    void uploadObject_fullObjectChecksumMatchesParts_shouldReturnChecksumFromService() {
+        byte[] content = RandomStringUtils.randomAscii((int) MPU_CONTENT_SIZE).getBytes(StandardCharsets.UTF_8);
+        PutObjectRequest putObjectRequest = putObjectRequest(MPU_CONTENT_SIZE).toBuilder()
+                                                                              .checksumCRC32(crc32(content))
+                                                                              .build();
+
+        stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubUploadPartCallsReturningCrc32(s3AsyncClient);
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder()
+                                                                                         .checksumCRC32("AAAAAA==-4")
+                                                                                         .build()));
+
+        PutObjectResponse response = uploadHelper.uploadObject(putObjectRequest, AsyncRequestBody.fromBytes(content)).join();
+
+        assertThat(response.checksumCRC32()).isEqualTo("AAAAAA==-4");
+    }
+
+    @Test
+    void uploadObject_fullObjectChecksumDoesNotMatchParts_shouldFailAndAbort() {
+        byte[] content = RandomStringUtils.randomAscii((int) MPU_CONTENT_SIZE).getBytes(StandardCharsets.UTF_8);
+        PutObjectRequest putObjectRequest = putObjectRequest(MPU_CONTENT_SIZE).toBuilder()
+                                                                              .checksumCRC32(crc32("wrong".getBytes(
+                                                                                  StandardCharsets.UTF_8)))
+                                                                              .build();
+
+        stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubUploadPartCallsReturningCrc32(s3AsyncClient);
+        when(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+        CompletableFuture<PutObjectResponse> future = uploadHelper.uploadObject(putObjectRequest,
+                                                                                AsyncRequestBody.fromBytes(content));
+
+        assertThatThrownBy(future::join).hasRootCauseInstanceOf(SdkClientException.class)
+                                        .hasStackTraceContaining("does not match the CRC32 checksum set on the request");
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3AsyncClient).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    private static void stubUploadPartCallsReturningCrc32(S3AsyncClient s3AsyncClient) {
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+            .thenAnswer(invocationOnMock -> {
+                AsyncRequestBody requestBody = invocationOnMock.getArgument(1);
+                CRC32 crc32 = new CRC32();
+                return requestBody.subscribe(b -> crc32.update(BinaryUtils.copyBytesFrom(b)))
+                                  .thenApply(ignored -> UploadPartResponse.builder()
+                                                                          .checksumCRC32(encodeCrc32(crc32.getValue()))
+                                                                          .build());
+            });
+    }
+
+    private static String crc32(byte[] content) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        return encodeCrc32(crc32.getValue());
+    }
+
+    private static String encodeCrc32(long crc32) {
+        return BinaryUtils.toBase64(ByteBuffer.allocate(4).putInt((int) crc32).array());
+    }
+
     private List<CompletedPart> completedParts(int totalNumParts) {
         return IntStream.range(1, totalNumParts + 1).mapToObj(i -> CompletedPart.builder().partNumber(i).build()).collect(Collectors.toList());
     }
@@ -449,6 +579,15 @@ public class UploadObjectHelperTest {
         });
     }
 
+    private static Set<Path> spillFiles() throws IOException {
+        Set<Path> spillFiles = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(System.getProperty("java.io.tmpdir")),
+                                                                    "aws-sdk-part-*.tmp")) {
+            files.forEach(spillFiles::add);
+        }
+        return spillFiles;
+    }
+
     private static class UnknownContentLengthAsyncRequestBody implements AsyncRequestBody {
         private final AsyncRequestBody delegate;
         private volatile boolean cancelled;
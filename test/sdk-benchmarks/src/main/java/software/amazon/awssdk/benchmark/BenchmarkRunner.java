@@ -39,10 +39,13 @@ import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.apicall.MetricsEnabledBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.async.AwsCrtClientBenchmark;
+import software.amazon.awssdk.benchmark.apicall.httpclient.async.JavaAsyncHttpClientH1Benchmark;
+import software.amazon.awssdk.benchmark.apicall.httpclient.async.JavaAsyncHttpClientH2Benchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.async.NettyHttpClientH1Benchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.async.NettyHttpClientH2Benchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.sync.ApacheHttpClientBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.sync.CrtHttpClientBenchmark;
+import software.amazon.awssdk.benchmark.apicall.httpclient.sync.JavaHttpClientBenchmark;
 import software.amazon.awssdk.benchmark.apicall.httpclient.sync.UrlConnectionHttpClientBenchmark;
 import software.amazon.awssdk.benchmark.apicall.protocol.Ec2ProtocolBenchmark;
 import software.amazon.awssdk.benchmark.apicall.protocol.JsonProtocolBenchmark;
@@ -72,12 +75,15 @@ public class BenchmarkRunner {
     private static final List<String> ASYNC_BENCHMARKS = Arrays.asList(
         NettyHttpClientH2Benchmark.class.getSimpleName(),
         NettyHttpClientH1Benchmark.class.getSimpleName(),
-        AwsCrtClientBenchmark.class.getSimpleName());
+        AwsCrtClientBenchmark.class.getSimpleName(),
+        JavaAsyncHttpClientH2Benchmark.class.getSimpleName(),
+        JavaAsyncHttpClientH1Benchmark.class.getSimpleName());
 
     private static final List<String> SYNC_BENCHMARKS = Arrays.asList(
         ApacheHttpClientBenchmark.class.getSimpleName(),
         UrlConnectionHttpClientBenchmark.class.getSimpleName(),
-        CrtHttpClientBenchmark.class.getSimpleName());
+        CrtHttpClientBenchmark.class.getSimpleName(),
+        JavaHttpClientBenchmark.class.getSimpleName());
 
     private static final List<String> COLD_START_BENCHMARKS = Arrays.asList(
         V2OptimizedClientCreationBenchmark.class.getSimpleName(),
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
+import software.amazon.awssdk.checksums.internal.CrcCombine;
+import software.amazon.awssdk.checksums.internal.SdkCrc32CChecksum;
+
+/**
+ * Measures the throughput of each CRC implementation used for flexible checksums. The {@code bytes} counter in the results
+ * is the number of bytes checksummed per second; divide by 10^9 for GB/s.
+ * <p>
+ * {@code CRC32C} is the implementation the SDK selects at runtime ({@code java.util.zip.CRC32C} on Java 9 and later), and
+ * {@code CRC32C_SDK} is the pure-Java fallback used on Java 8 without the CRT.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Thread)
+public class ChecksumBenchmark {
+    @Param({"CRC32", "CRC32C", "CRC32C_SDK", "CRC64NVME"})
+    private String algorithm;
+
+    @Param({"1024", "65536", "8388608"})
+    private int size;
+
+    private byte[] data;
+    private Checksum checksum;
+    private CrcCombine crcCombine;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new byte[size];
+        new Random(0).nextBytes(data);
+        Supplier<Checksum> supplier = checksumSupplier(algorithm);
+        checksum = supplier.get();
+        crcCombine = algorithm.equals("CRC64NVME") ? CrcCombine.CRC64NVME
+                                                    : algorithm.equals("CRC32") ? CrcCombine.CRC32 : CrcCombine.CRC32C;
+    }
+
+    @Benchmark
+    public long checksum(ByteCounter counter) {
+        checksum.reset();
+        checksum.update(data, 0, data.length);
+        counter.bytes += data.length;
+        return checksum.getValue();
+    }
+
+    /**
+     * The cost of combining the checksum of a part of {@code size} bytes into the checksum of the object.
+     */
+    @Benchmark
+    public long combine() {
+        return crcCombine.combine(0x1234_5678L, 0x9ABC_DEF0L, size);
+    }
+
+    private static Supplier<Checksum> checksumSupplier(String algorithm) {
+        switch (algorithm) {
+            case "CRC32":
+                return CrcChecksumProvider::crc32;
+            case "CRC32C":
+                return CrcChecksumProvider::crc32c;
+            case "CRC32C_SDK":
+                return SdkCrc32CChecksum::create;
+            case "CRC64NVME":
+                return CrcChecksumProvider::crc64Nvme;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ByteCounter {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.openjdk.jmh.infra.Blackhole;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -53,6 +54,11 @@ import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.transform.PutItemRequestMarshaller;
 import software.amazon.awssdk.utils.IoUtils;
 
+/**
+ * Measures the overhead of the enhanced client's getItem() over the low-level client's. Running with {@code -prof gc} shows
+ * the allocation per item, and the {@code streamingUnmarshalling} parameter compares reading the response through a
+ * {@code JsonNode} tree with reading it directly into the {@code AttributeValue} map that the table schema maps from.
+ */
 @BenchmarkMode(Mode.Throughput)
 @Warmup(iterations = 5)
 @Measurement(iterations = 5)
@@ -94,6 +100,9 @@ public class EnhancedClientGetOverheadBenchmark {
         @Param({"TINY", "SMALL", "HUGE", "HUGE_FLAT"})
         private TestItem testItem;
 
+        @Param({"false", "true"})
+        private boolean streamingUnmarshalling;
+
         private DynamoDbTable table;
 
         @Setup
@@ -109,7 +118,7 @@ public class EnhancedClientGetOverheadBenchmark {
                             bh.consume(context);
                             bh.consume(executionAttributes);
                         }
-                    }))
+                    }).putAdvancedOption(SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING, streamingUnmarshalling))
                     .build();
 
             DynamoDbEnhancedClient ddbEnh = DynamoDbEnhancedClient.builder()
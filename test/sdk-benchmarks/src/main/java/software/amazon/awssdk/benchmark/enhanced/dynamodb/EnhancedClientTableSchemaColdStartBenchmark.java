@@ -0,0 +1,282 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Measures the time to create a table schema and map the first item in a fresh JVM, comparing the reflective
+ * {@link TableSchema#fromBean(Class)} and {@link TableSchema#fromImmutableClass(Class)} with the schemas generated at
+ * build time by the dynamodb-enhanced-processor annotation processor.
+ * <p>
+ * The setup maps an unrelated item with a hand-written {@link StaticTableSchema} first, so that the classes shared by
+ * every schema (attribute converters, the DynamoDB model) are already loaded and only the cost of building the schema
+ * under test is measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class EnhancedClientTableSchemaColdStartBenchmark {
+    private static final V2ItemFactory ITEM_FACTORY = new V2ItemFactory();
+
+    private Customer customer;
+    private Order order;
+
+    @Setup
+    public void setup() {
+        roundTrip(V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA, ITEM_FACTORY.smallBean());
+
+        Address address = new Address();
+        address.setStreet("1 Main St");
+        address.setCity("Seattle");
+
+        customer = new Customer();
+        customer.setId("id");
+        customer.setVersion(1);
+        customer.setName("name");
+        customer.setEmail("name@example.com");
+        customer.setActive(true);
+        customer.setCreatedDate(Instant.EPOCH);
+        customer.setTags(Arrays.asList("a", "b", "c"));
+        customer.setAttributes(Collections.singletonMap("key", "value"));
+        customer.setAddress(address);
+
+        order = Order.builder()
+                     .orderId("order")
+                     .quantity(3)
+                     .items(Arrays.asList("a", "b", "c"))
+                     .build();
+    }
+
+    @Benchmark
+    public Customer beanTableSchema() {
+        return roundTrip(TableSchema.fromBean(Customer.class), customer);
+    }
+
+    @Benchmark
+    public Customer generatedBeanTableSchema() {
+        return roundTrip(EnhancedClientTableSchemaColdStartBenchmark_CustomerTableSchema.create(), customer);
+    }
+
+    @Benchmark
+    public Order immutableTableSchema() {
+        return roundTrip(TableSchema.fromImmutableClass(Order.class), order);
+    }
+
+    @Benchmark
+    public Order generatedImmutableTableSchema() {
+        return roundTrip(EnhancedClientTableSchemaColdStartBenchmark_OrderTableSchema.create(), order);
+    }
+
+    private static <T> T roundTrip(TableSchema<T> tableSchema, T item) {
+        Map<String, AttributeValue> itemMap = tableSchema.itemToMap(item, true);
+        return tableSchema.mapToItem(itemMap);
+    }
+
+    @DynamoDbBean
+    public static class Customer {
+        private String id;
+        private int version;
+        private String name;
+        private String email;
+        private boolean active;
+        private Instant createdDate;
+        private List<String> tags;
+        private Map<String, String> attributes;
+        private Address address;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDbSortKey
+        public int getVersion() {
+            return version;
+        }
+
+        public void setVersion(int version) {
+            this.version = version;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @DynamoDbSecondaryPartitionKey(indexNames = "by-email")
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Instant getCreatedDate() {
+            return createdDate;
+        }
+
+        public void setCreatedDate(Instant createdDate) {
+            this.createdDate = createdDate;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    @DynamoDbBean
+    public static class Address {
+        private String street;
+        private String city;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    @DynamoDbImmutable(builder = Order.Builder.class)
+    public static final class Order {
+        private final String orderId;
+        private final int quantity;
+        private final List<String> items;
+
+        private Order(Builder builder) {
+            this.orderId = builder.orderId;
+            this.quantity = builder.quantity;
+            this.items = builder.items;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @DynamoDbPartitionKey
+        public String orderId() {
+            return orderId;
+        }
+
+        public int quantity() {
+            return quantity;
+        }
+
+        public List<String> items() {
+            return items;
+        }
+
+        public static final class Builder {
+            private String orderId;
+            private int quantity;
+            private List<String> items;
+
+            private Builder() {
+            }
+
+            public Builder orderId(String orderId) {
+                this.orderId = orderId;
+                return this;
+            }
+
+            public Builder quantity(int quantity) {
+                this.quantity = quantity;
+                return this;
+            }
+
+            public Builder items(List<String> items) {
+                this.items = items;
+                return this;
+            }
+
+            public Order build() {
+                return new Order(this);
+            }
+        }
+    }
+}
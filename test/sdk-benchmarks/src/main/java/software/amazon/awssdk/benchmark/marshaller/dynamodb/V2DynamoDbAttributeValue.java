@@ -26,6 +26,8 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.AbortableInputStream;
@@ -131,15 +133,29 @@ public class V2DynamoDbAttributeValue {
                              .exceptionBuilderSupplier(InternalServerErrorException::builder).build())
         .build();
 
+    private static final AwsJsonProtocolFactory STREAMING_JSON_PROTOCOL_FACTORY = AwsJsonProtocolFactory
+        .builder()
+        .clientConfiguration(SdkClientConfiguration.builder()
+                                                   .option(SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING, true)
+                                                   .build())
+        .defaultServiceExceptionSupplier(DynamoDbException::builder)
+        .protocol(AwsJsonProtocol.AWS_JSON)
+        .protocolVersion("1.0")
+        .build();
+
     private static final PutItemRequestMarshaller PUT_ITEM_REQUEST_MARSHALLER
         = new PutItemRequestMarshaller(getJsonProtocolFactory());
 
     private static HttpResponseHandler<GetItemResponse> getItemResponseJsonResponseHandler() {
-        return JSON_PROTOCOL_FACTORY.createResponseHandler(JsonOperationMetadata.builder()
-                                                                                .isPayloadJson(true)
-                                                                                .hasStreamingSuccessResponse(false)
-                                                                                .build(),
-                                                           GetItemResponse::builder);
+        return getItemResponseJsonResponseHandler(JSON_PROTOCOL_FACTORY);
+    }
+
+    private static HttpResponseHandler<GetItemResponse> getItemResponseJsonResponseHandler(AwsJsonProtocolFactory factory) {
+        return factory.createResponseHandler(JsonOperationMetadata.builder()
+                                                                  .isPayloadJson(true)
+                                                                  .hasStreamingSuccessResponse(false)
+                                                                  .build(),
+                                             GetItemResponse::builder);
     }
 
     @Benchmark
@@ -153,6 +169,12 @@ public class V2DynamoDbAttributeValue {
         return getItemResponseJsonResponseHandler().handle(resp, new ExecutionAttributes());
     }
 
+    @Benchmark
+    public Object getItemStreaming(GetItemState s) throws Exception {
+        SdkHttpFullResponse resp = fullResponse(s.testItem);
+        return getItemResponseJsonResponseHandler(STREAMING_JSON_PROTOCOL_FACTORY).handle(resp, new ExecutionAttributes());
+    }
+
     @State(Scope.Benchmark)
     public static class PutItemState {
         @Param({"TINY", "SMALL", "HUGE"})
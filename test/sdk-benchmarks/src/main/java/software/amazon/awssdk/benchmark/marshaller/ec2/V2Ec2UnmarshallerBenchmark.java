@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.ec2;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+
+/**
+ * Compares unmarshalling a DescribeInstances response through the default DOM-based unmarshaller against the streaming
+ * unmarshaller enabled by {@link SdkAdvancedClientOption#ENABLE_STREAMING_UNMARSHALLING}.
+ */
+public class V2Ec2UnmarshallerBenchmark {
+
+    private static final HttpResponseHandler<DescribeInstancesResponse> DOM_RESPONSE_HANDLER =
+        AwsEc2ProtocolFactory.builder()
+                             .build()
+                             .createResponseHandler(DescribeInstancesResponse::builder);
+
+    private static final SdkClientConfiguration STREAMING_CLIENT_CONFIGURATION =
+        SdkClientConfiguration.builder()
+                              .option(SdkAdvancedClientOption.ENABLE_STREAMING_UNMARSHALLING, true)
+                              .build();
+
+    private static final HttpResponseHandler<DescribeInstancesResponse> STREAMING_RESPONSE_HANDLER =
+        AwsEc2ProtocolFactory.builder()
+                             .clientConfiguration(STREAMING_CLIENT_CONFIGURATION)
+                             .build()
+                             .createResponseHandler(DescribeInstancesResponse::builder);
+
+    @Benchmark
+    public Object describeInstances(UnmarshallerState s) throws Exception {
+        return DOM_RESPONSE_HANDLER.handle(fullResponse(s.testItem), new ExecutionAttributes());
+    }
+
+    @Benchmark
+    public Object describeInstancesStreaming(UnmarshallerState s) throws Exception {
+        return STREAMING_RESPONSE_HANDLER.handle(fullResponse(s.testItem), new ExecutionAttributes());
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnmarshallerState {
+        @Param({"TINY", "SMALL", "HUGE"})
+        private TestItem testItem;
+    }
+
+    public enum TestItem {
+        TINY(1),
+        SMALL(10),
+        HUGE(500);
+
+        private final byte[] utf8;
+
+        TestItem(int reservations) {
+            this.utf8 = describeInstancesResponse(reservations).getBytes(StandardCharsets.UTF_8);
+        }
+
+        public byte[] utf8() {
+            return utf8;
+        }
+    }
+
+    private static SdkHttpFullResponse fullResponse(TestItem item) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(item.utf8())))
+                                  .build();
+    }
+
+    private static String describeInstancesResponse(int reservations) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+            .append("<DescribeInstancesResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">")
+            .append("<requestId>8f7724cf-496f-496e-8fe3-example</requestId>")
+            .append("<reservationSet>");
+        for (int r = 0; r < reservations; r++) {
+            xml.append("<item>")
+                .append("<reservationId>r-").append(r).append("</reservationId>")
+                .append("<ownerId>123456789012</ownerId>")
+                .append("<groupSet/>")
+                .append("<instancesSet>");
+            for (int i = 0; i < 2; i++) {
+                String instanceId = "i-" + r + "-" + i;
+                xml.append("<item>")
+                    .append("<instanceId>").append(instanceId).append("</instanceId>")
+                    .append("<imageId>ami-bff32ccc</imageId>")
+                    .append("<instanceState><code>16</code><name>running</name></instanceState>")
+                    .append("<privateDnsName>ip-192-168-1-88.eu-west-1.compute.internal</privateDnsName>")
+                    .append("<dnsName>ec2-54-194-252-215.eu-west-1.compute.amazonaws.com</dnsName>")
+                    .append("<keyName>my_keypair</keyName>")
+                    .append("<amiLaunchIndex>").append(i).append("</amiLaunchIndex>")
+                    .append("<instanceType>t2.micro</instanceType>")
+                    .append("<launchTime>2018-05-08T16:46:19.000Z</launchTime>")
+                    .append("<placement><availabilityZone>eu-west-1c</availabilityZone>")
+                    .append("<tenancy>default</tenancy></placement>")
+                    .append("<monitoring><state>disabled</state></monitoring>")
+                    .append("<subnetId>subnet-56f5f633</subnetId>")
+                    .append("<vpcId>vpc-11112222</vpcId>")
+                    .append("<privateIpAddress>192.168.1.88</privateIpAddress>")
+                    .append("<ipAddress>54.194.252.215</ipAddress>")
+                    .append("<sourceDestCheck>true</sourceDestCheck>")
+                    .append("<groupSet><item><groupId>sg-e4076980</groupId><groupName>SecurityGroup1</groupName></item>")
+                    .append("</groupSet>")
+                    .append("<architecture>x86_64</architecture>")
+                    .append("<rootDeviceType>ebs</rootDeviceType>")
+                    .append("<rootDeviceName>/dev/xvda</rootDeviceName>")
+                    .append("<blockDeviceMapping><item><deviceName>/dev/xvda</deviceName><ebs>")
+                    .append("<volumeId>vol-1234567890abcdef0</volumeId><status>attached</status>")
+                    .append("<attachTime>2015-12-22T10:44:09.000Z</attachTime>")
+                    .append("<deleteOnTermination>true</deleteOnTermination>")
+                    .append("</ebs></item></blockDeviceMapping>")
+                    .append("<virtualizationType>hvm</virtualizationType>")
+                    .append("<tagSet>")
+                    .append("<item><key>Name</key><value>").append(instanceId).append("</value></item>")
+                    .append("<item><key>Stage</key><value>production</value></item>")
+                    .append("</tagSet>")
+                    .append("<hypervisor>xen</hypervisor>")
+                    .append("<ebsOptimized>false</ebsOptimized>")
+                    .append("</item>");
+            }
+            xml.append("</instancesSet>")
+                .append("</item>");
+        }
+        xml.append("</reservationSet>")
+            .append("</DescribeInstancesResponse>");
+        return xml.toString();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.protocol;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.EC2_ALL_TYPES_REQUEST;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_ALL_TYPES_REQUEST;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.QUERY_ALL_TYPES_REQUEST;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_ALL_TYPES_REQUEST;
+
+import java.net.URI;
+import org.openjdk.jmh.annotations.Benchmark;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
+import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
+import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
+
+/**
+ * Marshalls an AllTypes request, which exercises every member type and location, with each protocol's request marshaller.
+ * Run against two revisions to compare changes to the per-field marshalling loop.
+ */
+public class V2ProtocolMarshallerBenchmark {
+
+    private static final SdkClientConfiguration CLIENT_CONFIGURATION =
+        SdkClientConfiguration.builder()
+                              .option(SdkClientOption.ENDPOINT, URI.create("https://localhost"))
+                              .build();
+
+    private static final software.amazon.awssdk.services.protocolrestjson.transform.AllTypesRequestMarshaller
+        REST_JSON_MARSHALLER = new software.amazon.awssdk.services.protocolrestjson.transform.AllTypesRequestMarshaller(
+        AwsJsonProtocolFactory.builder()
+                              .clientConfiguration(CLIENT_CONFIGURATION)
+                              .protocol(AwsJsonProtocol.REST_JSON)
+                              .protocolVersion("1.1")
+                              .build());
+
+    private static final software.amazon.awssdk.services.protocolrestxml.transform.AllTypesRequestMarshaller
+        REST_XML_MARSHALLER = new software.amazon.awssdk.services.protocolrestxml.transform.AllTypesRequestMarshaller(
+        AwsXmlProtocolFactory.builder()
+                             .clientConfiguration(CLIENT_CONFIGURATION)
+                             .build());
+
+    private static final software.amazon.awssdk.services.protocolquery.transform.AllTypesRequestMarshaller
+        QUERY_MARSHALLER = new software.amazon.awssdk.services.protocolquery.transform.AllTypesRequestMarshaller(
+        AwsQueryProtocolFactory.builder()
+                               .clientConfiguration(CLIENT_CONFIGURATION)
+                               .build());
+
+    private static final software.amazon.awssdk.services.protocolec2.transform.AllTypesRequestMarshaller
+        EC2_MARSHALLER = new software.amazon.awssdk.services.protocolec2.transform.AllTypesRequestMarshaller(
+        AwsEc2ProtocolFactory.builder()
+                             .clientConfiguration(CLIENT_CONFIGURATION)
+                             .build());
+
+    @Benchmark
+    public Object restJson() {
+        return REST_JSON_MARSHALLER.marshall(JSON_ALL_TYPES_REQUEST);
+    }
+
+    @Benchmark
+    public Object restXml() {
+        return REST_XML_MARSHALLER.marshall(XML_ALL_TYPES_REQUEST);
+    }
+
+    @Benchmark
+    public Object query() {
+        return QUERY_MARSHALLER.marshall(QUERY_ALL_TYPES_REQUEST);
+    }
+
+    @Benchmark
+    public Object ec2() {
+        return EC2_MARSHALLER.marshall(EC2_ALL_TYPES_REQUEST);
+    }
+}
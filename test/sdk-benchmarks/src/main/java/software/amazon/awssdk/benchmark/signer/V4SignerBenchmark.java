@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Measures SigV4 signing throughput as the number of signing threads grows. All threads share the same credentials, region
+ * and service, so they contend on the same derived signing key cache entry.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class V4SignerBenchmark {
+    private static final AwsV4HttpSigner SIGNER = AwsV4HttpSigner.create();
+    private static final AwsCredentialsIdentity CREDENTIALS = AwsCredentialsIdentity.create("akid", "skid");
+    private static final SdkHttpRequest REQUEST =
+        SdkHttpRequest.builder()
+                      .method(SdkHttpMethod.PUT)
+                      .uri(URI.create("https://test-bucket.s3.us-west-2.amazonaws.com/some/key"))
+                      .putHeader("Content-Type", "application/octet-stream")
+                      .putHeader("x-amz-meta-foo", "bar")
+                      .build();
+    private static final byte[] SMALL_PAYLOAD = "{\"TableName\":\"table\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CHUNKED_PAYLOAD = new byte[1024 * 1024];
+
+    @Benchmark
+    @Threads(1)
+    public SignedRequest signRequest1Thread() {
+        return signRequest();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public SignedRequest signRequest8Threads() {
+        return signRequest();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public SignedRequest signRequest64Threads() {
+        return signRequest();
+    }
+
+    @Benchmark
+    @Threads(256)
+    public SignedRequest signRequest256Threads() {
+        return signRequest();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void signChunkedPayload1Thread(Blackhole blackhole) throws IOException {
+        signChunkedPayload(blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void signChunkedPayload8Threads(Blackhole blackhole) throws IOException {
+        signChunkedPayload(blackhole);
+    }
+
+    private SignedRequest signRequest() {
+        return SIGNER.sign(r -> r.identity(CREDENTIALS)
+                                 .request(REQUEST)
+                                 .payload(ContentStreamProvider.fromByteArrayUnsafe(SMALL_PAYLOAD))
+                                 .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb")
+                                 .putProperty(AwsV4HttpSigner.REGION_NAME, "us-west-2"));
+    }
+
+    private void signChunkedPayload(Blackhole blackhole) throws IOException {
+        SignedRequest signed =
+            SIGNER.sign(r -> r.identity(CREDENTIALS)
+                              .request(REQUEST.toBuilder()
+                                              .putHeader("Content-Length", String.valueOf(CHUNKED_PAYLOAD.length))
+                                              .build())
+                              .payload(ContentStreamProvider.fromByteArrayUnsafe(CHUNKED_PAYLOAD))
+                              .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "s3")
+                              .putProperty(AwsV4HttpSigner.REGION_NAME, "us-west-2")
+                              .putProperty(AwsV4HttpSigner.DOUBLE_URL_ENCODE, false)
+                              .putProperty(AwsV4HttpSigner.NORMALIZE_PATH, false)
+                              .putProperty(AwsV4HttpSigner.CHUNK_ENCODING_ENABLED, true)
+                              .putProperty(AwsV4HttpSigner.PAYLOAD_SIGNING_ENABLED, true));
+
+        byte[] buffer = new byte[8192];
+        try (InputStream stream = signed.payload().get().newStream()) {
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                blackhole.consume(read);
+            }
+        }
+    }
+}
@@ -80,16 +80,18 @@ public class MockH2Server extends BaseMockServer {
         // HTTP/2 Connection Factory
         HTTP2ServerConnectionFactory h2 = new HTTP2ServerConnectionFactory(https);
 
-        // SSL Connection Factory
-        SslConnectionFactory ssl = new SslConnectionFactory(sslContextFactory, "h2");
         ServerConnector http2Connector;
 
         if (usingAlpn) {
             ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
             alpn.setDefaultProtocol("h2");
+            // SSL Connection Factory, which hands the connection to ALPN to select the protocol
+            SslConnectionFactory ssl = new SslConnectionFactory(sslContextFactory, alpn.getProtocol());
             // HTTP/2 Connector
             http2Connector = new ServerConnector(server, ssl, alpn, h2, new HttpConnectionFactory(https));
         } else {
+            // SSL Connection Factory
+            SslConnectionFactory ssl = new SslConnectionFactory(sslContextFactory, "h2");
             http2Connector = new ServerConnector(server, ssl, h2, new HttpConnectionFactory(https));
         }
 
@@ -37,6 +37,7 @@ public class ThreadFactoryBuilder {
 
     private String threadNamePrefix = "aws-java-sdk";
     private Boolean daemonThreads = true;
+    private Boolean virtualThreads = false;
 
     /**
      * The name prefix for threads created by this thread factory. The prefix will be appended with a number unique to the thread
@@ -60,6 +61,18 @@ public class ThreadFactoryBuilder {
         return this;
     }
 
+    /**
+     * Whether the factory should create virtual threads, when they are supported by the Java runtime (see
+     * {@link VirtualThreads#isSupported()}). Virtual threads are always daemon threads. If the runtime does not support virtual
+     * threads, platform threads are created instead.
+     *
+     * By default, this is false.
+     */
+    public ThreadFactoryBuilder virtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
     /**
      * Test API to reset pool count for reliable assertions.
      */
@@ -74,6 +87,10 @@ public class ThreadFactoryBuilder {
     public ThreadFactory build() {
         String threadNamePrefixWithPoolNumber = threadNamePrefix + "-" + POOL_NUMBER.getAndIncrement() % POOL_NUMBER_MAX;
 
+        if (Boolean.TRUE.equals(virtualThreads) && VirtualThreads.isSupported()) {
+            return new NamedThreadFactory(VirtualThreads.newThreadFactory(), threadNamePrefixWithPoolNumber);
+        }
+
         ThreadFactory result = new NamedThreadFactory(Executors.defaultThreadFactory(), threadNamePrefixWithPoolNumber);
 
         if (daemonThreads) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Utilities for running SDK tasks on virtual threads, when the Java runtime supports them (Java 21 and above).
+ * <p>
+ * The SDK is compiled for Java 8, so the virtual thread APIs are looked up when this class is loaded. On older runtimes
+ * {@link #isSupported()} returns false, and the SDK keeps using platform threads.
+ */
+@SdkProtectedApi
+public final class VirtualThreads {
+    private static final Logger log = Logger.loggerFor(VirtualThreads.class);
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR = lookupThreadPerTaskExecutor();
+    private static final MethodHandle IS_VIRTUAL = lookupIsVirtual();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether the current Java runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_FACTORY != null && NEW_THREAD_PER_TASK_EXECUTOR != null && IS_VIRTUAL != null;
+    }
+
+    /**
+     * Whether the SDK should run its background work on virtual threads, as configured by the {@code aws.useVirtualThreads}
+     * system property or the {@code AWS_USE_VIRTUAL_THREADS} environment variable. This is always false if the Java runtime
+     * does not support virtual threads.
+     */
+    public static boolean isEnabled() {
+        boolean enabled = VirtualThreadSetting.INSTANCE.getBooleanValue().orElse(false);
+        if (enabled && !isSupported()) {
+            log.debug(() -> "Virtual threads were enabled, but are not supported by this Java runtime. Platform threads will be "
+                            + "used instead.");
+            return false;
+        }
+        return enabled;
+    }
+
+    /**
+     * Create a {@link ThreadFactory} that creates unnamed virtual threads.
+     *
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads.
+     */
+    public static ThreadFactory newThreadFactory() {
+        validateSupported();
+        try {
+            return (ThreadFactory) NEW_VIRTUAL_THREAD_FACTORY.invoke();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to create a virtual thread factory.", t);
+        }
+    }
+
+    /**
+     * Create an {@link ExecutorService} that starts a new thread from the given factory for each task. When used with a
+     * virtual thread factory, this is the recommended way of running blocking tasks on virtual threads.
+     *
+     * @throws UnsupportedOperationException if the Java runtime does not support virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        Validate.paramNotNull(threadFactory, "threadFactory");
+        validateSupported();
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to create a thread-per-task executor.", t);
+        }
+    }
+
+    /**
+     * Whether the given thread is a virtual thread. This is always false if the Java runtime does not support virtual threads.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invoke(thread);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static void validateSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this Java runtime: "
+                                                    + JavaSystemSetting.JAVA_VERSION.getStringValue().orElse("unknown"));
+        }
+    }
+
+    private static MethodHandle lookupVirtualThreadFactory() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+            MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            return MethodHandles.filterReturnValue(ofVirtual, factory.asType(MethodType.methodType(ThreadFactory.class,
+                                                                                                   virtualBuilderClass)));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle lookupThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newThreadPerTaskExecutor",
+                                                           MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle lookupIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class VirtualThreadSetting implements SystemSetting {
+        private static final VirtualThreadSetting INSTANCE = new VirtualThreadSetting();
+
+        @Override
+        public String property() {
+            return "aws.useVirtualThreads";
+        }
+
+        @Override
+        public String environmentVariable() {
+            return "AWS_USE_VIRTUAL_THREADS";
+        }
+
+        @Override
+        public String defaultValue() {
+            return "false";
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.async;
+
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link Subscription} whose publisher may lend the subscriber read-only buffers instead of publishing copies. A lent buffer
+ * is only valid until the subscriber next calls {@link #request(long)} or {@link #cancel()}, so a subscriber that stores
+ * buffers must finish with every read-only buffer it stores before requesting more.
+ *
+ * @see ByteBufferStoringSubscriber
+ */
+@SdkProtectedApi
+public interface BufferLendingSubscription extends Subscription {
+}
@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -47,6 +48,17 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
      */
     private final AtomicLong bytesBuffered = new AtomicLong(0L);
 
+    /**
+     * Whether read-only buffers may be borrowed from the publisher, and must be consumed before more data is requested. Also
+     * set when the subscription is a {@link BufferLendingSubscription}.
+     */
+    private volatile boolean readOnlyBuffersBorrowed;
+
+    /**
+     * The number of read-only buffers currently stored, when {@link #readOnlyBuffersBorrowed}.
+     */
+    private final AtomicInteger readOnlyBuffersStored = new AtomicInteger(0);
+
     /**
      * A delegate subscriber that we use to store the buffered bytes in the order they are received.
      */
@@ -65,7 +77,21 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
      * Create a subscriber that stores at least {@code minimumBytesBuffered} in memory for retrieval.
      */
     public ByteBufferStoringSubscriber(long minimumBytesBuffered) {
+        this(minimumBytesBuffered, false);
+    }
+
+    /**
+     * Create a subscriber that stores at least {@code minimumBytesBuffered} in memory for retrieval.
+     * <p>
+     * If {@code readOnlyBuffersBorrowed} is true, read-only buffers are treated as borrowed from the publisher: they are only
+     * valid until more data is requested, so no more data is requested while one is stored. This lets a publisher hand out
+     * views of its own buffers instead of copies, at the cost of buffering ahead.
+     * <p>
+     * Read-only buffers are always treated as borrowed if the subscription is a {@link BufferLendingSubscription}.
+     */
+    public ByteBufferStoringSubscriber(long minimumBytesBuffered, boolean readOnlyBuffersBorrowed) {
         this.minimumBytesBuffered = Validate.isPositive(minimumBytesBuffered, "Data buffer minimum must be positive");
+        this.readOnlyBuffersBorrowed = readOnlyBuffersBorrowed;
         this.storingSubscriber = new StoringSubscriber<>(Integer.MAX_VALUE);
     }
 
@@ -87,6 +113,7 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
      */
     public TransferResult transferTo(ByteBuffer out) {
         int transferred = 0;
+        int readOnlyBuffersConsumed = 0;
 
         Optional<Event<ByteBuffer>> next = storingSubscriber.peek();
 
@@ -95,11 +122,19 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
                 break;
             }
 
-            transferred += transfer(next.get().value(), out);
+            ByteBuffer in = next.get().value();
+            transferred += transfer(in, out);
+            if (!in.hasRemaining() && isBorrowed(in)) {
+                readOnlyBuffersConsumed++;
+            }
             next = storingSubscriber.peek();
         }
 
-        if (transferred != 0) {
+        if (readOnlyBuffersConsumed != 0) {
+            readOnlyBuffersStored.addAndGet(-readOnlyBuffersConsumed);
+        }
+
+        if (transferred != 0 || readOnlyBuffersConsumed != 0) {
             addBufferedDataAmount(-transferred);
         }
 
@@ -172,6 +207,9 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
 
     @Override
     public void onSubscribe(Subscription s) {
+        if (s instanceof BufferLendingSubscription) {
+            readOnlyBuffersBorrowed = true;
+        }
         storingSubscriber.onSubscribe(new DemandIgnoringSubscription(s));
         subscription = s;
         subscription.request(1);
@@ -181,6 +219,9 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
     @Override
     public void onNext(ByteBuffer byteBuffer) {
         int remaining = byteBuffer.remaining();
+        if (isBorrowed(byteBuffer)) {
+            readOnlyBuffersStored.incrementAndGet();
+        }
         storingSubscriber.onNext(byteBuffer.duplicate());
         addBufferedDataAmount(remaining);
         phaser.arrive();
@@ -203,8 +244,12 @@ public class ByteBufferStoringSubscriber implements Subscriber<ByteBuffer> {
         maybeRequestMore(currentDataBuffered);
     }
 
+    private boolean isBorrowed(ByteBuffer byteBuffer) {
+        return readOnlyBuffersBorrowed && byteBuffer.isReadOnly();
+    }
+
     private void maybeRequestMore(long currentDataBuffered) {
-        if (currentDataBuffered < minimumBytesBuffered) {
+        if (currentDataBuffered < minimumBytesBuffered && readOnlyBuffersStored.get() == 0) {
             subscription.request(1);
         }
     }
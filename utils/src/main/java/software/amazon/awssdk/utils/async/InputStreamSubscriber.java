@@ -71,7 +71,7 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
                 return;
             }
 
-            this.subscription = new CancelWatcher(s);
+            this.subscription = s instanceof BufferLendingSubscription ? new LendingCancelWatcher(s) : new CancelWatcher(s);
             delegate.onSubscribe(subscription);
         }
     }
@@ -209,7 +209,7 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
         STREAMING_DONE
     }
 
-    private final class CancelWatcher implements Subscription {
+    private class CancelWatcher implements Subscription {
         private final Subscription s;
 
         private CancelWatcher(Subscription s) {
@@ -228,6 +228,15 @@ public final class InputStreamSubscriber extends InputStream implements Subscrib
         }
     }
 
+    /**
+     * A {@link CancelWatcher} that keeps the delegate aware that the publisher lends its buffers.
+     */
+    private final class LendingCancelWatcher extends CancelWatcher implements BufferLendingSubscription {
+        private LendingCancelWatcher(Subscription s) {
+            super(s);
+        }
+    }
+
     private static final class NoOpSubscription implements Subscription {
         @Override
         public void request(long n) {
@@ -17,6 +17,7 @@ package software.amazon.awssdk.utils.cache;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
@@ -31,6 +32,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.VirtualThreads;
 
 /**
  * A {@link CachedSupplier.PrefetchStrategy} that will run a single thread in the background to update the value. A call to
@@ -54,7 +56,7 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
 
     /**
      * Thread used to kick off refreshes during the prefetch window. This does not do the actual refreshing. That's left for
-     * the {@link #EXECUTOR}.
+     * the {@link #REFRESH_EXECUTOR}.
      */
     private static final ScheduledThreadPoolExecutor SCHEDULER =
         new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("sdk-cache-scheduler")
@@ -74,6 +76,17 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
                                                          .daemonThreads(true)
                                                          .build());
 
+    /**
+     * The executor that refreshes are submitted to. This is the {@link #EXECUTOR}, unless virtual threads are enabled (see
+     * {@link VirtualThreads#isEnabled()}), in which case each refresh runs on its own virtual thread.
+     */
+    private static final ExecutorService REFRESH_EXECUTOR =
+        VirtualThreads.isEnabled()
+        ? VirtualThreads.newThreadPerTaskExecutor(new ThreadFactoryBuilder().threadNamePrefix("sdk-cache")
+                                                                            .virtualThreads(true)
+                                                                            .build())
+        : EXECUTOR;
+
     /**
      * An incrementing number, used to uniquely identify an instance of NonBlocking in the {@link #asyncThreadName}.
      */
@@ -216,7 +229,7 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         }
 
         try {
-            EXECUTOR.submit(() -> {
+            REFRESH_EXECUTOR.submit(() -> {
                 runWithInstanceThreadName(() -> {
                     try {
                         runnable.run();
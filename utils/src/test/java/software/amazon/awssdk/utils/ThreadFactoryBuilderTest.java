@@ -59,6 +59,18 @@ public class ThreadFactoryBuilderTest {
         assertThat(thread.isDaemon()).isTrue();
     }
 
+    @Test
+    public void virtualThreadsCreatedIfSupported() {
+        Thread thread = new ThreadFactoryBuilder()
+                .threadNamePrefix("custom-name")
+                .virtualThreads(true)
+                .build()
+                .newThread(this::doNothing);
+        assertThat(VirtualThreads.isVirtual(thread)).isEqualTo(VirtualThreads.isSupported());
+        assertThat(thread.getName()).isEqualTo("custom-name-0-0");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
     /**
      * To use as a {@link Runnable} method reference.
      */
@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsTest {
+    @AfterEach
+    public void cleanup() {
+        System.clearProperty("aws.useVirtualThreads");
+    }
+
+    @Test
+    public void isSupported_matchesJavaVersion() {
+        assertThat(VirtualThreads.isSupported()).isEqualTo(javaFeatureVersion() >= 21);
+    }
+
+    @Test
+    public void isEnabled_notConfigured_isFalse() {
+        assertThat(VirtualThreads.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void isEnabled_configured_isTrueOnlyIfSupported() {
+        System.setProperty("aws.useVirtualThreads", "true");
+        assertThat(VirtualThreads.isEnabled()).isEqualTo(VirtualThreads.isSupported());
+    }
+
+    @Test
+    public void isVirtual_platformThread_isFalse() {
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    public void newThreadPerTaskExecutor_runsTasksOnVirtualThreadsIfSupported() throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            assertThatThrownBy(VirtualThreads::newThreadFactory).isInstanceOf(UnsupportedOperationException.class);
+            return;
+        }
+
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(VirtualThreads.newThreadFactory());
+        try {
+            Future<Thread> thread = executor.submit(Thread::currentThread);
+            assertThat(VirtualThreads.isVirtual(thread.get())).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int javaFeatureVersion() {
+        String version = JavaSystemSetting.JAVA_VERSION.getStringValueOrThrow();
+        if (version.startsWith("1.")) {
+            return Integer.parseInt(version.substring(2, 3));
+        }
+        int end = 0;
+        while (end < version.length() && Character.isDigit(version.charAt(end))) {
+            end++;
+        }
+        return Integer.parseInt(version.substring(0, end));
+    }
+}
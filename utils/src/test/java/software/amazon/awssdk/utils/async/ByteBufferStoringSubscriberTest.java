@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -94,6 +95,60 @@ public class ByteBufferStoringSubscriberTest {
         verify(subscription, times(3)).request(1); // It should request more
     }
 
+    @Test
+    public void readOnlyBuffersBorrowed_doesNotRequestMoreUntilReadOnlyBufferConsumed() {
+        ByteBufferStoringSubscriber subscriber = new ByteBufferStoringSubscriber(100, true);
+
+        subscriber.onSubscribe(subscription);
+        verify(subscription).request(1);
+
+        subscriber.onNext(fullByteBufferOfSize(2).asReadOnlyBuffer()); // After: Storing 2, borrowed
+        verifyNoMoreInteractions(subscription); // It should NOT request more
+
+        subscriber.transferTo(emptyByteBufferOfSize(1)); // After: Storing 1, borrowed
+        verifyNoMoreInteractions(subscription); // It should NOT request more
+
+        subscriber.transferTo(emptyByteBufferOfSize(1)); // After: Storing 0
+        verify(subscription, times(2)).request(1); // It should request more
+
+        subscriber.onNext(fullByteBufferOfSize(2)); // After: Storing 2, not borrowed
+        verify(subscription, times(3)).request(1); // It should request more
+    }
+
+    @Test
+    public void readOnlyBuffersBorrowed_emptyReadOnlyBuffer_requestsMoreOnceConsumed() {
+        ByteBufferStoringSubscriber subscriber = new ByteBufferStoringSubscriber(100, true);
+
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(fullByteBufferOfSize(0).asReadOnlyBuffer());
+        verify(subscription, times(1)).request(1);
+
+        subscriber.transferTo(emptyByteBufferOfSize(1));
+        verify(subscription, times(2)).request(1);
+    }
+
+    @Test
+    public void bufferLendingSubscription_doesNotRequestMoreUntilReadOnlyBufferConsumed() {
+        BufferLendingSubscription lendingSubscription = mock(BufferLendingSubscription.class);
+        ByteBufferStoringSubscriber subscriber = new ByteBufferStoringSubscriber(100);
+
+        subscriber.onSubscribe(lendingSubscription);
+        subscriber.onNext(fullByteBufferOfSize(2).asReadOnlyBuffer());
+        verify(lendingSubscription, times(1)).request(1);
+
+        subscriber.transferTo(emptyByteBufferOfSize(2));
+        verify(lendingSubscription, times(2)).request(1);
+    }
+
+    @Test
+    public void readOnlyBuffersNotBorrowed_requestsMoreWhileStoringReadOnlyBuffer() {
+        ByteBufferStoringSubscriber subscriber = new ByteBufferStoringSubscriber(100);
+
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(fullByteBufferOfSize(2).asReadOnlyBuffer());
+        verify(subscription, times(2)).request(1);
+    }
+
     @Test
     @Timeout(10)
     public void blockingTransfer_waitsForFullOutputBuffer() throws InterruptedException, ExecutionException {